@@ -17,11 +17,14 @@ dependencies {
   implementation(libs.bundles.apache)
 
   testAnnotationProcessor(libs.bundles.micronaut.test.annotation.processor)
+  testAnnotationProcessor(libs.jmh.annotations)
 
   testImplementation(libs.bundles.micronaut.test)
   testImplementation(libs.bundles.junit)
   testImplementation(libs.assertj.core)
   testImplementation(libs.junit.pioneer)
+  testImplementation(libs.jmh.core)
+  testImplementation(libs.jmh.annotations)
 
   testRuntimeOnly(libs.junit.jupiter.engine)
 }
@@ -31,6 +31,7 @@ import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import kotlin.Pair;
 
@@ -41,6 +42,13 @@ public class CatalogDiffHelpers {
 
   private static final String ITEMS_KEY = "items";
 
+  /**
+   * Minimum number of changed streams for which they are diffed in parallel on the common fork-join
+   * pool. Below it, the overhead of splitting the work outweighs the gain.
+   */
+  @VisibleForTesting
+  static final int PARALLEL_DIFF_THRESHOLD = 64;
+
   /**
    * Extracts all field names from a JSONSchema.
    *
@@ -123,9 +131,9 @@ public class CatalogDiffHelpers {
 
     // leverage that nodes are returned in depth-first search preorder. this means the parent field for
     // the oneOf will be present in the list BEFORE any of its children.
+    final String fieldNameString = String.join(".", fieldName);
     for (final List<String> oneOfFieldName : oneOfFieldNameAccumulator) {
       final String oneOfFieldNameString = String.join(".", oneOfFieldName);
-      final String fieldNameString = String.join(".", fieldName);
 
       if (fieldNameString.startsWith(oneOfFieldNameString)) {
         return false;
@@ -145,6 +153,15 @@ public class CatalogDiffHelpers {
         .collect(Collectors.toMap(CatalogDiffHelpers::extractStreamDescriptor, s -> s));
   }
 
+  /**
+   * Maps stream descriptors to the first configured stream with that descriptor.
+   */
+  private static Map<StreamDescriptor, ConfiguredAirbyteStream> configuredStreamDescriptorToMap(final ConfiguredAirbyteCatalog catalog) {
+    final Map<StreamDescriptor, ConfiguredAirbyteStream> descriptorToStream = new HashMap<>();
+    catalog.getStreams().forEach(s -> descriptorToStream.putIfAbsent(s.getStreamDescriptor(), s));
+    return descriptorToStream;
+  }
+
   public static StreamDescriptor extractStreamDescriptor(final AirbyteStream airbyteStream) {
     return new StreamDescriptor().withName(airbyteStream.getName())
         .withNamespace(airbyteStream.getNamespace());
@@ -152,6 +169,9 @@ public class CatalogDiffHelpers {
 
   /**
    * Returns difference between two provided catalogs.
+   * <p>
+   * Streams that are equal in both catalogs are skipped without looking at their fields, and the
+   * remaining ones are diffed in parallel once there are enough of them.
    *
    * @param oldCatalog - old catalog
    * @param newCatalog - new catalog
@@ -166,6 +186,8 @@ public class CatalogDiffHelpers {
         oldCatalog);
     final Map<StreamDescriptor, AirbyteStream> descriptorToStreamNew = streamDescriptorToMap(
         newCatalog);
+    final Map<StreamDescriptor, ConfiguredAirbyteStream> descriptorToConfiguredStream = configuredStreamDescriptorToMap(
+        configuredCatalog);
 
     Sets.difference(descriptorToStreamOld.keySet(), descriptorToStreamNew.keySet())
         .forEach(descriptor -> streamTransforms.add(
@@ -173,26 +195,31 @@ public class CatalogDiffHelpers {
     Sets.difference(descriptorToStreamNew.keySet(), descriptorToStreamOld.keySet())
         .forEach(descriptor -> streamTransforms.add(
             StreamTransform.createAddStreamTransform(descriptor)));
-    Sets.intersection(descriptorToStreamOld.keySet(), descriptorToStreamNew.keySet())
-        .forEach(descriptor -> {
-          final AirbyteStream streamOld = descriptorToStreamOld.get(descriptor);
-          final AirbyteStream streamNew = descriptorToStreamNew.get(descriptor);
-
-          final Optional<ConfiguredAirbyteStream> stream = configuredCatalog.getStreams().stream()
-              .filter(s -> Objects.equals(s.getStream().getNamespace(), descriptor.getNamespace())
-                  && s.getStream().getName().equals(descriptor.getName()))
-              .findFirst();
-
-          if (!streamOld.equals(streamNew) && stream.isPresent()) {
-            // getStreamDiff only checks for differences in the stream's field name or field type
-            // but there are a number of reasons the streams might be different (such as a source-defined
-            // primary key or cursor changing). These should not be expressed as "stream updates".
-            final UpdateStreamTransform streamTransform = getStreamDiff(streamOld, streamNew, stream);
-            if (!streamTransform.getFieldTransforms().isEmpty() || !streamTransform.getAttributeTransforms().isEmpty()) {
-              streamTransforms.add(StreamTransform.createUpdateStreamTransform(descriptor, streamTransform));
-            }
+
+    final List<StreamDescriptor> changedDescriptors = Sets.intersection(descriptorToStreamOld.keySet(), descriptorToStreamNew.keySet())
+        .stream()
+        .filter(descriptor -> descriptorToConfiguredStream.containsKey(descriptor)
+            && !descriptorToStreamOld.get(descriptor).equals(descriptorToStreamNew.get(descriptor)))
+        .toList();
+    final Stream<StreamDescriptor> descriptorsToDiff = changedDescriptors.size() >= PARALLEL_DIFF_THRESHOLD
+        ? changedDescriptors.parallelStream()
+        : changedDescriptors.stream();
+
+    streamTransforms.addAll(descriptorsToDiff
+        .map(descriptor -> {
+          // getStreamDiff only checks for differences in the stream's field name or field type
+          // but there are a number of reasons the streams might be different (such as a source-defined
+          // primary key or cursor changing). These should not be expressed as "stream updates".
+          final UpdateStreamTransform streamTransform = getStreamDiff(descriptorToStreamOld.get(descriptor),
+              descriptorToStreamNew.get(descriptor),
+              Optional.of(descriptorToConfiguredStream.get(descriptor)));
+          if (streamTransform.getFieldTransforms().isEmpty() && streamTransform.getAttributeTransforms().isEmpty()) {
+            return null;
           }
-        });
+          return StreamTransform.createUpdateStreamTransform(descriptor, streamTransform);
+        })
+        .filter(Objects::nonNull)
+        .toList());
 
     return streamTransforms;
   }
@@ -10,12 +10,16 @@ import io.airbyte.config.ConfiguredAirbyteCatalog;
 import io.airbyte.config.ConfiguredAirbyteStream;
 import io.airbyte.config.DestinationSyncMode;
 import io.airbyte.config.helpers.ProtocolConverters;
+import java.io.OutputStream;
+import java.util.Iterator;
 
 /**
  * Default JSON serialization for the Airbyte Protocol.
  */
 public class DefaultProtocolSerializer implements ProtocolSerializer {
 
+  private static final String STREAMS = "streams";
+
   @Override
   public String serialize(final ConfiguredAirbyteCatalog configuredAirbyteCatalog, final boolean supportsRefreshes) {
     // Copy to avoid mutating input
@@ -25,21 +29,40 @@ public class DefaultProtocolSerializer implements ProtocolSerializer {
     return Jsons.serialize(toProtocol(clonedCatalog));
   }
 
+  @Override
+  public void serialize(final ConfiguredAirbyteCatalog configuredAirbyteCatalog, final boolean supportsRefreshes, final OutputStream outputStream) {
+    // The protocol conversion builds new streams, so the sync modes are replaced on those instead of on
+    // a clone of the whole input catalog. Streams are converted as they are written, so only one is
+    // held in its protocol form at a time.
+    final Iterator<io.airbyte.protocol.models.ConfiguredAirbyteStream> protocolStreams = configuredAirbyteCatalog.getStreams().stream()
+        .map(stream -> toProtocol(stream).withDestinationSyncMode(Enums.convertTo(
+            replaceDestinationSyncMode(stream.getDestinationSyncMode(), supportsRefreshes),
+            io.airbyte.protocol.models.DestinationSyncMode.class)))
+        .iterator();
+
+    Jsons.serializeArrayField(STREAMS, protocolStreams, outputStream);
+  }
+
   private void replaceDestinationSyncModes(final ConfiguredAirbyteCatalog configuredAirbyteCatalog, final boolean supportsRefreshes) {
-    // Ensure we convert destination sync modes to the expected ones
     for (final ConfiguredAirbyteStream stream : configuredAirbyteCatalog.getStreams()) {
-      if (supportsRefreshes) {
-        if (DestinationSyncMode.OVERWRITE.equals(stream.getDestinationSyncMode())) {
-          stream.setDestinationSyncMode(DestinationSyncMode.APPEND);
-        } else if (DestinationSyncMode.OVERWRITE_DEDUP.equals(stream.getDestinationSyncMode())) {
-          stream.setDestinationSyncMode(DestinationSyncMode.APPEND_DEDUP);
-        }
-      } else {
-        if (DestinationSyncMode.OVERWRITE_DEDUP.equals(stream.getDestinationSyncMode())) {
-          stream.setDestinationSyncMode(DestinationSyncMode.OVERWRITE);
-        }
+      stream.setDestinationSyncMode(replaceDestinationSyncMode(stream.getDestinationSyncMode(), supportsRefreshes));
+    }
+  }
+
+  private DestinationSyncMode replaceDestinationSyncMode(final DestinationSyncMode destinationSyncMode, final boolean supportsRefreshes) {
+    // Ensure we convert destination sync modes to the expected ones
+    if (supportsRefreshes) {
+      if (DestinationSyncMode.OVERWRITE.equals(destinationSyncMode)) {
+        return DestinationSyncMode.APPEND;
+      } else if (DestinationSyncMode.OVERWRITE_DEDUP.equals(destinationSyncMode)) {
+        return DestinationSyncMode.APPEND_DEDUP;
+      }
+    } else {
+      if (DestinationSyncMode.OVERWRITE_DEDUP.equals(destinationSyncMode)) {
+        return DestinationSyncMode.OVERWRITE;
       }
     }
+    return destinationSyncMode;
   }
 
   /**
@@ -5,6 +5,9 @@
 package io.airbyte.commons.protocol;
 
 import io.airbyte.config.ConfiguredAirbyteCatalog;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Protocol serialization interface.
@@ -13,4 +16,13 @@ public interface ProtocolSerializer {
 
   String serialize(final ConfiguredAirbyteCatalog configuredAirbyteCatalog, final boolean supportsRefreshes);
 
+  /**
+   * Serialize the catalog directly to a stream. Implementations should override this to avoid
+   * building the whole serialized catalog in memory.
+   */
+  default void serialize(final ConfiguredAirbyteCatalog configuredAirbyteCatalog, final boolean supportsRefreshes, final OutputStream outputStream)
+      throws IOException {
+    outputStream.write(serialize(configuredAirbyteCatalog, supportsRefreshes).getBytes(StandardCharsets.UTF_8));
+  }
+
 }
@@ -6,6 +6,7 @@ package io.airbyte.commons.protocol;
 
 import io.airbyte.commons.version.Version;
 import io.airbyte.config.ConfiguredAirbyteCatalog;
+import java.io.OutputStream;
 
 /**
  * Serialize a ConfiguredAirbyteCatalog to the specified version.
@@ -33,4 +34,9 @@ public class VersionedProtocolSerializer implements ProtocolSerializer {
     return new DefaultProtocolSerializer().serialize(configuredAirbyteCatalog, supportsRefreshes);
   }
 
+  @Override
+  public void serialize(final ConfiguredAirbyteCatalog configuredAirbyteCatalog, final boolean supportsRefreshes, final OutputStream outputStream) {
+    new DefaultProtocolSerializer().serialize(configuredAirbyteCatalog, supportsRefreshes, outputStream);
+  }
+
 }
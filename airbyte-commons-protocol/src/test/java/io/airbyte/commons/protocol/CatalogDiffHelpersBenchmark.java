@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.protocol.transformmodels.StreamTransform;
+import io.airbyte.config.AirbyteStream;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConfiguredAirbyteStream;
+import io.airbyte.config.DestinationSyncMode;
+import io.airbyte.config.SyncMode;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.Jsons;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CatalogDiffHelpers#getCatalogDiff} on large synthetic catalogs, where a share of
+ * the streams gained, lost and retyped some of their fields.
+ * <p>
+ * To use this, run the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CatalogDiffHelpersBenchmark {
+
+  @Param({"1000", "10000"})
+  int streamCount;
+
+  @Param({"50"})
+  int fieldCount;
+
+  // Every n-th stream is changed.
+  @Param({"100", "2"})
+  int changeEvery;
+
+  private AirbyteCatalog oldCatalog;
+  private AirbyteCatalog newCatalog;
+  private ConfiguredAirbyteCatalog configuredCatalog;
+
+  @Setup
+  public void setup() {
+    oldCatalog = syntheticCatalog(streamCount, fieldCount, 0);
+    newCatalog = syntheticCatalog(streamCount, fieldCount, changeEvery);
+    configuredCatalog = syntheticConfiguredCatalog(oldCatalog);
+  }
+
+  @Benchmark
+  public Set<StreamTransform> getCatalogDiff() {
+    return CatalogDiffHelpers.getCatalogDiff(oldCatalog, newCatalog, configuredCatalog);
+  }
+
+  /**
+   * Builds a catalog of {@code streamCount} streams of {@code fieldCount} fields each. Every
+   * {@code changeEvery}-th stream (none if 0) has its first field retyped, its second field removed
+   * and a new field added.
+   */
+  static AirbyteCatalog syntheticCatalog(final int streamCount, final int fieldCount, final int changeEvery) {
+    return new AirbyteCatalog().withStreams(IntStream.range(0, streamCount)
+        .mapToObj(i -> {
+          final boolean changed = changeEvery > 0 && i % changeEvery == 0;
+          final ObjectNode properties = Jsons.jsonNode(Map.of()).deepCopy();
+          IntStream.range(0, fieldCount).forEach(f -> {
+            if (changed && f == 1) {
+              return;
+            }
+            final String type = changed && f == 0 ? "integer" : "string";
+            properties.set("field_" + f, Jsons.jsonNode(Map.of("type", type)));
+          });
+          if (changed) {
+            properties.set("added_field", Jsons.jsonNode(Map.of("type", "number")));
+          }
+          return new io.airbyte.protocol.models.AirbyteStream()
+              .withName("stream_" + i)
+              .withNamespace("public")
+              .withJsonSchema(Jsons.jsonNode(Map.of("type", "object", "properties", properties)));
+        })
+        .toList());
+  }
+
+  static ConfiguredAirbyteCatalog syntheticConfiguredCatalog(final AirbyteCatalog catalog) {
+    return new ConfiguredAirbyteCatalog().withStreams(catalog.getStreams().stream()
+        .map(s -> {
+          final AirbyteStream stream = new AirbyteStream(s.getName(), s.getJsonSchema(), List.of(SyncMode.FULL_REFRESH));
+          stream.setNamespace(s.getNamespace());
+          return new ConfiguredAirbyteStream(stream, SyncMode.FULL_REFRESH, DestinationSyncMode.APPEND);
+        })
+        .toList());
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+}
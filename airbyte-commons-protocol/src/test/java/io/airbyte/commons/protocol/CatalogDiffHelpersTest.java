@@ -215,6 +215,22 @@ class CatalogDiffHelpersTest {
     Assertions.assertThat(diff).containsAll(expectedDiff);
   }
 
+  @Test
+  void testCatalogDiffOfManyChangedStreams() {
+    final int streamCount = CatalogDiffHelpers.PARALLEL_DIFF_THRESHOLD * 4;
+    final AirbyteCatalog oldCatalog = CatalogDiffHelpersBenchmark.syntheticCatalog(streamCount, 5, 0);
+    final AirbyteCatalog newCatalog = CatalogDiffHelpersBenchmark.syntheticCatalog(streamCount, 5, 2);
+
+    final Set<StreamTransform> diff = CatalogDiffHelpers.getCatalogDiff(oldCatalog, newCatalog,
+        CatalogDiffHelpersBenchmark.syntheticConfiguredCatalog(oldCatalog));
+
+    Assertions.assertThat(diff).hasSize(streamCount / 2);
+    Assertions.assertThat(diff).allSatisfy(transform -> {
+      assertEquals(StreamTransformType.UPDATE_STREAM, transform.getTransformType());
+      assertEquals(3, transform.getUpdateStreamTransform().getFieldTransforms().size());
+    });
+  }
+
   @Test
   void testCatalogDiffWithoutStreamConfig() throws IOException {
     final JsonNode schema1 = Jsons.deserialize(readResource(VALID_SCHEMA_JSON));
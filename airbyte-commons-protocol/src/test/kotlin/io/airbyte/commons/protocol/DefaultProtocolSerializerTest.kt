@@ -12,6 +12,7 @@ import io.airbyte.config.DestinationSyncMode
 import io.airbyte.config.SyncMode
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
+import java.io.ByteArrayOutputStream
 import io.airbyte.protocol.models.AirbyteStream as ProtocolAirbyteStream
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog as ProtocolConfiguredAirbyteCatalog
 import io.airbyte.protocol.models.ConfiguredAirbyteStream as ProtocolConfiguredAirbyteStream
@@ -101,6 +102,10 @@ class DefaultProtocolSerializerTest {
       // Verify we serialized what's expected
       assertEquals(expectedConfiguredCatalog, actualCatalog)
 
+      // Verify streaming serialization writes the same catalog
+      val streamedCatalog = ByteArrayOutputStream().also { serializer.serialize(configuredCatalog, supportRefreshes, it) }
+      assertEquals(serializedCatalog, streamedCatalog.toString(Charsets.UTF_8))
+
       // Verify we didn't mutate the input
       assertEquals(frozenConfiguredCatalog, configuredCatalog)
     }
@@ -374,7 +374,8 @@ public class CatalogConverter {
   @SuppressWarnings("LineLength")
   public ConfiguredAirbyteCatalog toProtocolKeepAllStreams(final io.airbyte.api.model.generated.AirbyteCatalog catalog)
       throws JsonValidationException {
-    final AirbyteCatalog clone = Jsons.clone(catalog);
+    // Cloned stream by stream, so that the whole catalog is never serialized at once
+    final AirbyteCatalog clone = new AirbyteCatalog().streams(catalog.getStreams().stream().map(Jsons::clone).collect(Collectors.toList()));
     clone.getStreams().forEach(stream -> stream.getConfig().setSelected(true));
     return toConfiguredInternal(clone);
   }
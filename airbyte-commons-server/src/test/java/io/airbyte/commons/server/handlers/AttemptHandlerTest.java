@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.api.model.generated.AttemptInfoRead;
 import io.airbyte.api.model.generated.AttemptInfoReadLogs;
 import io.airbyte.api.model.generated.AttemptStats;
+import io.airbyte.api.model.generated.AttemptStreamStats;
 import io.airbyte.api.model.generated.AttemptSyncConfig;
 import io.airbyte.api.model.generated.ConnectionState;
 import io.airbyte.api.model.generated.ConnectionStateType;
@@ -31,6 +32,7 @@ import io.airbyte.api.model.generated.CreateNewAttemptNumberResponse;
 import io.airbyte.api.model.generated.GlobalState;
 import io.airbyte.api.model.generated.InternalOperationResult;
 import io.airbyte.api.model.generated.SaveAttemptSyncConfigRequestBody;
+import io.airbyte.api.model.generated.SaveStatsRequestBody;
 import io.airbyte.api.model.generated.SaveStreamAttemptMetadataRequestBody;
 import io.airbyte.api.model.generated.StreamAttemptMetadata;
 import io.airbyte.commons.json.Jsons;
@@ -68,6 +70,7 @@ import io.airbyte.config.StandardSyncSummary.ReplicationStatus;
 import io.airbyte.config.StateType;
 import io.airbyte.config.StateWrapper;
 import io.airbyte.config.StreamDescriptor;
+import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncMode;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.helpers.FieldGenerator;
@@ -597,6 +600,20 @@ class AttemptHandlerTest {
     assertThrows(BadRequestException.class, () -> handler.failAttempt(ATTEMPT_NUMBER, JOB_ID, failureSummary, thing));
   }
 
+  @Test
+  void saveStats() throws IOException {
+    final var result = handler.saveStats(new SaveStatsRequestBody()
+        .jobId(JOB_ID)
+        .attemptNumber(ATTEMPT_NUMBER)
+        .connectionId(CONNECTION_ID)
+        .stats(new AttemptStats().recordsEmitted(10L).bytesEmitted(100L))
+        .streamStats(List.of(new AttemptStreamStats().streamName("s1").stats(new AttemptStats().recordsEmitted(10L).bytesEmitted(100L)))));
+
+    verify(jobPersistence).writeStats(JOB_ID, ATTEMPT_NUMBER, null, null, 10L, 100L, null, null, CONNECTION_ID,
+        List.of(new StreamSyncStats().withStreamName("s1").withStats(new SyncStats().withRecordsEmitted(10L).withBytesEmitted(100L))));
+    assertEquals(new InternalOperationResult().succeeded(true), result);
+  }
+
   @Test
   void saveStreamMetadata() {
     final long jobId = 123L;
@@ -31,8 +31,11 @@ dependencies {
   implementation(libs.jackson.databind)
 
   kspTest(libs.bundles.micronaut.test.annotation.processor)
+  testAnnotationProcessor(libs.jmh.annotations)
 
   testImplementation(libs.bundles.micronaut.test)
   testImplementation(libs.bundles.junit)
   testImplementation(libs.mockk)
+  testImplementation(libs.jmh.core)
+  testImplementation(libs.jmh.annotations)
 }
@@ -4,10 +4,15 @@
 
 package io.airbyte.commons.logging
 
+import com.fasterxml.jackson.core.JsonToken
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.databind.module.SimpleModule
 import com.fasterxml.jackson.module.kotlin.readValue
+import com.google.common.io.CountingInputStream
+import com.google.common.util.concurrent.ThreadFactoryBuilder
 import io.airbyte.commons.logging.logback.STRUCTURED_LOG_FILE_EXTENSION
+import io.airbyte.commons.logging.logback.createFileId
+import io.airbyte.commons.logging.logback.fileIdTimestamp
 import io.airbyte.commons.storage.DocumentType
 import io.airbyte.commons.storage.StorageClientFactory
 import io.airbyte.metrics.MetricAttribute
@@ -16,7 +21,15 @@ import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.MetricTags
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micrometer.core.instrument.Counter
+import io.micronaut.context.annotation.Value
+import jakarta.annotation.PreDestroy
 import jakarta.inject.Singleton
+import java.time.ZoneOffset
+import java.util.PriorityQueue
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
 import java.util.regex.Pattern
 
 private val logger = KotlinLogging.logger {}
@@ -28,6 +41,41 @@ private val LOG_LINE_PATTERN =
   )
 private val TIMESTAMP_PATTERN = "^(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}).*".toPattern()
 
+private const val EVENTS_FIELD = "events"
+
+/**
+ * File IDs encode their timestamp to the second, so the events of a file can be up to this much
+ * later than that timestamp.
+ */
+private const val FILE_ID_TIMESTAMP_PRECISION_MS = 999L
+
+/**
+ * A log event along with its position among all read events, so that events with the same
+ * timestamp keep the order they were written in.
+ *
+ * @param event The log event.
+ * @param fileRank The position of the file the event was read from, newer files ranking higher.
+ * @param index The position of the event in its file.
+ */
+private data class RankedLogEvent(
+  val event: LogEvent,
+  val fileRank: Int,
+  val index: Int,
+)
+
+private val RANKED_LOG_EVENT_ORDER = compareBy<RankedLogEvent>({ it.event.timestamp }, { it.fileRank }, { it.index })
+
+/**
+ * The log files of a log path.
+ *
+ * @param ids The IDs of the log files, leaving out files replaced by compaction segments.
+ * @param segments The compaction segments among [ids], by ID.
+ */
+private data class LogFiles(
+  val ids: List<String>,
+  val segments: Map<String, LogSegment>,
+)
+
 /**
  * Client that retrieves operation job logs from storage.
  */
@@ -37,8 +85,14 @@ class LogClient(
   val mapper: ObjectMapper,
   private val logEventLayout: LogEventLayout,
   private val metricClient: MetricClient,
+  @Value("\${airbyte.logging.client.read-parallelism:8}") private val readParallelism: Int = 8,
 ) {
   private val client = storageClientFactory.create(DocumentType.LOGS)
+  private val readExecutor =
+    Executors.newFixedThreadPool(
+      readParallelism,
+      ThreadFactoryBuilder().setNameFormat("log-client-reader-%d").setDaemon(true).build(),
+    )
 
   // Copy the mapper to avoid changing deserialization for all usages in the containing application
   private val objectMapper = mapper.copy()
@@ -49,6 +103,11 @@ class LogClient(
     objectMapper.registerModule(structuredLogEventModule)
   }
 
+  @PreDestroy
+  fun close() {
+    readExecutor.shutdownNow()
+  }
+
   fun deleteLogs(logPath: String) {
     logger.debug { "Deleting logs from path '$logPath' using ${client.storageType} storage client..." }
     client.delete(id = logPath)
@@ -60,7 +119,8 @@ class LogClient(
     numLines: Int,
   ): LogEvents {
     logger.debug { "Tailing $numLines line(s) from logs from path '$logPath' using ${client.storageType} storage client..." }
-    val files = client.list(id = logPath).filter { it.endsWith(STRUCTURED_LOG_FILE_EXTENSION) }
+    val logFiles = listLogFiles(logPath = logPath)
+    val files = logFiles.ids.filter { it.endsWith(STRUCTURED_LOG_FILE_EXTENSION) || logFiles.segments.containsKey(it) }
     logger.debug { "Found ${files.size} files from path '$logPath' using ${client.storageType} storage client." }
 
     val instrumentedFiles =
@@ -89,10 +149,22 @@ class LogClient(
     val events =
       if (timer != null) {
         timer.recordCallable {
-          readStructuredLogs(files = instrumentedFiles, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter)
+          readStructuredLogs(
+            files = instrumentedFiles,
+            segments = logFiles.segments,
+            numLines = numLines,
+            lineCounter = lineCounter,
+            byteCounter = byteCounter,
+          )
         } ?: emptyList()
       } else {
-        readStructuredLogs(files = instrumentedFiles, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter)
+        readStructuredLogs(
+          files = instrumentedFiles,
+          segments = logFiles.segments,
+          numLines = numLines,
+          lineCounter = lineCounter,
+          byteCounter = byteCounter,
+        )
       }
     return LogEvents(events = events)
   }
@@ -102,7 +174,8 @@ class LogClient(
     numLines: Int,
   ): List<String> {
     logger.debug { "Tailing $numLines line(s) from logs from path '$logPath' using ${client.storageType} storage client..." }
-    val files = client.list(id = logPath)
+    val logFiles = listLogFiles(logPath = logPath)
+    val files = logFiles.ids
     logger.debug { "Found ${files.size} files from path '$logPath' using ${client.storageType} storage client." }
 
     val instrumentedFiles =
@@ -119,14 +192,41 @@ class LogClient(
       )
 
     return if (timer != null) {
-      timer.recordCallable { retrieveFiles(files = instrumentedFiles, numLines = numLines) } ?: emptyList()
+      timer.recordCallable { retrieveFiles(files = instrumentedFiles, segments = logFiles.segments, numLines = numLines) } ?: emptyList()
     } else {
-      retrieveFiles(files = instrumentedFiles, numLines = numLines)
+      retrieveFiles(files = instrumentedFiles, segments = logFiles.segments, numLines = numLines)
+    }
+  }
+
+  /**
+   * Lists the log files under [logPath]. Files that were compacted are left out in favor of the
+   * segments they were compacted into, as listed by the [LogCompactionIndex] of each compaction.
+   */
+  private fun listLogFiles(logPath: String): LogFiles {
+    val (indexes, files) = client.list(id = logPath).partition { it.endsWith(LOG_COMPACTION_INDEX_EXTENSION) }
+    if (indexes.isEmpty()) {
+      return LogFiles(ids = files.filter { !it.endsWith(LOG_SEGMENT_EXTENSION) }, segments = emptyMap())
     }
+
+    // Listed IDs may include the document type prefix while the IDs in indexes don't, so both are compared as keys.
+    val compactions = indexes.mapNotNull { index -> client.read(id = index)?.let { objectMapper.readValue<LogCompactionIndex>(it) } }
+    val compactedFiles = compactions.flatMap { it.compactedFiles }.map { client.key(id = it) }.toSet()
+    val segmentsByKey = compactions.flatMap { it.segments }.associateBy { client.key(id = it.id) }
+    // Segments not listed by any index belong to a compaction that failed before writing its index.
+    val ids =
+      files.filter { id ->
+        val key = client.key(id = id)
+        key !in compactedFiles && (!id.endsWith(LOG_SEGMENT_EXTENSION) || segmentsByKey.containsKey(key))
+      }
+    return LogFiles(
+      ids = ids,
+      segments = ids.mapNotNull { id -> segmentsByKey[client.key(id = id)]?.let { id to it } }.toMap(),
+    )
   }
 
   private fun retrieveFiles(
     files: List<String>,
+    segments: Map<String, LogSegment>,
     numLines: Int,
   ): List<String> {
     val lineCounter =
@@ -140,7 +240,7 @@ class LogClient(
         attributes = arrayOf(MetricAttribute(MetricTags.LOG_CLIENT_TYPE, client.storageType.name.lowercase())),
       )
 
-    val isStructured = files.all { it.endsWith(suffix = STRUCTURED_LOG_FILE_EXTENSION) }
+    val isStructured = files.all { it.endsWith(suffix = STRUCTURED_LOG_FILE_EXTENSION) || segments.containsKey(it) }
 
     /*
      * This logic is here to handle logs created before the introduction of structured logs.  If any of the log files
@@ -148,7 +248,9 @@ class LogClient(
      * as structured events.
      */
     return if (isStructured) {
-      formatStructuredLogs(events = readStructuredLogs(files = files, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter))
+      formatStructuredLogs(
+        events = readStructuredLogs(files = files, segments = segments, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter),
+      )
     } else {
       handleUnstructuredLogs(files = files, numLines = numLines, lineCounter = lineCounter, byteCounter = byteCounter)
     }
@@ -156,30 +258,126 @@ class LogClient(
 
   private fun formatStructuredLogs(events: List<LogEvent>): List<String> = events.map { logEventLayout.doLayout(logEvent = it) }
 
+  /**
+   * Reads the newest [numLines] events from the given structured log files.
+   * <p>
+   * Files are read newest first, as ordered by the latest event they can hold, with up to
+   * [readParallelism] files being read at once. Reading stops as soon as the remaining, older files
+   * can't hold any event newer than the [numLines] events read so far. The latest event of a
+   * compaction segment is known from its index. Other files are named by [createFileId] when they are
+   * uploaded, so none of their events is later than the timestamp in their ID. Files without a known
+   * bound can't be ordered, so all files are read if there is any such file.
+   */
   private fun readStructuredLogs(
     files: List<String>,
+    segments: Map<String, LogSegment>,
     numLines: Int,
     lineCounter: Counter?,
     byteCounter: Counter?,
   ): List<LogEvent> {
-    var count = 0
-    val logLines =
-      files
-        .asSequence()
-        .map { file ->
-          val events = client.read(id = file)
-          byteCounter?.increment(events?.length?.toDouble() ?: 0.0)
-          extractEvents(events = events)
-        }.flatMap { it.events }
-        .takeWhile { _ ->
-          count++
-          lineCounter?.increment()
-          count <= numLines
-        }.sortedBy { it.timestamp }
-        .toList()
-    return logLines
+    if (numLines <= 0) {
+      return emptyList()
+    }
+
+    // File IDs encode UTC times.
+    val latestTimestamps =
+      files.associateWith { file ->
+        segments[file]?.lastTimestamp
+          ?: fileIdTimestamp(fileId = file)?.toInstant(ZoneOffset.UTC)?.toEpochMilli()?.plus(FILE_ID_TIMESTAMP_PRECISION_MS)
+      }
+    val orderedFiles = files.sortedWith(compareByDescending<String> { latestTimestamps[it] }.thenByDescending { it })
+    val canStopEarly = latestTimestamps.values.all { it != null }
+
+    // The latest event timestamp each file and the files after it can hold.
+    val latestFrom = LongArray(orderedFiles.size)
+    if (canStopEarly) {
+      for (i in orderedFiles.indices.reversed()) {
+        val latest = latestTimestamps.getValue(orderedFiles[i])!!
+        latestFrom[i] = if (i + 1 < orderedFiles.size) maxOf(latest, latestFrom[i + 1]) else latest
+      }
+    }
+
+    // Min-heap of the newest events read so far, the oldest of them at its head.
+    val newest = PriorityQueue(RANKED_LOG_EVENT_ORDER)
+    val reads = ArrayDeque<Future<List<RankedLogEvent>>>()
+    var submitted = 0
+    try {
+      while (submitted < orderedFiles.size || reads.isNotEmpty()) {
+        while (submitted < orderedFiles.size && reads.size < readParallelism) {
+          val file = orderedFiles[submitted]
+          val fileRank = orderedFiles.size - submitted
+          reads.addLast(readExecutor.submit(Callable { readNewestEvents(file, fileRank, numLines, byteCounter) }))
+          submitted++
+        }
+
+        awaitRead(reads.removeFirst()).forEach { event ->
+          newest.add(event)
+          if (newest.size > numLines) {
+            newest.poll()
+          }
+        }
+
+        val nextFile = submitted - reads.size
+        if (canStopEarly &&
+          nextFile < orderedFiles.size &&
+          newest.size >= numLines &&
+          newest.peek().event.timestamp > latestFrom[nextFile]
+        ) {
+          logger.debug { "Read the newest $numLines line(s) from ${nextFile}/${orderedFiles.size} files." }
+          break
+        }
+      }
+    } finally {
+      reads.forEach { it.cancel(true) }
+    }
+
+    lineCounter?.increment(newest.size.toDouble())
+    return newest.sortedWith(RANKED_LOG_EVENT_ORDER).map { it.event }
   }
 
+  /**
+   * Reads the newest [numLines] events from a structured log file, parsing the events one by one
+   * as the file is streamed from storage.
+   */
+  private fun readNewestEvents(
+    file: String,
+    fileRank: Int,
+    numLines: Int,
+    byteCounter: Counter?,
+  ): List<RankedLogEvent> {
+    val input = CountingInputStream(client.readStream(id = file) ?: return emptyList())
+
+    val newest = PriorityQueue(RANKED_LOG_EVENT_ORDER)
+    objectMapper.factory.createParser(input).use { parser ->
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return emptyList()
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        val field = parser.currentName()
+        if (parser.nextToken() == JsonToken.START_ARRAY && field == EVENTS_FIELD) {
+          var index = 0
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            newest.add(RankedLogEvent(event = objectMapper.readValue(parser, LogEvent::class.java), fileRank = fileRank, index = index++))
+            if (newest.size > numLines) {
+              newest.poll()
+            }
+          }
+        } else {
+          parser.skipChildren()
+        }
+      }
+    }
+    byteCounter?.increment(input.count.toDouble())
+    return newest.toList()
+  }
+
+  private fun <T> awaitRead(read: Future<T>): T =
+    try {
+      read.get()
+    } catch (e: ExecutionException) {
+      throw e.cause ?: e
+    }
+
   private fun handleUnstructuredLogs(
     files: List<String>,
     numLines: Int,
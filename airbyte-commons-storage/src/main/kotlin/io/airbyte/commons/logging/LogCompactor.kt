@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.logging
+
+import com.fasterxml.jackson.databind.module.SimpleModule
+import com.fasterxml.jackson.module.kotlin.readValue
+import io.airbyte.commons.jackson.MoreMappers
+import io.airbyte.commons.logging.logback.STRUCTURED_LOG_FILE_EXTENSION
+import io.airbyte.commons.logging.logback.createFileId
+import io.airbyte.commons.storage.ContentEncoding
+import io.airbyte.commons.storage.StorageClient
+
+/**
+ * Extension of the index written for each compaction. It doesn't end with
+ * [STRUCTURED_LOG_FILE_EXTENSION], so that it isn't mistaken for a log file.
+ */
+const val LOG_COMPACTION_INDEX_EXTENSION = ".index"
+
+/**
+ * Extension of segments. Readers only read segments listed by an index, so that the segments of
+ * a compaction that failed before writing its index don't duplicate events of the compacted files.
+ */
+const val LOG_SEGMENT_EXTENSION = ".segment"
+
+const val DEFAULT_MAX_SEGMENT_EVENTS = 10000
+
+/**
+ * A structured log file holding the time ordered events of compacted log files.
+ */
+data class LogSegment(
+  val id: String,
+  val firstTimestamp: Long,
+  val lastTimestamp: Long,
+  val eventCount: Int,
+)
+
+/**
+ * Index written for each compaction, listing the segments it wrote and the log files these
+ * segments replace. Log files listed here are ignored by readers, even if deleting them failed.
+ */
+data class LogCompactionIndex(
+  val segments: List<LogSegment>,
+  val compactedFiles: List<String>,
+  val version: String = LOG_EVENT_SCHEMA_VERSION,
+)
+
+/**
+ * Merges structured log files, such as the many small files uploaded by the cloud storage
+ * appender, into a few larger, time ordered segments. Segments are stored with [segmentEncoding],
+ * gzip by default, and are decoded transparently by the [StorageClient] when read.
+ * <p>
+ * Segments are written next to the compacted files, followed by a [LogCompactionIndex]. Only then
+ * are the compacted files deleted, so readers always find each event either in the compacted files
+ * or in the segments. Concurrent compactions must not compact the same files.
+ * <p>
+ * This is used from within the logging system, so it doesn't log anything itself.
+ */
+class LogCompactor(
+  private val storageClient: StorageClient,
+  private val maxSegmentEvents: Int = DEFAULT_MAX_SEGMENT_EVENTS,
+  private val segmentEncoding: ContentEncoding = ContentEncoding.GZIP,
+) {
+  private val objectMapper = MoreMappers.initMapper()
+
+  init {
+    val structuredLogEventModule = SimpleModule()
+    structuredLogEventModule.addSerializer(StackTraceElement::class.java, StackTraceElementSerializer())
+    structuredLogEventModule.addDeserializer(StackTraceElement::class.java, StackTraceElementDeserializer())
+    objectMapper.registerModule(structuredLogEventModule)
+  }
+
+  /**
+   * Compacts the given structured log files into segments stored under [baseId].
+   *
+   * @param baseId The base path/ID of the log files.
+   * @param fileIds The IDs of the log files to compact.
+   * @return The index of the compaction, or null if there was nothing to compact.
+   */
+  fun compact(
+    baseId: String,
+    fileIds: List<String>,
+  ): LogCompactionIndex? {
+    if (fileIds.isEmpty()) {
+      return null
+    }
+
+    // Stable, so events with the same timestamp keep the order they were written in.
+    val events =
+      fileIds
+        .flatMap { id -> storageClient.readStream(id = id)?.use { objectMapper.readValue<LogEvents>(it).events } ?: emptyList() }
+        .sortedBy { it.timestamp }
+
+    val segments =
+      events.chunked(maxSegmentEvents).map { chunk ->
+        val segment =
+          LogSegment(
+            id = createFileId(baseId = baseId).removeSuffix(STRUCTURED_LOG_FILE_EXTENSION) + LOG_SEGMENT_EXTENSION,
+            firstTimestamp = chunk.first().timestamp,
+            lastTimestamp = chunk.last().timestamp,
+            eventCount = chunk.size,
+          )
+        storageClient.openOutputStream(id = segment.id, encoding = segmentEncoding).use { objectMapper.writeValue(it, LogEvents(events = chunk)) }
+        segment
+      }
+
+    val index = LogCompactionIndex(segments = segments, compactedFiles = fileIds)
+    storageClient.write(
+      id = createFileId(baseId = baseId).removeSuffix(STRUCTURED_LOG_FILE_EXTENSION) + LOG_COMPACTION_INDEX_EXTENSION,
+      document = objectMapper.writeValueAsString(index),
+    )
+
+    // Leftovers are harmless, as the index tells readers to ignore them.
+    fileIds.forEach { id -> runCatching { storageClient.delete(id = id) } }
+    return index
+  }
+}
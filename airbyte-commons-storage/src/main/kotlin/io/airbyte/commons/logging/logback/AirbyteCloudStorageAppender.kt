@@ -9,6 +9,7 @@ import ch.qos.logback.core.AppenderBase
 import ch.qos.logback.core.status.ErrorStatus
 import com.google.common.util.concurrent.ThreadFactoryBuilder
 import io.airbyte.commons.envvar.EnvVar
+import io.airbyte.commons.logging.LogCompactor
 import io.airbyte.commons.storage.AzureStorageClient
 import io.airbyte.commons.storage.AzureStorageConfig
 import io.airbyte.commons.storage.DocumentType
@@ -22,13 +23,20 @@ import io.airbyte.commons.storage.S3StorageClient
 import io.airbyte.commons.storage.S3StorageConfig
 import io.airbyte.commons.storage.StorageBucketConfig
 import io.airbyte.commons.storage.StorageClient
+import io.airbyte.metrics.MetricAttribute
+import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
+import io.airbyte.metrics.lib.MetricTags
+import io.micrometer.core.instrument.Metrics
 import java.net.InetAddress
+import java.time.Clock
 import java.time.LocalDateTime
+import java.time.ZoneOffset
 import java.time.format.DateTimeFormatter
 import java.util.UUID
 import java.util.concurrent.Executors
-import java.util.concurrent.LinkedBlockingQueue
 import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
 
 /**
  * Shared executor service used to reduce the number of threads created to handle
@@ -40,6 +48,12 @@ private val executorService =
     ThreadFactoryBuilder().setNameFormat("airbyte-cloud-storage-appender-%d").build(),
   )
 
+/**
+ * Appenders are built by the logging configuration, before any application context exists, so
+ * their metrics are published through Micrometer's global registry.
+ */
+private val defaultMetricClient by lazy { MetricClient(meterRegistry = Metrics.globalRegistry) }
+
 /**
  * Builds the ID of the uploaded file.  This is typically the path in blob storage.
  *
@@ -51,7 +65,7 @@ private val executorService =
  */
 fun createFileId(
   baseId: String,
-  timestamp: String = LocalDateTime.now().format(DATE_FORMAT),
+  timestamp: String = LocalDateTime.now(ZoneOffset.UTC).format(DATE_FORMAT),
   hostname: String = InetAddress.getLocalHost().hostName,
   uniqueIdentifier: String = UUID.randomUUID().toString(),
 ): String {
@@ -59,6 +73,16 @@ fun createFileId(
   return "${baseId.trim('/')}/${timestamp}_${hostname}_${uniqueIdentifier.replace("-", "")}$STRUCTURED_LOG_FILE_EXTENSION"
 }
 
+/**
+ * Extracts the timestamp encoded by [createFileId] from a file ID. The appender builds the ID of a
+ * file when uploading it, so this is no earlier than any event in the file, to the second.
+ *
+ * @param fileId The ID of the file.
+ * @return The timestamp of the file, or null if the ID was not built by [createFileId].
+ */
+fun fileIdTimestamp(fileId: String): LocalDateTime? =
+  runCatching { LocalDateTime.parse(fileId.substringAfterLast('/').substringBefore('_'), DATE_FORMAT) }.getOrNull()
+
 /**
  * Stops the shared executor service.  This method should be called from a JVM shutdown hook
  * to ensure that the thread pool is stopped prior to exit/stopping the appenders.
@@ -72,18 +96,41 @@ fun stopAirbyteCloudStorageAppenderExecutorService() {
  * Custom Logback [AppenderBase] that uploads log events to remove storage.  Log data
  * is uploaded on a scheduled cadence that produces a new remote storage file each time.
  * This is necessary because most cloud storage systems do not support an append mode.
+ * <p>
+ * Events wait for the upload in a buffer bounded to [bufferCapacity] events, which applies the
+ * [overflowPolicy] when uploads can't keep up. Besides every [period], an upload is triggered as
+ * soon as [batchSize] events are buffered, and each uploaded file holds at most [batchSize] events.
+ * The ID of each file is built from the [clock] when it is uploaded, never ahead of time, so that the
+ * timestamp it encodes is no earlier than any of its events, however long the appender sat idle.
+ * <p>
+ * If [compactionThreshold] is positive, the uploaded files are compacted into larger segments
+ * with a [LogCompactor] whenever that many files were uploaded, and once more when the appender
+ * stops. Each appender only compacts the files it uploaded itself.
  */
 class AirbyteCloudStorageAppender(
   val baseStorageId: String,
   val documentType: DocumentType,
   val storageClient: StorageClient = buildStorageClient(storageConfig = buildStorageConfig(), documentType = documentType),
-  val period: Long = 60L,
+  val period: Long = EnvVar.CLOUD_STORAGE_APPENDER_UPLOAD_PERIOD_SECONDS.fetch(default = "60")!!.toLong(),
   val unit: TimeUnit = TimeUnit.SECONDS,
+  val compactionThreshold: Int = EnvVar.CLOUD_STORAGE_APPENDER_COMPACTION_THRESHOLD.fetch(default = "0")!!.toInt(),
+  val bufferCapacity: Int = EnvVar.CLOUD_STORAGE_APPENDER_BUFFER_CAPACITY.fetch(default = "100000")!!.toInt(),
+  val batchSize: Int = EnvVar.CLOUD_STORAGE_APPENDER_BATCH_SIZE.fetch(default = "10000")!!.toInt(),
+  val overflowPolicy: OverflowPolicy =
+    OverflowPolicy.valueOf(EnvVar.CLOUD_STORAGE_APPENDER_OVERFLOW_POLICY.fetch(default = OverflowPolicy.DROP_DEBUG_FIRST.name)!!.uppercase()),
+  val sampleRate: Int = EnvVar.CLOUD_STORAGE_APPENDER_SAMPLE_RATE.fetch(default = "10")!!.toInt(),
+  val blockTimeoutMs: Long = 1000L,
+  private val metricClient: MetricClient = defaultMetricClient,
+  private val clock: Clock = Clock.systemUTC(),
 ) : AppenderBase<ILoggingEvent>() {
-  private val buffer = LinkedBlockingQueue<ILoggingEvent>()
-  private var currentStorageId: String = createFileId(baseId = baseStorageId)
+  private val buffer =
+    LogEventRingBuffer(capacity = bufferCapacity, overflowPolicy = overflowPolicy, sampleRate = sampleRate, blockTimeoutMs = blockTimeoutMs)
+  private val uploadScheduled = AtomicBoolean(false)
+  private val metricAttributes = arrayOf(MetricAttribute(MetricTags.LOG_DOCUMENT_TYPE, documentType.name.lowercase()))
   private val encoder = AirbyteLogEventEncoder()
   private val uploadLock = Any()
+  private val compactor = if (compactionThreshold > 0) LogCompactor(storageClient = storageClient) else null
+  private val uncompactedIds = mutableListOf<String>()
 
   override fun start() {
     super.start()
@@ -97,30 +144,77 @@ class AirbyteCloudStorageAppender(
     } finally {
       // Do one final upload attempt to ensure that all logs are published
       upload()
+      compact(minFiles = 2)
       encoder.stop()
     }
   }
 
   override fun append(eventObject: ILoggingEvent) {
-    buffer.offer(eventObject)
+    buffer.add(eventObject)?.let { dropped ->
+      metricClient.count(
+        metric = OssMetricsRegistry.LOG_APPENDER_EVENTS_DROPPED,
+        attributes = metricAttributes + MetricAttribute(MetricTags.LOG_LEVEL, dropped.level.toString()),
+      )
+    }
+
+    // Upload full batches right away rather than waiting for the next scheduled upload
+    if (isStarted && buffer.size >= batchSize && uploadScheduled.compareAndSet(false, true)) {
+      executorService.execute(this::upload)
+    }
   }
 
   private fun upload() {
+    uploadScheduled.set(false)
     try {
       synchronized(uploadLock) {
-        val events = mutableListOf<ILoggingEvent>()
-        buffer.drainTo(events)
+        // Only upload the events buffered so far, so that a steady stream of events can't keep this going
+        var remaining = buffer.size
+        metricClient.distribution(metric = OssMetricsRegistry.LOG_APPENDER_QUEUE_DEPTH, value = remaining.toDouble(), attributes = metricAttributes)
+
+        while (remaining > 0) {
+          val events = mutableListOf<ILoggingEvent>()
+          if (buffer.drainTo(target = events, maxEvents = minOf(remaining, batchSize)) == 0) {
+            break
+          }
+          remaining -= events.size
 
-        if (events.isNotEmpty()) {
           val document = encoder.bulkEncode(loggingEvents = events)
-          storageClient.write(id = currentStorageId, document = document)
+          // Each batch goes to a new file, as most log storage doesn't support appending
+          val storageId = createFileId(baseId = baseStorageId, timestamp = LocalDateTime.now(clock).format(DATE_FORMAT))
+          val start = System.nanoTime()
+          storageClient.write(id = storageId, document = document)
+          metricClient
+            .timer(metric = OssMetricsRegistry.LOG_APPENDER_UPLOAD_TIME_MS, attributes = metricAttributes)
+            ?.record(System.nanoTime() - start, TimeUnit.NANOSECONDS)
 
-          // Move to next file to avoid overwriting in log storage that doesn't support append mode
-          this.currentStorageId = createFileId(baseId = baseStorageId)
+          if (compactor != null) {
+            uncompactedIds.add(storageId)
+          }
+        }
+      }
+    } catch (t: Throwable) {
+      addStatus(ErrorStatus("Failed to upload logs to cloud storage location $baseStorageId.", this, t))
+    }
+    compact(minFiles = compactionThreshold)
+  }
+
+  /**
+   * Compacts the files uploaded since the last compaction, if there are at least [minFiles] of them.
+   */
+  private fun compact(minFiles: Int) {
+    if (compactor == null) {
+      return
+    }
+
+    try {
+      synchronized(uploadLock) {
+        if (uncompactedIds.size >= minFiles) {
+          compactor.compact(baseId = baseStorageId, fileIds = uncompactedIds.toList())
+          uncompactedIds.clear()
         }
       }
     } catch (t: Throwable) {
-      addStatus(ErrorStatus("Failed to upload logs to cloud storage location $currentStorageId.", this, t))
+      addStatus(ErrorStatus("Failed to compact logs in cloud storage location $baseStorageId.", this, t))
     }
   }
 }
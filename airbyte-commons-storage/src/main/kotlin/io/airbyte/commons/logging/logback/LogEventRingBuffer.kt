@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.logging.logback
+
+import ch.qos.logback.classic.Level
+import ch.qos.logback.classic.spi.ILoggingEvent
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * What a [LogEventRingBuffer] does with an event appended while it is full.
+ */
+enum class OverflowPolicy {
+  /**
+   * Evicts the oldest buffered event below [Level.INFO] to make room for the appended event.
+   * Appended events below [Level.INFO], and any event if none of the buffered events are below
+   * [Level.INFO], are dropped.
+   */
+  DROP_DEBUG_FIRST,
+
+  /**
+   * Keeps one in every `sampleRate` appended events, each evicting the oldest buffered event, and
+   * drops the others. The buffer then holds a sample of the most recent events, rather than only
+   * the events appended before it filled up.
+   */
+  SAMPLE,
+
+  /**
+   * Waits for an upload to make room, for up to `blockTimeoutMs`, and drops the appended event if
+   * there is still no room by then. The wait is bounded so that logging never hangs if uploads do.
+   */
+  BLOCK,
+}
+
+/**
+ * Slots allocated by a [LogEventRingBuffer] until it needs more.
+ */
+private const val INITIAL_SLOTS = 256
+
+/**
+ * Bounded, thread safe FIFO buffer of log events waiting to be uploaded. Once the buffer holds
+ * [capacity] events, appended events are handled according to [overflowPolicy].
+ * <p>
+ * There is a buffer per job, most of which only ever hold a few events at once, so slots are
+ * allocated as needed, doubling up to [capacity], and released once the buffer is drained.
+ */
+internal class LogEventRingBuffer(
+  val capacity: Int,
+  private val overflowPolicy: OverflowPolicy,
+  private val sampleRate: Int = 1,
+  private val blockTimeoutMs: Long = 0L,
+) {
+  private var events = arrayOfNulls<ILoggingEvent>(minOf(capacity, INITIAL_SLOTS))
+  private val lock = ReentrantLock()
+  private val notFull = lock.newCondition()
+  private var head = 0
+  private var count = 0
+  private var belowInfoCount = 0
+  private var overflowCount = 0L
+
+  init {
+    require(capacity > 0) { "The capacity must be positive, was $capacity." }
+    require(sampleRate > 0) { "The sample rate must be positive, was $sampleRate." }
+  }
+
+  val size: Int
+    get() = lock.withLock { count }
+
+  /**
+   * Appends an event to the buffer, applying the [overflowPolicy] if the buffer is full.
+   *
+   * @param event The event to append.
+   * @return The event dropped to make room, which is either [event] or an evicted event, or null if
+   * no event was dropped.
+   */
+  fun add(event: ILoggingEvent): ILoggingEvent? {
+    lock.withLock {
+      if (count == capacity) {
+        when (overflowPolicy) {
+          OverflowPolicy.DROP_DEBUG_FIRST -> {
+            if (isBelowInfo(event) || belowInfoCount == 0) {
+              return event
+            }
+            val evicted = removeOldestBelowInfo()
+            push(event)
+            return evicted
+          }
+          OverflowPolicy.SAMPLE -> {
+            if (overflowCount++ % sampleRate != 0L) {
+              return event
+            }
+            val evicted = removeFirst()
+            push(event)
+            return evicted
+          }
+          OverflowPolicy.BLOCK -> {
+            var remainingNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs)
+            while (count == capacity) {
+              if (remainingNanos <= 0L) {
+                return event
+              }
+              remainingNanos = notFull.awaitNanos(remainingNanos)
+            }
+          }
+        }
+      }
+      push(event)
+      return null
+    }
+  }
+
+  /**
+   * Removes up to [maxEvents] of the oldest events from the buffer, in the order they were appended.
+   *
+   * @param target The collection the removed events are added to.
+   * @param maxEvents The maximum number of events to remove.
+   * @return The number of events removed.
+   */
+  fun drainTo(
+    target: MutableCollection<ILoggingEvent>,
+    maxEvents: Int = Int.MAX_VALUE,
+  ): Int =
+    lock.withLock {
+      val drained = minOf(count, maxEvents)
+      repeat(drained) { target.add(removeFirst()) }
+      if (count == 0 && events.size > INITIAL_SLOTS) {
+        events = arrayOfNulls(INITIAL_SLOTS)
+        head = 0
+      }
+      if (drained > 0) {
+        notFull.signalAll()
+      }
+      drained
+    }
+
+  private fun push(event: ILoggingEvent) {
+    if (count == events.size) {
+      grow()
+    }
+    events[(head + count) % events.size] = event
+    count++
+    if (isBelowInfo(event)) {
+      belowInfoCount++
+    }
+  }
+
+  private fun removeFirst(): ILoggingEvent {
+    val event = events[head]!!
+    events[head] = null
+    head = (head + 1) % events.size
+    count--
+    if (isBelowInfo(event)) {
+      belowInfoCount--
+    }
+    return event
+  }
+
+  /**
+   * Removes the oldest event below [Level.INFO]. The events before it are shifted by one slot
+   * towards the tail, which is cheap as that event is usually close to the head.
+   */
+  private fun removeOldestBelowInfo(): ILoggingEvent {
+    val offset = (0 until count).first { isBelowInfo(events[(head + it) % events.size]!!) }
+    val evicted = events[(head + offset) % events.size]
+    for (i in offset downTo 1) {
+      events[(head + i) % events.size] = events[(head + i - 1) % events.size]
+    }
+    events[head] = evicted
+    return removeFirst()
+  }
+
+  /**
+   * Doubles the slots, up to [capacity], moving the buffered events to the start of the new slots.
+   */
+  private fun grow() {
+    val grown = arrayOfNulls<ILoggingEvent>(minOf(capacity.toLong(), events.size * 2L).toInt())
+    for (i in 0 until count) {
+      grown[i] = events[(head + i) % events.size]
+    }
+    events = grown
+    head = 0
+  }
+
+  private fun isBelowInfo(event: ILoggingEvent): Boolean = !event.level.isGreaterOrEqual(Level.INFO)
+}
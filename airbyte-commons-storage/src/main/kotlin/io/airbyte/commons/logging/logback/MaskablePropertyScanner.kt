@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.logging.logback
+
+import io.airbyte.commons.constants.AirbyteSecretConstants
+
+/**
+ * Masks the values of JSON properties whose name is one of the maskable properties.
+ * <p>
+ * All property names are looked for in a single pass over the message using an Aho-Corasick
+ * automaton, and the value following a property name is only parsed where a name was found. This
+ * replaces a regular expression alternating over every maskable property, which had to be tried at
+ * every position of every log line.
+ * <p>
+ * Matching behaves like the regular expression it replaces: property names are matched
+ * case-insensitively (ASCII only), and string, array (without nested arrays) and integer values
+ * are masked.
+ */
+class MaskablePropertyScanner(
+  properties: Set<String>,
+) {
+  private class Node {
+    val next = HashMap<Char, Node>()
+    var fail: Node? = null
+
+    /**
+     * Length of the longest quoted property name ending at this node, or 0 if there is none.
+     */
+    var matchLength = 0
+  }
+
+  private val root = Node()
+
+  init {
+    properties
+      .filter { it.isNotEmpty() && !it.contains(QUOTE) }
+      .forEach { property ->
+        var node = root
+        "$QUOTE$property$QUOTE".forEach { c -> node = node.next.getOrPut(fold(c)) { Node() } }
+        node.matchLength = property.length + 2
+      }
+
+    // Breadth first, so the fail node of a node is always complete before the node itself.
+    val queue = ArrayDeque<Node>()
+    root.next.values.forEach {
+      it.fail = root
+      queue.addLast(it)
+    }
+    while (queue.isNotEmpty()) {
+      val node = queue.removeFirst()
+      node.next.forEach { (c, child) ->
+        var fail = node.fail
+        while (fail != null && !fail.next.containsKey(c)) {
+          fail = fail.fail
+        }
+        val childFail = fail?.next?.get(c) ?: root
+        child.fail = childFail
+        child.matchLength = maxOf(child.matchLength, childFail.matchLength)
+        queue.addLast(child)
+      }
+    }
+  }
+
+  /**
+   * Masks the values of all maskable properties in the message.
+   *
+   * @param message The message to mask.
+   * @return The masked message, or the message itself if there was nothing to mask.
+   */
+  fun mask(message: String): String {
+    // Every property name is quoted, so there is nothing to look for in messages without quotes.
+    if (message.indexOf(QUOTE) < 0) {
+      return message
+    }
+
+    var masked: StringBuilder? = null
+    var copiedUpTo = 0
+    var node = root
+    var i = 0
+    while (i < message.length) {
+      val c = fold(message[i])
+      while (node !== root && !node.next.containsKey(c)) {
+        node = node.fail!!
+      }
+      node = node.next[c] ?: root
+      i++
+
+      if (node.matchLength > 0) {
+        val nameStart = i - node.matchLength
+        val valueEnd = valueEnd(message, i)
+        if (valueEnd >= 0) {
+          masked = (masked ?: StringBuilder(message.length))
+          masked
+            .append(message, copiedUpTo, nameStart)
+            .append(message, nameStart, i)
+            .append(':')
+            .append(MASKED_VALUE)
+          copiedUpTo = valueEnd
+          i = valueEnd
+          node = root
+        }
+      }
+    }
+
+    return masked?.append(message, copiedUpTo, message.length)?.toString() ?: message
+  }
+}
+
+private const val QUOTE = '"'
+
+private const val MASKED_VALUE = "\"${AirbyteSecretConstants.SECRETS_MASK}\""
+
+/**
+ * Folds ASCII upper case letters to lower case, like case-insensitive regular expressions do.
+ */
+private fun fold(c: Char): Char = if (c in 'A'..'Z') c + ('a' - 'A') else c
+
+/**
+ * Whitespace as matched by `\s` in regular expressions.
+ */
+private fun isWhitespace(c: Char): Boolean = c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\u000C' || c == '\r'
+
+/**
+ * Line terminators, which `.` doesn't match in regular expressions.
+ */
+private fun isLineTerminator(c: Char): Boolean = c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029'
+
+private fun skipWhitespace(
+  message: String,
+  from: Int,
+): Int {
+  var i = from
+  while (i < message.length && isWhitespace(message[i])) {
+    i++
+  }
+  return i
+}
+
+/**
+ * Finds the end of the `: value` following a property name.
+ *
+ * @param message The message.
+ * @param nameEnd The index right after the closing quote of the property name.
+ * @return The index right after the value, or -1 if the property name isn't followed by a
+ *         maskable value.
+ */
+private fun valueEnd(
+  message: String,
+  nameEnd: Int,
+): Int {
+  var i = skipWhitespace(message, nameEnd)
+  if (i >= message.length || message[i] != ':') {
+    return -1
+  }
+  i = skipWhitespace(message, i + 1)
+  if (i >= message.length) {
+    return -1
+  }
+
+  return when (message[i]) {
+    QUOTE -> stringEnd(message, i + 1)
+    '[' -> arrayEnd(message, i + 1)
+    in '0'..'9' -> {
+      var end = i + 1
+      while (end < message.length && message[end] in '0'..'9') {
+        end++
+      }
+      end
+    }
+    else -> -1
+  }
+}
+
+private fun stringEnd(
+  message: String,
+  from: Int,
+): Int {
+  var i = from
+  while (i < message.length) {
+    when (message[i]) {
+      QUOTE -> return i + 1
+      '\\' -> {
+        if (i + 1 >= message.length || isLineTerminator(message[i + 1])) {
+          return -1
+        }
+        i += 2
+      }
+      else -> i++
+    }
+  }
+  return -1
+}
+
+private fun arrayEnd(
+  message: String,
+  from: Int,
+): Int {
+  for (i in from until message.length) {
+    when (message[i]) {
+      ']' -> return i + 1
+      '[' -> return -1
+    }
+  }
+  return -1
+}
@@ -14,7 +14,6 @@ import io.airbyte.commons.logging.LOG_SOURCE_MDC_KEY
 import io.airbyte.commons.logging.LogSource
 import io.airbyte.commons.yaml.Yamls
 import java.nio.charset.Charset
-import java.util.regex.Pattern
 
 /**
  * Custom [ClassicConverter] used to intercept all log messages and mask any JSON
@@ -28,8 +27,7 @@ import java.util.regex.Pattern
 class MaskedDataConverter(
   specMaskFile: String = LOCAL_SECRETS_MASKS_PATH,
 ) : ClassicConverter() {
-  private val pattern: Pattern? = buildPattern(specMaskFile = specMaskFile)
-  private val replacePattern = API_KEY_PATTERN.toPattern()
+  private val scanner: MaskablePropertyScanner? = buildScanner(specMaskFile = specMaskFile)
 
   override fun convert(event: ILoggingEvent): String = replace(message = applyMask(event = event))
 
@@ -41,32 +39,18 @@ class MaskedDataConverter(
    */
   private fun applyMask(event: ILoggingEvent): String {
     val piiScrubbedMessage = removeKnownPii(event = event)
-    return pattern?.matcher(piiScrubbedMessage)?.replaceAll(REPLACEMENT_PATTERN) ?: piiScrubbedMessage
+    return scanner?.mask(piiScrubbedMessage) ?: piiScrubbedMessage
   }
 
   /**
-   * Builds the maskable property matching pattern.
+   * Builds the maskable property scanner.
    *
    * @param specMaskFile The spec mask file.
-   * @return The regular expression pattern used to find maskable properties.
+   * @return The scanner used to mask maskable properties, or null if there are none.
    */
-  private fun buildPattern(specMaskFile: String): Pattern? =
+  private fun buildScanner(specMaskFile: String): MaskablePropertyScanner? =
     getMaskableProperties(specMaskFile).takeIf { it.isNotEmpty() }?.let {
-      generatePattern(it).toPattern()
-    }
-
-  /**
-   * Generates the property matching pattern string from the provided set of properties.
-   *
-   * @param properties The set of properties to match.
-   * @return The generated regular expression pattern used to match the maskable properties.
-   */
-  private fun generatePattern(properties: Set<String>): String =
-    buildString {
-      append(CASE_INSENSITIVE_FLAG)
-      append(PROPERTY_MATCHING_PATTERN_PREFIX)
-      append(properties.joinToString("|"))
-      append(PROPERTY_MATCHING_PATTERN_SUFFIX)
+      MaskablePropertyScanner(it)
     }
 
   /**
@@ -94,7 +78,25 @@ class MaskedDataConverter(
    * @param message The message to apply replacement to.
    * @return The potentially modified message with any specific patterns replaced.
    */
-  private fun replace(message: String): String = replacePattern.matcher(message).replaceAll(API_KEY_REPLACEMENT)
+  private fun replace(message: String): String {
+    var start = message.indexOf(API_KEY_PREFIX)
+    if (start < 0) {
+      return message
+    }
+
+    val replaced = StringBuilder(message.length)
+    var copiedUpTo = 0
+    while (start >= 0) {
+      var end = start + API_KEY_PREFIX.length
+      while (end < message.length && isApiKeyCharacter(message[end])) {
+        end++
+      }
+      replaced.append(message, copiedUpTo, start).append(API_KEY_REPLACEMENT)
+      copiedUpTo = end
+      start = message.indexOf(API_KEY_PREFIX, end)
+    }
+    return replaced.append(message, copiedUpTo, message.length).toString()
+  }
 }
 
 /**
@@ -103,19 +105,17 @@ class MaskedDataConverter(
 private const val API_KEY_FIELD = "apikey"
 
 /**
- * Regular expression to match api keys in strings.  Ported from previous Log4j2 configuration.
+ * Prefix of api keys in strings. The key itself is made of word characters and dashes, as
+ * matched by `apikey=[\w\-]*` in the previous Log4j2 configuration.
  */
-private const val API_KEY_PATTERN = "$API_KEY_FIELD=[\\w\\-]*"
+private const val API_KEY_PREFIX = "$API_KEY_FIELD="
 
 /**
- * Replacement pattern for matches using the [API_KEY_PATTERN] regular expression.
+ * Replacement for api keys found after [API_KEY_PREFIX].
  */
 private const val API_KEY_REPLACEMENT = "$API_KEY_FIELD=${AirbyteSecretConstants.SECRETS_MASK}"
 
-/**
- * Regular expression pattern flag that enables case in-sensitive matching.
- */
-private const val CASE_INSENSITIVE_FLAG: String = "(?i)"
+private fun isApiKeyCharacter(c: Char): Boolean = c in 'a'..'z' || c in 'A'..'Z' || c in '0'..'9' || c == '_' || c == '-'
 
 /**
  * Capture group name for the portion of a log message that contains the log information.
@@ -163,22 +163,6 @@ private val DESTINATION_KNOWN_PII_PATTERN =
  */
 private const val PROPERTIES_KEY: String = "properties"
 
-/**
- * Regular expression pattern prefix for applying the mask to property values.
- */
-private const val PROPERTY_MATCHING_PATTERN_PREFIX: String = "\"("
-
-/**
- * Regular expression pattern suffix for applying the mask to property values.
- */
-private const val PROPERTY_MATCHING_PATTERN_SUFFIX: String = ")\"\\s*:\\s*(\"(?:[^\"\\\\]|\\\\.)*\"|\\[[^]\\[]*]|\\d+)"
-
-/**
- * Regular expression pattern used to replace a key/value property with a masked value while
- * maintaining the property key/name.
- */
-private const val REPLACEMENT_PATTERN: String = "\"\$1\":\"${AirbyteSecretConstants.SECRETS_MASK}\""
-
 /**
  * Removes known PII from the log message for messages produced by destinations.
  *
@@ -190,9 +174,16 @@ private fun removeKnownPii(event: ILoggingEvent): String {
    * Only apply the PII replacement to messages from the destination to avoid performance
    * hit in other scenarios.
    */
-  return if (event.mdcPropertyMap.getOrDefault(LOG_SOURCE_MDC_KEY, LogSource.PLATFORM.displayName) == LogSource.DESTINATION.displayName) {
-    DESTINATION_KNOWN_PII_PATTERN.matcher(event.formattedMessage).replaceAll(KNOWN_PII_LOG_MESSAGE_REPLACEMENT_PATTERN)
+  val message = event.formattedMessage
+  /*
+   * The pattern only matches error messages, so the prefix check saves running it on every other
+   * destination message.
+   */
+  return if (message.startsWith(Level.ERROR.toString()) &&
+    event.mdcPropertyMap.getOrDefault(LOG_SOURCE_MDC_KEY, LogSource.PLATFORM.displayName) == LogSource.DESTINATION.displayName
+  ) {
+    DESTINATION_KNOWN_PII_PATTERN.matcher(message).replaceAll(KNOWN_PII_LOG_MESSAGE_REPLACEMENT_PATTERN)
   } else {
-    event.formattedMessage
+    message
   }
 }
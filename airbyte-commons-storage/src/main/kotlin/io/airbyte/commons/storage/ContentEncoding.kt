@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.storage
+
+import java.io.BufferedInputStream
+import java.io.InputStream
+import java.io.OutputStream
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+
+private const val BUFFER_SIZE = 64 * 1024
+
+/**
+ * The first two bytes of any gzip stream. Documents are JSON or plain text, which never start with
+ * these bytes, so encoded documents can be told apart from plain ones without storing metadata.
+ */
+private const val GZIP_MAGIC_FIRST: Int = 0x1f
+private const val GZIP_MAGIC_SECOND: Int = 0x8b
+
+/**
+ * How a document is encoded when it is stored by a [StorageClient].
+ * <p>
+ * Encoded documents are decoded transparently when read, see [decodeContent].
+ */
+enum class ContentEncoding {
+  /** Stored as is. */
+  IDENTITY,
+
+  /** Stored gzip compressed. */
+  GZIP,
+  ;
+
+  /**
+   * Wraps [output] so that everything written to it is encoded.
+   *
+   * @param output The stream the encoded content is written to.
+   * @return The stream to write the content to.
+   */
+  fun encode(output: OutputStream): OutputStream =
+    when (this) {
+      IDENTITY -> output
+      GZIP -> GZIPOutputStream(output, BUFFER_SIZE)
+    }
+}
+
+/**
+ * Wraps the [input] of a stored document so that it is decoded if it was stored with a
+ * [ContentEncoding].
+ *
+ * @param input The stream of the stored document.
+ * @return The stream of the decoded document.
+ */
+fun decodeContent(input: InputStream): InputStream {
+  val buffered = if (input.markSupported()) input else BufferedInputStream(input, BUFFER_SIZE)
+  buffered.mark(2)
+  val first = buffered.read()
+  val second = buffered.read()
+  buffered.reset()
+  return if (first == GZIP_MAGIC_FIRST && second == GZIP_MAGIC_SECOND) {
+    GZIPInputStream(buffered, BUFFER_SIZE)
+  } else {
+    buffered
+  }
+}
+
+/**
+ * Decodes a stored document read as a whole.
+ *
+ * @param bytes The stored document.
+ * @return The decoded document.
+ */
+fun decodeContent(bytes: ByteArray): ByteArray =
+  if (bytes.size >= 2 && bytes[0].toInt() and 0xff == GZIP_MAGIC_FIRST && bytes[1].toInt() and 0xff == GZIP_MAGIC_SECOND) {
+    GZIPInputStream(bytes.inputStream(), BUFFER_SIZE).use { it.readAllBytes() }
+  } else {
+    bytes
+  }
@@ -6,6 +6,7 @@ package io.airbyte.commons.storage
 
 import com.azure.storage.blob.BlobServiceClient
 import com.azure.storage.blob.BlobServiceClientBuilder
+import com.azure.storage.blob.models.BlobRange
 import com.google.auth.oauth2.ServiceAccountCredentials
 import com.google.cloud.storage.BlobId
 import com.google.cloud.storage.BlobInfo
@@ -13,7 +14,6 @@ import com.google.cloud.storage.BucketInfo
 import com.google.cloud.storage.Storage
 import com.google.cloud.storage.StorageOptions
 import com.google.common.annotations.VisibleForTesting
-import io.airbyte.commons.io.IOs
 import io.micronaut.context.ApplicationContext
 import io.micronaut.context.annotation.Parameter
 import io.micronaut.context.annotation.Prototype
@@ -33,8 +33,13 @@ import software.amazon.awssdk.services.s3.model.HeadObjectRequest
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException
 import software.amazon.awssdk.services.s3.model.PutObjectRequest
+import software.amazon.awssdk.services.s3.model.S3Exception
 import java.io.ByteArrayInputStream
+import java.io.InputStream
+import java.io.OutputStream
 import java.net.URI
+import java.nio.channels.Channels
+import java.nio.channels.FileChannel
 import java.nio.charset.StandardCharsets
 import java.nio.file.Files
 import java.nio.file.Path
@@ -97,6 +102,7 @@ enum class DocumentType(
   STATE(prefix = Path.of("/state")),
   WORKLOAD_OUTPUT(prefix = Path.of("/workload/output")),
   ACTIVITY_PAYLOADS(prefix = Path.of("/activity-payloads")),
+  WORKLOAD_PAYLOADS(prefix = Path.of("/workload/payloads")),
   AUDIT_LOGS(prefix = Path.of("audit-logging")),
   PROFILER_OUTPUT(prefix = Path.of("/profiler/output")),
 }
@@ -135,13 +141,67 @@ interface StorageClient {
   )
 
   /**
-   * Reads document with a given id.
+   * Reads document with a given id, decoding it if it was written with a [ContentEncoding].
    *
    * @param id of the document to read.
    * @return the document
    */
   fun read(id: String): String?
 
+  /**
+   * Opens a stream reading the document with a given id, decoding it if it was written with a
+   * [ContentEncoding]. The document is not held in memory as a whole.
+   *
+   * @param id of the document to read.
+   * @return a stream of the document, to be closed by the caller, or null if there is no such document
+   */
+  fun readStream(id: String): InputStream?
+
+  /**
+   * Reads a range of bytes of the document with a given id. Ranges apply to the document as it is
+   * stored, so they are meant for documents written without a [ContentEncoding].
+   *
+   * @param id of the document to read.
+   * @param offset of the first byte to read
+   * @param length of the range to read
+   * @return the bytes in the range, fewer than [length] if the document ends before, or null if
+   * there is no such document
+   */
+  fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray?
+
+  /**
+   * Opens a stream writing a document with a given id. The document is stored once the stream is
+   * closed, overwriting any existing document at this id.
+   *
+   * @param id of the document to write
+   * @param encoding the document is stored with
+   * @return a stream to write the document to, to be closed by the caller
+   */
+  fun openOutputStream(
+    id: String,
+    encoding: ContentEncoding = ContentEncoding.IDENTITY,
+  ): OutputStream
+
+  /**
+   * Writes a document read from a stream with a given id. If a document already exists at this id
+   * it will be overwritten.
+   *
+   * @param id of the document to write
+   * @param input stream of the document to write
+   * @param encoding the document is stored with
+   */
+  fun write(
+    id: String,
+    input: InputStream,
+    encoding: ContentEncoding = ContentEncoding.IDENTITY,
+  ) {
+    openOutputStream(id = id, encoding = encoding).use { input.copyTo(it) }
+  }
+
   /**
    * Deletes the document with provided id.
    *
@@ -214,7 +274,39 @@ class AzureStorageClient(
       // ensure the blob exists before downloading it
       .takeIf { it.exists() }
       ?.downloadContent()
-      ?.toString()
+      ?.let { decodeContent(it.toBytes()).toString(StandardCharsets.UTF_8) }
+
+  override fun readStream(id: String): InputStream? =
+    azureClient
+      .getBlobContainerClient(bucketName)
+      .getBlobClient(key(id))
+      .takeIf { it.exists() }
+      ?.openInputStream()
+      ?.let { decodeContent(it) }
+
+  override fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? =
+    azureClient
+      .getBlobContainerClient(bucketName)
+      .getBlobClient(key(id))
+      .takeIf { it.exists() }
+      ?.openInputStream(BlobRange(offset, length.toLong()), null)
+      ?.use { it.readNBytes(length) }
+
+  override fun openOutputStream(
+    id: String,
+    encoding: ContentEncoding,
+  ): OutputStream =
+    encoding.encode(
+      azureClient
+        .getBlobContainerClient(bucketName)
+        .getBlobClient(key(id))
+        .blockBlobClient
+        .getBlobOutputStream(true),
+    )
 
   override fun delete(id: String): Boolean =
     azureClient
@@ -279,9 +371,42 @@ class GcsStorageClient(
     return gcsClient
       .get(blobId)
       ?.takeIf { it.exists() }
-      ?.let { _ -> gcsClient.readAllBytes(blobId).toString(StandardCharsets.UTF_8) }
+      ?.let { _ -> decodeContent(gcsClient.readAllBytes(blobId)).toString(StandardCharsets.UTF_8) }
   }
 
+  override fun readStream(id: String): InputStream? {
+    val blobId = blobId(key(id))
+
+    return gcsClient
+      .get(blobId)
+      ?.takeIf { it.exists() }
+      ?.let { _ -> decodeContent(Channels.newInputStream(gcsClient.reader(blobId))) }
+  }
+
+  override fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? {
+    val blobId = blobId(key(id))
+
+    return gcsClient
+      .get(blobId)
+      ?.takeIf { it.exists() }
+      ?.let { _ ->
+        gcsClient.reader(blobId).use { reader ->
+          reader.seek(offset)
+          reader.limit(offset + length)
+          Channels.newInputStream(reader).readNBytes(length)
+        }
+      }
+  }
+
+  override fun openOutputStream(
+    id: String,
+    encoding: ContentEncoding,
+  ): OutputStream = encoding.encode(Channels.newOutputStream(gcsClient.writer(BlobInfo.newBuilder(blobId(id)).build())))
+
   override fun delete(id: String): Boolean = gcsClient.delete(BlobId.of(bucketName, key(id)))
 
   @VisibleForTesting
@@ -326,13 +451,32 @@ class LocalStorageClient(
   ) {
     val path =
       toPath(id).also { it.createParentDirectories() }
-    IOs.writeFile(path, document)
+    Files.writeString(path, document, StandardCharsets.UTF_8)
   }
 
   override fun read(id: String): String? =
     toPath(id)
       .takeIf { it.exists() }
-      ?.let { IOs.readFile(it) }
+      ?.let { decodeContent(Files.readAllBytes(it)).toString(StandardCharsets.UTF_8) }
+
+  override fun readStream(id: String): InputStream? =
+    toPath(id)
+      .takeIf { it.exists() }
+      ?.let { decodeContent(Files.newInputStream(it)) }
+
+  override fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? =
+    toPath(id)
+      .takeIf { it.exists() }
+      ?.let { path -> FileChannel.open(path).use { Channels.newInputStream(it.position(offset)).readNBytes(length) } }
+
+  override fun openOutputStream(
+    id: String,
+    encoding: ContentEncoding,
+  ): OutputStream = encoding.encode(Files.newOutputStream(toPath(id).also { it.createParentDirectories() }))
 
   override fun delete(id: String): Boolean =
     toPath(id)
@@ -449,10 +593,74 @@ abstract class AbstractS3StorageClient internal constructor(
             .bucket(bucketName)
             .key(key(id))
             .build(),
-        ).asString(StandardCharsets.UTF_8)
+        ).asByteArray()
+        .let { decodeContent(it).toString(StandardCharsets.UTF_8) }
+    } catch (e: NoSuchKeyException) {
+      null
+    }
+
+  override fun readStream(id: String): InputStream? =
+    try {
+      decodeContent(
+        s3Client.getObject(
+          GetObjectRequest
+            .builder()
+            .bucket(bucketName)
+            .key(key(id))
+            .build(),
+        ),
+      )
+    } catch (e: NoSuchKeyException) {
+      null
+    }
+
+  override fun readRange(
+    id: String,
+    offset: Long,
+    length: Int,
+  ): ByteArray? {
+    if (length <= 0) {
+      return ByteArray(0)
+    }
+
+    return try {
+      s3Client
+        .getObjectAsBytes(
+          GetObjectRequest
+            .builder()
+            .bucket(bucketName)
+            .key(key(id))
+            .range("bytes=$offset-${offset + length - 1}")
+            .build(),
+        ).asByteArray()
     } catch (e: NoSuchKeyException) {
       null
+    } catch (e: S3Exception) {
+      // The range starts after the end of the object.
+      if (e.statusCode() == HTTP_RANGE_NOT_SATISFIABLE) ByteArray(0) else throw e
     }
+  }
+
+  /**
+   * The S3 API needs to know the size of an object before uploading it, so the document is spooled
+   * to a temporary file rather than held in memory.
+   */
+  override fun openOutputStream(
+    id: String,
+    encoding: ContentEncoding,
+  ): OutputStream =
+    encoding.encode(
+      SpoolingOutputStream { spool ->
+        s3Client.putObject(
+          PutObjectRequest
+            .builder()
+            .bucket(bucketName)
+            .key(key(id))
+            .build(),
+          RequestBody.fromFile(spool),
+        )
+      },
+    )
 
   override fun delete(id: String): Boolean {
     val exists =
@@ -497,6 +705,43 @@ abstract class AbstractS3StorageClient internal constructor(
   }
 }
 
+private const val HTTP_RANGE_NOT_SATISFIABLE = 416
+
+/**
+ * Buffers everything written to it in a temporary file, which is handed to [upload] once the
+ * stream is closed and deleted afterward.
+ */
+private class SpoolingOutputStream(
+  private val upload: (Path) -> Unit,
+) : OutputStream() {
+  private val spool = Files.createTempFile("storage-client-upload", null)
+  private val output = Files.newOutputStream(spool).buffered()
+  private var closed = false
+
+  override fun write(b: Int) = output.write(b)
+
+  override fun write(
+    b: ByteArray,
+    off: Int,
+    len: Int,
+  ) = output.write(b, off, len)
+
+  override fun flush() = output.flush()
+
+  override fun close() {
+    if (closed) {
+      return
+    }
+    closed = true
+    try {
+      output.close()
+      upload(spool)
+    } finally {
+      Files.deleteIfExists(spool)
+    }
+  }
+}
+
 /**
  * Extension function for extracting a [Storage] client out of the [GcsStorageConfig].
  *
@@ -565,7 +810,7 @@ fun StorageConfig.bucketName(type: DocumentType): String =
     DocumentType.STATE -> this.buckets.state
     DocumentType.WORKLOAD_OUTPUT -> this.buckets.workloadOutput
     DocumentType.LOGS -> this.buckets.log
-    DocumentType.ACTIVITY_PAYLOADS -> this.buckets.activityPayload
+    DocumentType.ACTIVITY_PAYLOADS, DocumentType.WORKLOAD_PAYLOADS -> this.buckets.activityPayload
     DocumentType.AUDIT_LOGS -> this.buckets.auditLogging?.takeIf { it.isNotBlank() } ?: ""
     DocumentType.PROFILER_OUTPUT -> this.buckets.profilerOutput?.takeIf { it.isNotBlank() } ?: ""
   }
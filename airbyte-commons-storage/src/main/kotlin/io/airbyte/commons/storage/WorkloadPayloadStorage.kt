@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.storage
+
+import com.google.common.base.Ticker
+import com.google.common.cache.Cache
+import com.google.common.cache.CacheBuilder
+import com.google.common.hash.Hashing
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.BeanProvider
+import io.micronaut.context.annotation.Value
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import java.nio.charset.StandardCharsets
+import java.time.Clock
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+private val logger = KotlinLogging.logger {}
+
+private const val REFERENCE_PREFIX = "airbyte-payload-ref:sha256:"
+private const val MAX_REMEMBERED_WRITES = 10_000L
+private const val WINDOW_SEPARATOR = '-'
+
+/**
+ * Keeps workload input payloads in object storage, addressed by the SHA-256 of their content, so that
+ * workload rows and launcher messages only carry a short reference to them.
+ *
+ * Payloads are only offloaded when [enabled] and at least [minSize] characters long; everything else
+ * passes through unchanged. Resolving works regardless of [enabled], so readers handle both inline
+ * payloads and references.
+ *
+ * Payloads are not deleted when their workload completes, as other workloads may refer to the same
+ * document. Instead, time is split into windows of half of [retention], and each document id starts
+ * with the window it was written in, so identical payloads are stored once per window. [sweep] deletes
+ * the documents of windows that ended more than [retention] ago, so that any reference handed out by
+ * [offload] can be resolved for at least [retention]. Only the `workload/payloads` prefix of the bucket
+ * is swept, as it is shared with other document types.
+ *
+ * @param retention how long a reference handed out by [offload] can at least be resolved
+ * @param storageClient supplies the client for [DocumentType.WORKLOAD_PAYLOADS]; only called once a
+ * payload is actually offloaded, resolved or swept
+ */
+@Singleton
+class WorkloadPayloadStorage(
+  private val enabled: Boolean,
+  private val minSize: Int,
+  private val retention: Duration = DEFAULT_RETENTION,
+  private val clock: Clock = Clock.systemUTC(),
+  storageClient: () -> StorageClient,
+) {
+  @Inject
+  constructor(
+    storageClientFactory: BeanProvider<StorageClientFactory>,
+    @Value("\${airbyte.workload-payload.offload.enabled:false}") enabled: Boolean,
+    @Value("\${airbyte.workload-payload.offload.min-size:16384}") minSize: Int,
+    @Value("\${airbyte.workload-payload.offload.retention:7d}") retention: Duration,
+  ) : this(enabled, minSize, retention, storageClient = { storageClientFactory.get().create(DocumentType.WORKLOAD_PAYLOADS) })
+
+  init {
+    require(!retention.isNegative && !retention.isZero) { "The workload payload retention must be positive, was $retention." }
+  }
+
+  private val storageClient: StorageClient by lazy(storageClient)
+
+  private val windowMillis = retention.dividedBy(2).toMillis().coerceAtLeast(1)
+
+  // Documents of past windows are never written to again, so there is no point in remembering them.
+  private val written: Cache<String, Boolean> =
+    CacheBuilder
+      .newBuilder()
+      .maximumSize(MAX_REMEMBERED_WRITES)
+      .expireAfterWrite(Duration.ofMillis(windowMillis))
+      .ticker(
+        object : Ticker() {
+          override fun read(): Long = TimeUnit.MILLISECONDS.toNanos(clock.millis())
+        },
+      ).build()
+
+  /**
+   * @return a reference to the stored payload, or [payload] itself if it isn't offloaded
+   */
+  fun offload(payload: String): String {
+    if (!enabled || payload.length < minSize) {
+      return payload
+    }
+
+    val hash = Hashing.sha256().hashString(payload, StandardCharsets.UTF_8).toString()
+    val id = "${window(clock.millis())}$WINDOW_SEPARATOR$hash"
+    if (written.getIfPresent(id) == null) {
+      storageClient.write(id, payload)
+      written.put(id, true)
+      logger.debug { "Offloaded workload payload $id (${payload.length} chars)." }
+    }
+    return REFERENCE_PREFIX + id
+  }
+
+  /**
+   * @return the payload [payloadOrReference] refers to, or [payloadOrReference] itself if it is an
+   * inline payload
+   */
+  fun resolve(payloadOrReference: String): String {
+    if (!isReference(payloadOrReference)) {
+      return payloadOrReference
+    }
+
+    val id = payloadOrReference.removePrefix(REFERENCE_PREFIX)
+    return storageClient.read(id) ?: throw IllegalStateException("Workload payload $id was not found in ${storageClient.bucketName}.")
+  }
+
+  fun isReference(payload: String): Boolean = payload.startsWith(REFERENCE_PREFIX)
+
+  /**
+   * Deletes the payloads written in windows that ended more than [retention] ago.
+   *
+   * @return the number of deleted payloads
+   */
+  fun sweep(): Int {
+    val oldestKeptWindow = window(clock.millis() - retention.toMillis())
+    val expired =
+      storageClient
+        .list("")
+        .map { it.substringAfterLast('/') }
+        .filter { id -> id.substringBefore(WINDOW_SEPARATOR, "").toLongOrNull()?.let { it < oldestKeptWindow } ?: false }
+    expired.forEach { storageClient.delete(it) }
+    logger.info { "Deleted ${expired.size} expired workload payloads from ${storageClient.bucketName}." }
+    return expired.size
+  }
+
+  private fun window(epochMillis: Long): Long = Math.floorDiv(epochMillis, windowMillis)
+
+  companion object {
+    val DEFAULT_RETENTION: Duration = Duration.ofDays(7)
+  }
+}
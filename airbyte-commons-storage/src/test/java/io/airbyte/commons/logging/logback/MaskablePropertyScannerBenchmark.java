@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.logging.logback;
+
+import io.airbyte.commons.constants.AirbyteSecretConstants;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares masking connector log lines with {@link MaskablePropertyScanner} to masking them with
+ * the regular expression alternating over every maskable property that {@link MaskedDataConverter}
+ * used before.
+ * <p>
+ * To use this, run the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MaskablePropertyScannerBenchmark {
+
+  private static final List<String> COMMON_PROPERTIES = List.of(
+      "access_key", "access_key_id", "access_token", "account_key", "api_key", "api_secret", "api_token", "apikey",
+      "auth_token", "aws_access_key_id", "aws_secret_access_key", "bearer_token", "client_id", "client_secret",
+      "consumer_key", "consumer_secret", "credentials_json", "developer_token", "hmac_key_secret", "jwt",
+      "password", "private_key", "refresh_token", "secret", "secret_key", "service_account_info",
+      "session_token", "shared_key", "token", "tunnel_user_password");
+
+  // A typical mix of what connectors log: plain progress lines, configs, and records in errors.
+  private static final List<String> LINES = List.of(
+      "INFO i.a.c.i.s.r.AbstractDbSource(lambda$read$1):182 Reading stream public.users. Records read: 85000",
+      "2025-01-01 12:00:00 source > Syncing stream: orders",
+      "2025-01-01 12:00:01 source > Starting syncing SourceStripe",
+      "{\"type\":\"LOG\",\"log\":{\"level\":\"INFO\",\"message\":\"Read 1000 records from customers stream\"}}",
+      "{\"type\":\"TRACE\",\"trace\":{\"type\":\"STREAM_STATUS\",\"emitted_at\":1.7E12,\"stream_status\":{\"stream_descriptor\""
+          + ":{\"name\":\"orders\",\"namespace\":\"public\"},\"status\":\"RUNNING\"}}}",
+      "Config: {\"host\":\"db.example.com\",\"port\":5432,\"database\":\"prod\",\"username\":\"airbyte\",\"password\":\"hunter2\","
+          + "\"ssl_mode\":{\"mode\":\"require\"},\"tunnel_method\":{\"tunnel_method\":\"SSH_PASSWORD_AUTH\",\"tunnel_user_password\":\"pw\"}}",
+      "ERROR i.a.c.i.b.IntegrationRunner(runInternal):170 Failed to connect: {\"credentials\":{\"auth_type\":\"oauth2.0\","
+          + "\"client_id\":\"abc\",\"client_secret\":\"def\",\"refresh_token\":\"ghi\"},\"start_date\":\"2020-01-01T00:00:00Z\"}",
+      "WARN i.a.c.i.s.j.AbstractJdbcSource(getPrivilegesTableForCurrentUser):316 Unable to read table privileges, continuing.");
+
+  private Pattern pattern;
+  private MaskablePropertyScanner scanner;
+
+  @Setup
+  public void setup() {
+    // The generated spec masks file lists a few hundred properties, most of them connector specific.
+    final Set<String> properties = new LinkedHashSet<>(COMMON_PROPERTIES);
+    IntStream.range(0, 300).forEach(i -> properties.add("connector_" + i + "_secret"));
+
+    pattern = Pattern.compile("(?i)\"(" + String.join("|", properties) + ")\"\\s*:\\s*(\"(?:[^\"\\\\]|\\\\.)*\"|\\[[^]\\[]*]|\\d+)");
+    scanner = new MaskablePropertyScanner(properties);
+  }
+
+  @Benchmark
+  public void regex(final Blackhole blackhole) {
+    for (final String line : LINES) {
+      blackhole.consume(pattern.matcher(line).replaceAll("\"$1\":\"" + AirbyteSecretConstants.SECRETS_MASK + "\""));
+    }
+  }
+
+  @Benchmark
+  public void scanner(final Blackhole blackhole) {
+    for (final String line : LINES) {
+      blackhole.consume(scanner.mask(line));
+    }
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+}
@@ -9,10 +9,12 @@ import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.databind.module.SimpleModule
 import io.airbyte.commons.jackson.MoreMappers
 import io.airbyte.commons.logging.logback.STRUCTURED_LOG_FILE_EXTENSION
+import io.airbyte.commons.logging.logback.createFileId
 import io.airbyte.commons.storage.DocumentType
 import io.airbyte.commons.storage.StorageClient
 import io.airbyte.commons.storage.StorageClientFactory
 import io.airbyte.commons.storage.StorageType
+import io.airbyte.commons.storage.decodeContent
 import io.airbyte.metrics.MetricAttribute
 import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.MetricsRegistry
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.EnumSource
+import java.io.ByteArrayOutputStream
 import java.time.Instant
 import java.time.LocalDateTime
 import java.time.ZoneId
@@ -121,7 +124,7 @@ internal class LogClientTest {
     val storageClient =
       mockk<StorageClient> {
         every { list(any()) } returns listOf(logPath)
-        every { read(any()) } returns logFile.toFile().readText()
+        every { readStream(any()) } answers { logFile.toFile().inputStream() }
         every { storageType } returns StorageType.LOCAL
       }
     val storageClientFactory =
@@ -138,13 +141,106 @@ internal class LogClientTest {
 
     val result = logClient.getLogs(logPath = logPath, numLines = numLines)
     assertEquals(numLines, result.events.size)
-    assertEquals("log line 1", result.events.first().message)
-    assertEquals(1000L, result.events.first().timestamp)
-    assertEquals("log line $numLines", result.events.last().message)
-    assertEquals((numLines * 1000).toLong(), result.events.last().timestamp)
+    assertEquals("log line ${numLines + 1}", result.events.first().message)
+    assertEquals(((numLines + 1) * 1000).toLong(), result.events.first().timestamp)
+    assertEquals("log line ${numLines * 2}", result.events.last().message)
+    assertEquals((numLines * 2 * 1000).toLong(), result.events.last().timestamp)
     verify(exactly = 1) { storageClient.list(logPath) }
   }
 
+  @Test
+  fun testGetStructuredLogsReadsNewestFilesFirst() {
+    val logPath = "log-path"
+    val numLines = 15
+    val fileTimestampFormat = DateTimeFormatter.ofPattern("yyyyMMddHHmmss")
+    val startingInstant = Instant.parse("2024-10-01T12:00:00Z")
+    val files =
+      (0 until 5).associate { i ->
+        val firstEventAt = startingInstant.plusSeconds(i * 600L)
+        // Files are named when uploaded, after their last event
+        val fileId =
+          createFileId(
+            baseId = logPath,
+            timestamp = firstEventAt.plusSeconds(10).atZone(ZoneId.of("UTC")).format(fileTimestampFormat),
+            hostname = "host",
+          )
+        fileId to buildLogEvents(numLines = 10, startingTimestamp = firstEventAt.toEpochMilli())
+      }
+
+    val storageClient =
+      mockk<StorageClient> {
+        every { list(any()) } returns files.keys.shuffled()
+        files.forEach { (fileId, events) -> every { readStream(fileId) } answers { objectMapper.writeValueAsBytes(events).inputStream() } }
+        every { storageType } returns StorageType.GCS
+      }
+    val storageClientFactory =
+      mockk<StorageClientFactory> {
+        every { create(DocumentType.LOGS) } returns storageClient
+      }
+    val logClient =
+      LogClient(
+        storageClientFactory = storageClientFactory,
+        mapper = objectMapper,
+        logEventLayout = logEventLayout,
+        metricClient = metricClient,
+        readParallelism = 1,
+      )
+
+    val result = logClient.getLogs(logPath = logPath, numLines = numLines)
+    val newestFiles = files.values.toList().takeLast(2)
+    assertEquals(newestFiles.flatMap { it.events }.takeLast(numLines), result.events)
+    files.keys.take(3).forEach { verify(exactly = 0) { storageClient.readStream(it) } }
+  }
+
+  @Test
+  fun testGetCompactedStructuredLogs() {
+    val logPath = "log-path"
+    val documents = mutableMapOf<String, ByteArray>()
+    val storageClient =
+      mockk<StorageClient> {
+        every { list(any()) } answers { documents.keys.sorted() }
+        every { read(any()) } answers { documents[firstArg()]?.let { decodeContent(it).toString(Charsets.UTF_8) } }
+        every { readStream(any()) } answers { documents[firstArg()]?.let { decodeContent(it.inputStream()) } }
+        every { write(any(), any<String>()) } answers { documents[firstArg()] = secondArg<String>().toByteArray() }
+        every { openOutputStream(any(), any()) } answers {
+          object : ByteArrayOutputStream() {
+            override fun close() {
+              documents[firstArg()] = toByteArray()
+            }
+          }
+        }
+        every { delete(any()) } answers { documents.remove(firstArg<String>()) != null }
+        every { key(any()) } answers { firstArg() }
+        every { storageType } returns StorageType.GCS
+      }
+    val startingInstant = Instant.parse("2024-10-01T12:00:00Z")
+    val compactedFiles =
+      (0 until 4).map { i ->
+        val fileId = createFileId(baseId = logPath)
+        documents[fileId] = objectMapper.writeValueAsBytes(buildLogEvents(numLines = 5, startingTimestamp = startingInstant.toEpochMilli() + i * 5000))
+        fileId
+      }
+    LogCompactor(storageClient = storageClient, maxSegmentEvents = 8).compact(baseId = logPath, fileIds = compactedFiles)
+    // An uncompacted file written after the compaction
+    documents[createFileId(baseId = logPath)] =
+      objectMapper.writeValueAsBytes(buildLogEvents(numLines = 5, startingTimestamp = startingInstant.toEpochMilli() + 20000))
+    val storageClientFactory =
+      mockk<StorageClientFactory> {
+        every { create(DocumentType.LOGS) } returns storageClient
+      }
+    val logClient =
+      LogClient(
+        storageClientFactory = storageClientFactory,
+        mapper = objectMapper,
+        logEventLayout = logEventLayout,
+        metricClient = metricClient,
+      )
+
+    val result = logClient.getLogs(logPath = logPath, numLines = 12)
+    assertEquals((14..25).map { startingInstant.toEpochMilli() + it * 1000 }, result.events.map { it.timestamp })
+    assertEquals(12, logClient.tailCloudLogs(logPath = logPath, numLines = 12).size)
+  }
+
   @Test
   fun testTailLogFilesLocal() {
     val logFile = createTempFile(prefix = "log", suffix = ".log")
@@ -218,8 +314,8 @@ internal class LogClientTest {
 
     val logs = logClient.tailCloudLogs(logPath = logPath, numLines = numLines)
     assertEquals(numLines, logs.size)
-    assertEquals(logEventLayout.doLayout(logEvents.events.first()), logs.first())
-    assertEquals(logEventLayout.doLayout(logEvents.events.take(numLines).last()), logs.last())
+    assertEquals(logEventLayout.doLayout(logEvents.events.takeLast(numLines).first()), logs.first())
+    assertEquals(logEventLayout.doLayout(logEvents.events.last()), logs.last())
     verify(exactly = 1) { storageClient.list(logPath) }
   }
 
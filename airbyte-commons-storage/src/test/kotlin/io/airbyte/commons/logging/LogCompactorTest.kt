@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.logging
+
+import ch.qos.logback.classic.Level
+import com.fasterxml.jackson.module.kotlin.readValue
+import io.airbyte.commons.jackson.MoreMappers
+import io.airbyte.commons.storage.ContentEncoding
+import io.airbyte.commons.storage.StorageClient
+import io.airbyte.commons.storage.decodeContent
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import java.io.ByteArrayOutputStream
+
+private class LogCompactorTest {
+  private val objectMapper = MoreMappers.initMapper()
+  private val documents = mutableMapOf<String, ByteArray>()
+  private val storageClient =
+    mockk<StorageClient> {
+      every { readStream(any()) } answers { documents[firstArg()]?.let { decodeContent(it.inputStream()) } }
+      every { write(any(), any<String>()) } answers { documents[firstArg()] = secondArg<String>().toByteArray() }
+      every { openOutputStream(any(), any()) } answers {
+        object : ByteArrayOutputStream() {
+          override fun close() {
+            documents[firstArg()] = toByteArray()
+          }
+        }
+      }
+      every { delete(any()) } answers { documents.remove(firstArg<String>()) != null }
+    }
+
+  @Test
+  fun testCompactMergesFilesIntoTimeOrderedSegments() {
+    val fileIds = listOf("logs/file1.json", "logs/file2.json", "logs/file3.json")
+    documents[fileIds[0]] = objectMapper.writeValueAsBytes(LogEvents(events = listOf(event(3), event(5))))
+    documents[fileIds[1]] = objectMapper.writeValueAsBytes(LogEvents(events = listOf(event(1), event(2))))
+    documents[fileIds[2]] = objectMapper.writeValueAsBytes(LogEvents(events = listOf(event(4))))
+
+    val index = LogCompactor(storageClient = storageClient, maxSegmentEvents = 2).compact(baseId = "logs", fileIds = fileIds)!!
+
+    assertEquals(fileIds, index.compactedFiles)
+    assertEquals(listOf(1L to 2L, 3L to 4L, 5L to 5L), index.segments.map { it.firstTimestamp to it.lastTimestamp })
+    assertEquals(
+      listOf(1L, 2L, 3L, 4L, 5L),
+      index.segments.flatMap { objectMapper.readValue<LogEvents>(decodeContent(documents.getValue(it.id))).events.map { e -> e.timestamp } },
+    )
+    assertTrue(index.segments.all { it.id.startsWith("logs/") && it.id.endsWith(LOG_SEGMENT_EXTENSION) })
+    fileIds.forEach { assertNull(documents[it]) }
+
+    val indexId = documents.keys.single { it.endsWith(LOG_COMPACTION_INDEX_EXTENSION) }
+    assertEquals(index, objectMapper.readValue<LogCompactionIndex>(documents.getValue(indexId)))
+  }
+
+  @Test
+  fun testCompactWritesGzipSegments() {
+    val fileId = "logs/file1.json"
+    documents[fileId] = objectMapper.writeValueAsBytes(LogEvents(events = listOf(event(1))))
+
+    val index = LogCompactor(storageClient = storageClient).compact(baseId = "logs", fileIds = listOf(fileId))!!
+    val segment = documents.getValue(index.segments.single().id)
+
+    assertEquals(0x1f, segment[0].toInt() and 0xff)
+    assertEquals(0x8b, segment[1].toInt() and 0xff)
+    assertEquals(listOf(event(1)), objectMapper.readValue<LogEvents>(decodeContent(segment)).events)
+  }
+
+  @Test
+  fun testCompactWritesPlainSegments() {
+    val fileId = "logs/file1.json"
+    documents[fileId] = objectMapper.writeValueAsBytes(LogEvents(events = listOf(event(1))))
+
+    val index =
+      LogCompactor(storageClient = storageClient, segmentEncoding = ContentEncoding.IDENTITY).compact(baseId = "logs", fileIds = listOf(fileId))!!
+
+    assertEquals(listOf(event(1)), objectMapper.readValue<LogEvents>(documents.getValue(index.segments.single().id)).events)
+  }
+
+  @Test
+  fun testCompactWithoutFiles() {
+    assertNull(LogCompactor(storageClient = storageClient).compact(baseId = "logs", fileIds = emptyList()))
+    assertTrue(documents.isEmpty())
+  }
+
+  private fun event(timestamp: Long) = LogEvent(timestamp = timestamp, message = "log line $timestamp", level = Level.INFO.toString())
+}
@@ -20,6 +20,10 @@ import io.airbyte.commons.storage.LocalStorageClient
 import io.airbyte.commons.storage.MinioStorageClient
 import io.airbyte.commons.storage.S3StorageClient
 import io.airbyte.commons.storage.StorageClient
+import io.airbyte.metrics.MetricAttribute
+import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
+import io.airbyte.metrics.lib.MetricTags
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.verify
@@ -28,6 +32,11 @@ import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
 import java.io.IOException
 import java.nio.file.Files
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneOffset
 import java.util.UUID
 import java.util.concurrent.TimeUnit
 import kotlin.io.path.Path
@@ -267,6 +276,104 @@ private class AirbyteCloudStorageAppenderTest {
     verify(exactly = 1) { statusManager.add(any<ErrorStatus>()) }
   }
 
+  @Test
+  fun testStorageUploadOfFullBatches() {
+    val storageClient =
+      mockk<StorageClient> {
+        every { write(any<String>(), any<String>()) } returns Unit
+      }
+    val appender =
+      AirbyteCloudStorageAppender(
+        documentType = DocumentType.LOGS,
+        storageClient = storageClient,
+        baseStorageId = "/path/to/logs",
+        period = 1L,
+        unit = TimeUnit.HOURS,
+        batchSize = 2,
+        metricClient = mockk(relaxed = true),
+      )
+    appender.context = mockk<Context>(relaxed = true)
+    appender.start()
+
+    appender.doAppend(buildEvent(logLevel = Level.INFO))
+    verify(exactly = 0) { storageClient.write(any<String>(), any<String>()) }
+
+    appender.doAppend(buildEvent(logLevel = Level.INFO))
+    verify(timeout = TimeUnit.SECONDS.toMillis(10), exactly = 1) { storageClient.write(any<String>(), any<String>()) }
+  }
+
+  @Test
+  fun testFileIdsAreNoEarlierThanTheirEventsAfterTheAppenderIdles() {
+    val fileIds = mutableListOf<String>()
+    val storageClient =
+      mockk<StorageClient> {
+        every { write(capture(fileIds), any<String>()) } returns Unit
+      }
+    var now = Instant.parse("2024-10-01T12:00:00Z")
+    val clock =
+      mockk<Clock> {
+        every { instant() } answers { now }
+        every { zone } returns ZoneOffset.UTC
+      }
+    val appender =
+      AirbyteCloudStorageAppender(
+        documentType = DocumentType.LOGS,
+        storageClient = storageClient,
+        baseStorageId = "/path/to/logs",
+        period = 1L,
+        unit = TimeUnit.HOURS,
+        batchSize = 1,
+        metricClient = mockk(relaxed = true),
+        clock = clock,
+      )
+    appender.context = mockk<Context>(relaxed = true)
+    appender.start()
+
+    appender.doAppend(buildEvent(logLevel = Level.INFO, timestamp = now.toEpochMilli()))
+    verify(timeout = TimeUnit.SECONDS.toMillis(10), exactly = 1) { storageClient.write(any<String>(), any<String>()) }
+
+    // Idle for much longer than an upload period before logging again
+    now = now.plus(Duration.ofHours(3))
+    appender.doAppend(buildEvent(logLevel = Level.INFO, timestamp = now.toEpochMilli()))
+    verify(timeout = TimeUnit.SECONDS.toMillis(10), exactly = 2) { storageClient.write(any<String>(), any<String>()) }
+
+    assertEquals(LocalDateTime.ofInstant(now, ZoneOffset.UTC), fileIdTimestamp(fileIds.last()))
+  }
+
+  @Test
+  fun testDroppedEventsWhenTheBufferIsFull() {
+    val storageClient =
+      mockk<StorageClient> {
+        every { write(any<String>(), any<String>()) } returns Unit
+      }
+    val metricClient = mockk<MetricClient>(relaxed = true)
+    val appender =
+      AirbyteCloudStorageAppender(
+        documentType = DocumentType.LOGS,
+        storageClient = storageClient,
+        baseStorageId = "/path/to/logs",
+        period = 1L,
+        unit = TimeUnit.HOURS,
+        bufferCapacity = 1,
+        overflowPolicy = OverflowPolicy.DROP_DEBUG_FIRST,
+        metricClient = metricClient,
+      )
+    appender.context = mockk<Context>(relaxed = true)
+    appender.start()
+
+    appender.doAppend(buildEvent(logLevel = Level.INFO))
+    appender.doAppend(buildEvent(logLevel = Level.DEBUG))
+
+    verify(exactly = 1) {
+      metricClient.count(
+        OssMetricsRegistry.LOG_APPENDER_EVENTS_DROPPED,
+        1L,
+        MetricAttribute(MetricTags.LOG_DOCUMENT_TYPE, "logs"),
+        MetricAttribute(MetricTags.LOG_LEVEL, Level.DEBUG.toString()),
+      )
+    }
+  }
+
   @Test
   fun testIdScrubbing() {
     val baseStorageId = "/path/to/logs/"
@@ -278,4 +385,19 @@ private class AirbyteCloudStorageAppenderTest {
 
     assertEquals("${baseStorageId.trim('/')}/${timestamp}_${hostname}_${uniqueId.replace("-","")}$STRUCTURED_LOG_FILE_EXTENSION", id)
   }
+
+  private fun buildEvent(
+    logLevel: Level,
+    timestamp: Long = 0L,
+  ): ILoggingEvent =
+    mockk<ILoggingEvent> {
+      every { callerData } returns arrayOf(StackTraceElement("io.airbyte.TestClass", "testMethod", "TestClass.kt", 12345))
+      every { formattedMessage } returns "test message"
+      every { level } returns logLevel
+      every { loggerName } returns PLATFORM_LOGGER_NAME
+      every { mdcPropertyMap } returns emptyMap()
+      every { threadName } returns "Test Thread"
+      every { throwableProxy } returns null
+      every { timeStamp } returns timestamp
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.logging.logback
+
+import ch.qos.logback.classic.Level
+import ch.qos.logback.classic.spi.ILoggingEvent
+import ch.qos.logback.classic.spi.LoggingEvent
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Test
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+private class LogEventRingBufferTest {
+  @Test
+  fun testDrainsEventsInOrderAcrossTheEndOfTheArray() {
+    val buffer = LogEventRingBuffer(capacity = 3, overflowPolicy = OverflowPolicy.DROP_DEBUG_FIRST)
+    val events = (1..5).map { event(Level.INFO, "$it") }
+
+    events.take(2).forEach { assertNull(buffer.add(it)) }
+    assertEquals(events.take(1), drain(buffer, maxEvents = 1))
+    events.drop(2).take(2).forEach { assertNull(buffer.add(it)) }
+
+    assertEquals(3, buffer.size)
+    assertEquals(events.drop(1).take(3), drain(buffer))
+    assertEquals(0, buffer.size)
+  }
+
+  @Test
+  fun testGrowsUpToItsCapacityKeepingEventsInOrder() {
+    val buffer = LogEventRingBuffer(capacity = 1000, overflowPolicy = OverflowPolicy.DROP_DEBUG_FIRST)
+    val events = (1..1051).map { event(Level.INFO, "$it") }
+
+    events.take(100).forEach { assertNull(buffer.add(it)) }
+    assertEquals(events.take(50), drain(buffer, maxEvents = 50))
+    events.drop(100).take(950).forEach { assertNull(buffer.add(it)) }
+
+    assertEquals(1000, buffer.size)
+    assertSame(events.last(), buffer.add(events.last()))
+    assertEquals(events.drop(50).take(1000), drain(buffer))
+    assertEquals(0, buffer.size)
+
+    events.take(3).forEach { assertNull(buffer.add(it)) }
+    assertEquals(events.take(3), drain(buffer))
+  }
+
+  @Test
+  fun testDropDebugFirstEvictsTheOldestDebugEvent() {
+    val buffer = LogEventRingBuffer(capacity = 3, overflowPolicy = OverflowPolicy.DROP_DEBUG_FIRST)
+    val info1 = event(Level.INFO, "info1")
+    val debug1 = event(Level.DEBUG, "debug1")
+    val debug2 = event(Level.TRACE, "debug2")
+    listOf(info1, debug1, debug2).forEach { buffer.add(it) }
+
+    val error = event(Level.ERROR, "error")
+    assertSame(debug1, buffer.add(error))
+    assertEquals(listOf(info1, debug2, error), drain(buffer))
+  }
+
+  @Test
+  fun testDropDebugFirstDropsAppendedEventsIfThereIsNoDebugEvent() {
+    val buffer = LogEventRingBuffer(capacity = 2, overflowPolicy = OverflowPolicy.DROP_DEBUG_FIRST)
+    val events = listOf(event(Level.INFO, "info"), event(Level.WARN, "warn"))
+    events.forEach { buffer.add(it) }
+
+    val debug = event(Level.DEBUG, "debug")
+    val error = event(Level.ERROR, "error")
+    assertSame(debug, buffer.add(debug))
+    assertSame(error, buffer.add(error))
+    assertEquals(events, drain(buffer))
+  }
+
+  @Test
+  fun testSampleKeepsOneInEverySampleRateEvents() {
+    val buffer = LogEventRingBuffer(capacity = 2, overflowPolicy = OverflowPolicy.SAMPLE, sampleRate = 3)
+    val events = (1..8).map { event(Level.INFO, "$it") }
+
+    val dropped = events.mapNotNull { buffer.add(it) }
+
+    // 3 and 6 are kept, each evicting the oldest buffered event
+    assertEquals(listOf(events[0], events[3], events[4], events[1], events[6], events[7]), dropped)
+    assertEquals(listOf(events[2], events[5]), drain(buffer))
+  }
+
+  @Test
+  fun testBlockWaitsForRoom() {
+    val buffer = LogEventRingBuffer(capacity = 1, overflowPolicy = OverflowPolicy.BLOCK, blockTimeoutMs = TimeUnit.MINUTES.toMillis(1))
+    val first = event(Level.INFO, "first")
+    val second = event(Level.INFO, "second")
+    buffer.add(first)
+
+    val executor = Executors.newSingleThreadExecutor()
+    try {
+      val append = executor.submit<ILoggingEvent?> { buffer.add(second) }
+      Thread.sleep(100)
+      assertEquals(listOf(first), drain(buffer))
+
+      assertNull(append.get(10, TimeUnit.SECONDS))
+      assertEquals(listOf(second), drain(buffer))
+    } finally {
+      executor.shutdownNow()
+    }
+  }
+
+  @Test
+  fun testBlockDropsAppendedEventsAfterTheTimeout() {
+    val buffer = LogEventRingBuffer(capacity = 1, overflowPolicy = OverflowPolicy.BLOCK, blockTimeoutMs = 10)
+    val first = event(Level.INFO, "first")
+    val second = event(Level.INFO, "second")
+    buffer.add(first)
+
+    assertSame(second, buffer.add(second))
+    assertEquals(listOf(first), drain(buffer))
+  }
+
+  private fun drain(
+    buffer: LogEventRingBuffer,
+    maxEvents: Int = Int.MAX_VALUE,
+  ): List<ILoggingEvent> = mutableListOf<ILoggingEvent>().also { buffer.drainTo(target = it, maxEvents = maxEvents) }
+
+  private fun event(
+    level: Level,
+    message: String,
+  ): ILoggingEvent =
+    LoggingEvent().apply {
+      this.level = level
+      this.message = message
+    }
+}
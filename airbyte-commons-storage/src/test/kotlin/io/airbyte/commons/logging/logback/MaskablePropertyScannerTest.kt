@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.logging.logback
+
+import io.airbyte.commons.constants.AirbyteSecretConstants.SECRETS_MASK
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.ValueSource
+
+private class MaskablePropertyScannerTest {
+  private val properties = setOf("password", "api_key", "key", "token", "access_token")
+  private val scanner = MaskablePropertyScanner(properties)
+
+  @Test
+  fun testMasksStringArrayAndNumberValues() {
+    val message = "{\"password\":\"hunter2\",\"key\": [\"a\", \"b\"],\"token\" : 1234,\"user\":\"me\"}"
+
+    assertEquals(
+      "{\"password\":\"$SECRETS_MASK\",\"key\":\"$SECRETS_MASK\",\"token\":\"$SECRETS_MASK\",\"user\":\"me\"}",
+      scanner.mask(message),
+    )
+  }
+
+  @Test
+  fun testMatchesPropertyNamesCaseInsensitively() {
+    assertEquals("{\"API_KEY\":\"$SECRETS_MASK\"}", scanner.mask("{\"API_KEY\":\"abc\"}"))
+  }
+
+  @Test
+  fun testDoesNotMatchPartialPropertyNames() {
+    val message = "{\"monkey\":\"abc\",\"tokens\":\"abc\",\"access_token_url\":\"https://example.com\"}"
+
+    assertSame(message, scanner.mask(message))
+  }
+
+  @Test
+  fun testMasksEscapedQuotesInValues() {
+    assertEquals("{\"password\":\"$SECRETS_MASK\",\"a\":1}", scanner.mask("{\"password\":\"hun\\\"ter\\\\2\",\"a\":1}"))
+  }
+
+  @Test
+  fun testLeavesMessagesWithoutPropertiesUntouched() {
+    val message = "Completed sync of 1234 records"
+
+    assertSame(message, scanner.mask(message))
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+    strings = [
+      "{\"password\":\"hunter2\",\"access_token\":\"abc\",\"key\":[1,2],\"token\":42}",
+      "Config: {\"credentials\": {\"Password\" : \"p\\\"w\", \"API_KEY\":12, \"other\": \"key\"}}",
+      "\"token\"\"key\":\"overlapping\" \"password\": \"unterminated",
+      "{\"key\": [[\"nested\"]], \"token\": true, \"password\": null, \"api_key\": \"a\\\nb\"}",
+      "{\"\"key\":\"value\"}, \"key\":\"\", \"key\":[], \"password\":007}",
+    ],
+  )
+  fun testMasksLikeTheRegularExpression(message: String) {
+    val pattern =
+      "(?i)\"(${properties.joinToString("|")})\"\\s*:\\s*(\"(?:[^\"\\\\]|\\\\.)*\"|\\[[^]\\[]*]|\\d+)".toPattern()
+
+    assertEquals(pattern.matcher(message).replaceAll("\"$1\":\"$SECRETS_MASK\""), scanner.mask(message))
+  }
+}
@@ -135,8 +135,8 @@ internal class AzureStorageClientTest {
           mockk {
             every { exists() } returns true
             every { downloadContent() } returns
-              mockk<BinaryData> BinaryData@{
-                every { this@BinaryData.toString() } returns DOC1
+              mockk<BinaryData> {
+                every { toBytes() } returns DOC1.toByteArray()
               }
           }
       }
@@ -385,6 +385,38 @@ internal class LocalStorageClientTest {
     }
   }
 
+  @Test
+  fun `streams and ranges`(
+    @TempDir tempDir: Path,
+  ) {
+    val config = LocalStorageConfig(buckets = buckets, root = tempDir.toString())
+    val client = LocalStorageClient(config = config, type = DocumentType.STATE)
+
+    assertNull(client.readStream(KEY), "key $KEY should not exist")
+    assertNull(client.readRange(KEY, 0, 1), "key $KEY should not exist")
+
+    client.write(KEY, DOC1.byteInputStream())
+    assertEquals(DOC1, client.readStream(KEY)?.use { it.readAllBytes().toString(StandardCharsets.UTF_8) })
+    assertEquals("ell", client.readRange(KEY, 1, 3)?.toString(StandardCharsets.UTF_8))
+    assertEquals("lo", client.readRange(KEY, 3, 10)?.toString(StandardCharsets.UTF_8))
+    assertEquals(0, client.readRange(KEY, 10, 1)?.size)
+  }
+
+  @Test
+  fun `gzip encoded docs are decoded when read`(
+    @TempDir tempDir: Path,
+  ) {
+    val config = LocalStorageConfig(buckets = buckets, root = tempDir.toString())
+    val client = LocalStorageClient(config = config, type = DocumentType.STATE)
+    val document = DOC1.repeat(1000)
+
+    client.openOutputStream(KEY, ContentEncoding.GZIP).use { it.write(document.toByteArray()) }
+
+    assertTrue(client.toPath(KEY).toFile().length() < document.length)
+    assertEquals(document, client.read(KEY))
+    assertEquals(document, client.readStream(KEY)?.use { it.readAllBytes().toString(StandardCharsets.UTF_8) })
+  }
+
   @Test
   fun `list docs`() {
     val root = createTempDirectory(prefix = "local-test")
@@ -541,7 +573,7 @@ internal class MinioStorageClientTest {
 
     every { s3Client.getObjectAsBytes(request) } returns
       mockk<ResponseBytes<GetObjectResponse>> {
-        every { asString(StandardCharsets.UTF_8) } returns DOC1
+        every { asByteArray() } returns DOC1.toByteArray()
       }
 
     with(client.read(KEY)) {
@@ -572,6 +604,58 @@ internal class MinioStorageClientTest {
     client.write(KEY, DOC1)
   }
 
+  @Test
+  fun `write doc from stream`() {
+    val s3Client: S3Client =
+      mockk {
+        every { createBucket(any<CreateBucketRequest>()) } returns mockk<CreateBucketResponse>()
+        every { headBucket(any<HeadBucketRequest>()) } throws NoSuchBucketException.builder().build()
+      }
+    val client = MinioStorageClient(config = config, type = DocumentType.STATE, s3Client = s3Client)
+
+    val request =
+      PutObjectRequest
+        .builder()
+        .bucket(buckets.state)
+        .key(client.key(KEY))
+        .build()
+
+    var uploaded: ByteArray? = null
+    every { s3Client.putObject(request, any<RequestBody>()) } answers {
+      uploaded = secondArg<RequestBody>().contentStreamProvider().newStream().use { it.readAllBytes() }
+      mockk()
+    }
+
+    client.write(KEY, DOC1.byteInputStream(), ContentEncoding.GZIP)
+
+    assertEquals(DOC1, decodeContent(uploaded!!).toString(StandardCharsets.UTF_8))
+  }
+
+  @Test
+  fun `read range`() {
+    val s3Client: S3Client =
+      mockk {
+        every { createBucket(any<CreateBucketRequest>()) } returns mockk<CreateBucketResponse>()
+        every { headBucket(any<HeadBucketRequest>()) } throws NoSuchBucketException.builder().build()
+      }
+    val client = MinioStorageClient(config = config, type = DocumentType.STATE, s3Client = s3Client)
+
+    val request =
+      GetObjectRequest
+        .builder()
+        .bucket(buckets.state)
+        .key(client.key(KEY))
+        .range("bytes=1-3")
+        .build()
+
+    every { s3Client.getObjectAsBytes(request) } returns
+      mockk<ResponseBytes<GetObjectResponse>> {
+        every { asByteArray() } returns "ell".toByteArray()
+      }
+
+    assertEquals("ell", client.readRange(KEY, 1, 3)?.toString(StandardCharsets.UTF_8))
+  }
+
   @Test
   fun `delete doc`() {
     val s3Client: S3Client =
@@ -694,7 +778,7 @@ internal class S3StorageClientTest {
 
     every { s3Client.getObjectAsBytes(request) } returns
       mockk<ResponseBytes<GetObjectResponse>> {
-        every { asString(StandardCharsets.UTF_8) } returns DOC1
+        every { asByteArray() } returns DOC1.toByteArray()
       }
 
     with(client.read(KEY)) {
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.storage
+
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNotEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Clock
+import java.time.Duration
+
+class WorkloadPayloadStorageTest {
+  private val storageClient: StorageClient =
+    mockk(relaxed = true) {
+      every { bucketName } returns "bucket"
+    }
+
+  @Test
+  fun `small payloads and disabled offloading pass payloads through`() {
+    val disabled = WorkloadPayloadStorage(false, 0) { storageClient }
+    val enabled = WorkloadPayloadStorage(true, 100) { storageClient }
+
+    assertEquals("payload", disabled.offload("payload"))
+    assertEquals("payload", enabled.offload("payload"))
+    verify(exactly = 0) { storageClient.write(any(), any()) }
+  }
+
+  @Test
+  fun `identical payloads are stored once under the same reference`() {
+    val storage = WorkloadPayloadStorage(true, 0) { storageClient }
+    val id = slot<String>()
+    every { storageClient.write(capture(id), "payload") } returns Unit
+    every { storageClient.read(any()) } answers { if (firstArg<String>() == id.captured) "payload" else null }
+
+    val reference = storage.offload("payload")
+
+    assertTrue(storage.isReference(reference))
+    assertEquals(reference, storage.offload("payload"))
+    assertNotEquals(reference, storage.offload("other payload"))
+    verify(exactly = 1) { storageClient.write(any(), "payload") }
+    assertEquals("payload", storage.resolve(reference))
+  }
+
+  @Test
+  fun `payloads are written again in every retention window`() {
+    var millis = 0L
+    val clock = mockk<Clock> { every { millis() } answers { millis } }
+    val storage = WorkloadPayloadStorage(true, 0, Duration.ofDays(2), clock) { storageClient }
+
+    val reference = storage.offload("payload")
+    millis += Duration.ofHours(23).toMillis()
+    assertEquals(reference, storage.offload("payload"))
+    verify(exactly = 1) { storageClient.write(any(), "payload") }
+
+    millis += Duration.ofHours(1).toMillis()
+    assertNotEquals(reference, storage.offload("payload"))
+    verify(exactly = 2) { storageClient.write(any(), "payload") }
+  }
+
+  @Test
+  fun `sweeping deletes the payloads of windows that ended more than the retention ago`() {
+    var millis = 0L
+    val clock = mockk<Clock> { every { millis() } answers { millis } }
+    val storage = WorkloadPayloadStorage(true, 0, Duration.ofDays(2), clock) { storageClient }
+    val ids = mutableListOf<String>()
+    every { storageClient.write(capture(ids), any()) } returns Unit
+    every { storageClient.list("") } answers { ids.map { "/workload/payloads/$it" } + "/workload/payloads/unexpected" }
+
+    storage.offload("first")
+    millis += Duration.ofDays(1).toMillis()
+    storage.offload("second")
+
+    // The first window ended after a day, so it is kept until three days have passed.
+    millis += Duration.ofDays(2).toMillis() - 1
+    assertEquals(0, storage.sweep())
+    millis += 1
+    assertEquals(1, storage.sweep())
+    verify(exactly = 1) { storageClient.delete(ids[0]) }
+    verify(exactly = 0) { storageClient.delete(ids[1]) }
+    verify(exactly = 0) { storageClient.delete("unexpected") }
+  }
+
+  @Test
+  fun `inline payloads resolve to themselves even when offloading is disabled`() {
+    val storage = WorkloadPayloadStorage(false, 0) { storageClient }
+
+    assertFalse(storage.isReference("{}"))
+    assertEquals("{}", storage.resolve("{}"))
+    verify(exactly = 0) { storageClient.read(any()) }
+  }
+
+  @Test
+  fun `resolving a missing payload fails`() {
+    val writer = WorkloadPayloadStorage(true, 0) { storageClient }
+    val reader = WorkloadPayloadStorage(false, 0) { storageClient }
+    every { storageClient.read(any()) } returns null
+
+    assertThrows<IllegalStateException> { reader.resolve(writer.offload("payload")) }
+  }
+}
@@ -24,6 +24,7 @@ import io.airbyte.api.client.model.generated.ConnectionStateType;
 import io.airbyte.api.client.model.generated.DestinationIdRequestBody;
 import io.airbyte.api.client.model.generated.JobOptionalRead;
 import io.airbyte.api.client.model.generated.ResolveActorDefinitionVersionRequestBody;
+import io.airbyte.api.client.model.generated.ResolveActorDefinitionVersionResponse;
 import io.airbyte.api.client.model.generated.SaveStreamAttemptMetadataRequestBody;
 import io.airbyte.api.client.model.generated.ScopeType;
 import io.airbyte.api.client.model.generated.SecretPersistenceConfig;
@@ -65,6 +66,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -85,6 +90,7 @@ public class ReplicationInputHydrator {
   private final BackfillHelper backfillHelper;
   private final CatalogClientConverters catalogClientConverters;
   private final MetricClient metricClient;
+  private final Executor executor;
 
   static final String FILE_TRANSFER_DELIVERY_TYPE = "use_file_transfer";
 
@@ -96,7 +102,8 @@ public class ReplicationInputHydrator {
                                   final CatalogClientConverters catalogClientConverters,
                                   final ReplicationInputMapper mapper,
                                   final MetricClient metricClient,
-                                  final Boolean useRuntimeSecretPersistence) {
+                                  final Boolean useRuntimeSecretPersistence,
+                                  final Executor executor) {
     this.airbyteApiClient = airbyteApiClient;
     this.backfillHelper = backfillHelper;
     this.catalogClientConverters = catalogClientConverters;
@@ -106,6 +113,29 @@ public class ReplicationInputHydrator {
     this.mapper = mapper;
     this.metricClient = metricClient;
     this.useRuntimeSecretPersistence = useRuntimeSecretPersistence;
+    this.executor = executor;
+  }
+
+  @SuppressWarnings("PMD.AvoidCatchingThrowable")
+  private <T> CompletableFuture<T> async(final CheckedSupplier<T> supplier) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return supplier.get();
+      } catch (final Throwable e) {
+        throw new CompletionException(e);
+      }
+    }, executor);
+  }
+
+  private static <T> T await(final CompletableFuture<T> future) throws Exception {
+    try {
+      return future.get();
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof Exception) {
+        throw (Exception) e.getCause();
+      }
+      throw e;
+    }
   }
 
   private <T> T retry(final CheckedSupplier<T> supplier) {
@@ -151,12 +181,20 @@ public class ReplicationInputHydrator {
    */
   public ReplicationInput getHydratedReplicationInput(final ReplicationActivityInput replicationActivityInput) throws Exception {
     ApmTraceUtils.addTagsToTrace(Map.of("api_base_url", airbyteApiClient.getDestinationApi().getBaseUrl()));
-    refreshSecretsReferences(replicationActivityInput);
-    final var destination =
-        airbyteApiClient.getDestinationApi().getDestination(new DestinationIdRequestBody(replicationActivityInput.getDestinationId()));
-    final var tag = DockerImageName.INSTANCE.extractTag(replicationActivityInput.getDestinationLauncherConfig().getDockerImage());
-    final var resolvedDestinationVersion = airbyteApiClient.getActorDefinitionVersionApi().resolveActorDefinitionVersionByTag(
-        new ResolveActorDefinitionVersionRequestBody(destination.getDestinationDefinitionId(), ActorType.DESTINATION, tag));
+
+    // The secrets, the connection and the state are independent of each other, so fetch them in
+    // parallel rather than paying for each round trip in turn.
+    final CompletableFuture<HydratedConfigs> configsFuture = async(() -> {
+      refreshSecretsReferences(replicationActivityInput);
+      return hydrateConfigs(replicationActivityInput);
+    });
+    final CompletableFuture<DestinationAndConnection> connectionFuture = async(() -> retrieveDestinationAndConnection(replicationActivityInput));
+    final CompletableFuture<State> stateFuture = async(() -> retrieveState(replicationActivityInput));
+
+    final DestinationAndConnection destinationAndConnection = await(connectionFuture);
+    final var resolvedDestinationVersion = destinationAndConnection.destinationVersion();
+    final ConnectionRead connectionInfo = destinationAndConnection.connection();
+    final HydratedConfigs configs = await(configsFuture);
 
     final SourceActorConfig sourceActorConfig = Jsons.object(replicationActivityInput.getSourceConfiguration(), SourceActorConfig.class);
     final boolean useFileTransfer =
@@ -170,20 +208,13 @@ public class ReplicationInputHydrator {
       throw new WorkerException(errorMessage);
     }
 
-    // Retrieve the connection, which we need in a few places.
     final long jobId = Long.parseLong(replicationActivityInput.getJobRunConfig().getJobId());
-    final ConnectionRead connectionInfo = resolvedDestinationVersion.getSupportRefreshes()
-        ? airbyteApiClient.getConnectionApi()
-            .getConnectionForJob(new ConnectionAndJobIdRequestBody(replicationActivityInput.getConnectionId(), jobId))
-        : airbyteApiClient.getConnectionApi().getConnection(new ConnectionIdRequestBody(replicationActivityInput.getConnectionId()));
-
     final ConfiguredAirbyteCatalog catalog = retrieveCatalog(connectionInfo);
     if (replicationActivityInput.isReset()) {
       // If this is a reset, we need to set the streams being reset to Full Refresh | Overwrite.
       updateCatalogForReset(replicationActivityInput, catalog);
     }
-    // Retrieve the state.
-    State state = retrieveState(replicationActivityInput);
+    State state = await(stateFuture);
     List<StreamDescriptor> streamsToBackfill = null;
     if (backfillHelper.syncShouldBackfill(replicationActivityInput, connectionInfo)) {
       streamsToBackfill = backfillHelper.getStreamsToBackfill(replicationActivityInput.getSchemaRefreshOutput().getAppliedDiff(), catalog);
@@ -202,7 +233,40 @@ public class ReplicationInputHydrator {
           replicationActivityInput.getJobRunConfig().getAttemptId(), e);
     }
 
-    // Hydrate the secrets.
+    // Hydrate mapper secrets
+    final UUID organizationId = replicationActivityInput.getConnectionContext().getOrganizationId();
+    final ConfiguredAirbyteCatalog hydratedCatalog =
+        mapperSecretHydrationHelper.hydrateMapperSecrets(catalog, useRuntimeSecretPersistence, organizationId);
+
+    return mapper.toReplicationInput(replicationActivityInput)
+        .withSourceConfiguration(configs.source())
+        .withDestinationConfiguration(configs.destination())
+        .withCatalog(hydratedCatalog)
+        .withState(state)
+        .withDestinationSupportsRefreshes(resolvedDestinationVersion.getSupportRefreshes());
+  }
+
+  private record HydratedConfigs(JsonNode source, JsonNode destination) {}
+
+  private record DestinationAndConnection(ResolveActorDefinitionVersionResponse destinationVersion, ConnectionRead connection) {}
+
+  private DestinationAndConnection retrieveDestinationAndConnection(final ReplicationActivityInput replicationActivityInput) throws IOException {
+    final var destination =
+        airbyteApiClient.getDestinationApi().getDestination(new DestinationIdRequestBody(replicationActivityInput.getDestinationId()));
+    final var tag = DockerImageName.INSTANCE.extractTag(replicationActivityInput.getDestinationLauncherConfig().getDockerImage());
+    final var resolvedDestinationVersion = airbyteApiClient.getActorDefinitionVersionApi().resolveActorDefinitionVersionByTag(
+        new ResolveActorDefinitionVersionRequestBody(destination.getDestinationDefinitionId(), ActorType.DESTINATION, tag));
+
+    // Retrieve the connection, which we need in a few places.
+    final long jobId = Long.parseLong(replicationActivityInput.getJobRunConfig().getJobId());
+    final ConnectionRead connectionInfo = resolvedDestinationVersion.getSupportRefreshes()
+        ? airbyteApiClient.getConnectionApi()
+            .getConnectionForJob(new ConnectionAndJobIdRequestBody(replicationActivityInput.getConnectionId(), jobId))
+        : airbyteApiClient.getConnectionApi().getConnection(new ConnectionIdRequestBody(replicationActivityInput.getConnectionId()));
+    return new DestinationAndConnection(resolvedDestinationVersion, connectionInfo);
+  }
+
+  private HydratedConfigs hydrateConfigs(final ReplicationActivityInput replicationActivityInput) throws IOException {
     final JsonNode fullDestinationConfig;
     final JsonNode fullSourceConfig;
     final UUID organizationId = replicationActivityInput.getConnectionContext().getOrganizationId();
@@ -246,17 +310,7 @@ public class ReplicationInputHydrator {
         throw e;
       }
     }
-
-    // Hydrate mapper secrets
-    final ConfiguredAirbyteCatalog hydratedCatalog =
-        mapperSecretHydrationHelper.hydrateMapperSecrets(catalog, useRuntimeSecretPersistence, organizationId);
-
-    return mapper.toReplicationInput(replicationActivityInput)
-        .withSourceConfiguration(fullSourceConfig)
-        .withDestinationConfiguration(fullDestinationConfig)
-        .withCatalog(hydratedCatalog)
-        .withState(state)
-        .withDestinationSupportsRefreshes(resolvedDestinationVersion.getSupportRefreshes());
+    return new HydratedConfigs(fullSourceConfig, fullDestinationConfig);
   }
 
   private RuntimeSecretPersistence getRuntimeSecretPersistence(final UUID organizationId) throws IOException {
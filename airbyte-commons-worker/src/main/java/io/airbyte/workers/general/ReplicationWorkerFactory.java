@@ -58,6 +58,7 @@ import io.airbyte.workers.internal.HeartbeatMonitor;
 import io.airbyte.workers.internal.HeartbeatTimeoutChaperone;
 import io.airbyte.workers.internal.LocalContainerAirbyteDestination;
 import io.airbyte.workers.internal.LocalContainerAirbyteSource;
+import io.airbyte.workers.internal.LocalContainerConstants;
 import io.airbyte.workers.internal.MessageMetricsTracker;
 import io.airbyte.workers.internal.NamespacingMapper;
 import io.airbyte.workers.internal.VersionedAirbyteMessageBufferedWriterFactory;
@@ -68,6 +69,7 @@ import io.airbyte.workers.internal.bookkeeping.streamstatus.StreamStatusTrackerF
 import io.airbyte.workers.internal.syncpersistence.SyncPersistence;
 import io.airbyte.workers.internal.syncpersistence.SyncPersistenceFactory;
 import io.airbyte.workload.api.client.WorkloadApiClient;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
@@ -106,6 +108,8 @@ public class ReplicationWorkerFactory {
   private final StreamStatusTrackerFactory streamStatusTrackerFactory;
   private final RecordMapper recordMapper;
   private final DestinationCatalogGenerator destinationCatalogGenerator;
+  private final int connectorLogMaxRepeatedLines;
+  private final int connectorLogMaxLinesPerSecond;
 
   public static final MdcScope.Builder DESTINATION_LOG_MDC_BUILDER = new Builder()
       .setExtraMdcEntries(LogSource.DESTINATION.toMdc());
@@ -127,7 +131,11 @@ public class ReplicationWorkerFactory {
                                   final StreamStatusCompletionTracker streamStatusCompletionTracker,
                                   final StreamStatusTrackerFactory streamStatusTrackerFactory,
                                   final RecordMapper recordMapper,
-                                  final DestinationCatalogGenerator destinationCatalogGenerator) {
+                                  final DestinationCatalogGenerator destinationCatalogGenerator,
+                                  @Value("${airbyte.worker.replication.connector-log.max-repeated-lines:"
+                                      + LocalContainerConstants.DEFAULT_LOG_MAX_REPEATED_LINES + "}") final int connectorLogMaxRepeatedLines,
+                                  @Value("${airbyte.worker.replication.connector-log.max-lines-per-second:"
+                                      + LocalContainerConstants.DEFAULT_LOG_MAX_LINES_PER_SECOND + "}") final int connectorLogMaxLinesPerSecond) {
     this.serDeProvider = serDeProvider;
     this.migratorFactory = migratorFactory;
     this.gsonPksExtractor = gsonPksExtractor;
@@ -142,6 +150,8 @@ public class ReplicationWorkerFactory {
     this.streamStatusTrackerFactory = streamStatusTrackerFactory;
     this.recordMapper = recordMapper;
     this.destinationCatalogGenerator = destinationCatalogGenerator;
+    this.connectorLogMaxRepeatedLines = connectorLogMaxRepeatedLines;
+    this.connectorLogMaxLinesPerSecond = connectorLogMaxLinesPerSecond;
   }
 
   /**
@@ -176,7 +186,9 @@ public class ReplicationWorkerFactory {
             heartbeatMonitor,
             getStreamFactory(sourceLauncherConfig, replicationInput.getCatalog(), SOURCE_LOG_MDC_BUILDER, invalidLineConfig),
             new MessageMetricsTracker(metricClient),
-            ContainerIOHandle.source());
+            ContainerIOHandle.source(),
+            connectorLogMaxRepeatedLines,
+            connectorLogMaxLinesPerSecond);
 
     log.info("Setting up destination with image {}.", replicationInput.getDestinationLauncherConfig().getDockerImage());
     final AirbyteMessageBufferedWriterFactory messageWriterFactory =
@@ -189,7 +201,9 @@ public class ReplicationWorkerFactory {
         messageWriterFactory,
         destinationTimeout,
         ContainerIOHandle.dest(),
-        replicationInput.getUseFileTransfer());
+        replicationInput.getUseFileTransfer(),
+        connectorLogMaxRepeatedLines,
+        connectorLogMaxLinesPerSecond);
 
     final WorkerMetricReporter metricReporter = new WorkerMetricReporter(metricClient, sourceLauncherConfig.getDockerImage());
 
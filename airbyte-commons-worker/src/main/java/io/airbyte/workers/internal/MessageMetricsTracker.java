@@ -61,6 +61,21 @@ public class MessageMetricsTracker {
     }
   }
 
+  /**
+   * Track the log lines read from the stderr of a connector, as reported by a
+   * {@link io.airbyte.commons.io.LogPipeline}.
+   *
+   * @param connectorType source or destination
+   */
+  public void trackConnectorLogs(final String connectorType, final long lines, final long bytes, final long droppedLines) {
+    final MetricAttribute connectorTypeAttribute = new MetricAttribute(MetricTags.CONNECTOR_TYPE, connectorType);
+    emitMetric(OssMetricsRegistry.CONNECTOR_LOG_LINES, lines, connectorTypeAttribute);
+    emitMetric(OssMetricsRegistry.CONNECTOR_LOG_BYTES, bytes, connectorTypeAttribute);
+    if (droppedLines > 0) {
+      emitMetric(OssMetricsRegistry.CONNECTOR_LOG_LINES_DROPPED, droppedLines, connectorTypeAttribute);
+    }
+  }
+
   public void flushDestReadCountMetric() {
     emitMetric(OssMetricsRegistry.WORKER_DESTINATION_MESSAGE_READ, destRecordReadCount, RECORD_ATTRIBUTE);
     emitMetric(OssMetricsRegistry.WORKER_DESTINATION_MESSAGE_READ, destStateReadCount, STATE_ATTRIBUTE);
@@ -77,10 +92,14 @@ public class MessageMetricsTracker {
   }
 
   private void emitMetric(final OssMetricsRegistry metric, final AtomicLong value, final MetricAttribute typeAttribute) {
+    emitMetric(metric, value.getAndSet(0), typeAttribute);
+  }
+
+  private void emitMetric(final OssMetricsRegistry metric, final long value, final MetricAttribute typeAttribute) {
     if (connectionAttribute != null) {
-      metricClient.count(metric, value.getAndSet(0), connectionAttribute, typeAttribute);
+      metricClient.count(metric, value, connectionAttribute, typeAttribute);
     } else {
-      metricClient.count(metric, value.getAndSet(0), typeAttribute);
+      metricClient.count(metric, value, typeAttribute);
     }
   }
 
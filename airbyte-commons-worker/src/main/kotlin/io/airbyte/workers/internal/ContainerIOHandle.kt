@@ -12,12 +12,10 @@ import java.io.InputStream
 import java.io.OutputStream
 import java.nio.channels.Channels
 import java.nio.channels.FileChannel
-import java.nio.file.FileSystems
 import java.nio.file.Files
 import java.nio.file.Path
 import java.nio.file.StandardOpenOption
-import java.nio.file.StandardWatchEventKinds
-import java.util.concurrent.CompletableFuture
+import java.time.Duration
 import java.util.concurrent.TimeUnit
 
 private val logger = KotlinLogging.logger {}
@@ -106,37 +104,18 @@ data class ContainerIOHandle(
   ): Boolean {
     return try {
       terminationFile.writeText(TERMINATION_FILE_BODY)
-      val future =
-        CompletableFuture.supplyAsync {
-          return@supplyAsync watchForExitFile()
-        }
       logger.debug { "Waiting for $timeout $timeUnit for exit value..." }
-      return future.get(timeout, timeUnit)
+      val found =
+        FileWaiter().waitFor(listOf(exitValueFile.absoluteFile.parentFile.toPath()), Duration.of(timeout, timeUnit.toChronoUnit())) {
+          exitCodeExists()
+        }
+      if (!found) {
+        logger.warn { "Exit value file $exitValueFile was not found within $timeout $timeUnit." }
+      }
+      found
     } catch (e: Exception) {
       logger.warn(e) { "Failed to wait for exit value file $exitValueFile to be found." }
       false
     }
   }
-
-  private fun watchForExitFile(): Boolean {
-    val watchService = FileSystems.getDefault().newWatchService()
-    watchService.use {
-      var found = false
-      try {
-        // register to watch for exit file creation
-        exitValueFile.parentFile.toPath().register(it, StandardWatchEventKinds.ENTRY_MODIFY)
-        // now check if the file already exists to avoid a race
-        found = exitCodeExists()
-        while (!found) {
-          val watchKey = it.take()
-          found = watchKey.pollEvents().find {
-            (it.context() as Path).endsWith(exitValueFile.name)
-          } != null
-        }
-      } catch (e: Exception) {
-        logger.warn(e) { "Exit value file $exitValueFile could not be found." }
-      }
-      return found
-    }
-  }
 }
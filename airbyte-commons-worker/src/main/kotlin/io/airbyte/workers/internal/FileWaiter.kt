@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal
+
+import io.github.oshai.kotlinlogging.KotlinLogging
+import java.nio.file.FileSystems
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardWatchEventKinds
+import java.nio.file.WatchService
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+import kotlin.time.TimeSource
+import kotlin.time.toJavaDuration
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Waits for files written by other containers of a pod, such as connector outputs and exit codes.
+ *
+ * Waiters are woken up by file system events on the watched directories, so files are noticed as
+ * soon as they are written. As events can be missed (e.g. if a directory is only created after the
+ * wait started, or if the file system doesn't support watching), conditions are also re-checked
+ * every [pollInterval].
+ */
+class FileWaiter(
+  private val pollInterval: Duration = DEFAULT_POLL_INTERVAL,
+) {
+  companion object {
+    val DEFAULT_POLL_INTERVAL: Duration = Duration.ofSeconds(1)
+  }
+
+  /**
+   * Blocks until [condition] holds or [timeout] elapses, re-checking it whenever an entry of one of
+   * [dirs] is created or modified.
+   *
+   * @return whether [condition] holds
+   */
+  fun waitFor(
+    dirs: Collection<Path>,
+    timeout: Duration,
+    condition: () -> Boolean,
+  ): Boolean {
+    if (condition()) {
+      return true
+    }
+
+    val watchService = newWatchService(dirs)
+    try {
+      val start = TimeSource.Monotonic.markNow()
+      while (true) {
+        // Registering happens before this check, so files written in between aren't missed.
+        if (condition()) {
+          return true
+        }
+        val remaining = timeout - start.elapsedNow().toJavaDuration()
+        if (remaining.isNegative || remaining.isZero) {
+          return false
+        }
+        val wait = minOf(remaining, pollInterval)
+        if (watchService == null) {
+          Thread.sleep(wait.toMillis())
+        } else {
+          watchService.poll(wait.toNanos(), TimeUnit.NANOSECONDS)?.let {
+            it.pollEvents()
+            it.reset()
+          }
+        }
+      }
+    } finally {
+      watchService?.close()
+    }
+  }
+
+  private fun newWatchService(dirs: Collection<Path>): WatchService? {
+    val existingDirs = dirs.filter { Files.isDirectory(it) }.distinct()
+    if (existingDirs.isEmpty()) {
+      return null
+    }
+
+    val watchService =
+      try {
+        FileSystems.getDefault().newWatchService()
+      } catch (e: Exception) {
+        logger.warn(e) { "Unable to watch for files, falling back to polling every $pollInterval." }
+        return null
+      }
+
+    try {
+      existingDirs.forEach {
+        it.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY)
+      }
+    } catch (e: Exception) {
+      logger.warn(e) { "Unable to watch $existingDirs, falling back to polling every $pollInterval." }
+      watchService.close()
+      return null
+    }
+    return watchService
+  }
+}
@@ -8,15 +8,18 @@ import com.google.common.annotations.VisibleForTesting
 import dev.failsafe.Failsafe
 import dev.failsafe.function.CheckedRunnable
 import io.airbyte.commons.io.IOs
-import io.airbyte.commons.io.LineGobbler
+import io.airbyte.commons.io.LogPipeline
 import io.airbyte.commons.logging.LogSource
 import io.airbyte.commons.logging.MdcScope
 import io.airbyte.config.WorkerDestinationConfig
 import io.airbyte.protocol.models.AirbyteMessage
 import io.airbyte.workers.exception.WorkerException
 import io.airbyte.workers.internal.LocalContainerConstants.ACCEPTED_MESSAGE_TYPES
+import io.airbyte.workers.internal.LocalContainerConstants.DEFAULT_LOG_MAX_LINES_PER_SECOND
+import io.airbyte.workers.internal.LocalContainerConstants.DEFAULT_LOG_MAX_REPEATED_LINES
 import io.airbyte.workers.internal.LocalContainerConstants.IGNORED_EXIT_CODES
 import io.airbyte.workers.internal.LocalContainerConstants.LOCAL_CONTAINER_RETRY_POLICY
+import io.airbyte.workers.pod.ContainerConstants.DESTINATION_CONTAINER_NAME
 import io.github.oshai.kotlinlogging.KotlinLogging
 import java.io.BufferedWriter
 import java.io.IOException
@@ -34,6 +37,8 @@ class LocalContainerAirbyteDestination(
   private val destinationTimeoutMonitor: DestinationTimeoutMonitor,
   private val containerIOHandle: ContainerIOHandle,
   private val flushImmediately: Boolean = false,
+  private val logMaxRepeatedLines: Int = DEFAULT_LOG_MAX_REPEATED_LINES,
+  private val logMaxLinesPerSecond: Int = DEFAULT_LOG_MAX_LINES_PER_SECOND,
 ) : AirbyteDestination {
   private val inputHasEnded = AtomicBoolean(false)
   private lateinit var messageIterator: Iterator<AirbyteMessage>
@@ -74,7 +79,14 @@ class LocalContainerAirbyteDestination(
     logger.info { "Running destination..." }
 
     // stdout logs are logged elsewhere since stdout also contains data
-    LineGobbler.gobble(containerIOHandle.getErrInputStream(), { msg: String -> logger.error { msg } }, CALLER, containerLogMdcBuilder)
+    LogPipeline
+      .builder(containerIOHandle.getErrInputStream()) { msg: String -> logger.error { msg } }
+      .caller(CALLER)
+      .mdcScopeBuilder(containerLogMdcBuilder)
+      .maxRepeatedLines(logMaxRepeatedLines)
+      .maxLinesPerSecond(logMaxLinesPerSecond)
+      .listener { lines, bytes, droppedLines -> messageMetricsTracker.trackConnectorLogs(DESTINATION_CONTAINER_NAME, lines, bytes, droppedLines) }
+      .start()
 
     // TODO are these the correct pipes?
     writer = messageWriterFactory.createWriter(BufferedWriter(OutputStreamWriter(containerIOHandle.getOutputStream(), Charsets.UTF_8)))
@@ -7,15 +7,18 @@ package io.airbyte.workers.internal
 import dev.failsafe.Failsafe
 import dev.failsafe.function.CheckedRunnable
 import io.airbyte.commons.io.IOs
-import io.airbyte.commons.io.LineGobbler
+import io.airbyte.commons.io.LogPipeline
 import io.airbyte.commons.logging.LogSource
 import io.airbyte.commons.logging.MdcScope
 import io.airbyte.config.WorkerSourceConfig
 import io.airbyte.protocol.models.AirbyteMessage
 import io.airbyte.workers.exception.WorkerException
 import io.airbyte.workers.internal.LocalContainerConstants.ACCEPTED_MESSAGE_TYPES
+import io.airbyte.workers.internal.LocalContainerConstants.DEFAULT_LOG_MAX_LINES_PER_SECOND
+import io.airbyte.workers.internal.LocalContainerConstants.DEFAULT_LOG_MAX_REPEATED_LINES
 import io.airbyte.workers.internal.LocalContainerConstants.IGNORED_EXIT_CODES
 import io.airbyte.workers.internal.LocalContainerConstants.LOCAL_CONTAINER_RETRY_POLICY
+import io.airbyte.workers.pod.ContainerConstants.SOURCE_CONTAINER_NAME
 import io.github.oshai.kotlinlogging.KotlinLogging
 import java.nio.file.Path
 import java.util.Optional
@@ -28,6 +31,8 @@ class LocalContainerAirbyteSource(
   private val streamFactory: AirbyteStreamFactory,
   private val messageMetricsTracker: MessageMetricsTracker,
   private val containerIOHandle: ContainerIOHandle,
+  private val logMaxRepeatedLines: Int = DEFAULT_LOG_MAX_REPEATED_LINES,
+  private val logMaxLinesPerSecond: Int = DEFAULT_LOG_MAX_LINES_PER_SECOND,
 ) : AirbyteSource {
   private lateinit var messageIterator: Iterator<AirbyteMessage>
 
@@ -61,7 +66,14 @@ class LocalContainerAirbyteSource(
     messageMetricsTracker.trackConnectionId(connectionId)
 
     // stdout logs are logged elsewhere since stdout also contains data
-    LineGobbler.gobble(containerIOHandle.getErrInputStream(), { msg: String -> logger.error { msg } }, CALLER, containerLogMdcBuilder)
+    LogPipeline
+      .builder(containerIOHandle.getErrInputStream()) { msg: String -> logger.error { msg } }
+      .caller(CALLER)
+      .mdcScopeBuilder(containerLogMdcBuilder)
+      .maxRepeatedLines(logMaxRepeatedLines)
+      .maxLinesPerSecond(logMaxLinesPerSecond)
+      .listener { lines, bytes, droppedLines -> messageMetricsTracker.trackConnectorLogs(SOURCE_CONTAINER_NAME, lines, bytes, droppedLines) }
+      .start()
 
     Failsafe.with(LOCAL_CONTAINER_RETRY_POLICY).run(
       CheckedRunnable {
@@ -21,4 +21,9 @@ object LocalContainerConstants {
       .builder<Any>()
       .withBackoff(Duration.ofSeconds(10), KubeConstants.POD_READY_TIMEOUT)
       .build()
+
+  // Connectors logging in a loop shouldn't slow down the sync by flooding the logs.
+  // Defaults for the configurable limits; a value of 0 or less disables the limit.
+  const val DEFAULT_LOG_MAX_REPEATED_LINES = 100
+  const val DEFAULT_LOG_MAX_LINES_PER_SECOND = 2_000
 }
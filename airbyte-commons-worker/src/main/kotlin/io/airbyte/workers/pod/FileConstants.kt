@@ -31,4 +31,5 @@ object FileConstants {
   // marker files
   const val TERMINATION_MARKER_FILE = "TERMINATED"
   const val KUBE_CP_SUCCESS_MARKER_FILE = "FINISHED_UPLOADING"
+  const val WARM_POD_ASSIGNMENT_FILE = "ASSIGNED_WORKLOAD_ID"
 }
@@ -166,5 +166,6 @@ class PodLabeler(
     const val DESTINATION_IMAGE_VERSION = "destination_image_version"
     const val SWEEPER_LABEL_KEY = "airbyte"
     const val SWEEPER_LABEL_VALUE = "job-pod"
+    const val WARM_POOL_KEY = "warm_pool_key"
   }
 }
@@ -74,6 +74,7 @@ import io.airbyte.workers.models.ReplicationActivityInput;
 import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 import org.assertj.core.api.CollectionAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -246,7 +247,8 @@ class ReplicationInputHydratorTest {
         catalogClientConverters,
         new ReplicationInputMapper(),
         metricClient,
-        useRuntimePersistence);
+        useRuntimePersistence,
+        ForkJoinPool.commonPool());
   }
 
   private ReplicationActivityInput getDefaultReplicationActivityInputForTest() {
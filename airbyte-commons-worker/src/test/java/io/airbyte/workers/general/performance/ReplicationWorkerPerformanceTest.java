@@ -49,6 +49,7 @@ import io.airbyte.workers.internal.FieldSelector;
 import io.airbyte.workers.internal.HeartbeatMonitor;
 import io.airbyte.workers.internal.HeartbeatTimeoutChaperone;
 import io.airbyte.workers.internal.LocalContainerAirbyteSource;
+import io.airbyte.workers.internal.LocalContainerConstants;
 import io.airbyte.workers.internal.NamespacingMapper;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
 import io.airbyte.workers.internal.bookkeeping.AirbyteMessageTracker;
@@ -146,7 +147,8 @@ public abstract class ReplicationWorkerPerformanceTest {
     final var versionFac = VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(metricClient);
     final HeartbeatMonitor heartbeatMonitor = new HeartbeatMonitor(DEFAULT_HEARTBEAT_FRESHNESS_THRESHOLD);
     // TODO: This needs to be fixed to pass a NOOP tracker and a proper container IO handle
-    final var versionedAbSource = new LocalContainerAirbyteSource(heartbeatMonitor, versionFac, null, null);
+    final var versionedAbSource = new LocalContainerAirbyteSource(heartbeatMonitor, versionFac, null, null,
+        LocalContainerConstants.DEFAULT_LOG_MAX_REPEATED_LINES, LocalContainerConstants.DEFAULT_LOG_MAX_LINES_PER_SECOND);
     final var workspaceID = UUID.randomUUID();
     final FeatureFlagClient featureFlagClient = new TestClient(Map.of("heartbeat.failSync", false));
     final HeartbeatTimeoutChaperone heartbeatTimeoutChaperone = new HeartbeatTimeoutChaperone(heartbeatMonitor,
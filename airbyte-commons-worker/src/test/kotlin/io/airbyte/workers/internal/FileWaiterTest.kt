@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal
+
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+internal class FileWaiterTest {
+  @TempDir
+  lateinit var dir: Path
+
+  @Test
+  internal fun `returns immediately if the condition already holds`() {
+    assertTrue(FileWaiter().waitFor(listOf(dir), Duration.ZERO) { true })
+  }
+
+  @Test
+  internal fun `wakes up when a file is written`() {
+    val file = dir.resolve("exitCode.txt")
+    // A long poll interval ensures the file is noticed through the watch rather than by polling.
+    val waiter = FileWaiter(pollInterval = Duration.ofMinutes(1))
+    val result = CompletableFuture.supplyAsync { waiter.waitFor(listOf(dir), Duration.ofMinutes(1)) { Files.exists(file) } }
+
+    Thread.sleep(200)
+    Files.writeString(file, "0")
+
+    assertTrue(result.get(30, TimeUnit.SECONDS))
+  }
+
+  @Test
+  internal fun `falls back to polling when directories cannot be watched`() {
+    val missingDir = dir.resolve("missing")
+    val file = dir.resolve("exitCode.txt")
+    val waiter = FileWaiter(pollInterval = Duration.ofMillis(10))
+    val result = CompletableFuture.supplyAsync { waiter.waitFor(listOf(missingDir), Duration.ofMinutes(1)) { Files.exists(file) } }
+
+    Thread.sleep(200)
+    Files.writeString(file, "0")
+
+    assertTrue(result.get(30, TimeUnit.SECONDS))
+  }
+
+  @Test
+  internal fun `gives up after the timeout`() {
+    assertFalse(FileWaiter(pollInterval = Duration.ofMillis(10)).waitFor(listOf(dir), Duration.ofMillis(100)) { false })
+  }
+}
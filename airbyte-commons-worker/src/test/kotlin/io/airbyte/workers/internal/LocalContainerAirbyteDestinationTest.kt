@@ -69,6 +69,7 @@ internal class LocalContainerAirbyteDestinationTest {
     messageMetricsTracker =
       mockk<MessageMetricsTracker> {
         every { trackConnectionId(randomConnectionId) } returns Unit
+        every { trackConnectorLogs(any(), any(), any(), any()) } returns Unit
       }
     writer = mockk<AirbyteMessageBufferedWriter>()
     messageWriterFactory =
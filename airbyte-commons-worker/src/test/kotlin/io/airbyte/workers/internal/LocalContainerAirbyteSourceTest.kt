@@ -8,6 +8,7 @@ import io.airbyte.config.WorkerSourceConfig
 import io.airbyte.protocol.models.AirbyteMessage
 import io.airbyte.workers.exception.WorkerException
 import io.airbyte.workers.internal.ContainerIOHandle.Companion.EXIT_CODE_CHECK_EXISTS_FAILURE
+import io.airbyte.workers.pod.ContainerConstants.SOURCE_CONTAINER_NAME
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.verify
@@ -20,6 +21,7 @@ import org.junit.jupiter.api.assertDoesNotThrow
 import java.io.File
 import java.nio.file.Path
 import java.util.UUID
+import java.util.concurrent.TimeUnit
 import java.util.stream.Stream
 
 internal class LocalContainerAirbyteSourceTest {
@@ -58,6 +60,7 @@ internal class LocalContainerAirbyteSourceTest {
     messageMetricsTracker =
       mockk<MessageMetricsTracker> {
         every { trackConnectionId(connectionId) } returns Unit
+        every { trackConnectorLogs(any(), any(), any(), any()) } returns Unit
       }
     stream =
       mockk<Stream<AirbyteMessage>> {
@@ -94,6 +97,41 @@ internal class LocalContainerAirbyteSourceTest {
     verify(exactly = 1) { stream.iterator() }
   }
 
+  @Test
+  internal fun testSourceAppliesConfiguredLogLimits() {
+    stdErrFile.writeText("same line\n".repeat(5))
+    val source =
+      LocalContainerAirbyteSource(
+        heartbeatMonitor = heartbeatMonitor,
+        messageMetricsTracker = messageMetricsTracker,
+        streamFactory = streamFactory,
+        containerIOHandle = containerIOHandle,
+        logMaxRepeatedLines = 1,
+      )
+
+    source.start(sourceConfig = workerSourceConfig, jobRoot = jobRoot, connectionId = connectionId)
+
+    verify(timeout = TimeUnit.SECONDS.toMillis(10)) { messageMetricsTracker.trackConnectorLogs(SOURCE_CONTAINER_NAME, 5, any(), 3) }
+  }
+
+  @Test
+  internal fun testSourceLogLimitsCanBeDisabled() {
+    stdErrFile.writeText("same line\n".repeat(5))
+    val source =
+      LocalContainerAirbyteSource(
+        heartbeatMonitor = heartbeatMonitor,
+        messageMetricsTracker = messageMetricsTracker,
+        streamFactory = streamFactory,
+        containerIOHandle = containerIOHandle,
+        logMaxRepeatedLines = 0,
+        logMaxLinesPerSecond = 0,
+      )
+
+    source.start(sourceConfig = workerSourceConfig, jobRoot = jobRoot, connectionId = connectionId)
+
+    verify(timeout = TimeUnit.SECONDS.toMillis(10)) { messageMetricsTracker.trackConnectorLogs(SOURCE_CONTAINER_NAME, 5, any(), 0) }
+  }
+
   @Test
   internal fun testSourceIsFinished() {
     val iterator =
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.io;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.commons.concurrency.VoidCallable;
+import io.airbyte.commons.logging.MdcScope;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Consumes the log lines of an {@link InputStream}, typically the stderr of a connector, to
+ * completion. Unlike {@link LineGobbler}, it is meant for streams that can emit a lot of lines:
+ *
+ * <ul>
+ * <li>all pipelines share a pool of daemon threads, instead of each getting its own executor;</li>
+ * <li>the stream is read into reused byte buffers, and only the lines that are kept are decoded
+ * into strings;</li>
+ * <li>consecutive repeated lines and lines exceeding a per-second budget are dropped, and
+ * replaced by a summary of how many were;</li>
+ * <li>lines are handed to the consumer in batches, within a single {@link MdcScope} per
+ * batch.</li>
+ * </ul>
+ */
+@SuppressWarnings("PMD.UnusedLocalVariable")
+public class LogPipeline implements VoidCallable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LogPipeline.class);
+  private static final ExecutorService SHARED_EXECUTOR =
+      Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("log-pipeline-%d").setDaemon(true).build());
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+  private static final String TRUNCATED_SUFFIX = " [truncated]";
+
+  /**
+   * Receives the counts of a batch, e.g. to emit metrics. Lines and bytes include the dropped lines,
+   * as they are the ones read from the stream.
+   */
+  @FunctionalInterface
+  public interface Listener {
+
+    void onBatch(long lines, long bytes, long droppedLines);
+
+  }
+
+  private final InputStream is;
+  private final Consumer<String> consumer;
+  private final String caller;
+  private final MdcScope.Builder mdcScopeBuilder;
+  private final Listener listener;
+  private final int batchSize;
+  private final int maxLineLength;
+  private final int maxRepeatedLines;
+  private final int maxLinesPerSecond;
+  private final LongSupplier nanoTime;
+  private final Map<String, String> mdc;
+
+  private final List<String> batch;
+  private byte[] line = new byte[1024];
+  private int lineLength;
+  private boolean lineTruncated;
+  private byte[] previousLine = new byte[1024];
+  private int previousLineLength = -1;
+  private int repeatedLines;
+  private long windowStartNanos;
+  private int linesInWindow;
+  private long droppedInWindow;
+  private long batchLines;
+  private long batchBytes;
+  private long batchDroppedLines;
+
+  private LogPipeline(final Builder builder) {
+    this.is = builder.is;
+    this.consumer = builder.consumer;
+    this.caller = builder.caller;
+    this.mdcScopeBuilder = builder.mdcScopeBuilder;
+    this.listener = builder.listener;
+    this.batchSize = builder.batchSize;
+    this.maxLineLength = builder.maxLineLength;
+    this.maxRepeatedLines = builder.maxRepeatedLines;
+    this.maxLinesPerSecond = builder.maxLinesPerSecond;
+    this.nanoTime = builder.nanoTime;
+    this.mdc = MDC.getCopyOfContextMap();
+    this.batch = new ArrayList<>(batchSize);
+  }
+
+  /**
+   * Create a pipeline consuming the lines of an input stream.
+   *
+   * @param is input stream
+   * @param consumer consumer of the lines that are kept
+   * @return the builder of the pipeline
+   */
+  public static Builder builder(final InputStream is, final Consumer<String> consumer) {
+    return new Builder(is, consumer);
+  }
+
+  @Override
+  public void voidCall() {
+    // Threads are shared between pipelines, so the MDC of the previous one must not leak into this one
+    final Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+    setMdc(mdc);
+    windowStartNanos = nanoTime.getAsLong();
+    final byte[] buffer = new byte[READ_BUFFER_SIZE];
+    try {
+      int read;
+      while ((read = is.read(buffer)) != -1) {
+        split(buffer, read);
+        // Only wait for a full batch while the connector is writing faster than we read
+        if (is.available() == 0) {
+          flush();
+        }
+      }
+      if (lineLength > 0 || lineTruncated) {
+        endLine();
+      }
+    } catch (final IOException e) {
+      LOGGER.warn("{} log pipeline IOException: {}. Typically happens when cancelling a job.", caller, e.getMessage());
+    } catch (final Exception e) {
+      LOGGER.error("{} log pipeline error when reading stream", caller, e);
+    } finally {
+      try {
+        summarizeRepeatedLines();
+        summarizeDroppedLines();
+        flush();
+      } catch (final Exception e) {
+        LOGGER.error("{} log pipeline error when flushing the last lines", caller, e);
+      } finally {
+        setMdc(previousMdc);
+      }
+    }
+  }
+
+  private static void setMdc(final Map<String, String> contextMap) {
+    if (contextMap != null) {
+      MDC.setContextMap(contextMap);
+    } else {
+      MDC.clear();
+    }
+  }
+
+  private void split(final byte[] buffer, final int length) {
+    int start = 0;
+    for (int i = 0; i < length; i++) {
+      if (buffer[i] == '\n') {
+        append(buffer, start, i - start);
+        batchBytes++;
+        endLine();
+        start = i + 1;
+      }
+    }
+    append(buffer, start, length - start);
+  }
+
+  private void append(final byte[] buffer, final int offset, final int length) {
+    final int kept = Math.min(length, maxLineLength - lineLength);
+    if (kept < length) {
+      lineTruncated = true;
+    }
+    if (kept > 0) {
+      if (lineLength + kept > line.length) {
+        line = Arrays.copyOf(line, Math.min(maxLineLength, Math.max(line.length * 2, lineLength + kept)));
+      }
+      System.arraycopy(buffer, offset, line, lineLength, kept);
+      lineLength += kept;
+    }
+    batchBytes += length;
+  }
+
+  private void endLine() {
+    int length = lineLength;
+    if (length > 0 && line[length - 1] == '\r') {
+      length--;
+    }
+    batchLines++;
+
+    if (isRepeated(length)) {
+      if (maxRepeatedLines > 0 && ++repeatedLines > maxRepeatedLines) {
+        drop();
+      } else {
+        keep(length);
+      }
+    } else {
+      summarizeRepeatedLines();
+      rememberLine(length);
+      keep(length);
+    }
+
+    lineLength = 0;
+    lineTruncated = false;
+    if (batch.size() >= batchSize) {
+      flush();
+    }
+  }
+
+  private boolean isRepeated(final int length) {
+    return length == previousLineLength && Arrays.equals(line, 0, length, previousLine, 0, length);
+  }
+
+  private void rememberLine(final int length) {
+    if (previousLine.length < length) {
+      previousLine = new byte[line.length];
+    }
+    System.arraycopy(line, 0, previousLine, 0, length);
+    previousLineLength = length;
+    repeatedLines = 0;
+  }
+
+  private void keep(final int length) {
+    if (maxLinesPerSecond > 0) {
+      final long now = nanoTime.getAsLong();
+      if (now - windowStartNanos >= TimeUnit.SECONDS.toNanos(1)) {
+        summarizeDroppedLines();
+        windowStartNanos = now;
+        linesInWindow = 0;
+      }
+      if (++linesInWindow > maxLinesPerSecond) {
+        droppedInWindow++;
+        drop();
+        return;
+      }
+    }
+    final String decoded = new String(line, 0, length, StandardCharsets.UTF_8);
+    batch.add(lineTruncated ? decoded + TRUNCATED_SUFFIX : decoded);
+  }
+
+  private void drop() {
+    batchDroppedLines++;
+  }
+
+  private void summarizeRepeatedLines() {
+    if (maxRepeatedLines > 0 && repeatedLines > maxRepeatedLines) {
+      batch.add(String.format("Previous line repeated %d more times.", repeatedLines - maxRepeatedLines));
+    }
+    repeatedLines = 0;
+  }
+
+  private void summarizeDroppedLines() {
+    if (droppedInWindow > 0) {
+      batch.add(String.format("Dropped %d log lines exceeding the limit of %d lines per second.", droppedInWindow, maxLinesPerSecond));
+    }
+    droppedInWindow = 0;
+  }
+
+  private void flush() {
+    if (!batch.isEmpty()) {
+      try (final var mdcScope = mdcScopeBuilder.build()) {
+        for (final String logLine : batch) {
+          consumer.accept(logLine);
+        }
+      } finally {
+        batch.clear();
+      }
+    }
+    if (batchLines > 0 || batchDroppedLines > 0) {
+      final long lines = batchLines;
+      final long bytes = batchBytes;
+      final long droppedLines = batchDroppedLines;
+      batchLines = 0;
+      batchBytes = 0;
+      batchDroppedLines = 0;
+      listener.onBatch(lines, bytes, droppedLines);
+    }
+  }
+
+  /**
+   * Builder for a LogPipeline.
+   */
+  public static class Builder {
+
+    private final InputStream is;
+    private final Consumer<String> consumer;
+    private String caller = "generic";
+    private MdcScope.Builder mdcScopeBuilder = MdcScope.DEFAULT_BUILDER;
+    private Listener listener = (lines, bytes, droppedLines) -> {};
+    private int batchSize = 100;
+    private int maxLineLength = 1024 * 1024;
+    private int maxRepeatedLines;
+    private int maxLinesPerSecond;
+    private LongSupplier nanoTime = System::nanoTime;
+    private ExecutorService executor = SHARED_EXECUTOR;
+
+    private Builder(final InputStream is, final Consumer<String> consumer) {
+      this.is = is;
+      this.consumer = consumer;
+    }
+
+    public Builder caller(final String caller) {
+      this.caller = caller;
+      return this;
+    }
+
+    public Builder mdcScopeBuilder(final MdcScope.Builder mdcScopeBuilder) {
+      this.mdcScopeBuilder = mdcScopeBuilder;
+      return this;
+    }
+
+    public Builder listener(final Listener listener) {
+      this.listener = listener;
+      return this;
+    }
+
+    /**
+     * Maximum number of lines handed to the consumer at once. Lines are also handed over as soon as
+     * nothing more can be read without blocking.
+     */
+    public Builder batchSize(final int batchSize) {
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    /**
+     * Lines longer than this number of bytes are truncated.
+     */
+    public Builder maxLineLength(final int maxLineLength) {
+      this.maxLineLength = maxLineLength;
+      return this;
+    }
+
+    /**
+     * Consecutive repetitions of a line beyond this number are dropped. 0 disables the limit.
+     */
+    public Builder maxRepeatedLines(final int maxRepeatedLines) {
+      this.maxRepeatedLines = maxRepeatedLines;
+      return this;
+    }
+
+    /**
+     * Lines beyond this number within a second are dropped. 0 disables the limit.
+     */
+    public Builder maxLinesPerSecond(final int maxLinesPerSecond) {
+      this.maxLinesPerSecond = maxLinesPerSecond;
+      return this;
+    }
+
+    @VisibleForTesting
+    Builder nanoTime(final LongSupplier nanoTime) {
+      this.nanoTime = nanoTime;
+      return this;
+    }
+
+    @VisibleForTesting
+    Builder executor(final ExecutorService executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    @VisibleForTesting
+    LogPipeline build() {
+      return new LogPipeline(this);
+    }
+
+    /**
+     * Start consuming the input stream in the background.
+     *
+     * @return a future completing once the input stream is consumed, or null if there is no input
+     *         stream.
+     */
+    public Future<?> start() {
+      if (is == null) {
+        LOGGER.warn("Unable to read log line(s) from input stream provided by {}:  input stream is null.", caller);
+        return null;
+      }
+      return executor.submit(build());
+    }
+
+  }
+
+}
@@ -7,7 +7,11 @@ package io.airbyte.commons.json;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
@@ -15,7 +19,9 @@ import com.fasterxml.jackson.core.util.Separators;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -25,6 +31,11 @@ import com.google.common.base.Preconditions;
 import io.airbyte.commons.jackson.MoreMappers;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -38,6 +49,7 @@ import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
 /**
@@ -71,6 +83,9 @@ public class Jsons {
 
   private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer(new JsonPrettyPrinter());
 
+  // Canonical serialization must stay stable, as catalogs are looked up by their canonical hash.
+  private static final ObjectMapper CANONICAL_OBJECT_MAPPER = new ObjectMapper();
+
   /**
    * Serialize an object to a JSON string.
    *
@@ -86,6 +101,46 @@ public class Jsons {
     }
   }
 
+  /**
+   * Serialize an object as JSON directly to a stream, without materializing the JSON string. The
+   * stream is left open.
+   *
+   * @param object to serialize
+   * @param outputStream to write to
+   * @param <T> type of object
+   */
+  public static <T> void serialize(final T object, final OutputStream outputStream) {
+    try {
+      OBJECT_MAPPER.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, object);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Serialize a JSON object with a single array field, such as the streams of a catalog, directly to
+   * a stream. Elements are serialized as they are pulled from the iterator, so a lazily converting
+   * iterator only needs to hold one element at a time. The stream is left open.
+   *
+   * @param arrayFieldName name of the array field
+   * @param elements to serialize as the array
+   * @param outputStream to write to
+   */
+  public static void serializeArrayField(final String arrayFieldName, final Iterator<?> elements, final OutputStream outputStream) {
+    final ObjectWriter elementWriter = OBJECT_MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    try (final JsonGenerator generator = OBJECT_MAPPER.createGenerator(outputStream).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      generator.writeStartObject();
+      generator.writeArrayFieldStart(arrayFieldName);
+      while (elements.hasNext()) {
+        elementWriter.writeValue(generator, elements.next());
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Deserialize a JSON string to an object with a type.
    *
@@ -102,6 +157,74 @@ public class Jsons {
     }
   }
 
+  /**
+   * Deserialize a JSON object with a large array field, such as the streams of a catalog, one element
+   * at a time. Only the element being handed to the consumer is materialized, instead of the whole
+   * document.
+   *
+   * @param jsonString to deserialize
+   * @param arrayFieldName name of the array field
+   * @param klass of the elements
+   * @param elementConsumer receiving each element, in order
+   * @param <T> type of the elements
+   * @return the other fields of the object
+   */
+  public static <T> ObjectNode deserializeArrayField(final String jsonString,
+                                                     final String arrayFieldName,
+                                                     final Class<T> klass,
+                                                     final Consumer<T> elementConsumer) {
+    try (final JsonParser parser = OBJECT_MAPPER.createParser(jsonString)) {
+      return deserializeArrayField(parser, arrayFieldName, klass, elementConsumer);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Deserialize a JSON object with a large array field, such as the streams of a catalog, one element
+   * at a time, directly from a stream. The stream is left open.
+   *
+   * @param inputStream to deserialize
+   * @param arrayFieldName name of the array field
+   * @param klass of the elements
+   * @param elementConsumer receiving each element, in order
+   * @param <T> type of the elements
+   * @return the other fields of the object
+   */
+  public static <T> ObjectNode deserializeArrayField(final InputStream inputStream,
+                                                     final String arrayFieldName,
+                                                     final Class<T> klass,
+                                                     final Consumer<T> elementConsumer) {
+    try (final JsonParser parser = OBJECT_MAPPER.createParser(inputStream).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)) {
+      return deserializeArrayField(parser, arrayFieldName, klass, elementConsumer);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static <T> ObjectNode deserializeArrayField(final JsonParser parser,
+                                                      final String arrayFieldName,
+                                                      final Class<T> klass,
+                                                      final Consumer<T> elementConsumer)
+      throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "Expected a JSON object");
+    }
+    final ObjectReader elementReader = OBJECT_MAPPER.readerFor(klass);
+    final ObjectNode otherFields = JsonNodeFactory.instance.objectNode();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String fieldName = parser.currentName();
+      if (parser.nextToken() == JsonToken.START_ARRAY && fieldName.equals(arrayFieldName)) {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          elementConsumer.accept(elementReader.readValue(parser));
+        }
+      } else {
+        otherFields.set(fieldName, OBJECT_MAPPER.readTree(parser));
+      }
+    }
+    return otherFields;
+  }
+
   /**
    * Deserialize a JSON string to an object with a type.
    *
@@ -762,30 +885,53 @@ public class Jsons {
    * @throws IOException if there is an error serializing the object
    */
   public static String canonicalJsonSerialize(final Object object) throws IOException {
-    final ObjectMapper mapper = new ObjectMapper();
-    final ObjectNode objectNode = mapper.valueToTree(object);
-    final ObjectNode sortedObjectNode = (ObjectNode) sortProperties(objectNode);
-    return mapper.writer().writeValueAsString(sortedObjectNode);
+    final ObjectNode objectNode = CANONICAL_OBJECT_MAPPER.valueToTree(object);
+    final StringWriter writer = new StringWriter();
+    try (final JsonGenerator generator = CANONICAL_OBJECT_MAPPER.createGenerator(writer)) {
+      writeSortedProperties(generator, objectNode);
+    }
+    return writer.toString();
   }
 
-  private static JsonNode sortProperties(final JsonNode jsonNode) {
-    if (jsonNode.isObject()) {
-      final ObjectNode objectNode = (ObjectNode) jsonNode;
-      final ObjectNode sortedObjectNode = JsonNodeFactory.instance.objectNode();
-
-      StreamSupport.stream(Spliterators.spliteratorUnknownSize(objectNode.fields(), Spliterator.ORDERED), false)
-          .sorted(Map.Entry.comparingByKey())
-          .forEachOrdered(entry -> sortedObjectNode.set(entry.getKey(), sortProperties(entry.getValue())));
+  /**
+   * Serializes an object as UTF-8 JSON with keys sorted in alphabetical order directly to a stream,
+   * e.g. to hash it without materializing the JSON string nor a sorted copy of the object. The stream
+   * is left open.
+   *
+   * @param object the object to serialize
+   * @param outputStream to write to
+   * @throws IOException if there is an error serializing the object
+   */
+  public static void canonicalJsonSerialize(final Object object, final OutputStream outputStream) throws IOException {
+    final ObjectNode objectNode = CANONICAL_OBJECT_MAPPER.valueToTree(object);
+    // Encoded by a writer, as the generator escapes surrogate pairs when it writes UTF-8 bytes itself,
+    // which would change the output compared to the JSON string.
+    try (final JsonGenerator generator = CANONICAL_OBJECT_MAPPER.createGenerator(new OutputStreamWriter(outputStream, Charsets.UTF_8))
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      writeSortedProperties(generator, objectNode);
+    }
+  }
 
-      return sortedObjectNode;
+  private static void writeSortedProperties(final JsonGenerator generator, final JsonNode jsonNode) throws IOException {
+    if (jsonNode.isObject()) {
+      final List<String> fieldNames = new ArrayList<>(jsonNode.size());
+      jsonNode.fieldNames().forEachRemaining(fieldNames::add);
+      Collections.sort(fieldNames);
+
+      generator.writeStartObject();
+      for (final String fieldName : fieldNames) {
+        generator.writeFieldName(fieldName);
+        writeSortedProperties(generator, jsonNode.get(fieldName));
+      }
+      generator.writeEndObject();
     } else if (jsonNode.isArray()) {
-      final ArrayNode arrayNode = (ArrayNode) jsonNode;
-      final ArrayNode sortedArrayNode = JsonNodeFactory.instance.arrayNode();
-      arrayNode.forEach(node -> sortedArrayNode.add(sortProperties(node)));
-
-      return sortedArrayNode;
+      generator.writeStartArray();
+      for (final JsonNode element : jsonNode) {
+        writeSortedProperties(generator, element);
+      }
+      generator.writeEndArray();
     } else {
-      return jsonNode;
+      generator.writeTree(jsonNode);
     }
   }
 
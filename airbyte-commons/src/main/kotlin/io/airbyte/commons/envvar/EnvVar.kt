@@ -24,7 +24,13 @@ enum class EnvVar {
 
   CDK_ENTRYPOINT,
   CDK_PYTHON,
+  CLOUD_STORAGE_APPENDER_BATCH_SIZE,
+  CLOUD_STORAGE_APPENDER_BUFFER_CAPACITY,
+  CLOUD_STORAGE_APPENDER_COMPACTION_THRESHOLD,
+  CLOUD_STORAGE_APPENDER_OVERFLOW_POLICY,
+  CLOUD_STORAGE_APPENDER_SAMPLE_RATE,
   CLOUD_STORAGE_APPENDER_THREADS,
+  CLOUD_STORAGE_APPENDER_UPLOAD_PERIOD_SECONDS,
   CONFIG_ROOT,
   CONNECTION_ID,
   CUSTOMERIO_API_KEY,
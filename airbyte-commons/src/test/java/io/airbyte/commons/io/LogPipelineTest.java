@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class LogPipelineTest {
+
+  private static final String JOB = "job";
+
+  private final List<String> lines = new ArrayList<>();
+  private final AtomicLong readLines = new AtomicLong();
+  private final AtomicLong readBytes = new AtomicLong();
+  private final AtomicLong droppedLines = new AtomicLong();
+
+  @Test
+  void readAllLines() {
+    pipeline("test\r\ntest2\n\nlast").build().voidCall();
+
+    assertEquals(List.of("test", "test2", "", "last"), lines);
+    assertEquals(4, readLines.get());
+    assertEquals(17, readBytes.get());
+    assertEquals(0, droppedLines.get());
+  }
+
+  @Test
+  void readLinesLongerThanTheReadBuffer() {
+    final String longLine = "a".repeat(200_000);
+    pipeline(longLine + "\nshort\n").build().voidCall();
+
+    assertEquals(List.of(longLine, "short"), lines);
+  }
+
+  @Test
+  void truncateLinesLongerThanTheLimit() {
+    pipeline("0123456789\n01234\n").maxLineLength(5).build().voidCall();
+
+    assertEquals(List.of("01234 [truncated]", "01234"), lines);
+    assertEquals(17, readBytes.get());
+  }
+
+  @Test
+  void dropRepeatedLines() {
+    pipeline("start\nsame\nsame\nsame\nsame\nsame\nend\nsame\n").maxRepeatedLines(2).build().voidCall();
+
+    assertEquals(List.of("start", "same", "same", "same", "Previous line repeated 2 more times.", "end", "same"), lines);
+    assertEquals(8, readLines.get());
+    assertEquals(2, droppedLines.get());
+  }
+
+  @Test
+  void dropLinesExceedingTheRateLimit() {
+    final AtomicLong now = new AtomicLong();
+    // Lines are read four per second
+    pipeline("1\n2\n3\n4\n5\n6\n7\n8\n").maxLinesPerSecond(1).nanoTime(() -> now.getAndAdd(250_000_000L)).build().voidCall();
+
+    assertEquals(List.of("1", "Dropped 2 log lines exceeding the limit of 1 lines per second.", "4",
+        "Dropped 3 log lines exceeding the limit of 1 lines per second.", "8"), lines);
+    assertEquals(8, readLines.get());
+    assertEquals(5, droppedLines.get());
+  }
+
+  @Test
+  void handLinesOverInBatches() {
+    final List<Integer> batchSizes = new ArrayList<>();
+    LogPipeline.builder(stream("1\n2\n3\n4\n5\n"), lines::add)
+        .batchSize(2)
+        .listener((batchLines, bytes, dropped) -> batchSizes.add((int) batchLines))
+        .build()
+        .voidCall();
+
+    assertEquals(List.of("1", "2", "3", "4", "5"), lines);
+    assertEquals(List.of(2, 2, 1), batchSizes);
+  }
+
+  @Test
+  void startOnTheGivenExecutor() throws Exception {
+    final Future<?> future = pipeline("test\n").executor(MoreExecutors.newDirectExecutorService()).start();
+    future.get();
+
+    assertEquals(List.of("test"), lines);
+  }
+
+  @Test
+  void doNotLeakTheMdcOfAPipelineIntoTheNextOneOnTheSameThread() throws Exception {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final List<String> jobs = new ArrayList<>();
+    try {
+      MDC.put(JOB, "1");
+      LogPipeline.builder(stream("first\n"), line -> jobs.add(MDC.get(JOB))).executor(executor).start().get();
+      MDC.clear();
+      LogPipeline.builder(stream("second\n"), line -> jobs.add(MDC.get(JOB))).executor(executor).start().get();
+
+      assertEquals(Arrays.asList("1", null), jobs);
+      assertNull(executor.submit(() -> MDC.get(JOB)).get());
+    } finally {
+      MDC.clear();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void restoreTheMdcOfTheCallingThread() {
+    MDC.put(JOB, "pipeline");
+    try {
+      final LogPipeline logPipeline = pipeline("test\n").build();
+      MDC.put(JOB, "caller");
+      logPipeline.voidCall();
+
+      assertEquals("caller", MDC.get(JOB));
+    } finally {
+      MDC.clear();
+    }
+  }
+
+  @Test
+  void readFromNullInputStream() {
+    assertNull(LogPipeline.builder(null, lines::add).start());
+    assertEquals(List.of(), lines);
+  }
+
+  private LogPipeline.Builder pipeline(final String content) {
+    return LogPipeline.builder(stream(content), lines::add)
+        .listener((batchLines, bytes, dropped) -> {
+          readLines.addAndGet(batchLines);
+          readBytes.addAndGet(bytes);
+          droppedLines.addAndGet(dropped);
+        });
+  }
+
+  private static InputStream stream(final String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -24,8 +25,11 @@ import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +66,46 @@ class JsonsTest {
                 TEST2, DEF)));
   }
 
+  @Test
+  void testSerializeToStream() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Jsons.serialize(new ToClass(ABC, 999, 888L), out);
+
+    assertEquals(SERIALIZED_JSON, out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testSerializeArrayField() {
+    final AirbyteCatalog catalog = new AirbyteCatalog().withStreams(List.of(
+        CatalogHelpers.createAirbyteStream("clothes", Field.of("name", JsonSchemaType.STRING)),
+        CatalogHelpers.createAirbyteStream("shoes", Field.of("size", JsonSchemaType.NUMBER))));
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Jsons.serializeArrayField("streams", catalog.getStreams().iterator(), out);
+
+    assertEquals(Jsons.serialize(catalog), out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testDeserializeArrayField() {
+    final String json = "{\"before\":{\"a\":1},\"streams\":[{\"str\":\"abc\",\"num\":1},{\"str\":\"def\",\"num\":2}],\"after\":[3]}";
+
+    final List<ToClass> elements = new ArrayList<>();
+    final JsonNode otherFields = Jsons.deserializeArrayField(json, "streams", ToClass.class, elements::add);
+
+    assertEquals(List.of(new ToClass(ABC, 1, 0L), new ToClass(DEF, 2, 0L)), elements);
+    assertEquals(Jsons.deserialize("{\"before\":{\"a\":1},\"after\":[3]}"), otherFields);
+
+    final List<ToClass> streamedElements = new ArrayList<>();
+    Jsons.deserializeArrayField(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "streams", ToClass.class, streamedElements::add);
+    assertEquals(elements, streamedElements);
+  }
+
+  @Test
+  void testDeserializeArrayFieldOfNonObject() {
+    assertThrows(RuntimeException.class, () -> Jsons.deserializeArrayField("[1]", "streams", ToClass.class, element -> {}));
+  }
+
   @Test
   void testSerializeJsonNode() {
     assertEquals(
@@ -459,6 +503,17 @@ class JsonsTest {
     assertEquals(expectedJson, actualJson);
   }
 
+  @Test
+  void testCanonicalJsonSerializeToStream() throws IOException {
+    final JsonNode json = Jsons.deserialize("{\"b\":[{\"d\":\"\\ud83d\\ude00\",\"c\":1.5}],\"a\":\"\u00e9\"}");
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Jsons.canonicalJsonSerialize(json, out);
+
+    assertEquals(Jsons.canonicalJsonSerialize(json), out.toString(StandardCharsets.UTF_8));
+    assertEquals("{\"a\":\"\u00e9\",\"b\":[{\"c\":1.5,\"d\":\"\ud83d\ude00\"}]}", out.toString(StandardCharsets.UTF_8));
+  }
+
   @Test
   void testDeserializeIfTextOnTextNode() {
     final TextNode textNode = TextNode.valueOf("{\"key1\": \"value1\"}");
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets
+
+import com.google.common.cache.Cache
+import com.google.common.cache.CacheBuilder
+import io.airbyte.config.secrets.persistence.ReadOnlySecretPersistence
+import io.micronaut.context.annotation.Value
+import jakarta.inject.Singleton
+import java.security.SecureRandom
+import java.time.Duration
+import javax.crypto.Cipher
+import javax.crypto.KeyGenerator
+import javax.crypto.SecretKey
+import javax.crypto.spec.GCMParameterSpec
+
+private const val CIPHER_TRANSFORMATION = "AES/GCM/NoPadding"
+private const val GCM_IV_LENGTH_BYTES = 12
+private const val GCM_TAG_LENGTH_BITS = 128
+private const val KEY_LENGTH_BITS = 256
+
+/**
+ * In-memory cache of secret values read from a secret persistence, so that repeatedly hydrating
+ * configs that reference unchanged secrets does not call out to the backing store every time.
+ *
+ * Entries are keyed by full coordinate. Since the coordinate includes the secret version, updating
+ * a secret through [SecretsRepositoryWriter] produces a new coordinate that is always read from the
+ * store; the writer additionally evicts every coordinate it overwrites or deletes. Values are only
+ * kept encrypted, with a key that never leaves this process, and expire after [ttl].
+ */
+@Singleton
+class SecretValueCache(
+  @Value("\${airbyte.secret.cache.enabled:false}") val enabled: Boolean,
+  @Value("\${airbyte.secret.cache.ttl:5m}") ttl: Duration,
+  @Value("\${airbyte.secret.cache.max-size:10000}") maxSize: Long,
+) {
+  /**
+   * @param storeId identifies the store the value was read from, so that the same coordinate
+   * resolved against different stores is never mixed up.
+   */
+  private class EncryptedValue(
+    val storeId: String,
+    val iv: ByteArray,
+    val ciphertext: ByteArray,
+  )
+
+  private val key: SecretKey = KeyGenerator.getInstance("AES").apply { init(KEY_LENGTH_BITS) }.generateKey()
+  private val random = SecureRandom()
+  private val cache: Cache<String, EncryptedValue> =
+    CacheBuilder
+      .newBuilder()
+      .expireAfterWrite(ttl)
+      .maximumSize(maxSize)
+      .build()
+
+  /**
+   * Wraps a persistence so that its reads go through this cache.
+   *
+   * @param persistence persistence to read from on cache misses
+   * @param storeId supplies an identifier of the store backing [persistence]; only called if the
+   * cache is enabled
+   * @return [persistence] itself if the cache is disabled
+   */
+  fun wrap(
+    persistence: ReadOnlySecretPersistence,
+    storeId: () -> String,
+  ): ReadOnlySecretPersistence {
+    if (!enabled) {
+      return persistence
+    }
+    val resolvedStoreId = storeId()
+    return object : ReadOnlySecretPersistence {
+      override fun read(coordinate: SecretCoordinate): String = read(resolvedStoreId, coordinate, persistence)
+
+      override fun readMany(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> =
+        readMany(resolvedStoreId, coordinates, persistence)
+    }
+  }
+
+  fun evict(coordinate: SecretCoordinate) {
+    cache.invalidate(coordinate.fullCoordinate)
+  }
+
+  private fun read(
+    storeId: String,
+    coordinate: SecretCoordinate,
+    persistence: ReadOnlySecretPersistence,
+  ): String {
+    val cached = cache.getIfPresent(coordinate.fullCoordinate)
+    if (cached != null && cached.storeId == storeId) {
+      return decrypt(cached)
+    }
+
+    return persistence.read(coordinate).also { put(storeId, coordinate, it) }
+  }
+
+  private fun readMany(
+    storeId: String,
+    coordinates: Collection<SecretCoordinate>,
+    persistence: ReadOnlySecretPersistence,
+  ): Map<SecretCoordinate, String> {
+    val values = mutableMapOf<SecretCoordinate, String>()
+    val misses = mutableListOf<SecretCoordinate>()
+    coordinates.forEach { coordinate ->
+      val cached = cache.getIfPresent(coordinate.fullCoordinate)
+      if (cached != null && cached.storeId == storeId) {
+        values[coordinate] = decrypt(cached)
+      } else {
+        misses.add(coordinate)
+      }
+    }
+
+    if (misses.isNotEmpty()) {
+      persistence.readMany(misses).forEach { (coordinate, value) ->
+        put(storeId, coordinate, value)
+        values[coordinate] = value
+      }
+    }
+    return values
+  }
+
+  private fun put(
+    storeId: String,
+    coordinate: SecretCoordinate,
+    value: String,
+  ) {
+    // Some persistences return a blank value instead of failing when a secret can't be read; never
+    // pin that.
+    if (value.isNotBlank()) {
+      cache.put(coordinate.fullCoordinate, encrypt(storeId, value))
+    }
+  }
+
+  private fun encrypt(
+    storeId: String,
+    value: String,
+  ): EncryptedValue {
+    val iv = ByteArray(GCM_IV_LENGTH_BYTES).also { random.nextBytes(it) }
+    val cipher = Cipher.getInstance(CIPHER_TRANSFORMATION).apply { init(Cipher.ENCRYPT_MODE, key, GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv)) }
+    return EncryptedValue(storeId, iv, cipher.doFinal(value.toByteArray(Charsets.UTF_8)))
+  }
+
+  private fun decrypt(value: EncryptedValue): String {
+    val cipher =
+      Cipher.getInstance(CIPHER_TRANSFORMATION).apply { init(Cipher.DECRYPT_MODE, key, GCMParameterSpec(GCM_TAG_LENGTH_BITS, value.iv)) }
+    return String(cipher.doFinal(value.ciphertext), Charsets.UTF_8)
+  }
+
+  companion object {
+    const val DEFAULT_STORE_ID = "default"
+
+    fun disabled() = SecretValueCache(false, Duration.ZERO, 0)
+  }
+}
@@ -151,6 +151,9 @@ object SecretsHelpers {
    * Replaces {"_secret": "full_coordinate"} objects in the partial config with the string secret
    * payloads loaded from the secret persistence at those coordinates.
    *
+   * All coordinates referenced by the config are resolved up front with a single
+   * [ReadOnlySecretPersistence.readMany] call.
+   *
    * @param partialConfig configuration containing secret coordinates (references to secrets)
    * @param secretPersistence secret storage mechanism
    * @return full config including actual secret values
@@ -158,6 +161,43 @@ object SecretsHelpers {
   fun combineConfig(
     partialConfig: JsonNode?,
     secretPersistence: ReadOnlySecretPersistence,
+  ): JsonNode {
+    val coordinates = mutableSetOf<SecretCoordinate>()
+    collectCoordinates(partialConfig, coordinates)
+    if (coordinates.size <= 1) {
+      return substituteSecrets(partialConfig, secretPersistence)
+    }
+
+    val secrets = secretPersistence.readMany(coordinates)
+    return substituteSecrets(partialConfig) { coordinate -> secrets[coordinate] ?: secretPersistence.read(coordinate) }
+  }
+
+  /**
+   * Collects the coordinates of every secret that [substituteSecrets] would replace.
+   */
+  private fun collectCoordinates(
+    partialConfig: JsonNode?,
+    coordinates: MutableSet<SecretCoordinate>,
+  ) {
+    if (partialConfig == null) {
+      return
+    }
+    if (partialConfig.has(COORDINATE_FIELD)) {
+      coordinates.add(getCoordinateFromTextNode(partialConfig[COORDINATE_FIELD]))
+      return
+    }
+    partialConfig.fields().forEachRemaining { (_, fieldNode): Map.Entry<String, JsonNode> ->
+      if (fieldNode is ArrayNode) {
+        fieldNode.forEach { collectCoordinates(it, coordinates) }
+      } else if (fieldNode is ObjectNode) {
+        collectCoordinates(fieldNode, coordinates)
+      }
+    }
+  }
+
+  private fun substituteSecrets(
+    partialConfig: JsonNode?,
+    secretPersistence: ReadOnlySecretPersistence,
   ): JsonNode {
     return if (partialConfig != null) {
       val config = partialConfig.deepCopy<JsonNode>()
@@ -173,10 +213,10 @@ object SecretsHelpers {
       config.fields().forEachRemaining { (fieldName, fieldNode): Map.Entry<String, JsonNode> ->
         if (fieldNode is ArrayNode) {
           for (i in 0 until fieldNode.size()) {
-            fieldNode[i] = combineConfig(fieldNode[i], secretPersistence)
+            fieldNode[i] = substituteSecrets(fieldNode[i], secretPersistence)
           }
         } else if (fieldNode is ObjectNode) {
-          (config as ObjectNode).replace(fieldName, combineConfig(fieldNode, secretPersistence))
+          (config as ObjectNode).replace(fieldName, substituteSecrets(fieldNode, secretPersistence))
         }
       }
       config
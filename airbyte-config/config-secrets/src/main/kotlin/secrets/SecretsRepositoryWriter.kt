@@ -40,6 +40,7 @@ open class SecretsRepositoryWriter(
   private val secretPersistence: SecretPersistence,
   private val metricClient: MetricClient,
   private val featureFlagClient: FeatureFlagClient,
+  private val secretValueCache: SecretValueCache = SecretValueCache.disabled(),
 ) {
   val validator: JsonSchemaValidator = JsonSchemaValidator()
 
@@ -86,6 +87,7 @@ open class SecretsRepositoryWriter(
           logger.info { "Deleting: ${secretCoord.fullCoordinate}" }
           try {
             (runtimeSecretPersistence ?: secretPersistence).delete(secretCoord)
+            secretValueCache.evict(secretCoord)
             metricClient.count(
               metric = OssMetricsRegistry.DELETE_SECRET_DEFAULT_STORE,
               attributes = arrayOf(MetricAttribute(MetricTags.SUCCESS, "true")),
@@ -141,6 +143,7 @@ open class SecretsRepositoryWriter(
       .getCoordinateToPayload()
       .forEach { (coordinate: SecretCoordinate, payload: String) ->
         runtimeSecretPersistence?.write(coordinate, payload) ?: secretPersistence.write(coordinate, payload)
+        secretValueCache.evict(coordinate)
         metricClient.count(metric = OssMetricsRegistry.UPDATE_SECRET_DEFAULT_STORE)
       }
     updatedSplitConfig.getCoordinateToPayload().map { it.key }.let {
@@ -198,6 +201,7 @@ open class SecretsRepositoryWriter(
     // modify this to add expire time
     splitSecretConfig.getCoordinateToPayload().forEach { (coordinate: SecretCoordinate, payload: String) ->
       secretPersistence.writeWithExpiry(coordinate, payload, expireTime)
+      secretValueCache.evict(coordinate)
     }
     return splitSecretConfig.partialConfig
   }
@@ -213,6 +217,7 @@ open class SecretsRepositoryWriter(
     runtimeSecretPersistence: RuntimeSecretPersistence? = null,
   ): SecretCoordinate {
     runtimeSecretPersistence?.write(coordinate, payload) ?: secretPersistence.write(coordinate, payload)
+    secretValueCache.evict(coordinate)
     return coordinate
   }
 
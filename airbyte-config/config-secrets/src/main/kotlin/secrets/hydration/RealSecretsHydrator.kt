@@ -5,7 +5,9 @@
 package io.airbyte.config.secrets.hydration
 
 import com.fasterxml.jackson.databind.JsonNode
+import io.airbyte.config.secrets.SecretValueCache
 import io.airbyte.config.secrets.SecretsHelpers
+import io.airbyte.config.secrets.persistence.ReadOnlySecretPersistence
 import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence
 import io.airbyte.config.secrets.persistence.SecretPersistence
 import io.micronaut.context.annotation.Requires
@@ -18,19 +20,27 @@ import jakarta.inject.Singleton
 @Singleton
 class RealSecretsHydrator(
   private val secretPersistence: SecretPersistence,
+  private val secretValueCache: SecretValueCache = SecretValueCache.disabled(),
 ) : SecretsHydrator {
-  override fun hydrateFromDefaultSecretPersistence(partialConfig: JsonNode): JsonNode = SecretsHelpers.combineConfig(partialConfig, secretPersistence)
+  private val defaultSecretPersistence: ReadOnlySecretPersistence =
+    secretValueCache.wrap(secretPersistence) { SecretValueCache.DEFAULT_STORE_ID }
+
+  override fun hydrateFromDefaultSecretPersistence(partialConfig: JsonNode): JsonNode =
+    SecretsHelpers.combineConfig(partialConfig, defaultSecretPersistence)
 
   override fun hydrateFromRuntimeSecretPersistence(
     partialConfig: JsonNode,
     runtimeSecretPersistence: RuntimeSecretPersistence,
-  ): JsonNode = SecretsHelpers.combineConfig(partialConfig, runtimeSecretPersistence)
+  ): JsonNode = SecretsHelpers.combineConfig(partialConfig, cached(runtimeSecretPersistence))
 
   override fun hydrateSecretCoordinateFromDefaultSecretPersistence(secretCoordinate: JsonNode): JsonNode =
-    SecretsHelpers.hydrateSecretCoordinate(secretCoordinate, secretPersistence)
+    SecretsHelpers.hydrateSecretCoordinate(secretCoordinate, defaultSecretPersistence)
 
   override fun hydrateSecretCoordinateFromRuntimeSecretPersistence(
     secretCoordinate: JsonNode,
     runtimeSecretPersistence: RuntimeSecretPersistence,
-  ): JsonNode = SecretsHelpers.hydrateSecretCoordinate(secretCoordinate, runtimeSecretPersistence)
+  ): JsonNode = SecretsHelpers.hydrateSecretCoordinate(secretCoordinate, cached(runtimeSecretPersistence))
+
+  private fun cached(runtimeSecretPersistence: RuntimeSecretPersistence): ReadOnlySecretPersistence =
+    secretValueCache.wrap(runtimeSecretPersistence) { runtimeSecretPersistence.storeId }
 }
@@ -11,6 +11,7 @@ import com.amazonaws.secretsmanager.caching.SecretCache
 import com.amazonaws.services.secretsmanager.AWSSecretsManager
 import com.amazonaws.services.secretsmanager.AWSSecretsManagerClientBuilder
 import com.amazonaws.services.secretsmanager.model.AWSSecretsManagerException
+import com.amazonaws.services.secretsmanager.model.BatchGetSecretValueRequest
 import com.amazonaws.services.secretsmanager.model.CreateSecretRequest
 import com.amazonaws.services.secretsmanager.model.DeleteSecretRequest
 import com.amazonaws.services.secretsmanager.model.InvalidRequestException
@@ -21,20 +22,41 @@ import com.amazonaws.services.securitytoken.AWSSecurityTokenServiceClientBuilder
 import com.google.common.base.Preconditions
 import io.airbyte.config.AwsRoleSecretPersistenceConfig
 import io.airbyte.config.secrets.SecretCoordinate
+import io.airbyte.config.secrets.SecretValueCache
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Requires
 import io.micronaut.context.annotation.Value
+import jakarta.inject.Inject
 import jakarta.inject.Named
 import jakarta.inject.Singleton
+import java.util.concurrent.ConcurrentHashMap
 
 private val logger = KotlinLogging.logger {}
 
+/**
+ * Maximum number of secret ids accepted by a single BatchGetSecretValue call.
+ */
+private const val AWS_BATCH_GET_MAX_SECRET_IDS = 20
+
+private const val AWS_ACCESS_DENIED_ERROR_CODE = "AccessDeniedException"
+
+/**
+ * Stores whose credentials were denied BatchGetSecretValue. Kept across instances, as
+ * [RuntimeSecretPersistence] builds a new persistence for every read.
+ */
+private val batchReadDeniedStoreIds: MutableSet<String> = ConcurrentHashMap.newKeySet()
+
 /**
  * SecretPersistence implementation for AWS Secret Manager using [Java
  * SDK](https://sdk.amazonaws.com/java/api/latest/software/amazon/awssdk/services/secretsmanager/package-summary.html) The current implementation doesn't make use of `SecretCoordinate#getVersion` as this
  * version is non-compatible with how AWS secret manager deals with versions. In AWS versions is an
  * internal idiom that can is accessible, but it's a UUID + a tag [more
  * details.](https://sdk.amazonaws.com/java/api/latest/software/amazon/awssdk/services/secretsmanager/SecretsManagerClient.html#listSecretVersionIds--)
+ *
+ * @param batchReads whether [readMany] uses BatchGetSecretValue. Batched reads bypass [awsCache],
+ * so they only save calls when nothing else caches the values: the shared persistence batches only
+ * if the [SecretValueCache] is enabled, which then serves hits and leaves the batch the misses.
+ * @param storeId identifies the store, so that a denied batch read is only attempted once per store.
  */
 @Singleton
 @Requires(property = "airbyte.secret.persistence", pattern = "(?i)^aws_secret_manager$")
@@ -42,7 +64,16 @@ private val logger = KotlinLogging.logger {}
 class AwsSecretManagerPersistence(
   private val awsClient: AwsClient,
   private val awsCache: AwsCache,
+  private val batchReads: Boolean = false,
+  private val storeId: String = SecretValueCache.DEFAULT_STORE_ID,
 ) : SecretPersistence {
+  @Inject
+  constructor(
+    awsClient: AwsClient,
+    awsCache: AwsCache,
+    @Value("\${airbyte.secret.cache.enabled:false}") valueCacheEnabled: Boolean,
+  ) : this(awsClient, awsCache, valueCacheEnabled, SecretValueCache.DEFAULT_STORE_ID)
+
   override fun read(coordinate: SecretCoordinate): String {
     var secretString = ""
     try {
@@ -62,6 +93,43 @@ class AwsSecretManagerPersistence(
     return secretString
   }
 
+  /**
+   * Reads secrets with BatchGetSecretValue, [AWS_BATCH_GET_MAX_SECRET_IDS] at a time, if
+   * [batchReads] is set. Anything the batch call does not return (e.g. legacy secrets stored under
+   * their unversioned coordinate) is resolved through [read]. If the credentials aren't allowed to
+   * batch, the store falls back to [read] from then on.
+   */
+  override fun readMany(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+    if (!batchReads || coordinates.size <= 1 || batchReadDeniedStoreIds.contains(storeId)) {
+      return super.readMany(coordinates)
+    }
+
+    val coordinatesById = coordinates.groupBy { it.fullCoordinate }
+    val values = mutableMapOf<SecretCoordinate, String>()
+    coordinatesById.keys.chunked(AWS_BATCH_GET_MAX_SECRET_IDS).forEach { secretIds ->
+      if (batchReadDeniedStoreIds.contains(storeId)) {
+        return@forEach
+      }
+      try {
+        logger.debug { "Batch reading ${secretIds.size} secrets" }
+        val response = awsClient.client.batchGetSecretValue(BatchGetSecretValueRequest().withSecretIdList(secretIds))
+        response.secretValues.forEach { secretValue ->
+          coordinatesById[secretValue.name]?.forEach { values[it] = secretValue.secretString }
+        }
+      } catch (e: AWSSecretsManagerException) {
+        if (e.errorCode == AWS_ACCESS_DENIED_ERROR_CODE) {
+          logger.warn(e) { "Not allowed to batch read secrets, reading them individually from now on" }
+          batchReadDeniedStoreIds.add(storeId)
+        } else {
+          logger.warn(e) { "Batch read of ${secretIds.size} secrets failed, falling back to individual reads" }
+        }
+      }
+    }
+
+    coordinates.filterNot { values.containsKey(it) }.forEach { values[it] = read(it) }
+    return values
+  }
+
   override fun write(
     coordinate: SecretCoordinate,
     payload: String,
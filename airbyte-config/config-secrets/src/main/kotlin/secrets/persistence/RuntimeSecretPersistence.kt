@@ -4,6 +4,7 @@
 
 package io.airbyte.config.secrets.persistence
 
+import com.google.common.hash.Hashing
 import io.airbyte.commons.json.Jsons
 import io.airbyte.config.AwsAccessKeySecretPersistenceConfig
 import io.airbyte.config.AwsRoleSecretPersistenceConfig
@@ -28,6 +29,13 @@ class RuntimeSecretPersistence(
   private val awsAccessKey: String? = System.getenv(AWS_ASSUME_ROLE_ACCESS_KEY_ID)
   private val awsSecretKey: String? = System.getenv(AWS_ASSUME_ROLE_SECRET_ACCESS_KEY)
 
+  /**
+   * Identifies the store this persistence reads from without exposing its credentials.
+   */
+  val storeId: String by lazy {
+    Hashing.sha256().hashString(Jsons.serialize(secretPersistenceConfig), Charsets.UTF_8).toString()
+  }
+
   private fun buildSecretPersistence(secretPersistenceConfig: SecretPersistenceConfig): SecretPersistence =
     when (secretPersistenceConfig.secretPersistenceType) {
       SecretPersistenceConfig.SecretPersistenceType.TESTING -> {
@@ -68,6 +76,11 @@ class RuntimeSecretPersistence(
     return secretPersistence.read(coordinate)
   }
 
+  override fun readMany(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+    val secretPersistence = buildSecretPersistence(secretPersistenceConfig)
+    return secretPersistence.readMany(coordinates)
+  }
+
   override fun write(
     coordinate: SecretCoordinate,
     payload: String,
@@ -82,6 +95,7 @@ class RuntimeSecretPersistence(
     return
   }
 
+  // A new AWS secret cache is built for every read, so batching reads always saves calls.
   private fun buildAwsSecretManager(configuration: Map<String, String>): AwsSecretManagerPersistence {
     // We default to ACCESS_KEY auth
     val authType = configuration["auth_type"]?.uppercase() ?: AwsAuthType.ACCESS_KEY.value
@@ -105,7 +119,7 @@ class RuntimeSecretPersistence(
         null,
       )
     val cache = AwsCache(client)
-    return AwsSecretManagerPersistence(client, cache)
+    return AwsSecretManagerPersistence(client, cache, batchReads = true, storeId = storeId)
   }
 
   private fun buildAwsRoleSecretManager(configuration: Map<String, String>): AwsSecretManagerPersistence {
@@ -115,7 +129,7 @@ class RuntimeSecretPersistence(
       }
     val client = AwsClient(serializedConfig, awsAccessKey!!, awsSecretKey!!)
     val cache = AwsCache(client)
-    return AwsSecretManagerPersistence(client, cache)
+    return AwsSecretManagerPersistence(client, cache, batchReads = true, storeId = storeId)
   }
 }
 
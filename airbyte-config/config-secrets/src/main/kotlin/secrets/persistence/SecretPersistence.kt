@@ -6,6 +6,24 @@ package io.airbyte.config.secrets.persistence
 
 import io.airbyte.config.secrets.SecretCoordinate
 import java.time.Instant
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+private const val PARALLEL_SECRET_READ_THREADS = 8
+
+/**
+ * Shared by every persistence without a native batch read, so that a burst of hydrations can't
+ * open an unbounded number of concurrent connections to the backing store.
+ */
+private val parallelSecretReadExecutor: ExecutorService by lazy {
+  val threadCount = AtomicInteger()
+  Executors.newFixedThreadPool(PARALLEL_SECRET_READ_THREADS) { runnable ->
+    Thread(runnable, "secret-read-${threadCount.incrementAndGet()}").apply { isDaemon = true }
+  }
+}
 
 /**
  * Provides a read-only interface to a backing secrets store similar to [SecretPersistence].
@@ -13,6 +31,28 @@ import java.time.Instant
  */
 fun interface ReadOnlySecretPersistence {
   fun read(coordinate: SecretCoordinate): String
+
+  /**
+   * Reads many secrets at once. Persistences backed by a store with a batch API should override
+   * this to resolve all coordinates in as few round trips as possible. By default, coordinates are
+   * read in parallel.
+   *
+   * @param coordinates coordinates to read
+   * @return the value of each coordinate, as [read] would return it
+   */
+  fun readMany(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+    if (coordinates.size <= 1) {
+      return coordinates.associateWith { read(it) }
+    }
+    val futures = coordinates.associateWith { CompletableFuture.supplyAsync({ read(it) }, parallelSecretReadExecutor) }
+    return futures.mapValues { (_, future) ->
+      try {
+        future.join()
+      } catch (e: CompletionException) {
+        throw e.cause ?: e
+      }
+    }
+  }
 }
 
 /**
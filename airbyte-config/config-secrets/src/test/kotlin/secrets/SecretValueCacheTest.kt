@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets
+
+import io.airbyte.config.secrets.persistence.ReadOnlySecretPersistence
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Test
+import java.time.Duration
+
+class SecretValueCacheTest {
+  private val coordinate = SecretCoordinate("airbyte_workspace_123_secret_456", 1)
+
+  @Test
+  fun `repeated reads of the same coordinate only hit the store once`() {
+    val persistence: ReadOnlySecretPersistence = mockk()
+    every { persistence.read(coordinate) } returns "secret_value"
+    val cached = SecretValueCache(true, Duration.ofMinutes(5), 100).wrap(persistence) { SecretValueCache.DEFAULT_STORE_ID }
+
+    assertEquals("secret_value", cached.read(coordinate))
+    assertEquals("secret_value", cached.read(coordinate))
+
+    verify(exactly = 1) { persistence.read(coordinate) }
+  }
+
+  @Test
+  fun `evicted coordinates are read from the store again`() {
+    val persistence: ReadOnlySecretPersistence = mockk()
+    every { persistence.read(coordinate) } returnsMany listOf("old_value", "new_value")
+    val cache = SecretValueCache(true, Duration.ofMinutes(5), 100)
+    val cached = cache.wrap(persistence) { SecretValueCache.DEFAULT_STORE_ID }
+
+    assertEquals("old_value", cached.read(coordinate))
+    cache.evict(coordinate)
+    assertEquals("new_value", cached.read(coordinate))
+  }
+
+  @Test
+  fun `values are not shared across stores and blank values are not cached`() {
+    val persistence: ReadOnlySecretPersistence = mockk()
+    val otherPersistence: ReadOnlySecretPersistence = mockk()
+    every { persistence.read(coordinate) } returnsMany listOf("", "secret_value")
+    every { otherPersistence.read(coordinate) } returns "other_value"
+    val cache = SecretValueCache(true, Duration.ofMinutes(5), 100)
+
+    assertEquals("", cache.wrap(persistence) { "store" }.read(coordinate))
+    assertEquals("secret_value", cache.wrap(persistence) { "store" }.read(coordinate))
+    assertEquals("other_value", cache.wrap(otherPersistence) { "other_store" }.read(coordinate))
+  }
+
+  @Test
+  fun `disabled cache returns the persistence as is`() {
+    val persistence: ReadOnlySecretPersistence = mockk()
+
+    assertSame(persistence, SecretValueCache.disabled().wrap(persistence) { throw IllegalStateException("should not be called") })
+  }
+}
@@ -6,18 +6,23 @@ package io.airbyte.config.secrets.persistence
 
 import com.amazonaws.secretsmanager.caching.SecretCache
 import com.amazonaws.services.secretsmanager.AWSSecretsManager
+import com.amazonaws.services.secretsmanager.model.AWSSecretsManagerException
+import com.amazonaws.services.secretsmanager.model.BatchGetSecretValueRequest
+import com.amazonaws.services.secretsmanager.model.BatchGetSecretValueResult
 import com.amazonaws.services.secretsmanager.model.CreateSecretResult
 import com.amazonaws.services.secretsmanager.model.DeleteSecretRequest
 import com.amazonaws.services.secretsmanager.model.DeleteSecretResult
 import com.amazonaws.services.secretsmanager.model.DescribeSecretResult
 import com.amazonaws.services.secretsmanager.model.GetSecretValueResult
 import com.amazonaws.services.secretsmanager.model.ResourceNotFoundException
+import com.amazonaws.services.secretsmanager.model.SecretValueEntry
 import com.amazonaws.services.secretsmanager.model.Tag
 import com.amazonaws.services.secretsmanager.model.UpdateSecretResult
 import io.airbyte.config.AwsRoleSecretPersistenceConfig
 import io.airbyte.config.secrets.SecretCoordinate
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.slot
 import io.mockk.verify
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.Test
@@ -74,6 +79,85 @@ class AwsSecretManagerPersistenceTest {
     Assertions.assertEquals("", result)
   }
 
+  @Test
+  fun `test reading many secrets in a single batch`() {
+    val first = SecretCoordinate.fromFullCoordinate("secret_first_v1")
+    val second = SecretCoordinate.fromFullCoordinate("secret_second_v1")
+    val legacy = SecretCoordinate.fromFullCoordinate("secret_legacy_v1")
+    val mockClient: AwsClient = mockk()
+    val mockAwsClient: AWSSecretsManager = mockk()
+    val mockCache: AwsCache = mockk()
+    val mockAwsCache: SecretCache = mockk()
+    val persistence = AwsSecretManagerPersistence(mockClient, mockCache, batchReads = true)
+    val request = slot<BatchGetSecretValueRequest>()
+    every { mockClient.client } returns mockAwsClient
+    every { mockAwsClient.batchGetSecretValue(capture(request)) } returns
+      BatchGetSecretValueResult().withSecretValues(
+        SecretValueEntry().withName(first.fullCoordinate).withSecretString("first value"),
+        SecretValueEntry().withName(second.fullCoordinate).withSecretString("second value"),
+      )
+    every { mockCache.cache } returns mockAwsCache
+    every { mockAwsCache.getSecretString(legacy.fullCoordinate) } throws ResourceNotFoundException("test")
+    every { mockAwsCache.getSecretString(legacy.coordinateBase) } returns "legacy value"
+
+    val result = persistence.readMany(listOf(first, second, legacy))
+
+    Assertions.assertEquals(
+      mapOf(first to "first value", second to "second value", legacy to "legacy value"),
+      result,
+    )
+    Assertions.assertEquals(listOf(first, second, legacy).map { it.fullCoordinate }, request.captured.secretIdList)
+    verify(exactly = 1) { mockAwsClient.batchGetSecretValue(any()) }
+    verify(exactly = 0) { mockAwsCache.getSecretString(first.fullCoordinate) }
+  }
+
+  @Test
+  fun `test reading many secrets goes through the cache unless batch reads are enabled`() {
+    val first = SecretCoordinate.fromFullCoordinate("secret_first_v1")
+    val second = SecretCoordinate.fromFullCoordinate("secret_second_v1")
+    val mockClient: AwsClient = mockk()
+    val mockAwsClient: AWSSecretsManager = mockk()
+    val mockCache: AwsCache = mockk()
+    val mockAwsCache: SecretCache = mockk()
+    val persistence = AwsSecretManagerPersistence(mockClient, mockCache)
+    every { mockClient.client } returns mockAwsClient
+    every { mockCache.cache } returns mockAwsCache
+    every { mockAwsCache.getSecretString(first.fullCoordinate) } returns "first value"
+    every { mockAwsCache.getSecretString(second.fullCoordinate) } returns "second value"
+
+    val result = persistence.readMany(listOf(first, second))
+
+    Assertions.assertEquals(mapOf(first to "first value", second to "second value"), result)
+    verify(exactly = 0) { mockAwsClient.batchGetSecretValue(any()) }
+  }
+
+  @Test
+  fun `test a denied batch read is not attempted again`() {
+    val first = SecretCoordinate.fromFullCoordinate("secret_first_v1")
+    val second = SecretCoordinate.fromFullCoordinate("secret_second_v1")
+    val mockClient: AwsClient = mockk()
+    val mockAwsClient: AWSSecretsManager = mockk()
+    val mockCache: AwsCache = mockk()
+    val mockAwsCache: SecretCache = mockk()
+    val storeId = "denied-store"
+    every { mockClient.client } returns mockAwsClient
+    every { mockAwsClient.batchGetSecretValue(any()) } throws
+      AWSSecretsManagerException("denied").apply { errorCode = "AccessDeniedException" }
+    every { mockCache.cache } returns mockAwsCache
+    every { mockAwsCache.getSecretString(first.fullCoordinate) } returns "first value"
+    every { mockAwsCache.getSecretString(second.fullCoordinate) } returns "second value"
+
+    repeat(2) {
+      val persistence = AwsSecretManagerPersistence(mockClient, mockCache, batchReads = true, storeId = storeId)
+      Assertions.assertEquals(
+        mapOf(first to "first value", second to "second value"),
+        persistence.readMany(listOf(first, second)),
+      )
+    }
+
+    verify(exactly = 1) { mockAwsClient.batchGetSecretValue(any()) }
+  }
+
   @Test
   fun `test writing a secret via the client creates the secret`() {
     val secret = "secret value"
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-lived CDK process serving the requests of a {@link CdkWorkerPool}, one at a time. Requests
+ * and responses are single lines of JSON exchanged over the stdin and stdout of the process.
+ *
+ * The stderr of the process is drained continuously, so that the process never blocks writing to
+ * it, and its last lines are kept to explain failures.
+ */
+class CdkWorker implements AutoCloseable {
+
+  static final String PING_REQUEST = "{\"ping\": true}";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdkWorker.class);
+  private static final Duration PING_TIMEOUT = Duration.ofSeconds(10);
+  private static final int STDERR_TAIL_LINES = 50;
+
+  private final Process process;
+  private final BufferedWriter stdin;
+  private final BufferedReader stdout;
+  private final ExecutorService readExecutor;
+  private final Deque<String> stderrTail = new ArrayDeque<>();
+  private int requestCount;
+  private long lastUsedNanos = System.nanoTime();
+
+  CdkWorker(final Process process, final ExecutorService readExecutor) {
+    this.process = process;
+    this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    this.stdout = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+    this.readExecutor = readExecutor;
+
+    final Thread stderrDrainer = new Thread(this::drainStderr, "cdk-worker-stderr-" + process.pid());
+    stderrDrainer.setDaemon(true);
+    stderrDrainer.start();
+  }
+
+  /**
+   * Sends a request to the process and waits for its response.
+   *
+   * @throws IOException if the process exited or didn't respond within the timeout. The process
+   *         should not be used anymore then.
+   */
+  String request(final String request, final Duration timeout) throws IOException {
+    requestCount++;
+    return exchange(request, timeout);
+  }
+
+  /**
+   * Whether the process is still usable. Processes idle for longer than {@code idleBeforePing} must
+   * also answer a ping, as being alive doesn't guarantee that they still process requests.
+   */
+  boolean isHealthy(final Duration idleBeforePing) {
+    if (!process.isAlive()) {
+      return false;
+    }
+    if (System.nanoTime() - lastUsedNanos < idleBeforePing.toNanos()) {
+      return true;
+    }
+    try {
+      exchange(PING_REQUEST, PING_TIMEOUT);
+      return true;
+    } catch (final IOException e) {
+      LOGGER.warn("CDK worker {} failed its health check: {}", pid(), e.getMessage());
+      return false;
+    }
+  }
+
+  int getRequestCount() {
+    return requestCount;
+  }
+
+  long pid() {
+    return process.pid();
+  }
+
+  /**
+   * Stop the process, forcibly if it doesn't exit by itself shortly after its stdin is closed.
+   */
+  @Override
+  public void close() {
+    try {
+      stdin.close();
+      if (!process.waitFor(5, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    } catch (final IOException e) {
+      process.destroyForcibly();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      process.destroyForcibly();
+    }
+  }
+
+  private String exchange(final String request, final Duration timeout) throws IOException {
+    try {
+      stdin.write(request);
+      stdin.newLine();
+      stdin.flush();
+
+      final Future<String> response = readExecutor.submit(stdout::readLine);
+      try {
+        final String line = response.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        if (line == null) {
+          throw new IOException(String.format("CDK worker %d exited. error=%s", pid(), getStderrTail()));
+        }
+        return line;
+      } catch (final TimeoutException e) {
+        response.cancel(true);
+        throw new IOException(String.format("CDK worker %d did not respond within %s. error=%s", pid(), timeout, getStderrTail()), e);
+      } catch (final ExecutionException e) {
+        throw new IOException(String.format("CDK worker %d failed. error=%s", pid(), getStderrTail()), e.getCause());
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        response.cancel(true);
+        throw new InterruptedIOException("Interrupted while waiting for CDK worker " + pid());
+      }
+    } finally {
+      lastUsedNanos = System.nanoTime();
+    }
+  }
+
+  private void drainStderr() {
+    try (final BufferedReader stderr = new BufferedReader(new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = stderr.readLine()) != null) {
+        LOGGER.debug("CDK worker {}: {}", pid(), line);
+        synchronized (stderrTail) {
+          if (stderrTail.size() == STDERR_TAIL_LINES) {
+            stderrTail.removeFirst();
+          }
+          stderrTail.addLast(line);
+        }
+      }
+    } catch (final IOException e) {
+      LOGGER.debug("Stopped reading the stderr of CDK worker {}: {}", pid(), e.getMessage());
+    }
+  }
+
+  private String getStderrTail() {
+    synchronized (stderrTail) {
+      return String.join("\n", stderrTail);
+    }
+  }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of long-lived CDK processes, so that requests don't pay for starting a Python interpreter and
+ * importing the CDK every time.
+ *
+ * At most {@code size} requests are processed at once, each by its own process. Idle processes are
+ * checked before being handed out: dead ones are replaced, and ones idle for longer than
+ * {@code healthCheckInterval} must answer a ping first. A process is recycled after
+ * {@code maxRequestsPerProcess} requests, or as soon as one of its requests fails or times out, so
+ * that whatever state requests leave behind in the interpreter is short-lived.
+ *
+ * Processes are shared between users, so the pool is only an isolation boundary for code the CDK
+ * controls. Requests that may run user code, such as manifests with custom components, must be sent
+ * as single-use requests, whose process is recycled as soon as they complete. Other requests share
+ * the interpreter with whichever requests the process handled before: the CDK builds a new source
+ * for each of them, but module-level state of the CDK and its dependencies, the process environment
+ * and the filesystem are not reset between them.
+ */
+public class CdkWorkerPool implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdkWorkerPool.class);
+
+  private final ProcessBuilder processBuilder;
+  private final int maxRequestsPerProcess;
+  private final Duration requestTimeout;
+  private final Duration healthCheckInterval;
+  private final BlockingQueue<CdkWorker> idleWorkers = new LinkedBlockingQueue<>();
+  private final Semaphore permits;
+  private final ExecutorService executor = Executors.newCachedThreadPool(
+      new ThreadFactoryBuilder().setNameFormat("cdk-worker-pool-%d").setDaemon(true).build());
+  private volatile boolean closed;
+
+  public CdkWorkerPool(
+                       final ProcessBuilder processBuilder,
+                       final int size,
+                       final int maxRequestsPerProcess,
+                       final Duration requestTimeout,
+                       final Duration healthCheckInterval) {
+    this.processBuilder = processBuilder;
+    this.maxRequestsPerProcess = maxRequestsPerProcess;
+    this.requestTimeout = requestTimeout;
+    this.healthCheckInterval = healthCheckInterval;
+    this.permits = new Semaphore(size, true);
+
+    // Start the processes up front, so that they are done importing the CDK by the first requests
+    for (int i = 0; i < size; i++) {
+      replenish();
+    }
+  }
+
+  /**
+   * Send a request to one of the processes of the pool, waiting for one to be available if needed.
+   *
+   * @return the response of the process.
+   * @throws IOException if the process failed to respond.
+   */
+  public String request(final String request) throws IOException {
+    return request(request, false);
+  }
+
+  /**
+   * Send a request to one of the processes of the pool, waiting for one to be available if needed.
+   *
+   * @param singleUse whether the process must be recycled once the request completes, so that no
+   *        later request runs in the same interpreter.
+   * @return the response of the process.
+   * @throws IOException if the process failed to respond.
+   */
+  public String request(final String request, final boolean singleUse) throws IOException {
+    try {
+      permits.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a CDK worker.");
+    }
+
+    CdkWorker worker = null;
+    boolean succeeded = false;
+    try {
+      worker = borrow();
+      final String response = worker.request(request, requestTimeout);
+      succeeded = true;
+      return response;
+    } finally {
+      if (worker != null) {
+        giveBack(worker, succeeded && !singleUse);
+      }
+      permits.release();
+    }
+  }
+
+  /**
+   * Stop all processes. Processes busy with a request are stopped once the request completes.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    CdkWorker worker;
+    while ((worker = idleWorkers.poll()) != null) {
+      worker.close();
+    }
+    executor.shutdown();
+  }
+
+  private CdkWorker borrow() throws IOException {
+    CdkWorker worker;
+    while ((worker = idleWorkers.poll()) != null) {
+      if (worker.isHealthy(healthCheckInterval)) {
+        return worker;
+      }
+      LOGGER.info("Replacing unhealthy CDK worker {}.", worker.pid());
+      retire(worker);
+    }
+    return startWorker();
+  }
+
+  private void giveBack(final CdkWorker worker, final boolean reusable) {
+    if (closed) {
+      worker.close();
+    } else if (!reusable || worker.getRequestCount() >= maxRequestsPerProcess) {
+      LOGGER.debug("Recycling CDK worker {} after {} request(s).", worker.pid(), worker.getRequestCount());
+      retire(worker);
+      replenish();
+    } else {
+      idleWorkers.offer(worker);
+    }
+  }
+
+  /**
+   * Start a process and add it to the idle ones. Starting a process doesn't wait for it to be ready,
+   * it only receives requests once it is done importing the CDK.
+   */
+  private void replenish() {
+    try {
+      idleWorkers.offer(startWorker());
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to start a CDK worker, one will be started on the next request instead.", e);
+    }
+  }
+
+  /**
+   * Stop a process in the background, as it can take a few seconds for it to exit.
+   */
+  private void retire(final CdkWorker worker) {
+    executor.execute(worker::close);
+  }
+
+  private CdkWorker startWorker() throws IOException {
+    final Process process;
+    synchronized (processBuilder) {
+      process = processBuilder.start();
+    }
+    return new CdkWorker(process, executor);
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import datadog.trace.api.Trace;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.connector_builder.TracingHelper;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.connector_builder.file_writer.AirbyteArgument;
+import io.airbyte.connector_builder.file_writer.AirbyteFileWriter;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.workers.internal.AirbyteStreamFactory;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Communicates with the CDK's Connector Builder handler through a {@link CdkWorkerPool} of
+ * long-lived Python processes, rather than launching a Python process for each request.
+ *
+ * Each request still gets its own config, catalog and state files, from which the CDK builds a new
+ * source, and which are deleted once the request completes. Manifests with custom components run
+ * user code in the interpreter, so their process is recycled after the request rather than reused.
+ */
+public class PooledPythonCdkCommandRunner implements SynchronousCdkCommandRunner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PooledPythonCdkCommandRunner.class);
+  private static final String MANIFEST_KEY = "__injected_declarative_manifest";
+  private static final String COMPONENTS_KEY = "__injected_components_py";
+  private static final String CUSTOM_COMPONENT_TYPE_PREFIX = "Custom";
+  private static final String CLASS_NAME_KEY = "class_name";
+
+  private final AirbyteFileWriter writer;
+  private final AirbyteStreamFactory streamFactory;
+  private final CdkWorkerPool pool;
+
+  public PooledPythonCdkCommandRunner(
+                                      final AirbyteFileWriter writer,
+                                      final AirbyteStreamFactory streamFactory,
+                                      final CdkWorkerPool pool) {
+    this.writer = writer;
+    this.streamFactory = streamFactory;
+    this.pool = pool;
+  }
+
+  /**
+   * Send the command to one of the pooled processes, and return the parsed AirbyteRecordMessage
+   * returned by the CDK.
+   */
+  @Override
+  @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
+  public AirbyteRecordMessage runCommand(
+                                         final String cdkCommand,
+                                         final String configContents,
+                                         final String catalogContents,
+                                         final String stateContents)
+      throws IOException {
+    final List<AirbyteArgument> arguments = new ArrayList<>();
+    try {
+      final AirbyteArgument catalog = this.write("catalog", catalogContents, arguments);
+      final AirbyteArgument config = this.write("config", configContents, arguments);
+      final AirbyteArgument state = this.write("state", stateContents, arguments);
+
+      final String request = Jsons.serialize(Map.of("args", List.of(
+          "read",
+          "--config",
+          config.getFilepath(),
+          "--catalog",
+          catalog.getFilepath(),
+          "--state",
+          state.getFilepath())));
+      LOGGER.debug("Sending request for {} to a CDK worker: {}", cdkCommand, request);
+
+      final String response;
+      try {
+        response = pool.request(request, hasCustomComponents(configContents));
+      } catch (final InterruptedIOException e) {
+        throw e;
+      } catch (final IOException e) {
+        final String errorMessage = String.format("CDK worker for %s failed. %s", cdkCommand, e.getMessage());
+        LOGGER.error(errorMessage);
+        throw new CdkProcessException(errorMessage);
+      }
+      return new ProcessOutputParser().parse(response, this.streamFactory, cdkCommand);
+    } finally {
+      arguments.forEach(argument -> this.writer.delete(argument.getFilepath()));
+    }
+  }
+
+  @Override
+  public void close() {
+    pool.close();
+  }
+
+  /**
+   * Whether the config injects Python components, or its manifest declares custom components. A
+   * config that can't be parsed is assumed to have some, as the CDK may still make sense of it.
+   */
+  static boolean hasCustomComponents(final String configContents) {
+    final JsonNode config = Jsons.tryDeserialize(configContents).orElse(null);
+    if (config == null) {
+      return true;
+    }
+    return config.hasNonNull(COMPONENTS_KEY) || hasCustomComponents(config.path(MANIFEST_KEY));
+  }
+
+  private static boolean hasCustomComponents(final JsonNode node) {
+    if (node.isObject()
+        && (node.has(CLASS_NAME_KEY) || node.path("type").asText().startsWith(CUSTOM_COMPONENT_TYPE_PREFIX))) {
+      return true;
+    }
+    for (final JsonNode child : node) {
+      if (hasCustomComponents(child)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private AirbyteArgument write(final String name, final String contents, final List<AirbyteArgument> arguments) throws IOException {
+    final AirbyteArgument arg = new AirbyteArgument(this.writer);
+    arg.setUpArg(name, contents);
+    arguments.add(arg);
+    return arg;
+  }
+
+}
@@ -20,10 +20,12 @@ import io.airbyte.workers.internal.AirbyteStreamFactory;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +58,32 @@ public class ProcessOutputParser {
       throwCdkException(process, cdkCommand);
     }
 
+    return extractRecord(messagesByType, () -> generateError(process, cdkCommand));
+  }
+
+  /**
+   * Parse the output of a CDK command that was already read, e.g. the response of a
+   * {@link CdkWorkerPool} process.
+   */
+  @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
+  AirbyteRecordMessage parse(
+                             final String output,
+                             final AirbyteStreamFactory streamFactory,
+                             final String cdkCommand) {
+    final Map<Type, List<AirbyteMessage>> messagesByType = streamFactory.create(new BufferedReader(new StringReader(output)))
+        .collect(Collectors.groupingBy(AirbyteMessage::getType));
+
+    return extractRecord(messagesByType, () -> {
+      final String errorMessage = String.format(
+          "The CDK command `%s` completed properly but no records nor trace were found. Output was: %s.", cdkCommand, output);
+      LOGGER.error(errorMessage);
+      return new CdkUnknownException(errorMessage);
+    });
+  }
+
+  private AirbyteRecordMessage extractRecord(
+                                             final Map<Type, List<AirbyteMessage>> messagesByType,
+                                             final Supplier<RuntimeException> noRecordNorTraceError) {
     final Optional<AirbyteRecordMessage> record = messagesByType
         .getOrDefault(Type.RECORD, new ArrayList<>()).stream()
         .map(AirbyteMessage::getRecord)
@@ -79,7 +107,7 @@ public class ProcessOutputParser {
       throw new AirbyteCdkInvalidInputException(
           String.format("AirbyteTraceMessage response from CDK: %s", traceMessage.getError().getMessage()), traceMessage);
     }
-    throw generateError(process, cdkCommand);
+    throw noRecordNorTraceError.get();
   }
 
   private void throwCdkException(final Process process, final String cdkCommand) {
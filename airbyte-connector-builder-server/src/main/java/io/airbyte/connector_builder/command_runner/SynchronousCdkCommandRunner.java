@@ -10,11 +10,17 @@ import java.io.IOException;
 /**
  * Exposes a way of running synchronous processes via an Airbyte `read` command.
  */
-public interface SynchronousCdkCommandRunner {
+public interface SynchronousCdkCommandRunner extends AutoCloseable {
 
   /**
    * Launch a CDK process responsible for handling requests.
    */
   AirbyteRecordMessage runCommand(final String command, final String config, final String catalog, final String state) throws IOException;
 
+  /**
+   * Release the processes kept by the runner, if any.
+   */
+  @Override
+  default void close() {}
+
 }
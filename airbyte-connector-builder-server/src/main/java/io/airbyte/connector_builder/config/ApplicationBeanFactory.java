@@ -6,18 +6,26 @@ package io.airbyte.connector_builder.config;
 
 import com.google.common.io.Resources;
 import io.airbyte.commons.envvar.EnvVar;
+import io.airbyte.connector_builder.command_runner.CdkWorkerPool;
+import io.airbyte.connector_builder.command_runner.PooledPythonCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousPythonCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
 import io.airbyte.metrics.MetricClient;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -46,10 +54,26 @@ public class ApplicationBeanFactory {
   }
 
   /**
-   * Defines the instantiation of the SynchronousPythonCdkCommandRunner.
+   * Defines the instantiation of the SynchronousCdkCommandRunner. Requests are sent to a pool of
+   * long-lived CDK processes if the pool size is positive, and to a new process each otherwise.
    */
   @Singleton
-  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner(final MetricClient metricClient) {
+  @Bean(preDestroy = "close")
+  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner(
+                                                                       final MetricClient metricClient,
+                                                                       @Value("${airbyte.connector-builder-server.cdk-process-pool.size}") final int poolSize,
+                                                                       @Value("${airbyte.connector-builder-server.cdk-process-pool.max-requests-per-process}") final int maxRequestsPerProcess,
+                                                                       @Value("${airbyte.connector-builder-server.cdk-process-pool.request-timeout}") final Duration requestTimeout,
+                                                                       @Value("${airbyte.connector-builder-server.cdk-process-pool.health-check-interval}") final Duration healthCheckInterval) {
+    if (poolSize > 0) {
+      final ProcessBuilder processBuilder = new ProcessBuilder(this.getPython(), this.getCdkWorkerScript().toString(), this.getCdkEntrypoint());
+      processBuilder.environment().put("PYTHONPATH", this.getPythonPath());
+      return new PooledPythonCdkCommandRunner(
+          new AirbyteFileWriterImpl(),
+          VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(metricClient),
+          new CdkWorkerPool(processBuilder, poolSize, maxRequestsPerProcess, requestTimeout, healthCheckInterval));
+    }
+
     return new SynchronousPythonCdkCommandRunner(
         new AirbyteFileWriterImpl(),
         // This should eventually be constructed via DI.
@@ -59,6 +83,21 @@ public class ApplicationBeanFactory {
         this.getPythonPath());
   }
 
+  /**
+   * Extracts the script run by the pooled CDK processes from the resources, so that Python can run
+   * it.
+   */
+  private Path getCdkWorkerScript() {
+    try {
+      final Path script = Files.createTempFile("cdk_worker", ".py");
+      script.toFile().deleteOnExit();
+      Files.writeString(script, Resources.toString(Resources.getResource("cdk_worker.py"), StandardCharsets.UTF_8));
+      return script;
+    } catch (final IOException e) {
+      throw new ConnectorBuilderException("Failed to extract the CDK worker script.", e);
+    }
+  }
+
   private String getPythonPath() {
     final String pathToConnectors = getPathToConnectors();
     final List<String> subdirectories = listSubdirectories(pathToConnectors);
@@ -4,12 +4,14 @@
 
 package io.airbyte.connector_builder.handlers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.connector_builder.TracingHelper;
 import io.airbyte.connector_builder.api.model.generated.ResolveManifest;
 import io.airbyte.connector_builder.api.model.generated.ResolveManifestRequestBody;
 import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.requester.AirbyteCdkRequester;
+import io.airbyte.connector_builder.utils.ManifestCache;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.io.IOException;
@@ -25,15 +27,19 @@ public class ResolveManifestHandler {
   private static final Logger LOGGER = LoggerFactory.getLogger(ResolveManifestHandler.class);
 
   private final AirbyteCdkRequester requester;
+  private final ManifestCache manifestCache;
 
   @Inject
   public ResolveManifestHandler(
-                                final AirbyteCdkRequester requester) {
+                                final AirbyteCdkRequester requester,
+                                final ManifestCache manifestCache) {
     this.requester = requester;
+    this.manifestCache = manifestCache;
   }
 
   /**
-   * Use the requester to send the resolve_manifest request to the CDK.
+   * Use the requester to send the resolve_manifest request to the CDK, unless the same manifest was
+   * resolved before.
    */
   public ResolveManifest resolveManifest(
                                          final ResolveManifestRequestBody resolveManifestRequestBody)
@@ -42,7 +48,17 @@ public class ResolveManifestHandler {
       TracingHelper.addWorkspaceAndProjectIdsToTrace(resolveManifestRequestBody.getWorkspaceId(), resolveManifestRequestBody.getProjectId());
       LOGGER.info("Handling resolve_manifest request for workspace '{}' with project ID = '{}'",
           resolveManifestRequestBody.getWorkspaceId(), resolveManifestRequestBody.getProjectId());
-      return this.requester.resolveManifest(resolveManifestRequestBody.getManifest());
+      final JsonNode manifest = resolveManifestRequestBody.getManifest();
+      final JsonNode cachedManifest = this.manifestCache.getResolvedManifest(manifest);
+      if (cachedManifest != null) {
+        return new ResolveManifest().manifest(cachedManifest);
+      }
+
+      final ResolveManifest resolveManifest = this.requester.resolveManifest(manifest);
+      if (resolveManifest.getManifest() != null) {
+        this.manifestCache.putResolvedManifest(manifest, resolveManifest.getManifest());
+      }
+      return resolveManifest;
     } catch (final IOException exc) {
       LOGGER.error("Error handling resolve_manifest request.", exc);
       throw new ConnectorBuilderException("Error handling resolve_manifest request.", exc);
@@ -8,7 +8,7 @@ package io.airbyte.connector_builder.templates
 
 import io.airbyte.connector_builder.services.GithubContributionService
 import io.airbyte.connector_builder.utils.BuilderContributionInfo
-import io.airbyte.connector_builder.utils.ManifestParser
+import io.airbyte.connector_builder.utils.ManifestCache
 import io.pebbletemplates.pebble.PebbleEngine
 import io.pebbletemplates.pebble.template.PebbleTemplate
 import jakarta.inject.Singleton
@@ -30,7 +30,9 @@ data class TemplateSpecProperty(
 )
 
 @Singleton
-class ContributionTemplates {
+class ContributionTemplates(
+  private val manifestCache: ManifestCache,
+) {
   var templateEngine: PebbleEngine? = null
 
   init {
@@ -135,7 +137,7 @@ class ContributionTemplates {
   }
 
   fun renderContributionDocsMd(contributionInfo: BuilderContributionInfo): String {
-    val manifestParser = ManifestParser(contributionInfo.manifestYaml)
+    val manifestParser = manifestCache.getParsedManifest(contributionInfo.manifestYaml)
     val streams = toTemplateStreams(manifestParser.streams)
     val specProperties = toTemplateSpecProperties(manifestParser.spec)
     val context =
@@ -156,7 +158,7 @@ class ContributionTemplates {
     contributionInfo: BuilderContributionInfo,
     githubContributionService: GithubContributionService,
   ): String {
-    val manifestParser = ManifestParser(contributionInfo.manifestYaml)
+    val manifestParser = manifestCache.getParsedManifest(contributionInfo.manifestYaml)
     val allowedHosts = getAllowedHosts(manifestParser.streams)
 
     // TODO: Ensure metadata is correctly formatted
@@ -184,7 +186,7 @@ class ContributionTemplates {
   }
 
   fun renderContributionPullRequestDescription(contributionInfo: BuilderContributionInfo): String {
-    val manifestParser = ManifestParser(contributionInfo.manifestYaml)
+    val manifestParser = manifestCache.getParsedManifest(contributionInfo.manifestYaml)
     val streams = toTemplateStreams(manifestParser.streams)
     val specProperties = toTemplateSpecProperties(manifestParser.spec)
     val context =
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+@file:Suppress("ktlint:standard:package-name")
+
+package io.airbyte.connector_builder.utils
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.google.common.hash.Hashing
+import io.airbyte.commons.json.Jsons
+import io.airbyte.metrics.MetricAttribute
+import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
+import io.airbyte.metrics.lib.MetricTags
+import io.micronaut.context.annotation.Value
+import jakarta.inject.Singleton
+import java.nio.charset.StandardCharsets
+
+private const val RESOLVED_MANIFESTS = "resolved_manifests"
+private const val PARSED_MANIFESTS = "parsed_manifests"
+
+/**
+ * Caches manifests by the hash of their content, as users iterating in the builder send the same
+ * manifest over and over again.
+ *
+ * Resolved manifests are the ones returned by the CDK for resolve_manifest requests, parsed
+ * manifests are the [ManifestParser] trees of manifest yaml strings. Both are evicted least recently
+ * used first once there are more than `maxSize` of them.
+ *
+ * Cached values are shared between requests, so resolved manifests are copied in and out of the
+ * cache, and parsed manifests are read-only.
+ */
+@Singleton
+class ManifestCache(
+  @Value("\${airbyte.connector-builder-server.manifest-cache.max-size}") maxSize: Long,
+  private val metricClient: MetricClient,
+) {
+  private val resolvedManifests: Cache<String, JsonNode> = Caffeine.newBuilder().maximumSize(maxSize).build()
+  private val parsedManifests: Cache<String, ManifestParser> = Caffeine.newBuilder().maximumSize(maxSize).build()
+
+  /**
+   * Returns the resolved version of the manifest if it was resolved before, null otherwise.
+   */
+  fun getResolvedManifest(manifest: JsonNode): JsonNode? =
+    record(RESOLVED_MANIFESTS, resolvedManifests.getIfPresent(hash(manifest)))?.deepCopy()
+
+  fun putResolvedManifest(
+    manifest: JsonNode,
+    resolvedManifest: JsonNode,
+  ) {
+    resolvedManifests.put(hash(manifest), resolvedManifest.deepCopy())
+  }
+
+  /**
+   * Returns the parsed manifest for the yaml string, parsing it only if it wasn't parsed before.
+   * Manifests that fail to parse are not cached.
+   */
+  fun getParsedManifest(rawManifestYaml: String): ManifestParser {
+    val key = hash(rawManifestYaml)
+    return record(PARSED_MANIFESTS, parsedManifests.getIfPresent(key))
+      ?: ManifestParser(rawManifestYaml).also { parsedManifests.put(key, it) }
+  }
+
+  private fun <T> record(
+    cacheName: String,
+    value: T?,
+  ): T? {
+    val metric =
+      if (value != null) {
+        OssMetricsRegistry.CONNECTOR_BUILDER_MANIFEST_CACHE_HITS
+      } else {
+        OssMetricsRegistry.CONNECTOR_BUILDER_MANIFEST_CACHE_MISSES
+      }
+    metricClient.count(metric = metric, attributes = arrayOf(MetricAttribute(MetricTags.CACHE_NAME, cacheName)))
+    return value
+  }
+
+  /**
+   * Hashes the manifest with its keys sorted, so that the order in which they were sent doesn't
+   * matter.
+   */
+  private fun hash(manifest: JsonNode): String =
+    hash(if (manifest.isObject) Jsons.canonicalJsonSerialize(manifest) else Jsons.serialize(manifest))
+
+  private fun hash(content: String): String = Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString()
+}
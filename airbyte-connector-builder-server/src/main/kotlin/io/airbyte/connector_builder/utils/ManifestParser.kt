@@ -10,6 +10,7 @@ import io.airbyte.connector_builder.exceptions.CircularReferenceException
 import io.airbyte.connector_builder.exceptions.ManifestParserException
 import io.airbyte.connector_builder.exceptions.UndefinedReferenceException
 import org.yaml.snakeyaml.Yaml
+import java.util.Collections
 
 const val REF_TAG = "\$ref"
 const val REF_VALUE = "#/"
@@ -25,7 +26,11 @@ const val REF_VALUE = "#/"
 class ManifestParser(
   rawManifestYaml: String,
 ) {
-  var manifestMap: Map<String, Any> = processManifestYaml(rawManifestYaml)
+  /**
+   * The evaluated manifest. It is read-only all the way down, as parsed manifests are cached and
+   * shared between requests.
+   */
+  val manifestMap: Map<String, Any> = processManifestYaml(rawManifestYaml)
 
   val streams: List<Map<String, Any>>
     get() {
@@ -73,7 +78,16 @@ class ManifestParser(
     return deserializedYaml
   }
 
-  private fun processManifestMap(manifest: Map<String, Any>): Map<String, Any> = evaluateNode(manifest, manifest, mutableSetOf()) as Map<String, Any>
+  @Suppress("UNCHECKED_CAST")
+  private fun processManifestMap(manifest: Map<String, Any>): Map<String, Any> =
+    readOnly(evaluateNode(manifest, manifest, mutableSetOf())) as Map<String, Any>
+
+  private fun readOnly(node: Any?): Any? =
+    when (node) {
+      is Map<*, *> -> Collections.unmodifiableMap(node.mapValues { (_, value) -> readOnly(value) })
+      is List<*> -> Collections.unmodifiableList(node.map { readOnly(it) })
+      else -> node
+    }
 
   private fun loadYaml(yaml: String): Map<String, Any> =
     try {
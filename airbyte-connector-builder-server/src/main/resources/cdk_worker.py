@@ -0,0 +1,61 @@
+#
+# Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+#
+
+"""
+Long-lived worker serving Connector Builder requests for the connector builder server's CDK process pool.
+
+Usage: python cdk_worker.py <path to the CDK connector builder entrypoint>
+
+Requests are read from stdin and responses written to stdout, one JSON document per line:
+- {"args": [...]} runs the connector builder entrypoint with these command line arguments, and responds with the
+  AirbyteMessage it produced, exactly like running the entrypoint in its own process would print it.
+- {"ping": true} responds with {"pong": true}, for health checks.
+
+Anything else written to stdout, e.g. by custom components, is redirected to stderr so that it can't corrupt responses.
+"""
+
+import importlib.util
+import json
+import os
+import sys
+
+import orjson
+
+from airbyte_cdk.models import AirbyteMessageSerializer
+from airbyte_cdk.utils.traced_exception import AirbyteTracedException
+
+
+def load_entrypoint(path):
+    spec = importlib.util.spec_from_file_location("connector_builder_entrypoint", path)
+    module = importlib.util.module_from_spec(spec)
+    spec.loader.exec_module(module)
+    return module
+
+
+def handle(entrypoint, request):
+    if request.get("ping"):
+        return json.dumps({"pong": True})
+    try:
+        return entrypoint.handle_request(request["args"])
+    except Exception as exc:
+        error = AirbyteTracedException.from_exception(exc, message=f"Error handling request: {str(exc)}")
+        return orjson.dumps(AirbyteMessageSerializer.dump(error.as_airbyte_message())).decode()
+
+
+def main():
+    entrypoint = load_entrypoint(sys.argv[1])
+
+    responses = os.fdopen(os.dup(sys.stdout.fileno()), "w", encoding="utf-8")
+    sys.stdout.flush()
+    os.dup2(sys.stderr.fileno(), sys.stdout.fileno())
+
+    for line in sys.stdin:
+        if not line.strip():
+            continue
+        responses.write(handle(entrypoint, json.loads(line)) + "\n")
+        responses.flush()
+
+
+if __name__ == "__main__":
+    main()
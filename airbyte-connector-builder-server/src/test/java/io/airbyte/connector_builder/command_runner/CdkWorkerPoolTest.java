@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CdkWorkerPoolTest {
+
+  // Stands in for the Python worker: answers each request line with its own process id
+  private static final String PID_WORKER = "while IFS= read -r line; do echo $$; done";
+  private static final Duration LONG = Duration.ofHours(1);
+
+  @Test
+  void testRequestRoundTrip() throws IOException {
+    try (final CdkWorkerPool pool = pool("while IFS= read -r line; do echo \"$line\"; done", 2, 100, LONG)) {
+      assertEquals("{\"args\":[\"read\"]}", pool.request("{\"args\":[\"read\"]}"));
+      assertEquals("second", pool.request("second"));
+    }
+  }
+
+  @Test
+  void testReusesProcesses() throws IOException {
+    try (final CdkWorkerPool pool = pool(PID_WORKER, 1, 100, LONG)) {
+      assertEquals(pool.request("first"), pool.request("second"));
+    }
+  }
+
+  @Test
+  void testRecyclesProcessesAfterMaxRequests() throws IOException {
+    try (final CdkWorkerPool pool = pool(PID_WORKER, 1, 2, LONG)) {
+      final String first = pool.request("first");
+      assertEquals(first, pool.request("second"));
+      assertNotEquals(first, pool.request("third"));
+    }
+  }
+
+  @Test
+  void testRecyclesProcessesAfterSingleUseRequests() throws IOException {
+    try (final CdkWorkerPool pool = pool(PID_WORKER, 1, 100, LONG)) {
+      final String first = pool.request("first", true);
+      final String second = pool.request("second");
+      assertNotEquals(first, second);
+      assertEquals(second, pool.request("third"));
+    }
+  }
+
+  @Test
+  void testReplacesDeadProcesses() throws IOException, InterruptedException {
+    // Exits right after answering its first request, while it waits in the pool
+    try (final CdkWorkerPool pool = pool("read -r line; echo $$", 1, 100, LONG)) {
+      final String first = pool.request("first");
+      TimeUnit.MILLISECONDS.sleep(500);
+      assertNotEquals(first, pool.request("second"));
+    }
+  }
+
+  @Test
+  void testRecyclesProcessesThatTimeOut() throws IOException {
+    try (final CdkWorkerPool pool =
+        new CdkWorkerPool(new ProcessBuilder("sh", "-c", "read -r line; sleep 60"), 1, 100, Duration.ofMillis(200), LONG)) {
+      final IOException exception = assertThrows(IOException.class, () -> pool.request("first"));
+      assertTrue(exception.getMessage().contains("did not respond within"));
+    }
+  }
+
+  @Test
+  void testReportsProcessesThatExit() throws IOException {
+    try (final CdkWorkerPool pool =
+        new CdkWorkerPool(new ProcessBuilder("sh", "-c", "read -r line; echo 'ModuleNotFoundError' >&2; exit 1"), 1, 100, LONG, LONG)) {
+      final IOException exception = assertThrows(IOException.class, () -> pool.request("first"));
+      assertTrue(exception.getMessage().contains("exited"));
+    }
+  }
+
+  @Test
+  void testPingsProcessesIdleForLongerThanTheHealthCheckInterval() throws IOException, InterruptedException {
+    // The ping consumes one response, so the process id is only echoed once per request
+    try (final CdkWorkerPool pool = pool(PID_WORKER, 1, 100, Duration.ofMillis(1))) {
+      final String first = pool.request("first");
+      TimeUnit.MILLISECONDS.sleep(10);
+      assertEquals(first, pool.request("second"));
+    }
+  }
+
+  private static CdkWorkerPool pool(final String script, final int size, final int maxRequestsPerProcess, final Duration healthCheckInterval) {
+    return new CdkWorkerPool(new ProcessBuilder("sh", "-c", script), size, maxRequestsPerProcess, Duration.ofSeconds(10), healthCheckInterval);
+  }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PooledPythonCdkCommandRunnerTest {
+
+  @Test
+  void testDeclarativeManifestsHaveNoCustomComponents() {
+    assertFalse(PooledPythonCdkCommandRunner.hasCustomComponents("""
+                                                                 {"__injected_declarative_manifest": {"streams": [{"type": "DeclarativeStream",
+                                                                   "retriever": {"type": "SimpleRetriever", "record_selector": {"type": "RecordSelector"}}}]}}"""));
+  }
+
+  @Test
+  void testDetectsCustomComponents() {
+    assertTrue(PooledPythonCdkCommandRunner.hasCustomComponents("""
+                                                                {"__injected_declarative_manifest": {"streams": [{"type": "DeclarativeStream",
+                                                                  "retriever": {"type": "SimpleRetriever", "paginator": {"type": "CustomPaginator"}}}]}}"""));
+    assertTrue(PooledPythonCdkCommandRunner.hasCustomComponents("""
+                                                                {"__injected_declarative_manifest": {"streams": [{"class_name": "source.components.Stream"}]}}"""));
+    assertTrue(PooledPythonCdkCommandRunner.hasCustomComponents("""
+                                                                {"__injected_declarative_manifest": {}, "__injected_components_py": "class Paginator: ..."}"""));
+  }
+
+  @Test
+  void testAssumesUnparseableConfigsHaveCustomComponents() {
+    assertTrue(PooledPythonCdkCommandRunner.hasCustomComponents("{"));
+  }
+
+}
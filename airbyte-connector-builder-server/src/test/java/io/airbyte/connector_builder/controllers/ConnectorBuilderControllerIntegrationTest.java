@@ -30,6 +30,7 @@ import io.airbyte.connector_builder.handlers.ResolveManifestHandler;
 import io.airbyte.connector_builder.handlers.StreamHandler;
 import io.airbyte.connector_builder.requester.AirbyteCdkRequesterImpl;
 import io.airbyte.connector_builder.templates.ContributionTemplates;
+import io.airbyte.connector_builder.utils.ManifestCache;
 import io.airbyte.metrics.MetricClient;
 import io.airbyte.workers.internal.AirbyteStreamFactory;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
@@ -76,7 +77,7 @@ class ConnectorBuilderControllerIntegrationTest {
     this.healthHandler = mock(HealthHandler.class);
     this.writer = new MockAirbyteFileWriterImpl();
     this.streamFactory = VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(mock(MetricClient.class));
-    this.contributionTemplates = new ContributionTemplates();
+    this.contributionTemplates = new ContributionTemplates(new ManifestCache(10, mock(MetricClient.class)));
     this.assistProxyHandler = mock(AssistProxyHandler.class);
   }
 
@@ -104,7 +105,7 @@ class ConnectorBuilderControllerIntegrationTest {
     final SynchronousCdkCommandRunner commandRunner = new MockSynchronousPythonCdkCommandRunner(
         this.writer, this.streamFactory, shouldThrow, exitCode, inputStream, errorStream, outputStream);
     final AirbyteCdkRequesterImpl requester = new AirbyteCdkRequesterImpl(commandRunner);
-    return new ConnectorBuilderController(this.healthHandler, new ResolveManifestHandler(requester), new StreamHandler(requester),
+    return new ConnectorBuilderController(this.healthHandler, new ResolveManifestHandler(requester, new ManifestCache(10, mock(MetricClient.class))), new StreamHandler(requester),
         new ConnectorContributionHandler(contributionTemplates, null), this.assistProxyHandler);
   }
 
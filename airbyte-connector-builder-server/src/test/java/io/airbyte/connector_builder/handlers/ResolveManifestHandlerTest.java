@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.airbyte.connector_builder.api.model.generated.ResolveManifest;
+import io.airbyte.connector_builder.api.model.generated.ResolveManifestRequestBody;
+import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
+import io.airbyte.connector_builder.requester.AirbyteCdkRequester;
+import io.airbyte.connector_builder.utils.ManifestCache;
+import io.airbyte.metrics.MetricClient;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResolveManifestHandlerTest {
+
+  private static final JsonNode A_MANIFEST;
+  private static final JsonNode A_RESOLVED_MANIFEST;
+
+  static {
+    try {
+      A_MANIFEST = new ObjectMapper().readTree("{\"streams\": [{\"$ref\": \"#/definitions/stream\"}], \"version\": \"1.0.0\"}");
+      A_RESOLVED_MANIFEST = new ObjectMapper().readTree("{\"streams\": [{\"name\": \"stream\"}], \"version\": \"1.0.0\"}");
+    } catch (final JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private AirbyteCdkRequester requester;
+  private ResolveManifestHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    requester = mock(AirbyteCdkRequester.class);
+    handler = new ResolveManifestHandler(requester, new ManifestCache(10, mock(MetricClient.class)));
+  }
+
+  @Test
+  void whenResolveManifestThenReturnRequesterResponse() throws Exception {
+    when(requester.resolveManifest(A_MANIFEST)).thenReturn(new ResolveManifest().manifest(A_RESOLVED_MANIFEST));
+    final ResolveManifest response = handler.resolveManifest(new ResolveManifestRequestBody().manifest(A_MANIFEST));
+    assertEquals(A_RESOLVED_MANIFEST, response.getManifest());
+  }
+
+  @Test
+  void givenManifestResolvedBeforeWhenResolveManifestThenDoNotCallRequesterAgain() throws Exception {
+    when(requester.resolveManifest(A_MANIFEST)).thenReturn(new ResolveManifest().manifest(A_RESOLVED_MANIFEST));
+    handler.resolveManifest(new ResolveManifestRequestBody().manifest(A_MANIFEST));
+
+    final JsonNode reorderedManifest =
+        new ObjectMapper().readTree("{\"version\": \"1.0.0\", \"streams\": [{\"$ref\": \"#/definitions/stream\"}]}");
+    final ResolveManifest response = handler.resolveManifest(new ResolveManifestRequestBody().manifest(reorderedManifest));
+
+    assertEquals(A_RESOLVED_MANIFEST, response.getManifest());
+    verify(requester, times(1)).resolveManifest(A_MANIFEST);
+  }
+
+  @Test
+  void givenIOExceptionWhenResolveManifestThenRaiseConnectorBuilderExceptionAndDoNotCache() throws Exception {
+    when(requester.resolveManifest(A_MANIFEST)).thenThrow(IOException.class);
+    assertThrows(ConnectorBuilderException.class, () -> handler.resolveManifest(new ResolveManifestRequestBody().manifest(A_MANIFEST)));
+    assertThrows(ConnectorBuilderException.class, () -> handler.resolveManifest(new ResolveManifestRequestBody().manifest(A_MANIFEST)));
+    verify(requester, times(2)).resolveManifest(A_MANIFEST);
+  }
+
+}
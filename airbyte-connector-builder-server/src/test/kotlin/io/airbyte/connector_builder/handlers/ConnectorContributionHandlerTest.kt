@@ -10,6 +10,7 @@ import io.airbyte.connector_builder.api.model.generated.CheckContributionRequest
 import io.airbyte.connector_builder.services.GithubContributionService
 import io.airbyte.connector_builder.templates.ContributionTemplates
 import io.airbyte.connector_builder.utils.BuilderContributionInfo
+import io.airbyte.connector_builder.utils.ManifestCache
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.mockkConstructor
@@ -31,7 +32,7 @@ class ConnectorContributionHandlerTest {
   fun setUp() {
     mockkConstructor(GithubContributionService::class)
     every { requestBodyMock.connectorImageName } returns testConnectorImageName
-    val templateService = ContributionTemplates()
+    val templateService = ContributionTemplates(ManifestCache(10, mockk(relaxed = true)))
     connectorContributionHandler = ConnectorContributionHandler(templateService, null)
   }
 
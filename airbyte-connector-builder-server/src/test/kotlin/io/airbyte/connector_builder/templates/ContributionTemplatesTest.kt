@@ -9,6 +9,7 @@ package io.airbyte.connector_builder.templates
 import com.fasterxml.jackson.databind.ObjectMapper
 import io.airbyte.connector_builder.services.GithubContributionService
 import io.airbyte.connector_builder.utils.BuilderContributionInfo
+import io.airbyte.connector_builder.utils.ManifestCache
 import io.airbyte.connector_builder.utils.ManifestParser
 import io.mockk.every
 import io.mockk.mockk
@@ -26,6 +27,8 @@ fun jacksonSerialize(input: String): String {
 }
 
 class ContributionTemplatesTest {
+  val manifestCache = ManifestCache(10, mockk(relaxed = true))
+
   val serialzedYamlContent = this::class.java.getResource("/valid_manifest.yaml")!!.readText()
 
   val newConnectorContributionInfo =
@@ -46,7 +49,7 @@ class ContributionTemplatesTest {
 
   @Test
   fun `test readme template`() {
-    val contributionTemplates = ContributionTemplates()
+    val contributionTemplates = ContributionTemplates(manifestCache)
     val readme = contributionTemplates.renderContributionReadmeMd(newConnectorContributionInfo)
 
     // Assert that the rendered readme contains the connector name
@@ -58,7 +61,7 @@ class ContributionTemplatesTest {
 
   @Test
   fun `test docs template`() {
-    val contributionTemplates = ContributionTemplates()
+    val contributionTemplates = ContributionTemplates(manifestCache)
 
     val jacksonYaml = jacksonSerialize(serialzedYamlContent)
 
@@ -88,7 +91,7 @@ class ContributionTemplatesTest {
 
   @Test
   fun `test new connector PR description`() {
-    val contributionTemplates = ContributionTemplates()
+    val contributionTemplates = ContributionTemplates(manifestCache)
     val jacksonYaml = jacksonSerialize(serialzedYamlContent)
     val manifestParser = ManifestParser(jacksonYaml)
     val prDescription = contributionTemplates.renderContributionPullRequestDescription(newConnectorContributionInfo)
@@ -114,7 +117,7 @@ class ContributionTemplatesTest {
   @Test
   fun `test edit PR description`() {
     val editConnectorContributionInfo = newConnectorContributionInfo.copy(isEdit = true)
-    val contributionTemplates = ContributionTemplates()
+    val contributionTemplates = ContributionTemplates(manifestCache)
     val prDescription = contributionTemplates.renderContributionPullRequestDescription(editConnectorContributionInfo)
 
     assert(prDescription.contains(editConnectorContributionInfo.connectorName))
@@ -124,7 +127,7 @@ class ContributionTemplatesTest {
 
   @Test
   fun `test privateKeyToString with Array`() {
-    val contributionTemplates = ContributionTemplates()
+    val contributionTemplates = ContributionTemplates(manifestCache)
     val expectedArrayPrivateKeyString = "id.name.age"
 
     val privateKey1 = listOf("id", listOf("name", "age"))
@@ -138,7 +141,7 @@ class ContributionTemplatesTest {
 
   @Test
   fun `test privateKeyToString with String`() {
-    val contributionTemplates = ContributionTemplates()
+    val contributionTemplates = ContributionTemplates(manifestCache)
     val expectedString = "id"
 
     val privateKey1 = "id"
@@ -150,7 +153,7 @@ class ContributionTemplatesTest {
 
   @Test
   fun `test toTemplateSpecProperties`() {
-    val contributionTemplates = ContributionTemplates()
+    val contributionTemplates = ContributionTemplates(manifestCache)
     val spec =
       mapOf(
         "connection_specification" to
@@ -195,7 +198,7 @@ class ContributionTemplatesTest {
 
   @Test
   fun `test getAllowedHosts`() {
-    val contributionTemplates = ContributionTemplates()
+    val contributionTemplates = ContributionTemplates(manifestCache)
 
     val streams =
       listOf(
@@ -253,7 +256,7 @@ class ContributionTemplatesTest {
 
   @Test
   fun `test toTemplateStreams`() {
-    val contributionTemplates = ContributionTemplates()
+    val contributionTemplates = ContributionTemplates(manifestCache)
     val streams =
       listOf(
         mapOf(
@@ -303,7 +306,7 @@ class ContributionTemplatesTest {
 
   @Test
   fun `render metadata file formatting`() {
-    val contributionTemplates = ContributionTemplates()
+    val contributionTemplates = ContributionTemplates(manifestCache)
     val githubContributionService = mockk<GithubContributionService>()
     every { githubContributionService.connectorDocsSlug } returns "test-docs-slug"
     val renderedYaml =
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+@file:Suppress("ktlint:standard:package-name")
+
+package io.airbyte.connector_builder.utils
+
+import com.fasterxml.jackson.databind.node.ObjectNode
+import io.airbyte.commons.json.Jsons
+import io.airbyte.connector_builder.exceptions.ManifestParserException
+import io.airbyte.metrics.MetricAttribute
+import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
+import io.airbyte.metrics.lib.MetricTags
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotSame
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+class ManifestCacheTest {
+  private val metricClient: MetricClient = mockk(relaxed = true)
+
+  @Test
+  fun `resolved manifests are cached regardless of the order of their keys`() {
+    val manifestCache = ManifestCache(10, metricClient)
+    val manifest = Jsons.deserialize("""{"version": "1.0.0", "streams": [{"name": "a"}]}""")
+    val resolvedManifest = Jsons.deserialize("""{"version": "1.0.0", "streams": [{"name": "a", "type": "DeclarativeStream"}]}""")
+
+    assertNull(manifestCache.getResolvedManifest(manifest))
+    manifestCache.putResolvedManifest(manifest, resolvedManifest)
+
+    assertEquals(resolvedManifest, manifestCache.getResolvedManifest(Jsons.deserialize("""{"streams": [{"name": "a"}], "version": "1.0.0"}""")))
+    assertNull(manifestCache.getResolvedManifest(Jsons.deserialize("""{"streams": [{"name": "b"}], "version": "1.0.0"}""")))
+    verify(exactly = 1) {
+      metricClient.count(
+        metric = OssMetricsRegistry.CONNECTOR_BUILDER_MANIFEST_CACHE_HITS,
+        attributes = arrayOf(MetricAttribute(MetricTags.CACHE_NAME, "resolved_manifests")),
+      )
+    }
+    verify(exactly = 2) {
+      metricClient.count(
+        metric = OssMetricsRegistry.CONNECTOR_BUILDER_MANIFEST_CACHE_MISSES,
+        attributes = arrayOf(MetricAttribute(MetricTags.CACHE_NAME, "resolved_manifests")),
+      )
+    }
+  }
+
+  @Test
+  fun `resolved manifests are copied in and out of the cache`() {
+    val manifestCache = ManifestCache(10, metricClient)
+    val manifest = Jsons.deserialize("""{"version": "1.0.0"}""")
+    val resolvedManifest = Jsons.deserialize("""{"version": "1.0.0", "type": "DeclarativeSource"}""")
+
+    manifestCache.putResolvedManifest(manifest, resolvedManifest)
+    (resolvedManifest as ObjectNode).put("type", "changed after put")
+    (manifestCache.getResolvedManifest(manifest) as ObjectNode).put("type", "changed after get")
+
+    assertEquals(Jsons.deserialize("""{"version": "1.0.0", "type": "DeclarativeSource"}"""), manifestCache.getResolvedManifest(manifest))
+  }
+
+  @Test
+  fun `parsed manifests are read-only`() {
+    val manifestCache = ManifestCache(10, metricClient)
+    val manifest = manifestCache.getParsedManifest("streams:\n  - name: a\n")
+
+    @Suppress("UNCHECKED_CAST")
+    assertThrows<UnsupportedOperationException> { (manifest.manifestMap as MutableMap<String, Any>)["streams"] = emptyList<Any>() }
+    @Suppress("UNCHECKED_CAST")
+    assertThrows<UnsupportedOperationException> { (manifest.streams[0] as MutableMap<String, Any>)["name"] = "b" }
+    assertEquals(listOf(mapOf("name" to "a")), manifestCache.getParsedManifest("streams:\n  - name: a\n").streams)
+  }
+
+  @Test
+  fun `parsed manifests are only parsed once`() {
+    val manifestCache = ManifestCache(10, metricClient)
+    val yaml = "streams:\n  - name: a\n"
+
+    val manifest = manifestCache.getParsedManifest(yaml)
+
+    assertSame(manifest, manifestCache.getParsedManifest(yaml))
+    assertEquals(listOf(mapOf("name" to "a")), manifest.streams)
+    assertNotSame(manifest, manifestCache.getParsedManifest("streams:\n  - name: b\n"))
+  }
+
+  @Test
+  fun `manifests that fail to parse are not cached`() {
+    val manifestCache = ManifestCache(10, metricClient)
+
+    assertThrows<ManifestParserException> { manifestCache.getParsedManifest("streams: [") }
+    assertThrows<ManifestParserException> { manifestCache.getParsedManifest("streams: [") }
+  }
+}
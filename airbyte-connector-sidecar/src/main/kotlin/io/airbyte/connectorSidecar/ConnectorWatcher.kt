@@ -21,6 +21,7 @@ import io.airbyte.metrics.MetricClient
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig
 import io.airbyte.workers.helper.GsonPksExtractor
 import io.airbyte.workers.internal.AirbyteStreamFactory
+import io.airbyte.workers.internal.FileWaiter
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration
 import io.airbyte.workers.models.SidecarInput
@@ -44,6 +45,8 @@ import kotlin.system.exitProcess
 
 private val logger = KotlinLogging.logger {}
 
+private val HEARTBEAT_CHECK_INTERVAL = Duration.ofSeconds(1)
+
 @Context
 class ConnectorWatcher(
   @Named("output") val outputPath: Path,
@@ -60,6 +63,8 @@ class ConnectorWatcher(
   private val heartbeatMonitor: HeartbeatMonitor,
   private val metricClient: MetricClient,
 ) {
+  private val fileWaiter = FileWaiter()
+
   @PostConstruct
   fun run() {
     val sidecarInput = readSidecarInput()
@@ -98,8 +103,10 @@ class ConnectorWatcher(
 
   private fun waitForConnectorOutput(input: SidecarInput) {
     val stopwatch = Stopwatch.createStarted()
-    while (!areNeededFilesPresent()) {
-      Thread.sleep(100)
+    val watchedDirs = listOf(outputPath.toAbsolutePath().parent, Path.of(configDir))
+    // Woken up as soon as the connector writes its files; the timeout only bounds how often the
+    // heartbeat and file timeout are checked.
+    while (!fileWaiter.waitFor(watchedDirs, HEARTBEAT_CHECK_INTERVAL) { areNeededFilesPresent() }) {
       if (heartbeatMonitor.shouldAbort()) {
         logger.warn { "Heartbeat indicates that the workload is in a terminal state, exiting process" }
         exitInternalError()
@@ -9,7 +9,9 @@ import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_CATALOG
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
+import com.google.common.hash.Funnels;
 import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import datadog.trace.api.Trace;
 import io.airbyte.commons.json.Jsons;
@@ -25,6 +27,7 @@ import io.airbyte.protocol.models.AirbyteCatalog;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.HashMap;
@@ -247,24 +250,27 @@ public class CatalogServiceJooqImpl implements CatalogService {
       return catalogId;
     }
 
-    final String oldCatalogHash = generateOldHash(airbyteCatalog);
+    // Serialized once, for both the old hash and the insert
+    final String serializedCatalog = Jsons.serialize(airbyteCatalog);
+    final String oldCatalogHash = generateOldHash(serializedCatalog);
     catalogId = lookupCatalogId(oldCatalogHash, airbyteCatalog, context);
     if (catalogId != null) {
       return catalogId;
     }
 
-    return insertCatalog(airbyteCatalog, canonicalCatalogHash, context, timestamp);
+    return insertCatalog(serializedCatalog, canonicalCatalogHash, context, timestamp);
   }
 
   private String generateCanonicalHash(final AirbyteCatalog airbyteCatalog) {
-    final HashFunction hashFunction = Hashing.murmur3_32_fixed();
-    try {
-      return hashFunction.hashBytes(Jsons.canonicalJsonSerialize(airbyteCatalog)
-          .getBytes(Charsets.UTF_8)).toString();
+    // The canonical JSON is hashed as it is written, instead of being built as a string first
+    final Hasher hasher = Hashing.murmur3_32_fixed().newHasher();
+    try (final OutputStream hasherStream = Funnels.asOutputStream(hasher)) {
+      Jsons.canonicalJsonSerialize(airbyteCatalog, hasherStream);
     } catch (final IOException e) {
       LOGGER.error("Failed to serialize AirbyteCatalog to canonical JSON", e);
       return null;
     }
+    return hasher.hash().toString();
   }
 
   private UUID lookupCatalogId(final String catalogHash, final AirbyteCatalog airbyteCatalog, final DSLContext context) {
@@ -274,19 +280,19 @@ public class CatalogServiceJooqImpl implements CatalogService {
     return findAndReturnCatalogId(catalogHash, airbyteCatalog, context);
   }
 
-  private String generateOldHash(final AirbyteCatalog airbyteCatalog) {
+  private String generateOldHash(final String serializedCatalog) {
     final HashFunction hashFunction = Hashing.murmur3_32_fixed();
-    return hashFunction.hashBytes(Jsons.serialize(airbyteCatalog).getBytes(Charsets.UTF_8)).toString();
+    return hashFunction.hashString(serializedCatalog, Charsets.UTF_8).toString();
   }
 
-  private UUID insertCatalog(final AirbyteCatalog airbyteCatalog,
+  private UUID insertCatalog(final String serializedCatalog,
                              final String catalogHash,
                              final DSLContext context,
                              final OffsetDateTime timestamp) {
     final UUID catalogId = UUID.randomUUID();
     context.insertInto(ACTOR_CATALOG)
         .set(ACTOR_CATALOG.ID, catalogId)
-        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(Jsons.serialize(airbyteCatalog)))
+        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(serializedCatalog))
         .set(ACTOR_CATALOG.CATALOG_HASH, catalogHash)
         .set(ACTOR_CATALOG.CREATED_AT, timestamp)
         .set(ACTOR_CATALOG.MODIFIED_AT, timestamp).execute();
@@ -38,6 +38,7 @@ import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ConnectionService;
 import io.airbyte.data.services.shared.StandardSyncQuery;
 import io.airbyte.data.services.shared.StandardSyncsQueryPaginated;
+import io.airbyte.data.services.shared.VersionedConfigCache;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
 import io.airbyte.db.instance.configs.jooq.generated.enums.ActorType;
@@ -54,6 +55,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -82,7 +84,31 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
   private static final String OPERATION_IDS_AGG_DELIMITER = ",";
   private static final String OPERATION_IDS_AGG_FIELD = "operation_ids_agg";
 
+  private static final long STANDARD_SYNC_CACHE_SIZE = 5_000;
+  private static final Duration STANDARD_SYNC_CACHE_EXPIRY = Duration.ofHours(1);
+
+  // Everything getStandardSync reads that can change independently of connection.updated_at is
+  // folded into the version, so that a cached connection is never served after any of it changes.
+  private static final String STANDARD_SYNC_VERSION_QUERY = """
+                                                            SELECT concat_ws('|',
+                                                              c.updated_at::text,
+                                                              coalesce(sm.auto_propagation_status::text, ''),
+                                                              coalesce(sm.backfill_preference::text, ''),
+                                                              coalesce((SELECT string_agg(co.operation_id::text, ',' ORDER BY co.operation_id)
+                                                                FROM connection_operation co WHERE co.connection_id = c.id), ''),
+                                                              coalesce((SELECT string_agg(nc.id::text || ':' || nc.enabled::text || ':' || nc.notification_type::text,
+                                                                                         ',' ORDER BY nc.id)
+                                                                FROM notification_configuration nc WHERE nc.connection_id = c.id), ''),
+                                                              coalesce((SELECT string_agg(t.id::text || ':' || t.name || ':' || t.color, ',' ORDER BY t.id)
+                                                                FROM connection_tag ct JOIN tag t ON t.id = ct.tag_id WHERE ct.connection_id = c.id), ''))
+                                                            FROM connection c
+                                                            LEFT JOIN schema_management sm ON sm.connection_id = c.id
+                                                            WHERE c.id = ?
+                                                            """;
+
   private final ExceptionWrappingDatabase database;
+  private final VersionedConfigCache<UUID, StandardSync> standardSyncCache =
+      new VersionedConfigCache<>(STANDARD_SYNC_CACHE_SIZE, STANDARD_SYNC_CACHE_EXPIRY, Jsons::clone);
 
   @VisibleForTesting
   public ConnectionServiceJooqImpl(@Named("configDatabase") final Database database) {
@@ -104,6 +130,7 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
       deleteConfig(CONNECTION, CONNECTION.ID, syncId, ctx);
       return null;
     });
+    standardSyncCache.invalidate(syncId);
   }
 
   /**
@@ -119,6 +146,14 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
   @Trace
   public StandardSync getStandardSync(final UUID connectionId)
       throws JsonValidationException, IOException, ConfigNotFoundException {
+    final Optional<String> version = getStandardSyncVersion(connectionId);
+    if (version.isPresent()) {
+      final Optional<StandardSync> cached = standardSyncCache.get(connectionId, version.get());
+      if (cached.isPresent()) {
+        return cached.get();
+      }
+    }
+
     final List<ConfigWithMetadata<StandardSync>> result = listStandardSyncWithMetadata(Optional.of(connectionId));
 
     final boolean foundMoreThanOneConfig = result.size() > 1;
@@ -127,7 +162,27 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
     } else if (foundMoreThanOneConfig) {
       throw new IllegalStateException(String.format("Multiple %s configs found for ID %s: %s", ConfigSchema.STANDARD_SYNC, connectionId, result));
     }
-    return result.get(0).getConfig();
+    final StandardSync standardSync = result.get(0).getConfig();
+    version.ifPresent(v -> standardSyncCache.put(connectionId, v, standardSync));
+    return standardSync;
+  }
+
+  /**
+   * Get the version of a connection, which changes whenever anything that goes into its
+   * {@link StandardSync} does. Much cheaper than hydrating the connection, as the catalog is not
+   * read.
+   *
+   * @param connectionId connection id
+   * @return the version, or empty if the connection doesn't exist or can't be versioned
+   */
+  private Optional<String> getStandardSyncVersion(final UUID connectionId) throws IOException {
+    final Result<Record> result = database.query(ctx -> ctx.fetch(STANDARD_SYNC_VERSION_QUERY, connectionId));
+    // More than one row means duplicate schema management records; let the regular read path deal
+    // with it.
+    if (result.size() != 1) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(result.get(0).get(0, String.class));
   }
 
   /**
@@ -142,6 +197,7 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
       writeStandardSync(standardSync, ctx);
       return null;
     });
+    standardSyncCache.invalidate(standardSync.getConnectionId());
   }
 
   /**
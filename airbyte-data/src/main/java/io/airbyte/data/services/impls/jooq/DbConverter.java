@@ -23,6 +23,9 @@ import static io.airbyte.db.instance.configs.jooq.generated.Tables.WORKSPACE;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.WORKSPACE_SERVICE_ACCOUNT;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
@@ -76,6 +79,7 @@ import io.airbyte.db.instance.configs.jooq.generated.enums.NotificationType;
 import io.airbyte.db.instance.configs.jooq.generated.tables.records.NotificationConfigurationRecord;
 import io.airbyte.db.instance.configs.jooq.generated.tables.records.TagRecord;
 import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -93,6 +97,8 @@ import org.jooq.Record;
  */
 public class DbConverter {
 
+  private static final String STREAMS = "streams";
+
   /**
    * Build connection (a.k.a. StandardSync) from db record.
    *
@@ -358,7 +364,7 @@ public class DbConverter {
   public static ActorCatalog buildActorCatalog(final Record record) {
     return new ActorCatalog()
         .withId(record.get(ACTOR_CATALOG.ID))
-        .withCatalog(Jsons.jsonNode(parseAirbyteCatalog(record.get(ACTOR_CATALOG.CATALOG).toString())))
+        .withCatalog(parseAirbyteCatalogAsJson(record.get(ACTOR_CATALOG.CATALOG).data()))
         .withCatalogHash(record.get(ACTOR_CATALOG.CATALOG_HASH));
   }
 
@@ -371,7 +377,7 @@ public class DbConverter {
   public static ActorCatalogWithUpdatedAt buildActorCatalogWithUpdatedAt(final Record record) {
     return new ActorCatalogWithUpdatedAt()
         .withId(record.get(ACTOR_CATALOG.ID))
-        .withCatalog(Jsons.jsonNode(parseAirbyteCatalog(record.get(ACTOR_CATALOG.CATALOG).toString())))
+        .withCatalog(parseAirbyteCatalogAsJson(record.get(ACTOR_CATALOG.CATALOG).data()))
         .withCatalogHash(record.get(ACTOR_CATALOG.CATALOG_HASH))
         .withUpdatedAt(record.get(ACTOR_CATALOG_FETCH_EVENT.CREATED_AT, LocalDateTime.class).toEpochSecond(ZoneOffset.UTC));
   }
@@ -386,6 +392,24 @@ public class DbConverter {
     return Jsons.deserialize(airbyteCatalogString, AirbyteCatalog.class);
   }
 
+  /**
+   * Parse airbyte catalog from JSON string into its JSON form, as stored in the actor catalog. Streams
+   * are parsed and converted one at a time, so that the whole catalog is not held both as objects and
+   * as JSON at once.
+   *
+   * @param airbyteCatalogString catalog as JSON string
+   * @return airbyte catalog as JSON
+   */
+  private static JsonNode parseAirbyteCatalogAsJson(final String airbyteCatalogString) {
+    final ArrayNode streams = Jsons.arrayNode();
+    final ObjectNode otherFields =
+        Jsons.deserializeArrayField(airbyteCatalogString, STREAMS, AirbyteStream.class, stream -> streams.add(Jsons.jsonNode(stream)));
+    // Fields other than the streams still go through the catalog model, as when parsing it whole
+    final ObjectNode catalog = (ObjectNode) Jsons.jsonNode(Jsons.object(otherFields, AirbyteCatalog.class));
+    catalog.set(STREAMS, streams);
+    return catalog;
+  }
+
   /**
    * Build actor catalog fetch event from db record.
    *
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-through cache for configs that are expensive to hydrate but cheap to version, e.g. through
+ * their updated_at column.
+ * <p>
+ * Callers look up the current version of a config on every read and only get a cached value if it
+ * was stored under that exact version. Because the version is read from the database, an update is
+ * visible to every replica as soon as it is committed; local invalidation on writes only frees
+ * memory earlier.
+ * <p>
+ * Values are copied on the way in and out, so callers are free to mutate what they get back.
+ *
+ * @param <K> config id
+ * @param <V> config
+ */
+public class VersionedConfigCache<K, V> {
+
+  private record VersionedValue<V>(Object version, V value) {}
+
+  private final Cache<K, VersionedValue<V>> cache;
+  private final UnaryOperator<V> copier;
+
+  public VersionedConfigCache(final long maximumSize, final Duration expireAfterAccess, final UnaryOperator<V> copier) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterAccess(expireAfterAccess)
+        .build();
+    this.copier = copier;
+  }
+
+  /**
+   * Get the cached config if it was stored under the given version.
+   *
+   * @param key config id
+   * @param currentVersion version of the config as currently committed
+   * @return a copy of the cached config, or empty if it is missing or stale
+   */
+  public Optional<V> get(final K key, final Object currentVersion) {
+    final VersionedValue<V> cached = cache.getIfPresent(key);
+    if (cached == null || !Objects.equals(cached.version(), currentVersion)) {
+      return Optional.empty();
+    }
+    return Optional.of(copier.apply(cached.value()));
+  }
+
+  /**
+   * Store a config under the version that was read before loading it. If the config was updated in
+   * between, the stored version is already stale and the entry will never be served.
+   *
+   * @param key config id
+   * @param version version read before loading the config
+   * @param value config
+   */
+  public void put(final K key, final Object version, final V value) {
+    cache.put(key, new VersionedValue<>(version, copier.apply(value)));
+  }
+
+  public void invalidate(final K key) {
+    cache.invalidate(key);
+  }
+
+}
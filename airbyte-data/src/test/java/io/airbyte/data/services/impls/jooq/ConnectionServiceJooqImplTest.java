@@ -7,6 +7,7 @@ package io.airbyte.data.services.impls.jooq;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.ConfiguredAirbyteCatalog;
 import io.airbyte.config.ConfiguredAirbyteStream;
 import io.airbyte.config.DestinationConnection;
@@ -120,6 +121,30 @@ class ConnectionServiceJooqImplTest extends BaseConfigDatabaseTest {
         .withTags(Collections.emptyList());
   }
 
+  @Test
+  void testGetStandardSyncIsNeverStaleAfterUpdate() throws JsonValidationException, ConfigNotFoundException, IOException, SQLException {
+    final JooqTestDbSetupHelper jooqTestDbSetupHelper = new JooqTestDbSetupHelper();
+    jooqTestDbSetupHelper.setUpDependencies();
+
+    final List<ConfiguredAirbyteStream> streams =
+        List.of(catalogHelpers.createConfiguredAirbyteStream("stream_a", "namespace", Field.of("field_name", JsonSchemaType.STRING)));
+    final StandardSync standardSync = createStandardSync(jooqTestDbSetupHelper.getSource(), jooqTestDbSetupHelper.getDestination(), streams);
+    connectionServiceJooqImpl.writeStandardSync(standardSync);
+
+    // Populate the cache, and make sure callers can't mutate the cached copy.
+    connectionServiceJooqImpl.getStandardSync(standardSync.getConnectionId()).setName("mutated");
+    assertEquals(standardSync.getName(), connectionServiceJooqImpl.getStandardSync(standardSync.getConnectionId()).getName());
+
+    // Update through another instance, as another server replica would, so the local cache is not
+    // invalidated.
+    final ConnectionServiceJooqImpl otherConnectionService = new ConnectionServiceJooqImpl(database);
+    otherConnectionService.writeStandardSync(Jsons.clone(standardSync).withName("renamed"));
+    assertEquals("renamed", connectionServiceJooqImpl.getStandardSync(standardSync.getConnectionId()).getName());
+
+    otherConnectionService.writeStandardSync(Jsons.clone(standardSync).withName("renamed").withTags(jooqTestDbSetupHelper.getTags()));
+    assertEquals(jooqTestDbSetupHelper.getTags().size(), connectionServiceJooqImpl.getStandardSync(standardSync.getConnectionId()).getTags().size());
+  }
+
   @Test
   void testCreateConnectionWithTags() throws JsonValidationException, ConfigNotFoundException, IOException, SQLException {
     final JooqTestDbSetupHelper jooqTestDbSetupHelper = new JooqTestDbSetupHelper();
@@ -7,10 +7,17 @@ package io.airbyte.data.services.impls.jooq
 import com.google.common.io.Resources
 import io.airbyte.commons.json.Jsons
 import io.airbyte.commons.protocol.DefaultProtocolSerializer
+import io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_CATALOG
+import io.airbyte.protocol.models.AirbyteCatalog
+import io.mockk.every
+import io.mockk.mockk
+import org.jooq.JSONB
+import org.jooq.Record
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.ValueSource
 import java.nio.charset.Charset
+import java.util.UUID
 import io.airbyte.config.ConfiguredAirbyteCatalog as InternalConfiguredAirbyteCatalog
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog as ProtocolConfiguredAirbyteCatalog
 
@@ -34,6 +41,34 @@ internal class DbConverterTest {
     assertCatalogsAreEqual(internalCatalog, protocolCatalog)
   }
 
+  @ValueSource(
+    strings = [
+      "non-reg-configured-catalog/facebook.json",
+      "non-reg-configured-catalog/ga.json",
+      "non-reg-configured-catalog/hubspot.json",
+      "non-reg-configured-catalog/internal-pg.json",
+      "non-reg-configured-catalog/stripe.json",
+    ],
+  )
+  @ParameterizedTest
+  fun testActorCatalogIsParsedStreamByStreamLikeAWholeCatalog(resourceName: String) {
+    val rawCatalog = Resources.toString(Resources.getResource(resourceName), Charset.defaultCharset())
+    val streams = parseConfiguredAirbyteCatalogAsProtocol(rawCatalog).streams.map { it.stream }
+    val serializedCatalog = Jsons.serialize(AirbyteCatalog().withStreams(streams))
+    val catalogId = UUID.randomUUID()
+    val record =
+      mockk<Record> {
+        every { get(ACTOR_CATALOG.ID) } returns catalogId
+        every { get(ACTOR_CATALOG.CATALOG) } returns JSONB.valueOf(serializedCatalog)
+        every { get(ACTOR_CATALOG.CATALOG_HASH) } returns "hash"
+      }
+
+    val actorCatalog = DbConverter.buildActorCatalog(record)
+
+    Assertions.assertEquals(catalogId, actorCatalog.id)
+    Assertions.assertEquals(Jsons.jsonNode(DbConverter.parseAirbyteCatalog(serializedCatalog)), actorCatalog.catalog)
+  }
+
   private fun assertCatalogsAreEqual(
     internal: InternalConfiguredAirbyteCatalog,
     protocol: ProtocolConfiguredAirbyteCatalog,
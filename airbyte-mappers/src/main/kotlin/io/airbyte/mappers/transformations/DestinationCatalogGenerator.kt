@@ -5,6 +5,10 @@
 package io.airbyte.mappers.transformations
 
 import com.fasterxml.jackson.databind.JsonNode
+import com.google.common.cache.Cache
+import com.google.common.cache.CacheBuilder
+import com.google.common.cache.Weigher
+import com.google.common.hash.Hashing
 import io.airbyte.commons.json.Jsons
 import io.airbyte.config.ConfiguredAirbyteCatalog
 import io.airbyte.config.ConfiguredAirbyteStream
@@ -17,15 +21,44 @@ import io.airbyte.config.MapperConfig
 import io.airbyte.config.StreamDescriptor
 import io.github.oshai.kotlinlogging.KotlinLogging
 import jakarta.inject.Singleton
+import java.nio.charset.StandardCharsets
 
 val log = KotlinLogging.logger {}
 
+/**
+ * Bound on the total length of the cached serialized streams, i.e. roughly on the number of bytes
+ * they take, as most schemas are ASCII.
+ */
+private const val MAX_CACHED_STREAMS_LENGTH = 64L * 1024 * 1024
+
 @Singleton
 class DestinationCatalogGenerator(
   val mappers: List<Mapper<out MapperConfig>>,
 ) {
   private val mappersByName = mappers.associateBy { it.name }
 
+  /**
+   * Generated destination streams, keyed by the hash of the configured stream they were generated
+   * from. The configured stream holds both the source schema and the mapper configs, so an entry
+   * can be reused for any catalog containing that exact stream. Entries are weighed by their length,
+   * as a single stream schema can be anywhere from a few bytes to megabytes.
+   */
+  private val generatedStreams: Cache<String, GeneratedStream> =
+    CacheBuilder
+      .newBuilder()
+      .maximumWeight(MAX_CACHED_STREAMS_LENGTH)
+      .weigher(Weigher<String, GeneratedStream> { _, generated -> generated.serializedStream.length })
+      .build()
+
+  /**
+   * A generated stream, kept serialized so that every hit hands out its own copy.
+   */
+  private class GeneratedStream(
+    val serializedStream: String,
+    val streamDescriptor: StreamDescriptor,
+    val errors: Map<MapperConfig, MapperError>,
+  )
+
   enum class MapperErrorType {
     MISSING_MAPPER,
     INVALID_MAPPER_CONFIG,
@@ -46,14 +79,42 @@ class DestinationCatalogGenerator(
   /**
    * Apply the mapper transformations to the catalog in order to generate the destination catalog.
    * It won't modify tbe input catalog, it creates a copy of the configure catalog, then mutate the copy and then returns it.
+   *
+   * Streams with mappers that were already generated, by this call or a previous one, are copied from
+   * the cache instead of running their mappers again.
    */
   fun generateDestinationCatalog(inputCatalog: ConfiguredAirbyteCatalog): CatalogGenerationResult {
-    val resultCatalog = Jsons.clone(inputCatalog)
+    val errors = LinkedHashMap<StreamDescriptor, Map<MapperConfig, MapperError>>()
+    val resultCatalog = inputCatalog.copy(streams = inputCatalog.streams.map { generateStream(it, errors) })
+
+    return CatalogGenerationResult(resultCatalog, errors)
+  }
 
-    return resultCatalog.streams.fold(CatalogGenerationResult(resultCatalog, mapOf())) { acc, it ->
-      val errors = applyCatalogMapperTransformations(it)
-      CatalogGenerationResult(resultCatalog, acc.errors + Pair(it.stream.streamDescriptor, errors))
+  private fun generateStream(
+    inputStream: ConfiguredAirbyteStream,
+    errors: MutableMap<StreamDescriptor, Map<MapperConfig, MapperError>>,
+  ): ConfiguredAirbyteStream {
+    // Without mappers, generating the stream is about as cheap as copying it out of the cache.
+    if (inputStream.mappers.isEmpty()) {
+      val stream = Jsons.clone(inputStream)
+      errors[stream.stream.streamDescriptor] = applyCatalogMapperTransformations(stream)
+      return stream
     }
+
+    val serializedInput = Jsons.serialize(inputStream)
+    val key = Hashing.sha256().hashString(serializedInput, StandardCharsets.UTF_8).toString()
+    val cached = generatedStreams.getIfPresent(key)
+    if (cached != null) {
+      errors[cached.streamDescriptor] = cached.errors
+      return Jsons.deserialize(cached.serializedStream, ConfiguredAirbyteStream::class.java)
+    }
+
+    // Deserializing the input gives us a copy to mutate without having to serialize it again.
+    val stream = Jsons.deserialize(serializedInput, ConfiguredAirbyteStream::class.java)
+    val streamErrors = applyCatalogMapperTransformations(stream)
+    generatedStreams.put(key, GeneratedStream(Jsons.serialize(stream), stream.stream.streamDescriptor, streamErrors))
+    errors[stream.stream.streamDescriptor] = streamErrors
+    return stream
   }
 
   private fun applyCatalogMapperTransformations(stream: ConfiguredAirbyteStream): Map<MapperConfig, MapperError> {
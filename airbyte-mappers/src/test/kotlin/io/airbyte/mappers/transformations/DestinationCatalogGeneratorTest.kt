@@ -10,6 +10,7 @@ import io.airbyte.config.ConfiguredAirbyteCatalog
 import io.airbyte.config.ConfiguredAirbyteStream
 import io.airbyte.config.Field
 import io.airbyte.config.FieldType
+import io.airbyte.config.MapperConfig
 import io.airbyte.config.StreamDescriptor
 import io.airbyte.config.mapper.configs.TEST_MAPPER_NAME
 import io.airbyte.config.mapper.configs.TestConfig
@@ -17,6 +18,8 @@ import io.airbyte.config.mapper.configs.TestEnums
 import io.airbyte.config.mapper.configs.TestMapperConfig
 import io.airbyte.mappers.mocks.FailingTestMapper
 import io.airbyte.mappers.mocks.TestMapper
+import io.mockk.spyk
+import io.mockk.verify
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
@@ -547,6 +550,56 @@ class DestinationCatalogGeneratorTest {
     )
   }
 
+  @Test
+  fun `generated streams are reused across calls`() {
+    val mapper = spyk(TestMapper())
+    val generator = DestinationCatalogGenerator(listOf(mapper))
+    val configuredUsersStream =
+      ConfiguredAirbyteStream(
+        stream =
+          AirbyteStream(
+            name = "users",
+            jsonSchema = Jsons.jsonNode(mapOf("type" to "object", "properties" to mapOf("field1" to mapOf("type" to "string")))),
+            supportedSyncModes = listOf(),
+          ),
+        fields = listOf(Field(name = "field1", type = FieldType.STRING)),
+        mappers = listOf(TestMapperConfig(TEST_MAPPER_NAME, null, null, TestConfig("", TestEnums.TWO, ""))),
+      )
+    val catalog = ConfiguredAirbyteCatalog(streams = listOf(configuredUsersStream))
+
+    val first = generator.generateDestinationCatalog(catalog)
+    first.catalog.streams[0].fields = listOf()
+    val second = generator.generateDestinationCatalog(Jsons.clone(catalog))
+
+    verify(exactly = 1) { mapper.schema(any(), any()) }
+    assertEquals(listOf(Field(name = "field1_test", type = FieldType.STRING)), second.catalog.streams[0].fields)
+    assertEquals(first.errors, second.errors)
+  }
+
+  @Test
+  fun `streams without mappers are generated on every call`() {
+    val generator = DestinationCatalogGenerator(listOf(TestMapper()))
+    val configuredUsersStream =
+      ConfiguredAirbyteStream(
+        stream =
+          AirbyteStream(
+            name = "users",
+            jsonSchema = Jsons.jsonNode(mapOf("type" to "object", "properties" to mapOf("field1" to mapOf("type" to "string")))),
+            supportedSyncModes = listOf(),
+          ),
+        fields = listOf(Field(name = "field1", type = FieldType.STRING)),
+      )
+    val catalog = ConfiguredAirbyteCatalog(streams = listOf(configuredUsersStream))
+
+    val first = generator.generateDestinationCatalog(catalog)
+    first.catalog.streams[0].fields = listOf()
+    val second = generator.generateDestinationCatalog(catalog)
+
+    assertEquals(listOf(Field(name = "field1", type = FieldType.STRING)), second.catalog.streams[0].fields)
+    assertEquals(listOf(Field(name = "field1", type = FieldType.STRING)), catalog.streams[0].fields)
+    assertEquals(mapOf(configuredUsersStream.stream.streamDescriptor to mapOf<MapperConfig, DestinationCatalogGenerator.MapperError>()), second.errors)
+  }
+
   @Test
   fun `test fieldSerialization`() {
     val input =
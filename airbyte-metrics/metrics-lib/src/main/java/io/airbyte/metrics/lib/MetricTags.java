@@ -21,6 +21,7 @@ public class MetricTags {
   public static final String AUTHENTICATION_RESPONSE = "authentication_response";
   public static final String AUTHENTICATION_RESPONSE_FAILURE_REASON = "authentication_response_failure_reason";
   public static final String AUTHENTICATION_REQUEST_URI_ATTRIBUTE_KEY = "request_uri";
+  public static final String CACHE_NAME = "cache_name";
   public static final String CANCELLATION_SOURCE = "cancellation_source";
   public static final String COMMAND = "command";
   public static final String COMMAND_STEP = "command_step";
@@ -72,6 +73,8 @@ public class MetricTags {
   public static final String USER_TYPE = "user_type"; // real user, service account, data plane user, etc
   public static final String CLIENT_ID = "client_id";
   public static final String LOG_CLIENT_TYPE = "log_client_type";
+  public static final String LOG_DOCUMENT_TYPE = "log_document_type";
+  public static final String LOG_LEVEL = "log_level";
   public static final String MALFORMED_LOG_LINE_LENGTH = "malformed_log_line_length";
 
   // payload metric tags
@@ -172,6 +172,31 @@ enum class OssMetricsRegistry(
     metricName = "cron_jobs_run",
     metricDescription = "number of cron runs by cron type",
   ),
+  CONNECTOR_BUILDER_MANIFEST_CACHE_HITS(
+    application = MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+    metricName = "connector_builder_manifest_cache_hits",
+    metricDescription = "increments when a manifest is found in the connector builder server manifest cache",
+  ),
+  CONNECTOR_BUILDER_MANIFEST_CACHE_MISSES(
+    application = MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+    metricName = "connector_builder_manifest_cache_misses",
+    metricDescription = "increments when a manifest is not found in the connector builder server manifest cache",
+  ),
+  CONNECTOR_LOG_BYTES(
+    application = MetricEmittingApps.WORKER,
+    metricName = "connector_log_bytes",
+    metricDescription = "the number of bytes of log lines read from the stderr of a connector",
+  ),
+  CONNECTOR_LOG_LINES(
+    application = MetricEmittingApps.WORKER,
+    metricName = "connector_log_lines",
+    metricDescription = "the number of log lines read from the stderr of a connector",
+  ),
+  CONNECTOR_LOG_LINES_DROPPED(
+    application = MetricEmittingApps.WORKER,
+    metricName = "connector_log_lines_dropped",
+    metricDescription = "the number of log lines read from the stderr of a connector that were dropped because they were repeated or over the rate limit",
+  ),
   CONNECTOR_REGISTRY_DEFINITION_PROCESSED(
     application = MetricEmittingApps.CRON, // Actually `cron` or `bootloader` based on which metric client calls the code
     metricName = "connector_registry_definition_processed",
@@ -217,6 +242,21 @@ enum class OssMetricsRegistry(
     metricName = "kube_pod_process_create_time_millisecs",
     metricDescription = "time taken to create a new kube pod process",
   ),
+  LOG_APPENDER_EVENTS_DROPPED(
+    application = MetricEmittingApps.WORKER,
+    metricName = "log_appender_events_dropped",
+    metricDescription = "the number of log events dropped by the cloud storage log appender because its buffer was full",
+  ),
+  LOG_APPENDER_QUEUE_DEPTH(
+    application = MetricEmittingApps.WORKER,
+    metricName = "log_appender_queue_depth",
+    metricDescription = "the number of log events waiting in the cloud storage log appender buffer when an upload starts",
+  ),
+  LOG_APPENDER_UPLOAD_TIME_MS(
+    application = MetricEmittingApps.WORKER,
+    metricName = "log_appender_upload_time_ms",
+    metricDescription = "the amount of time spent uploading a batch of log events to cloud storage in milliseconds",
+  ),
   LOG_CLIENT_FILE_LINE_BYTES_RETRIEVED(
     application = MetricEmittingApps.SERVER,
     metricName = "log_client_file_byte_count",
@@ -768,6 +808,11 @@ enum class OssMetricsRegistry(
     metricName = "init_file_client_failure",
     metricDescription = "Count of failures prepping files during hydration step.",
   ),
+  INIT_HYDRATION_PHASE_DURATION(
+    application = MetricEmittingApps.WORKLOAD_INIT,
+    metricName = "init_hydration_phase_duration",
+    metricDescription = "Duration of each phase of preparing the inputs of a workload.",
+  ),
   WORKLOAD_MESSAGE_PUBLISHED(
     application = MetricEmittingApps.WORKLOAD_API,
     metricName = "workload_message_published",
@@ -843,6 +888,41 @@ enum class OssMetricsRegistry(
     metricName = "workload_stage_duration",
     metricDescription = "a distribution of the duration of a workload stage",
   ),
+  WORKLOAD_STAGE_IN_FLIGHT(
+    application = MetricEmittingApps.WORKLOAD_LAUNCHER,
+    metricName = "workload_stage_in_flight",
+    metricDescription = "number of workloads currently being processed by a workload stage",
+  ),
+  WORKLOAD_LAUNCHES_IN_FLIGHT(
+    application = MetricEmittingApps.WORKLOAD_LAUNCHER,
+    metricName = "workload_launches_in_flight",
+    metricDescription = "number of workloads currently moving through the launch pipeline",
+  ),
+  WORKLOAD_LAUNCH_QUEUE_DEPTH(
+    application = MetricEmittingApps.WORKLOAD_LAUNCHER,
+    metricName = "workload_launch_queue_depth",
+    metricDescription = "number of received workloads waiting for their fair share of launch slots",
+  ),
+  WORKLOAD_LAUNCH_QUEUE_WAIT(
+    application = MetricEmittingApps.WORKLOAD_LAUNCHER,
+    metricName = "workload_launch_queue_wait",
+    metricDescription = "time a received workload waited for a launch slot",
+  ),
+  WARM_POD_POOL_SIZE(
+    application = MetricEmittingApps.WORKLOAD_LAUNCHER,
+    metricName = "warm_pod_pool_size",
+    metricDescription = "number of warm connector pods ready to be assigned a workload",
+  ),
+  WARM_POD_POOL_CLAIM(
+    application = MetricEmittingApps.WORKLOAD_LAUNCHER,
+    metricName = "warm_pod_pool_claim",
+    metricDescription = "number of attempts to launch a connector pod from a warm pod, tagged by whether one was available",
+  ),
+  WARM_POD_POOL_EVICTION(
+    application = MetricEmittingApps.WORKLOAD_LAUNCHER,
+    metricName = "warm_pod_pool_eviction",
+    metricDescription = "number of warm connector pods deleted because they were idle for too long",
+  ),
   PODS_DELETED_FOR_MUTEX_KEY(
     application = MetricEmittingApps.WORKLOAD_LAUNCHER,
     metricName = "workload_pods_deleted_for_mutex_key",
@@ -12,6 +12,8 @@ import static io.airbyte.db.instance.jobs.jooq.generated.Tables.STREAM_STATS;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.SYNC_STATS;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import datadog.trace.api.Trace;
@@ -47,7 +49,9 @@ import io.airbyte.db.instance.jobs.jooq.generated.tables.records.JobsRecord;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.protocol.models.v0.StreamDescriptor;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -61,11 +65,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -129,12 +136,23 @@ public class DefaultJobPersistence implements JobPersistence {
   static final String BASE_JOB_SELECT_AND_JOIN = jobSelectAndJoin("jobs");
   private static final String ATTEMPT_SELECT =
       "SELECT job_id," + ATTEMPT_FIELDS + "FROM attempts WHERE job_id = ? AND attempt_number = ?";
+  private static final long ATTEMPT_ID_CACHE_SIZE = 10_000;
   // not static because job history test case manipulates these.
   private final int jobHistoryMinimumAgeInDays;
   private final int jobHistoryMinimumRecency;
   private final int jobHistoryExcessiveNumberOfJobs;
   private final ExceptionWrappingDatabase jobDatabase;
   private final Supplier<Instant> timeSupplier;
+  // Attempt ids never change once an attempt is created, so the stats write path, which runs on a
+  // fixed cadence for every running sync, doesn't need to look them up every time.
+  private final Cache<JobAttemptPair, Long> attemptIdCache = CacheBuilder.newBuilder()
+      .maximumSize(ATTEMPT_ID_CACHE_SIZE)
+      .expireAfterAccess(Duration.ofHours(1))
+      .build();
+  // Stats writes waiting to be persisted by the next flush, see writeStats.
+  private final Object statsWriteLock = new Object();
+  private List<PendingStatsWrite> pendingStatsWrites = new ArrayList<>();
+  private boolean statsFlushInProgress;
 
   @VisibleForTesting
   DefaultJobPersistence(final Database jobDatabase,
@@ -173,8 +191,16 @@ public class DefaultJobPersistence implements JobPersistence {
     // currently has duplicate records and also doesn't contain the unique constraint on the attempt_id
     // column JOOQ requires. We are forced to check for existence.
     final var isExisting = ctx.fetchExists(SYNC_STATS, SYNC_STATS.ATTEMPT_ID.eq(attemptId));
+    syncStatsQuery(now, syncStats, attemptId, isExisting, ctx).execute();
+  }
+
+  private static Query syncStatsQuery(final OffsetDateTime now,
+                                      final SyncStats syncStats,
+                                      final Long attemptId,
+                                      final boolean isExisting,
+                                      final DSLContext ctx) {
     if (isExisting) {
-      ctx.update(SYNC_STATS)
+      return ctx.update(SYNC_STATS)
           .set(SYNC_STATS.UPDATED_AT, now)
           .set(SYNC_STATS.BYTES_EMITTED, syncStats.getBytesEmitted())
           .set(SYNC_STATS.RECORDS_EMITTED, syncStats.getRecordsEmitted())
@@ -188,12 +214,10 @@ public class DefaultJobPersistence implements JobPersistence {
           .set(SYNC_STATS.MEAN_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMeanSecondsBeforeSourceStateMessageEmitted())
           .set(SYNC_STATS.MAX_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMaxSecondsBetweenStateMessageEmittedandCommitted())
           .set(SYNC_STATS.MEAN_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMeanSecondsBetweenStateMessageEmittedandCommitted())
-          .where(SYNC_STATS.ATTEMPT_ID.eq(attemptId))
-          .execute();
-      return;
+          .where(SYNC_STATS.ATTEMPT_ID.eq(attemptId));
     }
 
-    ctx.insertInto(SYNC_STATS)
+    return ctx.insertInto(SYNC_STATS)
         .set(SYNC_STATS.ID, UUID.randomUUID())
         .set(SYNC_STATS.CREATED_AT, now)
         .set(SYNC_STATS.ATTEMPT_ID, attemptId)
@@ -209,8 +233,7 @@ public class DefaultJobPersistence implements JobPersistence {
         .set(SYNC_STATS.MAX_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMaxSecondsBeforeSourceStateMessageEmitted())
         .set(SYNC_STATS.MEAN_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMeanSecondsBeforeSourceStateMessageEmitted())
         .set(SYNC_STATS.MAX_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMaxSecondsBetweenStateMessageEmittedandCommitted())
-        .set(SYNC_STATS.MEAN_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMeanSecondsBetweenStateMessageEmittedandCommitted())
-        .execute();
+        .set(SYNC_STATS.MEAN_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMeanSecondsBetweenStateMessageEmittedandCommitted());
   }
 
   private static void saveToStreamStatsTableBatch(final OffsetDateTime now,
@@ -218,8 +241,6 @@ public class DefaultJobPersistence implements JobPersistence {
                                                   final Long attemptId,
                                                   final UUID connectionId,
                                                   final DSLContext ctx) {
-    final List<Query> queries = new ArrayList<>();
-
     // Upserts require the onConflict statement that does not work as the table currently has duplicate
     // records on the null
     // namespace value. This is a valid state and not a bug.
@@ -232,6 +253,16 @@ public class DefaultJobPersistence implements JobPersistence {
         .where(STREAM_STATS.ATTEMPT_ID.eq(attemptId))
         .fetchSet(r -> new StreamDescriptor().withName(r.get(STREAM_STATS.STREAM_NAME)).withNamespace(r.get(STREAM_STATS.STREAM_NAMESPACE)));
 
+    ctx.batch(streamStatsQueries(now, perStreamStats, attemptId, connectionId, existingStreams, ctx)).execute();
+  }
+
+  private static List<Query> streamStatsQueries(final OffsetDateTime now,
+                                                final List<StreamSyncStats> perStreamStats,
+                                                final Long attemptId,
+                                                final UUID connectionId,
+                                                final Set<StreamDescriptor> existingStreams,
+                                                final DSLContext ctx) {
+    final List<Query> queries = new ArrayList<>();
     Optional.ofNullable(perStreamStats).orElse(Collections.emptyList()).forEach(
         streamStats -> {
           final var isExisting =
@@ -269,8 +300,7 @@ public class DefaultJobPersistence implements JobPersistence {
                     .set(STREAM_STATS.RECORDS_COMMITTED, stats.getRecordsCommitted()));
           }
         });
-
-    ctx.batch(queries).execute();
+    return queries;
   }
 
   private static Map<JobAttemptPair, AttemptStats> hydrateSyncStats(final String jobIdsStr, final DSLContext ctx) {
@@ -391,6 +421,43 @@ public class DefaultJobPersistence implements JobPersistence {
     return record.get().get("id", Long.class);
   }
 
+  private Long getCachedAttemptId(final long jobId, final int attemptNumber, final DSLContext ctx) {
+    final var key = new JobAttemptPair(jobId, attemptNumber);
+    final Long cachedAttemptId = attemptIdCache.getIfPresent(key);
+    if (cachedAttemptId != null) {
+      return cachedAttemptId;
+    }
+
+    final Long attemptId = getAttemptId(jobId, attemptNumber, ctx);
+    if (attemptId != -1L) {
+      attemptIdCache.put(key, attemptId);
+    }
+    return attemptId;
+  }
+
+  /**
+   * Resolves the attempt ids of many attempts with at most one query. Attempts that don't exist are
+   * absent from the returned map.
+   */
+  private Map<JobAttemptPair, Long> getCachedAttemptIds(final Collection<JobAttemptPair> keys, final DSLContext ctx) {
+    final Map<JobAttemptPair, Long> attemptIds = new HashMap<>(attemptIdCache.getAllPresent(keys));
+    final List<JobAttemptPair> missingKeys = keys.stream().filter(key -> !attemptIds.containsKey(key)).toList();
+    if (missingKeys.isEmpty()) {
+      return attemptIds;
+    }
+
+    ctx.select(ATTEMPTS.ID, ATTEMPTS.JOB_ID, ATTEMPTS.ATTEMPT_NUMBER)
+        .from(ATTEMPTS)
+        .where(DSL.row(ATTEMPTS.JOB_ID, ATTEMPTS.ATTEMPT_NUMBER)
+            .in(missingKeys.stream().map(key -> DSL.row(key.id(), key.attemptNumber())).toList()))
+        .forEach(r -> {
+          final var key = new JobAttemptPair(r.get(ATTEMPTS.JOB_ID), r.get(ATTEMPTS.ATTEMPT_NUMBER));
+          attemptIds.put(key, r.get(ATTEMPTS.ID));
+          attemptIdCache.put(key, r.get(ATTEMPTS.ID));
+        });
+    return attemptIds;
+  }
+
   private static RecordMapper<Record, SyncStats> getSyncStatsRecordMapper() {
     return record -> new SyncStats().withBytesEmitted(record.get(SYNC_STATS.BYTES_EMITTED)).withRecordsEmitted(record.get(SYNC_STATS.RECORDS_EMITTED))
         .withEstimatedBytes(record.get(SYNC_STATS.ESTIMATED_BYTES)).withEstimatedRecords(record.get(SYNC_STATS.ESTIMATED_RECORDS))
@@ -780,7 +847,7 @@ public class DefaultJobPersistence implements JobPersistence {
           .set(ATTEMPTS.UPDATED_AT, now)
           .where(ATTEMPTS.JOB_ID.eq(jobId), ATTEMPTS.ATTEMPT_NUMBER.eq(attemptNumber))
           .execute();
-      final Long attemptId = getAttemptId(jobId, attemptNumber, ctx);
+      final Long attemptId = getCachedAttemptId(jobId, attemptNumber, ctx);
 
       final SyncStats syncStats = output.getSync().getStandardSyncSummary().getTotalStats();
       if (syncStats != null) {
@@ -808,23 +875,149 @@ public class DefaultJobPersistence implements JobPersistence {
                          final UUID connectionId,
                          final List<StreamSyncStats> streamStats)
       throws IOException {
+    final var syncStats = new SyncStats()
+        .withEstimatedRecords(estimatedRecords)
+        .withEstimatedBytes(estimatedBytes)
+        .withRecordsEmitted(recordsEmitted)
+        .withBytesEmitted(bytesEmitted)
+        .withRecordsCommitted(recordsCommitted)
+        .withBytesCommitted(bytesCommitted);
+    final var pending = new PendingStatsWrite(
+        new AttemptStatsWrite(jobId, attemptNumber, syncStats, connectionId, streamStats), new CompletableFuture<>());
+    synchronized (statsWriteLock) {
+      pendingStatsWrites.add(pending);
+    }
+
+    // Group commit: whoever finds no flush in progress persists every pending write, including those of
+    // concurrent callers, in one transaction. The others wait for that flush, and flush themselves if
+    // their write came in too late for it.
+    while (!pending.written().isDone()) {
+      final List<PendingStatsWrite> batch;
+      synchronized (statsWriteLock) {
+        if (pending.written().isDone()) {
+          break;
+        }
+        if (statsFlushInProgress) {
+          try {
+            statsWriteLock.wait();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for stats to be written.");
+          }
+          continue;
+        }
+        statsFlushInProgress = true;
+        batch = pendingStatsWrites;
+        pendingStatsWrites = new ArrayList<>();
+      }
+
+      try {
+        flushStats(batch);
+      } finally {
+        synchronized (statsWriteLock) {
+          statsFlushInProgress = false;
+          statsWriteLock.notifyAll();
+        }
+      }
+    }
+
+    try {
+      pending.written().join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final IOException ioException) {
+        throw ioException;
+      }
+      if (e.getCause() instanceof final RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  private void flushStats(final List<PendingStatsWrite> batch) {
+    try {
+      writeStatsBatch(batch.stream().map(PendingStatsWrite::statsWrite).toList());
+      batch.forEach(pending -> pending.written().complete(null));
+    } catch (final Exception e) {
+      if (batch.size() == 1) {
+        batch.get(0).written().completeExceptionally(e);
+        return;
+      }
+      // A write that fails, e.g. for an attempt that doesn't exist, must not fail the writes it was
+      // batched with.
+      batch.forEach(pending -> {
+        try {
+          writeStatsBatch(List.of(pending.statsWrite()));
+          pending.written().complete(null);
+        } catch (final Exception writeException) {
+          pending.written().completeExceptionally(writeException);
+        }
+      });
+    }
+  }
+
+  /**
+   * Writes the stats of many attempts in a single transaction, with a number of round trips to the
+   * database that does not grow with the number of attempts or streams. Fails without writing
+   * anything if any of the attempts does not exist.
+   */
+  private void writeStatsBatch(final List<AttemptStatsWrite> statsWrites) throws IOException {
+    final Map<JobAttemptPair, AttemptStatsWrite> latestWrites = coalesceStatsWrites(statsWrites);
+
     final OffsetDateTime now = OffsetDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC);
     jobDatabase.transaction(ctx -> {
-      final var attemptId = getAttemptId(jobId, attemptNumber, ctx);
+      final Map<JobAttemptPair, Long> attemptIds = getCachedAttemptIds(latestWrites.keySet(), ctx);
+      final List<JobAttemptPair> missingAttempts = latestWrites.keySet().stream().filter(key -> !attemptIds.containsKey(key)).toList();
+      if (!missingAttempts.isEmpty()) {
+        throw new RuntimeException("Could not find attempts to write stats for: " + missingAttempts);
+      }
 
-      final var syncStats = new SyncStats()
-          .withEstimatedRecords(estimatedRecords)
-          .withEstimatedBytes(estimatedBytes)
-          .withRecordsEmitted(recordsEmitted)
-          .withBytesEmitted(bytesEmitted)
-          .withRecordsCommitted(recordsCommitted)
-          .withBytesCommitted(bytesCommitted);
-      saveToSyncStatsTable(now, syncStats, attemptId, ctx);
-
-      saveToStreamStatsTableBatch(now, streamStats, attemptId, connectionId, ctx);
+      // See saveToSyncStatsTable and saveToStreamStatsTableBatch for why existence is checked up front
+      // instead of relying on upserts. Checking every attempt at once keeps the number of round trips
+      // constant regardless of how many attempts and streams are written.
+      final Set<Long> existingSyncStats = ctx.select(SYNC_STATS.ATTEMPT_ID)
+          .from(SYNC_STATS)
+          .where(SYNC_STATS.ATTEMPT_ID.in(attemptIds.values()))
+          .fetchSet(SYNC_STATS.ATTEMPT_ID);
+      final Map<Long, Set<StreamDescriptor>> existingStreamsPerAttemptId = new HashMap<>();
+      ctx.select(STREAM_STATS.ATTEMPT_ID, STREAM_STATS.STREAM_NAME, STREAM_STATS.STREAM_NAMESPACE)
+          .from(STREAM_STATS)
+          .where(STREAM_STATS.ATTEMPT_ID.in(attemptIds.values()))
+          .forEach(r -> existingStreamsPerAttemptId.computeIfAbsent(r.get(STREAM_STATS.ATTEMPT_ID), k -> new HashSet<>())
+              .add(new StreamDescriptor().withName(r.get(STREAM_STATS.STREAM_NAME)).withNamespace(r.get(STREAM_STATS.STREAM_NAMESPACE))));
+
+      final List<Query> queries = new ArrayList<>();
+      latestWrites.forEach((key, statsWrite) -> {
+        final Long attemptId = attemptIds.get(key);
+        queries.add(syncStatsQuery(now, statsWrite.syncStats(), attemptId, existingSyncStats.contains(attemptId), ctx));
+        queries.addAll(streamStatsQueries(now, statsWrite.streamStats(), attemptId, statsWrite.connectionId(),
+            existingStreamsPerAttemptId.getOrDefault(attemptId, Collections.emptySet()), ctx));
+      });
+
+      ctx.batch(queries).execute();
       return null;
     });
+  }
 
+  /**
+   * Combines the writes reported for the same attempt. Stats are cumulative per stream, so the last
+   * write has the latest stats of the attempt and of each stream it reports, but streams that only
+   * earlier writes report keep the stats those writes have for them.
+   */
+  @VisibleForTesting
+  static Map<JobAttemptPair, AttemptStatsWrite> coalesceStatsWrites(final List<AttemptStatsWrite> statsWrites) {
+    final Map<JobAttemptPair, AttemptStatsWrite> coalesced = new LinkedHashMap<>();
+    statsWrites.forEach(statsWrite -> coalesced.merge(new JobAttemptPair(statsWrite.jobId(), statsWrite.attemptNumber()), statsWrite,
+        (earlier, later) -> {
+          final Map<StreamDescriptor, StreamSyncStats> streamStats = new LinkedHashMap<>();
+          Stream.of(earlier, later)
+              .flatMap(write -> Optional.ofNullable(write.streamStats()).orElse(Collections.emptyList()).stream())
+              .forEach(stats -> streamStats.put(
+                  new StreamDescriptor().withName(stats.getStreamName()).withNamespace(stats.getStreamNamespace()), stats));
+          return new AttemptStatsWrite(later.jobId(), later.attemptNumber(), later.syncStats(), later.connectionId(),
+              new ArrayList<>(streamStats.values()));
+        }));
+    return coalesced;
   }
 
   @Override
@@ -1737,4 +1930,21 @@ public class DefaultJobPersistence implements JobPersistence {
 
   }
 
+  /**
+   * Stats reported for a single attempt.
+   *
+   * @param jobId job id
+   * @param attemptNumber attempt number
+   * @param syncStats combined stats for the attempt
+   * @param connectionId connection the job belongs to
+   * @param streamStats stats for each stream
+   */
+  record AttemptStatsWrite(long jobId, int attemptNumber, SyncStats syncStats, UUID connectionId, List<StreamSyncStats> streamStats) {
+
+  }
+
+  private record PendingStatsWrite(AttemptStatsWrite statsWrite, CompletableFuture<Void> written) {
+
+  }
+
 }
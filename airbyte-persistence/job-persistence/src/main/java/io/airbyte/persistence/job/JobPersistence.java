@@ -170,6 +170,13 @@ public interface JobPersistence {
    */
   void writeOutput(long jobId, int attemptNumber, JobOutput output) throws IOException;
 
+  /**
+   * Writes the stats reported for an attempt. Writes reported concurrently for any attempts are
+   * persisted together, in a single transaction; this returns once this write is persisted.
+   *
+   * @throws IOException exception due to interaction with persistence
+   * @throws RuntimeException if the attempt does not exist
+   */
   void writeStats(long jobId,
                   int attemptNumber,
                   Long estimatedRecords,
@@ -14,6 +14,7 @@ import static io.airbyte.persistence.job.DefaultJobPersistence.toSqlName;
 import static org.junit.Assert.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -56,6 +57,7 @@ import io.airbyte.db.factory.DSLContextFactory;
 import io.airbyte.db.factory.DataSourceFactory;
 import io.airbyte.db.instance.DatabaseConstants;
 import io.airbyte.db.instance.test.TestDatabaseProviders;
+import io.airbyte.persistence.job.DefaultJobPersistence.AttemptStatsWrite;
 import io.airbyte.persistence.job.JobPersistence.AttemptStats;
 import io.airbyte.persistence.job.JobPersistence.JobAttemptPair;
 import io.airbyte.test.utils.Databases;
@@ -74,6 +76,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
@@ -767,6 +774,72 @@ class DefaultJobPersistenceTest {
       assertEquals(streamStats, actStreamStats);
     }
 
+    @Test
+    @DisplayName("Writes for the same attempt should be coalesced without dropping streams only earlier writes report")
+    void testCoalesceStatsWrites() {
+      final var earlierStream1 = new StreamSyncStats().withStreamName("name1").withStreamNamespace("ns")
+          .withStats(new SyncStats().withBytesEmitted(500L).withRecordsEmitted(500L));
+      final var stream2 = new StreamSyncStats().withStreamName("name2")
+          .withStats(new SyncStats().withBytesEmitted(42L).withRecordsEmitted(42L));
+      final var latestStream1 = new StreamSyncStats().withStreamName("name1").withStreamNamespace("ns")
+          .withStats(new SyncStats().withBytesEmitted(1000L).withRecordsEmitted(1000L));
+      final var otherAttemptStream = new StreamSyncStats().withStreamName("name1")
+          .withStats(new SyncStats().withBytesEmitted(7L).withRecordsEmitted(7L));
+
+      final var coalesced = DefaultJobPersistence.coalesceStatsWrites(List.of(
+          new AttemptStatsWrite(1L, 0, new SyncStats().withBytesEmitted(542L), CONNECTION_ID, List.of(earlierStream1, stream2)),
+          new AttemptStatsWrite(2L, 0, new SyncStats().withBytesEmitted(7L), CONNECTION_ID2, List.of(otherAttemptStream)),
+          new AttemptStatsWrite(1L, 0, new SyncStats().withBytesEmitted(1042L), CONNECTION_ID, List.of(latestStream1))));
+
+      assertEquals(List.of(new JobAttemptPair(1L, 0), new JobAttemptPair(2L, 0)), List.copyOf(coalesced.keySet()));
+      assertEquals(
+          new AttemptStatsWrite(1L, 0, new SyncStats().withBytesEmitted(1042L), CONNECTION_ID, List.of(latestStream1, stream2)),
+          coalesced.get(new JobAttemptPair(1L, 0)));
+      assertEquals(
+          new AttemptStatsWrite(2L, 0, new SyncStats().withBytesEmitted(7L), CONNECTION_ID2, List.of(otherAttemptStream)),
+          coalesced.get(new JobAttemptPair(2L, 0)));
+    }
+
+    @Test
+    @DisplayName("Concurrent stats writes should all be persisted, and a write for a missing attempt should only fail its own caller")
+    void testWriteStatsConcurrently() throws Exception {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      final long otherJobId = jobPersistence.enqueueJob(SCOPE + "-other", SPEC_JOB_CONFIG).orElseThrow();
+      final int otherAttemptNumber = jobPersistence.createAttempt(otherJobId, LOG_PATH);
+      final var streamStats = List.of(
+          new StreamSyncStats().withStreamName("name1").withStreamNamespace("ns")
+              .withStats(new SyncStats().withBytesEmitted(500L).withRecordsEmitted(500L).withEstimatedBytes(10000L).withEstimatedRecords(2000L)));
+
+      final ExecutorService executor = Executors.newFixedThreadPool(3);
+      try {
+        final Future<?> write = executor.submit(() -> {
+          jobPersistence.writeStats(jobId, attemptNumber, null, null, 500L, 500L, null, null, CONNECTION_ID, streamStats);
+          return null;
+        });
+        final Future<?> otherWrite = executor.submit(() -> {
+          jobPersistence.writeStats(otherJobId, otherAttemptNumber, null, null, 42L, 42L, null, null, CONNECTION_ID2, List.of());
+          return null;
+        });
+        final Future<?> missingWrite = executor.submit(() -> {
+          jobPersistence.writeStats(jobId, attemptNumber + 1, null, null, 1L, 1L, null, null, CONNECTION_ID, List.of());
+          return null;
+        });
+
+        write.get(30, TimeUnit.SECONDS);
+        otherWrite.get(30, TimeUnit.SECONDS);
+        final ExecutionException exception = assertThrows(ExecutionException.class, () -> missingWrite.get(30, TimeUnit.SECONDS));
+        assertInstanceOf(RuntimeException.class, exception.getCause());
+      } finally {
+        executor.shutdownNow();
+      }
+
+      final AttemptStats stats = jobPersistence.getAttemptStats(jobId, attemptNumber);
+      assertEquals(500L, stats.combinedStats().getBytesEmitted());
+      assertEquals(streamStats, stats.perStreamStats());
+      assertEquals(42L, jobPersistence.getAttemptStats(otherJobId, otherAttemptNumber).combinedStats().getBytesEmitted());
+    }
+
     @Test
     @DisplayName("Writing stats multiple times should write record and bytes information correctly without exceptions")
     void testWriteStatsRepeated() throws IOException {
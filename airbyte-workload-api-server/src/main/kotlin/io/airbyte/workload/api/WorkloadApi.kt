@@ -4,19 +4,25 @@
 
 package io.airbyte.workload.api
 
+import io.airbyte.commons.storage.WorkloadPayloadStorage
 import io.airbyte.config.WorkloadType
 import io.airbyte.metrics.lib.ApmTraceUtils
 import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.workload.api.domain.ClaimManyResponse
 import io.airbyte.workload.api.domain.ClaimResponse
 import io.airbyte.workload.api.domain.ExpiredDeadlineWorkloadListRequest
 import io.airbyte.workload.api.domain.KnownExceptionInfo
 import io.airbyte.workload.api.domain.LongRunningWorkloadRequest
 import io.airbyte.workload.api.domain.Workload
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
+import io.airbyte.workload.api.domain.WorkloadClaimManyRequest
+import io.airbyte.workload.api.domain.WorkloadClaimNextRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
+import io.airbyte.workload.api.domain.WorkloadFailureManyRequest
 import io.airbyte.workload.api.domain.WorkloadFailureRequest
 import io.airbyte.workload.api.domain.WorkloadHeartbeatRequest
+import io.airbyte.workload.api.domain.WorkloadLaunchedManyRequest
 import io.airbyte.workload.api.domain.WorkloadLaunchedRequest
 import io.airbyte.workload.api.domain.WorkloadListRequest
 import io.airbyte.workload.api.domain.WorkloadListResponse
@@ -55,6 +61,7 @@ open class WorkloadApi(
   private val workloadHandler: WorkloadHandler,
   private val workloadService: WorkloadService,
   private val defaultDeadlineValues: DefaultDeadlineValues,
+  private val payloadStorage: WorkloadPayloadStorage,
 ) {
   @POST
   @Path("/create")
@@ -93,11 +100,13 @@ open class WorkloadApi(
     }
 
     val autoId = UUID.randomUUID()
+    // Large inputs are stored once by content and only referenced from the workload and its queue message.
+    val workloadInput = payloadStorage.offload(workloadCreateRequest.workloadInput)
 
     workloadHandler.createWorkload(
       workloadCreateRequest.workloadId,
       workloadCreateRequest.labels,
-      workloadCreateRequest.workloadInput,
+      workloadInput,
       workloadCreateRequest.logPath,
       workloadCreateRequest.mutexKey,
       workloadCreateRequest.type,
@@ -109,7 +118,7 @@ open class WorkloadApi(
     )
     workloadService.create(
       workloadId = workloadCreateRequest.workloadId,
-      workloadInput = workloadCreateRequest.workloadInput,
+      workloadInput = workloadInput,
       workloadCreateRequest.labels.associate { it.key to it.value },
       workloadCreateRequest.logPath,
       workloadCreateRequest.mutexKey,
@@ -153,6 +162,32 @@ open class WorkloadApi(
     workloadHandler.failWorkload(workloadFailureRequest.workloadId, workloadFailureRequest.source, workloadFailureRequest.reason)
   }
 
+  @PUT
+  @Path("/failure_many")
+  @Status(HttpStatus.NO_CONTENT)
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Sets the status of several workloads to 'failure'.", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "204",
+        description = "Success. Workloads that are missing or not in an active state are skipped.",
+      ),
+    ],
+  )
+  open fun workloadFailureMany(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadFailureManyRequest::class))],
+    ) @Body workloadFailureManyRequest: WorkloadFailureManyRequest,
+  ) {
+    workloadHandler.failWorkloads(
+      workloadFailureManyRequest.workloadIds,
+      workloadFailureManyRequest.source,
+      workloadFailureManyRequest.reason,
+    )
+  }
+
   @PUT
   @Path("/success")
   @Status(HttpStatus.NO_CONTENT)
@@ -307,6 +342,74 @@ open class WorkloadApi(
     return ClaimResponse(claimed)
   }
 
+  @PUT
+  @Path("/claim_many")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Claim several workloads", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description =
+          "Returns the ids of the requested workloads that are claimed by the dataplane, either by this call or previously. " +
+            "Workloads that are missing, not pending or claimed by another dataplane are left out.",
+        content = [Content(schema = Schema(implementation = ClaimManyResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadClaimMany(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadClaimManyRequest::class))],
+    ) @Body workloadClaimManyRequest: WorkloadClaimManyRequest,
+  ): ClaimManyResponse {
+    ApmTraceUtils.addTagsToTrace(
+      mutableMapOf(MetricTags.DATA_PLANE_ID_TAG to workloadClaimManyRequest.dataplaneId) as Map<String, Any>?,
+    )
+    return ClaimManyResponse(
+      workloadHandler.claimWorkloads(
+        workloadClaimManyRequest.workloadIds,
+        workloadClaimManyRequest.dataplaneId,
+        workloadClaimManyRequest.deadline ?: defaultDeadlineValues.claimStepDeadline(),
+      ),
+    )
+  }
+
+  @PUT
+  @Path("/claim_next")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Claim the next pending workloads for a dataplane", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description =
+          "Returns the workloads claimed by this call, highest priority and oldest first. Workloads being claimed " +
+            "concurrently are skipped, so concurrent callers never receive the same workload.",
+        content = [Content(schema = Schema(implementation = WorkloadListResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadClaimNext(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadClaimNextRequest::class))],
+    ) @Body workloadClaimNextRequest: WorkloadClaimNextRequest,
+  ): WorkloadListResponse {
+    ApmTraceUtils.addTagsToTrace(
+      mutableMapOf(MetricTags.DATA_PLANE_ID_TAG to workloadClaimNextRequest.dataplaneId) as Map<String, Any>?,
+    )
+    return WorkloadListResponse(
+      workloadHandler.claimNextWorkloads(
+        workloadClaimNextRequest.dataplaneId,
+        workloadClaimNextRequest.dataplaneGroup,
+        workloadClaimNextRequest.workloadTypes,
+        workloadClaimNextRequest.limit,
+        workloadClaimNextRequest.deadline ?: defaultDeadlineValues.claimStepDeadline(),
+      ),
+    )
+  }
+
   @PUT
   @Path("/launched")
   @Status(HttpStatus.NO_CONTENT)
@@ -343,6 +446,31 @@ open class WorkloadApi(
     )
   }
 
+  @PUT
+  @Path("/launched_many")
+  @Status(HttpStatus.NO_CONTENT)
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Sets the status of several workloads to 'launched'.", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "204",
+        description = "Success. Workloads that are missing or not in claimed state are skipped.",
+      ),
+    ],
+  )
+  open fun workloadLaunchedMany(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadLaunchedManyRequest::class))],
+    ) @Body workloadLaunchedManyRequest: WorkloadLaunchedManyRequest,
+  ) {
+    workloadHandler.setWorkloadStatusToLaunched(
+      workloadLaunchedManyRequest.workloadIds,
+      workloadLaunchedManyRequest.deadline ?: defaultDeadlineValues.launchStepDeadline(),
+    )
+  }
+
   @GET
   @Path("/{workloadId}")
   @Produces("application/json")
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.api
+
+import io.airbyte.commons.storage.WorkloadPayloadStorage
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Requires
+import io.micronaut.scheduling.annotation.Scheduled
+import jakarta.inject.Singleton
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Deletes the offloaded workload payloads whose retention has passed. Every replica sweeps, which is
+ * harmless as deleting a payload twice is a no-op.
+ */
+@Singleton
+@Requires(property = "airbyte.workload-payload.offload.enabled", value = "true")
+class WorkloadPayloadSweeper(
+  private val payloadStorage: WorkloadPayloadStorage,
+) {
+  @Scheduled(fixedDelay = "\${airbyte.workload-payload.offload.sweep-rate:1h}", initialDelay = "\${airbyte.workload-payload.offload.sweep-rate:1h}")
+  fun sweepPayloads() {
+    try {
+      payloadStorage.sweep()
+    } catch (e: Exception) {
+      logger.error(e) { "Failed to sweep the expired workload payloads." }
+    }
+  }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.api.domain
+
+import io.airbyte.config.WorkloadType
+import io.swagger.v3.oas.annotations.media.Schema
+import java.time.OffsetDateTime
+
+data class WorkloadClaimNextRequest(
+  @Schema(required = true)
+  var dataplaneId: String = "",
+  @Schema(required = true)
+  var dataplaneGroup: String = "",
+  var workloadTypes: List<WorkloadType>? = null,
+  @Schema(required = true)
+  var limit: Int = 1,
+  var deadline: OffsetDateTime? = null,
+)
@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+
+data class WorkloadFailureManyRequest(
+  @Schema(required = true)
+  var workloadIds: List<String> = emptyList(),
+  var source: String? = null,
+  var reason: String? = null,
+)
@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.errors
+
+import io.micronaut.http.HttpStatus
+
+class BadRequestException(
+  message: String?,
+) : KnownException(message) {
+  override fun getHttpCode(): HttpStatus = HttpStatus.BAD_REQUEST
+}
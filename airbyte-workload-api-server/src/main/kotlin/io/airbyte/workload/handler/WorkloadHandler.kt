@@ -54,6 +54,20 @@ interface WorkloadHandler {
     deadline: OffsetDateTime,
   ): Boolean
 
+  fun claimWorkloads(
+    workloadIds: List<String>,
+    dataplaneId: String,
+    deadline: OffsetDateTime,
+  ): List<String>
+
+  fun claimNextWorkloads(
+    dataplaneId: String,
+    dataplaneGroup: String,
+    workloadTypes: List<ApiWorkloadType>?,
+    limit: Int,
+    deadline: OffsetDateTime,
+  ): List<Workload>
+
   fun cancelWorkload(
     workloadId: String,
     source: String?,
@@ -66,6 +80,12 @@ interface WorkloadHandler {
     reason: String?,
   )
 
+  fun failWorkloads(
+    workloadIds: List<String>,
+    source: String?,
+    reason: String?,
+  )
+
   fun succeedWorkload(workloadId: String)
 
   fun setWorkloadStatusToRunning(
@@ -78,6 +98,11 @@ interface WorkloadHandler {
     deadline: OffsetDateTime,
   )
 
+  fun setWorkloadStatusToLaunched(
+    workloadIds: List<String>,
+    deadline: OffsetDateTime,
+  )
+
   fun heartbeat(
     workloadId: String,
     deadline: OffsetDateTime,
@@ -18,6 +18,7 @@ import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.workload.api.domain.Workload
 import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.errors.BadRequestException
 import io.airbyte.workload.errors.ConflictException
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
@@ -44,6 +45,8 @@ class WorkloadHandlerImpl(
   companion object {
     val ACTIVE_STATUSES: List<WorkloadStatus> =
       listOf(WorkloadStatus.PENDING, WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING)
+
+    const val MAX_CLAIM_NEXT_LIMIT = 100
   }
 
   override fun getWorkload(workloadId: String): ApiWorkload = getDomainWorkload(workloadId).toApi()
@@ -163,6 +166,50 @@ class WorkloadHandlerImpl(
     }
   }
 
+  /**
+   * Batch version of [claimWorkload]; workloads that can't be claimed are left out of the result
+   * rather than failing the whole batch.
+   *
+   * @return the ids of the workloads claimed by the dataplane
+   */
+  override fun claimWorkloads(
+    workloadIds: List<String>,
+    dataplaneId: String,
+    deadline: OffsetDateTime,
+  ): List<String> {
+    if (workloadIds.isEmpty()) {
+      return emptyList()
+    }
+    return workloadRepository.claimMany(workloadIds.distinct(), dataplaneId, deadline).map { it.id }
+  }
+
+  override fun claimNextWorkloads(
+    dataplaneId: String,
+    dataplaneGroup: String,
+    workloadTypes: List<ApiWorkloadType>?,
+    limit: Int,
+    deadline: OffsetDateTime,
+  ): List<Workload> {
+    // Without a group, a dataplane could claim workloads routed to another region or dataplane.
+    if (dataplaneGroup.isBlank()) {
+      throw BadRequestException("A dataplane group is required to claim workloads")
+    }
+
+    val domainWorkloads =
+      workloadRepository.claimNext(
+        dataplaneId,
+        dataplaneGroup,
+        workloadTypes?.map { it.toDomain() },
+        limit.coerceIn(1, MAX_CLAIM_NEXT_LIMIT),
+        deadline,
+      )
+
+    // UPDATE ... RETURNING doesn't return rows in the order they were selected in.
+    return domainWorkloads
+      .sortedWith(compareByDescending<DomainWorkload> { it.priority }.thenBy { it.createdAt })
+      .map { it.toApi() }
+  }
+
   override fun cancelWorkload(
     workloadId: String,
     source: String?,
@@ -213,6 +260,20 @@ class WorkloadHandlerImpl(
     }
   }
 
+  /**
+   * Batch version of [failWorkload]; workloads that are not active are skipped.
+   */
+  override fun failWorkloads(
+    workloadIds: List<String>,
+    source: String?,
+    reason: String?,
+  ) {
+    if (workloadIds.isEmpty()) {
+      return
+    }
+    workloadRepository.failMany(workloadIds.distinct(), source, reason).forEach { sendSignal(it.type, it.signalInput) }
+  }
+
   override fun succeedWorkload(workloadId: String) {
     val workload = getDomainWorkload(workloadId)
 
@@ -282,6 +343,19 @@ class WorkloadHandlerImpl(
     }
   }
 
+  /**
+   * Batch version of [setWorkloadStatusToLaunched]; workloads that are not claimed are skipped.
+   */
+  override fun setWorkloadStatusToLaunched(
+    workloadIds: List<String>,
+    deadline: OffsetDateTime,
+  ) {
+    if (workloadIds.isEmpty()) {
+      return
+    }
+    workloadRepository.launchMany(workloadIds.distinct(), deadline)
+  }
+
   override fun heartbeat(
     workloadId: String,
     deadline: OffsetDateTime,
@@ -97,6 +97,106 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     deadline: OffsetDateTime,
   ): Workload?
 
+  /**
+   * Claims up to [limit] pending workloads for the dataplane, highest priority and oldest first.
+   * The claimed rows are returned in no particular order: RETURNING doesn't preserve the subquery's ORDER BY.
+   * Rows locked by a concurrent claim are skipped rather than waited on, so concurrent callers always
+   * get disjoint sets of workloads. Returns the workloads that were claimed by this call.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET
+       dataplane_id = :dataplaneId,
+       status = 'claimed',
+       deadline = :deadline
+      WHERE status = 'pending' AND id IN (
+        SELECT id FROM workload
+        WHERE status = 'pending'
+        AND dataplane_group = :dataplaneGroup
+        AND ((:types) IS NULL OR type = ANY(CAST(ARRAY[:types] AS workload_type[])))
+        ORDER BY priority DESC, created_at ASC
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+      )
+      RETURNING *
+    """,
+  )
+  fun claimNext(
+    dataplaneId: String,
+    dataplaneGroup: String,
+    @Expandable types: List<WorkloadType>?,
+    limit: Int,
+    deadline: OffsetDateTime,
+  ): List<Workload>
+
+  /**
+   * Batch version of [claim]. Returns the workloads of [ids] that are claimed by the dataplane,
+   * either by this call or previously.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET
+       dataplane_id = :dataplaneId,
+       status = 'claimed',
+       deadline = case
+                    when status = 'pending' then :deadline
+                    else deadline
+                  end
+      WHERE id IN (:ids) AND (status = 'pending' OR (status = 'claimed' AND dataplane_id = :dataplaneId))
+      RETURNING *
+    """,
+  )
+  fun claimMany(
+    @Expandable ids: List<String>,
+    dataplaneId: String,
+    deadline: OffsetDateTime,
+  ): List<Workload>
+
+  /**
+   * Transitions the claimed workloads of [ids] to launched. Returns the workloads that were
+   * transitioned by this call.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET
+       status = 'launched',
+       deadline = :deadline,
+       updated_at = now()
+      WHERE id IN (:ids) AND status = 'claimed'
+      RETURNING *
+    """,
+  )
+  fun launchMany(
+    @Expandable ids: List<String>,
+    deadline: OffsetDateTime,
+  ): List<Workload>
+
+  /**
+   * Transitions the active workloads of [ids] to failure. Returns the workloads that were
+   * transitioned by this call.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET
+       status = 'failure',
+       termination_source = :terminationSource,
+       termination_reason = :terminationReason,
+       deadline = NULL,
+       updated_at = now()
+      WHERE id IN (:ids) AND status IN ('pending', 'claimed', 'launched', 'running')
+      RETURNING *
+    """,
+  )
+  fun failMany(
+    @Expandable ids: List<String>,
+    terminationSource: String?,
+    terminationReason: String?,
+  ): List<Workload>
+
   fun update(
     @Id id: String,
     status: WorkloadStatus,
@@ -17,6 +17,7 @@ import io.airbyte.metrics.MetricClient
 import io.airbyte.metrics.OssMetricsRegistry
 import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.errors.BadRequestException
 import io.airbyte.workload.errors.ConflictException
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
@@ -361,6 +362,72 @@ class WorkloadHandlerImplTest {
     assertFalse(workloadHandler.claimWorkload(WORKLOAD_ID, DATAPLANE_ID, now))
   }
 
+  @Test
+  fun `test claiming next workloads`() {
+    every { workloadRepository.claimNext(DATAPLANE_ID, "group", listOf(WorkloadType.SYNC), 10, now) }.returns(
+      listOf(
+        Fixtures.workload(
+          id = WORKLOAD_ID,
+          status = WorkloadStatus.CLAIMED,
+          dataplaneId = DATAPLANE_ID,
+        ),
+      ),
+    )
+
+    val claimed = workloadHandler.claimNextWorkloads(DATAPLANE_ID, "group", listOf(ApiWorkloadType.SYNC), 10, now)
+
+    assertEquals(listOf(WORKLOAD_ID), claimed.map { it.id })
+  }
+
+  @Test
+  fun `test claimed workloads are returned highest priority and oldest first`() {
+    every { workloadRepository.claimNext(DATAPLANE_ID, "group", null, 10, now) }.returns(
+      listOf(
+        Fixtures.workload(id = "low", status = WorkloadStatus.CLAIMED, createdAt = now.minusMinutes(10), priority = 0),
+        Fixtures.workload(id = "high-newer", status = WorkloadStatus.CLAIMED, createdAt = now.minusMinutes(1), priority = 1),
+        Fixtures.workload(id = "high-older", status = WorkloadStatus.CLAIMED, createdAt = now.minusMinutes(5), priority = 1),
+      ),
+    )
+
+    val claimed = workloadHandler.claimNextWorkloads(DATAPLANE_ID, "group", null, 10, now)
+
+    assertEquals(listOf("high-older", "high-newer", "low"), claimed.map { it.id })
+  }
+
+  @Test
+  fun `test claiming many workloads`() {
+    every { workloadRepository.claimMany(listOf(WORKLOAD_ID, "other"), DATAPLANE_ID, now) }.returns(
+      listOf(
+        Fixtures.workload(
+          id = WORKLOAD_ID,
+          status = WorkloadStatus.CLAIMED,
+          dataplaneId = DATAPLANE_ID,
+        ),
+      ),
+    )
+
+    assertEquals(listOf(WORKLOAD_ID), workloadHandler.claimWorkloads(listOf(WORKLOAD_ID, "other", WORKLOAD_ID), DATAPLANE_ID, now))
+    assertEquals(listOf<String>(), workloadHandler.claimWorkloads(listOf(), DATAPLANE_ID, now))
+    verify(exactly = 1) { workloadRepository.claimMany(any(), any(), any()) }
+  }
+
+  @Test
+  fun `test claiming next workloads caps the limit`() {
+    every { workloadRepository.claimNext(DATAPLANE_ID, "group", null, any(), now) }.returns(listOf())
+
+    workloadHandler.claimNextWorkloads(DATAPLANE_ID, "group", null, 10_000, now)
+    workloadHandler.claimNextWorkloads(DATAPLANE_ID, "group", null, 0, now)
+
+    verify { workloadRepository.claimNext(DATAPLANE_ID, "group", null, WorkloadHandlerImpl.MAX_CLAIM_NEXT_LIMIT, now) }
+    verify { workloadRepository.claimNext(DATAPLANE_ID, "group", null, 1, now) }
+  }
+
+  @Test
+  fun `test claiming next workloads requires a dataplane group`() {
+    assertThrows<BadRequestException> { workloadHandler.claimNextWorkloads(DATAPLANE_ID, "", null, 10, now) }
+    verify(exactly = 0) { workloadRepository.claimNext(any(), any(), any(), any(), any()) }
+  }
+
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["RUNNING", "LAUNCHED", "SUCCESS", "FAILURE", "CANCELLED"])
   fun `test claiming workload that is not pending`(workloadStatus: WorkloadStatus) {
@@ -569,6 +636,25 @@ class WorkloadHandlerImplTest {
     verifyApi()
   }
 
+  @Test
+  fun `test failing many workloads signals the failed workloads`() {
+    every { workloadRepository.failMany(listOf(WORKLOAD_ID, "other"), "test", "failing workloads") }.returns(
+      listOf(
+        Fixtures.workload(
+          id = WORKLOAD_ID,
+          status = WorkloadStatus.FAILURE,
+          signalPayload = Jsons.serialize(Fixtures.configSignalInput),
+        ),
+      ),
+    )
+    mockApi()
+
+    workloadHandler.failWorkloads(listOf(WORKLOAD_ID, "other"), "test", "failing workloads")
+
+    verify { workloadRepository.failMany(listOf(WORKLOAD_ID, "other"), "test", "failing workloads") }
+    verifyApi()
+  }
+
   @Test
   fun `test noop failure`() {
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
@@ -216,6 +216,71 @@ internal class WorkloadRepositoryTest {
     assertEquals(originalDeadline, actualWorkload.deadline)
   }
 
+  @Test
+  fun `claiming next workloads claims pending workloads by priority and never hands out the same workload twice`() {
+    workloadRepo.save(Fixtures.workload(id = "low-priority", status = WorkloadStatus.PENDING, dataplaneGroup = "group", priority = 0))
+    workloadRepo.save(Fixtures.workload(id = "high-priority", status = WorkloadStatus.PENDING, dataplaneGroup = "group", priority = 1))
+    workloadRepo.save(Fixtures.workload(id = "other-group", status = WorkloadStatus.PENDING, dataplaneGroup = "other", priority = 1))
+    workloadRepo.save(Fixtures.workload(id = "other-type", status = WorkloadStatus.PENDING, dataplaneGroup = "group", type = WorkloadType.CHECK))
+    workloadRepo.save(
+      Fixtures.workload(id = "running", dataplaneId = "dataplane2", status = WorkloadStatus.RUNNING, dataplaneGroup = "group", priority = 1),
+    )
+    val deadline = OffsetDateTime.now().withNano(0).plusMinutes(10)
+
+    val firstClaim = workloadRepo.claimNext("dataplane1", "group", listOf(WorkloadType.SYNC), 1, deadline)
+    assertEquals(listOf("high-priority"), firstClaim.map { it.id })
+    assertEquals("dataplane1", firstClaim[0].dataplaneId)
+    assertEquals(WorkloadStatus.CLAIMED, firstClaim[0].status)
+    assertEquals(deadline, firstClaim[0].deadline)
+
+    val secondClaim = workloadRepo.claimNext("dataplane2", "group", listOf(WorkloadType.SYNC), 10, deadline)
+    assertEquals(listOf("low-priority"), secondClaim.map { it.id })
+
+    assertEquals(listOf<Workload>(), workloadRepo.claimNext("dataplane1", "group", listOf(WorkloadType.SYNC), 10, deadline))
+    assertEquals(WorkloadStatus.PENDING, workloadRepo.findById("other-group").get().status)
+    assertEquals(WorkloadStatus.PENDING, workloadRepo.findById("other-type").get().status)
+    assertEquals("dataplane2", workloadRepo.findById("running").get().dataplaneId)
+  }
+
+  @Test
+  fun `claiming many workloads only claims workloads available to the dataplane`() {
+    workloadRepo.save(Fixtures.workload(id = "pending", status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "claimed", dataplaneId = "dataplane1", status = WorkloadStatus.CLAIMED))
+    workloadRepo.save(Fixtures.workload(id = "claimed-elsewhere", dataplaneId = "dataplane2", status = WorkloadStatus.CLAIMED))
+    workloadRepo.save(Fixtures.workload(id = "running", dataplaneId = "dataplane1", status = WorkloadStatus.RUNNING))
+    val deadline = OffsetDateTime.now().withNano(0).plusMinutes(10)
+
+    val claimed = workloadRepo.claimMany(listOf("pending", "claimed", "claimed-elsewhere", "running", "missing"), "dataplane1", deadline)
+
+    assertEquals(setOf("pending", "claimed"), claimed.map { it.id }.toSet())
+    assertEquals("dataplane1", workloadRepo.findById("pending").get().dataplaneId)
+    assertEquals(deadline, workloadRepo.findById("pending").get().deadline)
+    assertEquals("dataplane2", workloadRepo.findById("claimed-elsewhere").get().dataplaneId)
+    assertEquals(WorkloadStatus.RUNNING, workloadRepo.findById("running").get().status)
+  }
+
+  @Test
+  fun `launching and failing many workloads only transitions workloads in a valid status`() {
+    workloadRepo.save(Fixtures.workload(id = "claimed", dataplaneId = "dataplane1", status = WorkloadStatus.CLAIMED))
+    workloadRepo.save(Fixtures.workload(id = "pending", status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "succeeded", dataplaneId = "dataplane1", status = WorkloadStatus.SUCCESS))
+    val deadline = OffsetDateTime.now().withNano(0).plusMinutes(10)
+
+    val launched = workloadRepo.launchMany(listOf("claimed", "pending", "succeeded"), deadline)
+    assertEquals(listOf("claimed"), launched.map { it.id })
+    assertEquals(WorkloadStatus.LAUNCHED, workloadRepo.findById("claimed").get().status)
+    assertEquals(deadline, workloadRepo.findById("claimed").get().deadline)
+    assertEquals(WorkloadStatus.PENDING, workloadRepo.findById("pending").get().status)
+
+    val failed = workloadRepo.failMany(listOf("claimed", "pending", "succeeded"), "source", "reason")
+    assertEquals(setOf("claimed", "pending"), failed.map { it.id }.toSet())
+    val failedWorkload = workloadRepo.findById("pending").get()
+    assertEquals(WorkloadStatus.FAILURE, failedWorkload.status)
+    assertEquals("source", failedWorkload.terminationSource)
+    assertEquals("reason", failedWorkload.terminationReason)
+    assertEquals(WorkloadStatus.SUCCESS, workloadRepo.findById("succeeded").get().status)
+  }
+
   @Test
   fun `saving a workload writes all the expected fields`() {
     val label1 =
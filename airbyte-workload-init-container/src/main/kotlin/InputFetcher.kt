@@ -4,6 +4,7 @@
 
 package io.airbyte.initContainer
 
+import io.airbyte.commons.storage.WorkloadPayloadStorage
 import io.airbyte.config.FailureReason.FailureOrigin
 import io.airbyte.initContainer.input.InputHydrationProcessor
 import io.airbyte.initContainer.system.SystemClient
@@ -24,6 +25,7 @@ class InputFetcher(
   private val hydrationProcessor: InputHydrationProcessor,
   private val systemClient: SystemClient,
   private val metricClient: MetricClient,
+  private val payloadStorage: WorkloadPayloadStorage,
   @Value("\${airbyte.workload-id}") private val workloadId: String,
 ) {
   @PostConstruct
@@ -42,7 +44,14 @@ class InputFetcher(
 
     logger.info { "Processing workload..." }
     try {
-      hydrationProcessor.process(workload)
+      // The workload may only reference its input if it was offloaded to object storage.
+      val resolved =
+        if (payloadStorage.isReference(workload.inputPayload)) {
+          workload.copy(inputPayload = payloadStorage.resolve(workload.inputPayload))
+        } else {
+          workload
+        }
+      hydrationProcessor.process(resolved)
     } catch (e: Exception) {
       return failWorkloadAndExit(workloadId, "processing workload", e)
     }
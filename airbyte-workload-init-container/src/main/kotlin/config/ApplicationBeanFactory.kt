@@ -20,7 +20,10 @@ import io.airbyte.workers.helper.ResumableFullRefreshStatsHelper
 import io.airbyte.workers.input.ReplicationInputMapper
 import io.micronaut.context.annotation.Factory
 import io.micronaut.context.annotation.Value
+import io.micronaut.scheduling.TaskExecutors
+import jakarta.inject.Named
 import jakarta.inject.Singleton
+import java.util.concurrent.ExecutorService
 
 @Factory
 class ApplicationBeanFactory {
@@ -35,6 +38,7 @@ class ApplicationBeanFactory {
     metricClient: MetricClient,
     mapper: ReplicationInputMapper,
     @Value("\${airbyte.secret.use-runtime-persistence}") useRuntimeSecretPersistence: Boolean,
+    @Named(TaskExecutors.IO) executor: ExecutorService,
   ): ReplicationInputHydrator =
     ReplicationInputHydrator(
       airbyteApiClient,
@@ -46,6 +50,7 @@ class ApplicationBeanFactory {
       mapper,
       metricClient,
       useRuntimeSecretPersistence,
+      executor,
     )
 
   @Singleton
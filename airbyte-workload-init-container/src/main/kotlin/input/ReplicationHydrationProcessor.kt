@@ -25,11 +25,14 @@ import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Requires
 import jakarta.inject.Singleton
 import java.util.UUID
+import kotlin.time.TimeSource
+import kotlin.time.toJavaDuration
 
 private val logger = KotlinLogging.logger {}
 
 /**
- * Parses, hydrates and writes input files for the replication pod.
+ * Parses, hydrates and writes input files for the replication pod. The duration of each phase is
+ * reported so that slow pod startups can be attributed.
  */
 @Requires(property = "airbyte.init.operation", pattern = "sync")
 @Singleton
@@ -45,73 +48,91 @@ class ReplicationHydrationProcessor(
   override fun process(workload: Workload) {
     logger.info { "Deserializing replication input..." }
     val rawPayload = workload.inputPayload
-    val parsed: ReplicationActivityInput = deserializer.toReplicationActivityInput(rawPayload)
+    val parsed: ReplicationActivityInput = timePhase("deserialize") { deserializer.toReplicationActivityInput(rawPayload) }
 
     logger.info { "Hydrating replication input..." }
-    val hydrated: ReplicationInput = replicationInputHydrator.getHydratedReplicationInput(parsed)
-
-    // orchestrator input
-    logger.info { "Writing orchestrator inputs..." }
-    fileClient.writeInputFile(
-      FileConstants.INIT_INPUT_FILE,
-      serializer.serialize(hydrated),
-    )
-
-    // source inputs
-    logger.info { "Writing source inputs..." }
-    fileClient.writeInputFile(
-      FileConstants.CATALOG_FILE,
-      protocolSerializer.serialize(hydrated.catalog, false),
-      SOURCE_DIR,
-    )
-
-    fileClient.writeInputFile(
-      FileConstants.CONNECTOR_CONFIG_FILE,
-      serializer.serialize(hydrated.sourceConfiguration),
-      SOURCE_DIR,
-    )
-
-    // no need to pass state if empty
-    hydrated.state?.state?.let {
+    val hydrated: ReplicationInput = timePhase("hydrate") { replicationInputHydrator.getHydratedReplicationInput(parsed) }
+
+    logger.info { "Generating destination catalog..." }
+    val destinationCatalog =
+      timePhase("generate_destination_catalog") {
+        val mapper =
+          NamespacingMapper(
+            hydrated.namespaceDefinition,
+            hydrated.namespaceFormat,
+            hydrated.prefix,
+          )
+
+        val transformedCatalog = destinationCatalogGenerator.generateDestinationCatalog(hydrated.catalog)
+
+        parsed.connectionId?.let {
+          sendMapperErrorMetrics(transformedCatalog, it)
+        }
+
+        mapper.mapCatalog(transformedCatalog.catalog)
+      }
+
+    timePhase("write_inputs") {
+      // orchestrator input
+      logger.info { "Writing orchestrator inputs..." }
       fileClient.writeInputFile(
-        FileConstants.INPUT_STATE_FILE,
-        serializer.serialize(it),
-        SOURCE_DIR,
+        FileConstants.INIT_INPUT_FILE,
+        serializer.serialize(hydrated),
       )
-    }
 
-    // dest inputs
-    logger.info { "Writing destination inputs..." }
-    val mapper =
-      NamespacingMapper(
-        hydrated.namespaceDefinition,
-        hydrated.namespaceFormat,
-        hydrated.prefix,
-      )
+      // source inputs
+      logger.info { "Writing source inputs..." }
+      fileClient.streamInputFile(FileConstants.CATALOG_FILE, SOURCE_DIR) {
+        protocolSerializer.serialize(hydrated.catalog, false, it)
+      }
 
-    val transformedCatalog = destinationCatalogGenerator.generateDestinationCatalog(hydrated.catalog)
+      fileClient.writeInputFile(
+        FileConstants.CONNECTOR_CONFIG_FILE,
+        serializer.serialize(hydrated.sourceConfiguration),
+        SOURCE_DIR,
+      )
 
-    parsed.connectionId?.let {
-      sendMapperErrorMetrics(transformedCatalog, it)
-    }
+      // no need to pass state if empty
+      hydrated.state?.state?.let {
+        fileClient.writeInputFile(
+          FileConstants.INPUT_STATE_FILE,
+          serializer.serialize(it),
+          SOURCE_DIR,
+        )
+      }
 
-    val destinationCatalog = mapper.mapCatalog(destinationCatalogGenerator.generateDestinationCatalog(hydrated.catalog).catalog)
+      // dest inputs
+      logger.info { "Writing destination inputs..." }
+      fileClient.streamInputFile(FileConstants.CATALOG_FILE, DEST_DIR) {
+        protocolSerializer.serialize(destinationCatalog, hydrated.destinationSupportsRefreshes, it)
+      }
 
-    fileClient.writeInputFile(
-      FileConstants.CATALOG_FILE,
-      protocolSerializer.serialize(destinationCatalog, hydrated.destinationSupportsRefreshes),
-      DEST_DIR,
-    )
+      fileClient.writeInputFile(
+        FileConstants.CONNECTOR_CONFIG_FILE,
+        serializer.serialize(hydrated.destinationConfiguration),
+        DEST_DIR,
+      )
 
-    fileClient.writeInputFile(
-      FileConstants.CONNECTOR_CONFIG_FILE,
-      serializer.serialize(hydrated.destinationConfiguration),
-      DEST_DIR,
-    )
+      // pipes for passing messages between all three
+      logger.info { "Making named pipes..." }
+      fileClient.makeNamedPipes()
+    }
+  }
 
-    // pipes for passing messages between all three
-    logger.info { "Making named pipes..." }
-    fileClient.makeNamedPipes()
+  private fun <T> timePhase(
+    phase: String,
+    block: () -> T,
+  ): T {
+    val start = TimeSource.Monotonic.markNow()
+    try {
+      return block()
+    } finally {
+      metricClient
+        .timer(
+          metric = OssMetricsRegistry.INIT_HYDRATION_PHASE_DURATION,
+          attributes = arrayOf(MetricAttribute(MetricTags.STAGE_NAME_TAG, phase)),
+        )?.record(start.elapsedNow().toJavaDuration())
+    }
   }
 
   private fun sendMapperErrorMetrics(
@@ -14,6 +14,7 @@ import io.airbyte.workers.pod.FileConstants.STDERR_PIPE_FILE
 import io.airbyte.workers.pod.FileConstants.STDIN_PIPE_FILE
 import io.airbyte.workers.pod.FileConstants.STDOUT_PIPE_FILE
 import jakarta.inject.Singleton
+import java.io.OutputStream
 import java.nio.charset.StandardCharsets
 import java.nio.file.FileSystems
 import java.nio.file.Files
@@ -48,6 +49,23 @@ class FileClient(
     }
   }
 
+  /**
+   * Streams the contents written by [writeContents] to the designated filename in the config directory,
+   * so large inputs don't need to be built in memory first.
+   */
+  fun streamInputFile(
+    fileName: String,
+    baseDir: String = FileConstants.CONFIG_DIR,
+    writeContents: (OutputStream) -> Unit,
+  ) {
+    try {
+      Files.newOutputStream(Path.of(baseDir).resolve(fileName)).buffered().use(writeContents)
+    } catch (e: Exception) {
+      metricClient.count(metric = OssMetricsRegistry.INIT_FILE_CLIENT_FAILURE, attributes = arrayOf(MetricAttribute("step", "input-file")))
+      throw e
+    }
+  }
+
   fun makeNamedPipes(
     sourceDir: String = SOURCE_DIR,
     destDir: String = DEST_DIR,
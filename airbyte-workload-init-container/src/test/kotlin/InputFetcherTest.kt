@@ -4,6 +4,7 @@
 
 package io.airbyte.initContainer
 
+import io.airbyte.commons.storage.WorkloadPayloadStorage
 import io.airbyte.initContainer.InputFetcherTest.Fixtures.WORKLOAD_ID
 import io.airbyte.initContainer.InputFetcherTest.Fixtures.workload
 import io.airbyte.initContainer.input.InputHydrationProcessor
@@ -35,6 +36,9 @@ class InputFetcherTest {
   @MockK(relaxed = true)
   lateinit var metricClient: MetricClient
 
+  @MockK
+  lateinit var payloadStorage: WorkloadPayloadStorage
+
   private lateinit var fetcher: InputFetcher
 
   @BeforeEach
@@ -45,8 +49,11 @@ class InputFetcherTest {
         inputProcessor,
         systemClient,
         metricClient,
+        payloadStorage,
         WORKLOAD_ID,
       )
+
+    every { payloadStorage.isReference(any()) } returns false
   }
 
   @Test
@@ -60,6 +67,19 @@ class InputFetcherTest {
     verify { inputProcessor.process(workload) }
   }
 
+  @Test
+  fun `resolves offloaded input before processing it`() {
+    val offloaded = workload.copy(inputPayload = "payload-ref")
+    every { workloadApiClient.workloadApi.workloadGet(WORKLOAD_ID) } returns offloaded
+    every { payloadStorage.isReference("payload-ref") } returns true
+    every { payloadStorage.resolve("payload-ref") } returns workload.inputPayload
+    every { inputProcessor.process(workload) } returns Unit
+
+    fetcher.fetch()
+
+    verify { inputProcessor.process(workload) }
+  }
+
   @Test
   fun `fails workload on workload fetch error`() {
     every { workloadApiClient.workloadApi.workloadGet(WORKLOAD_ID) } throws Exception("bang")
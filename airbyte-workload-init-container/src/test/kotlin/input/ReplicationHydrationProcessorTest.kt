@@ -24,15 +24,19 @@ import io.airbyte.workers.serde.ObjectSerializer
 import io.airbyte.workers.serde.PayloadDeserializer
 import io.airbyte.workload.api.client.model.generated.Workload
 import io.airbyte.workload.api.client.model.generated.WorkloadType
+import io.mockk.Runs
 import io.mockk.every
 import io.mockk.impl.annotations.MockK
 import io.mockk.junit5.MockKExtension
+import io.mockk.just
 import io.mockk.verify
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.extension.ExtendWith
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.Arguments
 import org.junit.jupiter.params.provider.MethodSource
+import java.io.ByteArrayOutputStream
+import java.io.OutputStream
 import java.util.UUID
 import java.util.stream.Stream
 
@@ -56,7 +60,7 @@ class ReplicationHydrationProcessorTest {
   @MockK
   lateinit var destinationCatalogGenerator: DestinationCatalogGenerator
 
-  @MockK
+  @MockK(relaxed = true)
   lateinit var metricClient: MetricClient
 
   private lateinit var processor: ReplicationHydrationProcessor
@@ -113,9 +117,7 @@ class ReplicationHydrationProcessorTest {
       )
 
     val serializedReplInput = "serialized hydrated blob"
-    val serializedSrcCatalog = "serialized src catalog"
     val serializedSrcConfig = "serialized src config"
-    val serializedDestCatalog = "serialized dest catalog"
     val serializedDestConfig = "serialized dest config"
     val serializedState = "serialized state config"
 
@@ -125,8 +127,8 @@ class ReplicationHydrationProcessorTest {
     every { serializer.serialize(hydrated.sourceConfiguration) } returns serializedSrcConfig
     every { serializer.serialize(hydrated.destinationConfiguration) } returns serializedDestConfig
     every { serializer.serialize(hydrated.state?.state) } returns serializedState
-    every { protocolSerializer.serialize(hydrated.catalog, false) } returns serializedSrcCatalog
-    every { protocolSerializer.serialize(mapper.mapCatalog(hydrated.catalog), hydrated.destinationSupportsRefreshes) } returns serializedDestCatalog
+    every { protocolSerializer.serialize(any(), any(), any<OutputStream>()) } just Runs
+    every { fileClient.streamInputFile(any(), any(), any()) } answers { thirdArg<(OutputStream) -> Unit>()(ByteArrayOutputStream()) }
     every {
       destinationCatalogGenerator.generateDestinationCatalog(any())
     } returns DestinationCatalogGenerator.CatalogGenerationResult(hydrated.catalog, mapOf())
@@ -139,12 +141,13 @@ class ReplicationHydrationProcessorTest {
     verify { fileClient.writeInputFile(FileConstants.INIT_INPUT_FILE, serializedReplInput) }
     verify { serializer.serialize(hydrated.sourceConfiguration) }
     verify { serializer.serialize(hydrated.destinationConfiguration) }
-    verify { protocolSerializer.serialize(hydrated.catalog, false) }
-    verify { protocolSerializer.serialize(mapper.mapCatalog(hydrated.catalog), hydrated.destinationSupportsRefreshes) }
-    verify { fileClient.writeInputFile(FileConstants.CATALOG_FILE, serializedSrcCatalog, FileConstants.SOURCE_DIR) }
+    verify { protocolSerializer.serialize(hydrated.catalog, false, any()) }
+    verify { protocolSerializer.serialize(mapper.mapCatalog(hydrated.catalog), hydrated.destinationSupportsRefreshes, any()) }
+    verify { fileClient.streamInputFile(FileConstants.CATALOG_FILE, FileConstants.SOURCE_DIR, any()) }
     verify { fileClient.writeInputFile(FileConstants.CONNECTOR_CONFIG_FILE, serializedSrcConfig, FileConstants.SOURCE_DIR) }
     verify(exactly = timesStateFileWritten) { fileClient.writeInputFile(FileConstants.INPUT_STATE_FILE, serializedState, FileConstants.SOURCE_DIR) }
-    verify { fileClient.writeInputFile(FileConstants.CATALOG_FILE, serializedDestCatalog, FileConstants.DEST_DIR) }
+    verify { fileClient.streamInputFile(FileConstants.CATALOG_FILE, FileConstants.DEST_DIR, any()) }
+    verify(exactly = 1) { destinationCatalogGenerator.generateDestinationCatalog(any()) }
     verify { fileClient.writeInputFile(FileConstants.CONNECTOR_CONFIG_FILE, serializedDestConfig, FileConstants.DEST_DIR) }
     verify { fileClient.makeNamedPipes() }
   }
@@ -48,6 +48,18 @@ internal class FileClientTest {
     }
   }
 
+  @Test
+  internal fun testStreamInputFile() {
+    val inputFile = File.createTempFile("input", "txt")
+    try {
+      val contents = "This is a test"
+      fileClient.streamInputFile(fileName = inputFile.absolutePath) { it.write(contents.toByteArray()) }
+      assertEquals(contents, inputFile.readText())
+    } finally {
+      inputFile.delete()
+    }
+  }
+
   @OptIn(ExperimentalPathApi::class)
   @Test
   internal fun testMakeNamedPipes() {
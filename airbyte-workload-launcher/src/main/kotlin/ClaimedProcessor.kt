@@ -88,8 +88,9 @@ class ClaimedProcessor(
           MetricAttribute(MetricTags.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
         ),
     )
+    // Resumed claims share the launch slots and fair share caps with newly received workloads.
     return pipe
-      .buildPipeline(msg)
+      .schedule(msg)
       .doOnTerminate(claimProcessorTracker::trackResumed)
       .subscribeOn(scheduler)
   }
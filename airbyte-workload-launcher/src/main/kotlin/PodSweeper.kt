@@ -14,8 +14,8 @@ import io.airbyte.workers.pod.PodLabeler.LabelKeys.SWEEPER_LABEL_KEY
 import io.airbyte.workers.pod.PodLabeler.LabelKeys.SWEEPER_LABEL_VALUE
 import io.airbyte.workload.launcher.pods.KubePodLauncher.Constants.KUBECTL_COMPLETED_VALUE
 import io.airbyte.workload.launcher.pods.KubePodLauncher.Constants.KUBECTL_RUNNING_VALUE
+import io.airbyte.workload.launcher.pods.PodInformerCache
 import io.fabric8.kubernetes.api.model.Pod
-import io.fabric8.kubernetes.api.model.PodList
 import io.fabric8.kubernetes.client.KubernetesClient
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Value
@@ -32,6 +32,7 @@ import kotlin.time.toJavaDuration
  * A class that sweeps pods (labeled airbyte=job-pod) older than certain TTLs.
  *
  * @param client Fabric8 KubernetesClient
+ * @param podCache Informer-backed pod cache, used instead of listing pods when it is available
  * @param namespace The Kubernetes namespace to search in (defaults to "default")
  * @param runningTtl If non-null, running pods older than now - runningTtl will be deleted
  * @param succeededTtl If non-null, succeeded pods older than now - succeededTtl will be deleted
@@ -47,6 +48,7 @@ class PodSweeper(
   private val clock: Clock,
   @Value("\${airbyte.worker.job.kube.namespace}") private val namespace: String,
   @Named("kubernetesClientRetryPolicy") private val kubernetesClientRetryPolicy: RetryPolicy<Any>,
+  private val podCache: PodInformerCache,
   @Value("\${airbyte.pod-sweeper.runningTtl}") private val runningTtl: Long? = null,
   @Value("\${airbyte.pod-sweeper.succeededTtl}") private val succeededTtl: Long? = null,
   @Value("\${airbyte.pod-sweeper.unsuccessfulTtl}") private val unsuccessfulTtl: Long? = null,
@@ -71,14 +73,15 @@ class PodSweeper(
     }
 
     // List pods labeled 'airbyte=job-pod'
-    val podList: PodList =
-      kubernetesClient
+    val pods: List<Pod> =
+      podCache.list(mapOf(SWEEPER_LABEL_KEY to SWEEPER_LABEL_VALUE)) ?: kubernetesClient
         .pods()
         .inNamespace(namespace)
         .withLabel(SWEEPER_LABEL_KEY, SWEEPER_LABEL_VALUE)
         .list()
+        .items
 
-    for (pod in podList.items) {
+    for (pod in pods) {
       val phase = pod.status?.phase
       if (phase == null) {
         // If there's no status or phase, skip
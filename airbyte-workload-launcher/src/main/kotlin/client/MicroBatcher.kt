@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.client
+
+import io.github.oshai.kotlinlogging.KotlinLogging
+import reactor.core.publisher.Mono
+import reactor.core.publisher.Sinks
+import reactor.core.scheduler.Schedulers
+import java.time.Duration
+
+private val logger = KotlinLogging.logger {}
+
+private val EMIT_TIMEOUT: Duration = Duration.ofSeconds(5)
+private const val MAX_CONCURRENT_BATCHES = 4
+
+/**
+ * Coalesces concurrent single-key calls into batch calls.
+ *
+ * Keys submitted close together are sent in one call to [batchCall], once [maxBatchSize] keys are
+ * pending or [maxDelay] after the first of them was submitted, whichever comes first. Batch calls
+ * run on the bounded elastic scheduler.
+ *
+ * @param batchCall resolves a batch of distinct keys; keys missing from the result complete empty
+ */
+class MicroBatcher<K : Any, V : Any>(
+  private val name: String,
+  maxBatchSize: Int,
+  maxDelay: Duration,
+  private val batchCall: (List<K>) -> Map<K, V>,
+) {
+  private class Request<K, V>(
+    val key: K,
+    val result: Sinks.One<V>,
+  )
+
+  private val requests = Sinks.many().unicast().onBackpressureBuffer<Request<K, V>>()
+
+  init {
+    requests
+      .asFlux()
+      .bufferTimeout(maxBatchSize, maxDelay)
+      .flatMap(
+        { batch -> Mono.fromRunnable<Unit> { execute(batch) }.subscribeOn(Schedulers.boundedElastic()) },
+        MAX_CONCURRENT_BATCHES,
+      ).subscribe()
+  }
+
+  /**
+   * @return the value resolved for [key] by the batch it ends up in, or empty if it had none
+   */
+  fun submit(key: K): Mono<V> =
+    Mono.defer {
+      val result = Sinks.one<V>()
+      // Submissions come from many threads; busy looping retries when another one is mid-emission.
+      requests.emitNext(Request(key, result), Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT))
+      result.asMono()
+    }
+
+  private fun execute(batch: List<Request<K, V>>) {
+    val results =
+      try {
+        batchCall(batch.map { it.key }.distinct())
+      } catch (e: Exception) {
+        logger.warn(e) { "Batched $name call for ${batch.size} request(s) failed." }
+        batch.forEach { it.result.tryEmitError(e) }
+        return
+      }
+
+    batch.forEach { request ->
+      val value = results[request.key]
+      if (value != null) {
+        request.result.tryEmitValue(value)
+      } else {
+        request.result.tryEmitEmpty()
+      }
+    }
+  }
+}
@@ -7,22 +7,73 @@ package io.airbyte.workload.launcher.client
 import com.amazonaws.internal.ExceptionUtils
 import io.airbyte.metrics.MetricEmittingApps
 import io.airbyte.workload.api.client.model.generated.ClaimResponse
+import io.airbyte.workload.api.client.model.generated.WorkloadClaimManyRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadClaimRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadFailureManyRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadFailureRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadLaunchedManyRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadLaunchedRequest
 import io.airbyte.workload.launcher.pipeline.stages.StageName
 import io.airbyte.workload.launcher.pipeline.stages.model.StageError
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Value
 import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
+import java.time.Duration
 
 private val logger = KotlinLogging.logger {}
 
+/**
+ * Launcher facing wrapper of the workload API.
+ *
+ * The async variants of claim and status updates coalesce concurrent calls into the batch
+ * endpoints when batching is enabled, which saves most of the round trips when many workloads are
+ * launched at once. Otherwise they make the same single-workload calls as their blocking
+ * counterparts.
+ */
 @Singleton
 class WorkloadApiClient(
   private val workloadApiClient: io.airbyte.workload.api.client.WorkloadApiClient,
   @Value("\${airbyte.data-plane-id}") private val dataplaneId: String,
+  @Value("\${airbyte.workload-launcher.batching.enabled:false}") private val batchingEnabled: Boolean = false,
+  @Value("\${airbyte.workload-launcher.batching.max-size:50}") batchMaxSize: Int = 50,
+  @Value("\${airbyte.workload-launcher.batching.max-delay:100ms}") batchMaxDelay: Duration = Duration.ofMillis(100),
 ) {
+  private val claimBatcher by lazy {
+    MicroBatcher<String, Boolean>("claim", batchMaxSize, batchMaxDelay) { workloadIds ->
+      val resp =
+        workloadApiClient.workloadApi.workloadClaimMany(
+          WorkloadClaimManyRequest(workloadIds = workloadIds, dataplaneId = dataplaneId),
+        )
+      logger.info { "Claimed ${resp.claimedWorkloadIds.size} of ${workloadIds.size} workload(s) via API for $dataplaneId" }
+      resp.claimedWorkloadIds.associateWith { true }
+    }
+  }
+
+  private val launchedBatcher by lazy {
+    MicroBatcher<String, Unit>("launched", batchMaxSize, batchMaxDelay) { workloadIds ->
+      logger.info { "Attempting to update ${workloadIds.size} workload(s) to LAUNCHED." }
+      workloadApiClient.workloadApi.workloadLaunchedMany(WorkloadLaunchedManyRequest(workloadIds = workloadIds))
+      workloadIds.associateWith { }
+    }
+  }
+
+  private val failedBatcher by lazy {
+    MicroBatcher<Pair<String, String?>, Unit>("failure", batchMaxSize, batchMaxDelay) { failures ->
+      failures.groupBy({ it.second }, { it.first }).forEach { (reason, workloadIds) ->
+        logger.info { "Attempting to update ${workloadIds.size} workload(s) to FAILED." }
+        workloadApiClient.workloadApi.workloadFailureMany(
+          WorkloadFailureManyRequest(
+            workloadIds = workloadIds,
+            source = MetricEmittingApps.WORKLOAD_LAUNCHER.applicationName,
+            reason = reason,
+          ),
+        )
+      }
+      failures.associateWith { }
+    }
+  }
+
   fun reportFailure(failure: StageError) {
     // This should never happen, but if it does, we should avoid blowing up.
     if (failure.stageName == StageName.CLAIM) {
@@ -56,12 +107,45 @@ class WorkloadApiClient(
     workloadApiClient.workloadApi.workloadFailure(request)
   }
 
+  fun updateStatusToFailedAsync(
+    workloadId: String,
+    reason: String? = null,
+  ): Mono<Unit> =
+    if (batchingEnabled) {
+      failedBatcher.submit(workloadId to reason)
+    } else {
+      Mono.fromCallable { updateStatusToFailed(workloadId, reason) }
+    }
+
   fun updateStatusToLaunched(workloadId: String) {
     val request = WorkloadLaunchedRequest(workloadId)
     logger.info { "Attempting to update workload: $workloadId to LAUNCHED." }
     workloadApiClient.workloadApi.workloadLaunched(request)
   }
 
+  fun updateStatusToLaunchedAsync(workloadId: String): Mono<Unit> =
+    if (batchingEnabled) {
+      launchedBatcher.submit(workloadId)
+    } else {
+      Mono.fromCallable { updateStatusToLaunched(workloadId) }
+    }
+
+  /**
+   * Like [claim], a failed call is logged and reported as not claimed.
+   */
+  fun claimAsync(workloadId: String): Mono<Boolean> {
+    if (!batchingEnabled) {
+      return Mono.fromCallable { claim(workloadId) }
+    }
+    return claimBatcher
+      .submit(workloadId)
+      .defaultIfEmpty(false)
+      .onErrorResume { e ->
+        logger.error(e) { "Error claiming workload $workloadId via API for $dataplaneId." }
+        Mono.just(false)
+      }
+  }
+
   fun claim(workloadId: String): Boolean {
     var result = false
 
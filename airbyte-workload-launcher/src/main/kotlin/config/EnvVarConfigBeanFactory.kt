@@ -40,6 +40,7 @@ class EnvVarConfigBeanFactory {
   @Singleton
   @Named("initEnvVars")
   fun initEnvVars(
+    storageConfig: StorageConfig,
     @Named("apiClientEnvMap") apiClientEnvMap: Map<String, String>,
     @Named("featureFlagEnvMap") ffEnvVars: Map<String, String>,
     @Named("micronautEnvMap") micronautEnvMap: Map<String, String>,
@@ -58,6 +59,9 @@ class EnvVarConfigBeanFactory {
 
     envMap.putAll(loggingEnvMap)
 
+    // Cloud storage configuration (for fetching offloaded workload payloads)
+    envMap.putAll(storageConfig.toEnvVarMap())
+
     // Workload Api configuration
     envMap.putAll(workloadApiEnvMap)
 
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline
+
+import io.airbyte.config.WorkloadType
+import io.airbyte.metrics.MetricAttribute
+import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.workers.pod.Metadata
+import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+import kotlin.time.TimeSource
+import kotlin.time.toJavaDuration
+
+private val logger = KotlinLogging.logger {}
+
+private const val UNKNOWN_TENANT = "unknown"
+
+/**
+ * Decides which received workloads get to move through the launch pipeline next.
+ *
+ * Workloads are queued per class, a class being a tenant (the workspace of the workload) and a
+ * workload type. Whenever a launch slot frees up, it goes to the class that received the smallest
+ * share of launches relative to its weight (stride scheduling), so a tenant scheduling thousands of
+ * syncs at once can't starve other tenants, and checks/discovers can be weighted above syncs.
+ *
+ * Launches are capped globally by [maxInFlight], per tenant by [tenantMaxInFlight] and per workload
+ * type by [typeMaxInFlight] (0 or absent meaning uncapped). Submitting blocks the caller while
+ * [maxQueued] workloads are already waiting, which keeps applying back pressure to the queues the
+ * launcher consumes from.
+ */
+@Singleton
+class FairShareScheduler(
+  private val metricClient: MetricClient,
+  private val maxInFlight: Int,
+  private val maxQueued: Int,
+  private val typeWeights: Map<WorkloadType, Int>,
+  private val typeMaxInFlight: Map<WorkloadType, Int>,
+  private val tenantMaxInFlight: Int,
+) {
+  @Inject
+  constructor(
+    metricClient: MetricClient,
+    @Value("\${airbyte.workload-launcher.max-in-flight-launches:1000}") maxInFlight: Int,
+    @Value("\${airbyte.workload-launcher.fair-share.max-queued:200}") maxQueued: Int,
+    @Value("\${airbyte.workload-launcher.fair-share.type-weights:}") typeWeights: String,
+    @Value("\${airbyte.workload-launcher.fair-share.type-max-in-flight:}") typeMaxInFlight: String,
+    @Value("\${airbyte.workload-launcher.fair-share.tenant-max-in-flight:0}") tenantMaxInFlight: Int,
+  ) : this(metricClient, maxInFlight, maxQueued, parseTypeValues(typeWeights), parseTypeValues(typeMaxInFlight), tenantMaxInFlight)
+
+  data class ShareClass(
+    val tenant: String,
+    val type: WorkloadType,
+  )
+
+  private class Pending(
+    val task: () -> Mono<*>,
+    val enqueuedAt: TimeSource.Monotonic.ValueTimeMark,
+  )
+
+  private class ClassQueue(
+    val shareClass: ShareClass,
+    val stride: Double,
+  ) {
+    val pending = ArrayDeque<Pending>()
+    var pass = 0.0
+    var inFlight = 0
+  }
+
+  private val lock = ReentrantLock()
+  private val notFull = lock.newCondition()
+
+  // Insertion ordered, so classes with equal passes are served in arrival order.
+  private val queues = LinkedHashMap<ShareClass, ClassQueue>()
+  private val tenantInFlight = HashMap<String, Int>()
+  private val typeInFlight = HashMap<WorkloadType, Int>()
+  private val typeQueued = HashMap<WorkloadType, Int>()
+  private var inFlight = 0
+  private var queued = 0
+  private var virtualTime = 0.0
+
+  init {
+    require(maxInFlight > 0) { "max-in-flight-launches must be positive" }
+    require(maxQueued > 0) { "fair-share.max-queued must be positive" }
+
+    metricClient.gauge(OssMetricsRegistry.WORKLOAD_LAUNCHES_IN_FLIGHT, this, { lock.withLock { it.inFlight }.toDouble() })
+    WorkloadType.entries.forEach { type ->
+      metricClient.gauge(
+        OssMetricsRegistry.WORKLOAD_LAUNCH_QUEUE_DEPTH,
+        this,
+        { lock.withLock { it.typeQueued[type] ?: 0 }.toDouble() },
+        MetricAttribute(MetricTags.WORKLOAD_TYPE_TAG, type.toString()),
+      )
+    }
+  }
+
+  /**
+   * Queues [task] for [shareClass] and starts it once it is its turn. The returned [Mono] of the task
+   * is subscribed to by the scheduler, and its completion frees the slot.
+   */
+  fun submit(
+    shareClass: ShareClass,
+    task: () -> Mono<*>,
+  ) {
+    val ready =
+      lock.withLock {
+        while (queued >= maxQueued) {
+          notFull.await()
+        }
+
+        val queue = queues.getOrPut(shareClass) { ClassQueue(shareClass, 1.0 / weightOf(shareClass.type)) }
+        if (queue.pending.isEmpty()) {
+          // Classes don't bank credit while idle.
+          queue.pass = maxOf(queue.pass, virtualTime)
+        }
+        queue.pending.addLast(Pending(task, TimeSource.Monotonic.markNow()))
+        queued++
+        typeQueued.merge(shareClass.type, 1, Int::plus)
+
+        dispatchReady()
+      }
+    ready.forEach { start(it.first, it.second) }
+  }
+
+  /**
+   * Picks as many workloads as the caps allow, in fair share order. Must be called holding [lock].
+   */
+  private fun dispatchReady(): List<Pair<ShareClass, Pending>> {
+    val ready = mutableListOf<Pair<ShareClass, Pending>>()
+    while (inFlight < maxInFlight) {
+      val queue = queues.values.filter { it.pending.isNotEmpty() && hasCapacity(it.shareClass) }.minByOrNull { it.pass } ?: break
+
+      val pending = queue.pending.removeFirst()
+      virtualTime = queue.pass
+      queue.pass += queue.stride
+      queue.inFlight++
+      inFlight++
+      queued--
+      typeQueued.merge(queue.shareClass.type, -1, Int::plus)
+      tenantInFlight.merge(queue.shareClass.tenant, 1, Int::plus)
+      typeInFlight.merge(queue.shareClass.type, 1, Int::plus)
+      ready.add(queue.shareClass to pending)
+    }
+    if (ready.isNotEmpty()) {
+      notFull.signalAll()
+    }
+    return ready
+  }
+
+  private fun hasCapacity(shareClass: ShareClass): Boolean {
+    val typeCap = typeMaxInFlight[shareClass.type] ?: 0
+    return (tenantMaxInFlight <= 0 || (tenantInFlight[shareClass.tenant] ?: 0) < tenantMaxInFlight) &&
+      (typeCap <= 0 || (typeInFlight[shareClass.type] ?: 0) < typeCap)
+  }
+
+  private fun weightOf(type: WorkloadType): Int = (typeWeights[type] ?: 1).coerceAtLeast(1)
+
+  private fun start(
+    shareClass: ShareClass,
+    pending: Pending,
+  ) {
+    metricClient
+      .timer(
+        metric = OssMetricsRegistry.WORKLOAD_LAUNCH_QUEUE_WAIT,
+        attributes = arrayOf(MetricAttribute(MetricTags.WORKLOAD_TYPE_TAG, shareClass.type.toString())),
+      )?.record(pending.enqueuedAt.elapsedNow().toJavaDuration())
+
+    // Started off the calling thread so that a completing launch doesn't run the next one inline.
+    Mono
+      .defer { pending.task() }
+      .subscribeOn(Schedulers.boundedElastic())
+      .doFinally { complete(shareClass) }
+      .subscribe(
+        {},
+        { e -> logger.error(e) { "Unexpected error while launching a workload of $shareClass" } },
+      )
+  }
+
+  private fun complete(shareClass: ShareClass) {
+    val ready =
+      lock.withLock {
+        inFlight--
+        tenantInFlight.merge(shareClass.tenant, -1, Int::plus)
+        typeInFlight.merge(shareClass.type, -1, Int::plus)
+        tenantInFlight.remove(shareClass.tenant, 0)
+        queues[shareClass]?.let {
+          it.inFlight--
+          if (it.inFlight == 0 && it.pending.isEmpty() && it.pass <= virtualTime) {
+            // Idle classes start over from the virtual time anyway, so there is no state worth keeping.
+            queues.remove(shareClass)
+          }
+        }
+
+        dispatchReady()
+      }
+    ready.forEach { start(it.first, it.second) }
+  }
+
+  companion object {
+    fun classOf(msg: LauncherInput): ShareClass = ShareClass(msg.labels[Metadata.WORKSPACE_LABEL_KEY] ?: UNKNOWN_TENANT, msg.workloadType)
+
+    /**
+     * Parses per workload type settings of the form `check=4,discover=4,sync=1`.
+     */
+    fun parseTypeValues(value: String): Map<WorkloadType, Int> =
+      value
+        .split(",")
+        .map { it.trim() }
+        .filter { it.isNotEmpty() }
+        .associate { entry ->
+          val (type, number) = entry.split("=", limit = 2).map { it.trim() }
+          WorkloadType.valueOf(type.uppercase()) to number.toInt()
+        }
+  }
+}
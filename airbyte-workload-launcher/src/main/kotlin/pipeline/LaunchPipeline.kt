@@ -21,11 +21,15 @@ import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import reactor.core.publisher.Mono
-import reactor.core.scheduler.Schedulers
 import reactor.kotlin.core.publisher.toMono
 import kotlin.time.TimeSource
 import kotlin.time.toJavaDuration
 
+/**
+ * Moves workloads through the launch stages. Stages don't hold a thread while waiting on pods, so
+ * the number of concurrent launches, and which workloads launch first, is decided by the [scheduler]
+ * rather than by the number of consumer threads.
+ */
 @Singleton
 class LaunchPipeline(
   @Value("\${airbyte.data-plane-id}") private val dataplaneId: String,
@@ -39,6 +43,7 @@ class LaunchPipeline(
   private val failureHandler: FailureHandler,
   private val metricClient: MetricClient,
   private val ctxFactory: LogContextFactory,
+  private val scheduler: FairShareScheduler,
 ) {
   @Trace(operationName = LAUNCH_PIPELINE_OPERATION_NAME)
   fun accept(msg: LauncherInput) {
@@ -50,21 +55,37 @@ class LaunchPipeline(
           MetricAttribute(MetricTags.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
         ),
     )
-    val disposable =
+    // Blocks the consumer once too many workloads are waiting for a launch slot, which is what applies
+    // back pressure to the queue now that launches complete asynchronously.
+    scheduler.submit(FairShareScheduler.classOf(msg)) {
       buildPipeline(msg)
-        .subscribeOn(Schedulers.immediate())
-        .subscribe()
-    metricClient
-      .timer(
-        metric = OssMetricsRegistry.WORKLOAD_LAUNCH_DURATION,
-        attributes =
-          arrayOf(
-            MetricAttribute(MetricTags.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
-          ),
-      )?.record(startTime.elapsedNow().toJavaDuration())
-    disposable.dispose()
+        .doFinally {
+          metricClient
+            .timer(
+              metric = OssMetricsRegistry.WORKLOAD_LAUNCH_DURATION,
+              attributes =
+                arrayOf(
+                  MetricAttribute(MetricTags.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
+                ),
+            )?.record(startTime.elapsedNow().toJavaDuration())
+        }
+    }
   }
 
+  /**
+   * Launches [msg] once the [scheduler] gives it a slot, like [accept] does, for callers that need
+   * to know when the launch is done. Subscribing blocks while the scheduler's queue is full.
+   */
+  fun schedule(msg: LauncherInput): Mono<LaunchStageIO> =
+    Mono.create { sink ->
+      scheduler.submit(FairShareScheduler.classOf(msg)) {
+        buildPipeline(msg)
+          .doOnSuccess { sink.success(it) }
+          .doOnError { sink.error(it) }
+          .doOnCancel { sink.success() }
+      }
+    }
+
   fun buildPipeline(msg: LauncherInput): Mono<LaunchStageIO> {
     addTagsToTrace(msg)
     val loggingCtx = ctxFactory.create(msg)
@@ -79,7 +100,7 @@ class LaunchPipeline(
       .flatMap(mutex)
       .flatMap(launch)
       .onErrorResume { e -> failureHandler.apply(e, input) }
-      .doOnNext(successHandler::accept)
+      .flatMap(successHandler::apply)
   }
 
   private fun addTagsToTrace(msg: LauncherInput) {
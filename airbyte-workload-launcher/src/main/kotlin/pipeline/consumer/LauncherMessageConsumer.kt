@@ -18,6 +18,12 @@ class LauncherMessageConsumer(
   private val launchPipeline: LaunchPipeline,
   private val metricClient: MetricClient,
 ) : MessageConsumer<LauncherInputMessage> {
+  /**
+   * Hands the message to the launch pipeline. This returns once the launch is scheduled, not once it
+   * is done: the number of launches in flight is capped by the [io.airbyte.workload.launcher.pipeline.FairShareScheduler]
+   * (airbyte.workload-launcher.max-in-flight-launches), and this blocks while its queue is full, so
+   * the consumer can't pull more work than the launcher is able to hold.
+   */
   override fun consume(input: LauncherInputMessage) {
     if (input.startTimeMs != null) {
       metricClient.gauge(
@@ -16,6 +16,7 @@ import io.github.oshai.kotlinlogging.withLoggingContext
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import org.openapitools.client.infrastructure.ClientException
+import reactor.core.publisher.Mono
 import java.util.Optional
 import java.util.function.Function
 
@@ -28,6 +29,10 @@ class SuccessHandler(
   @Named("logMsgTemplate") private val logMsgTemplate: Optional<Function<String, String>>,
 ) {
   fun accept(io: LaunchStageIO) {
+    apply(io).block()
+  }
+
+  fun apply(io: LaunchStageIO): Mono<LaunchStageIO> {
     withLoggingContext(io.logCtx) {
       metricClient.count(
         metric = OssMetricsRegistry.WORKLOAD_PROCESSED,
@@ -48,32 +53,47 @@ class SuccessHandler(
             ),
         )
       }
+    }
 
-      // If we skipped then we didn't launch the workload on this run, so we don't set its status to "launched".
-      if (!io.skip) {
-        try {
-          apiClient.updateStatusToLaunched(io.msg.workloadId)
-        } catch (e: Exception) {
-          val errorMsg = "Failed to update workload status to launched. Workload may be reprocessed on restart."
-          if (e is ClientException && e.statusCode == 410) {
-            logger.debug(e) {
-              errorMsg +
-                "Exception: $e\n" +
-                "message: ${e.message}\n" +
-                "stackTrace: ${e.stackTrace}\n"
-            }
-          } else {
-            logger.warn(e) {
-              errorMsg +
-                "Exception: $e\n" +
-                "message: ${e.message}\n" +
-                "stackTrace: ${e.stackTrace}\n"
-            }
+    // If we skipped then we didn't launch the workload on this run, so we don't set its status to "launched".
+    val statusUpdate =
+      if (io.skip) {
+        Mono.empty()
+      } else {
+        apiClient
+          .updateStatusToLaunchedAsync(io.msg.workloadId)
+          .onErrorResume { e ->
+            withLoggingContext(io.logCtx) { logStatusUpdateFailure(e) }
+            Mono.empty()
           }
-        }
       }
 
-      logger.info { logMsgTemplate.orElse { id: String -> "Pipeline completed for workload: $id." }.apply(io.msg.workloadId) }
+    return statusUpdate.then(
+      Mono.fromCallable {
+        withLoggingContext(io.logCtx) {
+          logger.info { logMsgTemplate.orElse { id: String -> "Pipeline completed for workload: $id." }.apply(io.msg.workloadId) }
+        }
+        io
+      },
+    )
+  }
+
+  private fun logStatusUpdateFailure(e: Throwable) {
+    val errorMsg = "Failed to update workload status to launched. Workload may be reprocessed on restart."
+    if (e is ClientException && e.statusCode == 410) {
+      logger.debug(e) {
+        errorMsg +
+          "Exception: $e\n" +
+          "message: ${e.message}\n" +
+          "stackTrace: ${e.stackTrace}\n"
+      }
+    } else {
+      logger.warn(e) {
+        errorMsg +
+          "Exception: $e\n" +
+          "message: ${e.message}\n" +
+          "stackTrace: ${e.stackTrace}\n"
+      }
     }
   }
 }
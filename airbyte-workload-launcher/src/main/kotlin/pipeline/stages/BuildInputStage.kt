@@ -5,6 +5,7 @@
 package io.airbyte.workload.launcher.pipeline.stages
 
 import datadog.trace.api.Trace
+import io.airbyte.commons.storage.WorkloadPayloadStorage
 import io.airbyte.config.WorkloadType
 import io.airbyte.featureflag.Context
 import io.airbyte.metrics.MetricClient
@@ -34,12 +35,14 @@ import reactor.core.publisher.Mono
 /**
  * Deserializes input payloads, derives a feature flag context from input data and attaches both to the IO.
  * The input is usually not fully hydrated with further hydration eventually performed by the launched pod itself.
+ * Inputs offloaded to object storage are fetched here, as the message only references them.
  */
 @Singleton
 @Named("build")
 open class BuildInputStage(
   private val replicationInputMapper: ReplicationInputMapper,
   private val deserializer: PayloadDeserializer,
+  private val payloadStorage: WorkloadPayloadStorage,
   metricClient: MetricClient,
   private val ffCtxMapper: InputFeatureFlagContextMapper,
   @Value("\${airbyte.data-plane-id}") dataplaneId: String,
@@ -53,7 +56,7 @@ open class BuildInputStage(
   override fun apply(input: LaunchStageIO): Mono<LaunchStageIO> = super.apply(input)
 
   override fun applyStage(input: LaunchStageIO): LaunchStageIO {
-    val built = buildPayload(input.msg.workloadInput, input.msg.workloadType)
+    val built = buildPayload(payloadStorage.resolve(input.msg.workloadInput), input.msg.workloadType)
     val ffCtx = buildInputContext(built)
 
     return input.apply {
@@ -43,9 +43,15 @@ open class ClaimStage(
   )
   override fun apply(input: LaunchStageIO): Mono<LaunchStageIO> = super.apply(input)
 
-  override fun applyStage(input: LaunchStageIO): LaunchStageIO {
-    val claimed = apiClient.claim(input.msg.workloadId)
+  override fun applyStage(input: LaunchStageIO): LaunchStageIO = onClaimResult(input, apiClient.claim(input.msg.workloadId))
 
+  override fun applyStageAsync(input: LaunchStageIO): Mono<LaunchStageIO> =
+    apiClient.claimAsync(input.msg.workloadId).map { claimed -> onClaimResult(input, claimed) }
+
+  private fun onClaimResult(
+    input: LaunchStageIO,
+    claimed: Boolean,
+  ): LaunchStageIO {
     if (!claimed) {
       metricClient.count(
         metric = OssMetricsRegistry.WORKLOAD_NOT_CLAIMED,
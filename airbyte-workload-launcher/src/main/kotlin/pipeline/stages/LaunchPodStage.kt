@@ -41,20 +41,23 @@ open class LaunchPodStage(
   )
   override fun apply(input: LaunchStageIO): Mono<LaunchStageIO> = super.apply(input)
 
-  override fun applyStage(input: LaunchStageIO): LaunchStageIO {
-    when (val payload = input.payload!!) {
-      is SyncPayload ->
-        if (payload.input.isReset) {
-          launcher.launchReset(payload.input, input.msg)
-        } else {
-          launcher.launchReplication(payload.input, input.msg)
-        }
-      is CheckPayload -> launcher.launchCheck(payload.input, input.msg)
-      is DiscoverCatalogPayload -> launcher.launchDiscover(payload.input, input.msg)
-      is SpecPayload -> launcher.launchSpec(payload.input, input.msg)
-    }
+  override fun applyStage(input: LaunchStageIO): LaunchStageIO = applyStageAsync(input).block()!!
 
-    return input
+  override fun applyStageAsync(input: LaunchStageIO): Mono<LaunchStageIO> {
+    val launched =
+      when (val payload = input.payload!!) {
+        is SyncPayload ->
+          if (payload.input.isReset) {
+            launcher.launchReset(payload.input, input.msg)
+          } else {
+            launcher.launchReplication(payload.input, input.msg)
+          }
+        is CheckPayload -> launcher.launchCheck(payload.input, input.msg)
+        is DiscoverCatalogPayload -> launcher.launchDiscover(payload.input, input.msg)
+        is SpecPayload -> launcher.launchSpec(payload.input, input.msg)
+      }
+
+    return launched.thenReturn(input)
   }
 
   override fun getStageName(): StageName = StageName.LAUNCH
@@ -39,19 +39,23 @@ open class LoadShedStage(
   )
   override fun apply(input: LaunchStageIO): Mono<LaunchStageIO> = super.apply(input)
 
-  override fun applyStage(input: LaunchStageIO): LaunchStageIO {
+  override fun applyStage(input: LaunchStageIO): LaunchStageIO = applyStageAsync(input).block()!!
+
+  override fun applyStageAsync(input: LaunchStageIO): Mono<LaunchStageIO> {
     val shouldShed = featureFlagClient.boolVariation(LoadShedWorkloadLauncher, input.ffContext!!)
-    if (shouldShed) {
-      try {
-        workloadClient.updateStatusToFailed(input.msg.workloadId, LOAD_SHED_FAILURE_REASON)
-      } catch (e: Exception) {
-        logger.warn { "Failed to fail workload: ${input.msg.workloadId} as part of load shed." }
+    val shed =
+      if (shouldShed) {
+        workloadClient
+          .updateStatusToFailedAsync(input.msg.workloadId, LOAD_SHED_FAILURE_REASON)
+          .onErrorResume {
+            logger.warn { "Failed to fail workload: ${input.msg.workloadId} as part of load shed." }
+            Mono.empty()
+          }
+      } else {
+        Mono.empty()
       }
-    }
 
-    return input.apply {
-      skip = shouldShed
-    }
+    return shed.then(Mono.fromCallable { input.apply { skip = shouldShed } })
   }
 
   override fun getStageName(): StageName = StageName.LOAD_SHED
@@ -16,6 +16,7 @@ import io.github.oshai.kotlinlogging.KotlinLogging
 import io.github.oshai.kotlinlogging.withLoggingContext
 import reactor.core.publisher.Mono
 import reactor.kotlin.core.publisher.toMono
+import java.util.concurrent.atomic.AtomicInteger
 import java.util.function.Function
 import kotlin.time.TimeSource
 import kotlin.time.toJavaDuration
@@ -28,6 +29,17 @@ abstract class Stage<T : StageIO>(
   protected val metricClient: MetricClient,
   protected val dataplaneId: String,
 ) : StageFunction<T> {
+  private val inFlight: AtomicInteger by lazy {
+    AtomicInteger().also {
+      metricClient.gauge(
+        OssMetricsRegistry.WORKLOAD_STAGE_IN_FLIGHT,
+        it,
+        { count -> count.toDouble() },
+        MetricAttribute(MetricTags.STAGE_NAME_TAG, getStageName().toString()),
+      )
+    }
+  }
+
   override fun apply(input: T): Mono<T> {
     withLoggingContext(input.logCtx) {
       if (skipStage(input)) {
@@ -36,31 +48,50 @@ abstract class Stage<T : StageIO>(
       }
 
       val startTime = TimeSource.Monotonic.markNow()
-      var success = true
 
       logger.info { "APPLY Stage: ${getStageName()} — (workloadId = ${input.msg.workloadId}) — (dataplaneId = $dataplaneId)" }
 
-      return try {
-        applyStage(input).toMono()
-      } catch (t: Throwable) {
-        success = false
-        ApmTraceUtils.addExceptionToTrace(t)
-        Mono.error(StageError(input, getStageName(), t))
-      } finally {
-        metricClient
-          .timer(
-            metric = OssMetricsRegistry.WORKLOAD_STAGE_DURATION,
-            attributes =
-              getMetricAttrs(input).toTypedArray() +
-                arrayOf(
-                  MetricAttribute(MetricTags.STAGE_NAME_TAG, getStageName().toString()),
-                  MetricAttribute(MetricTags.STATUS, if (success) SUCCESS_STATUS else FAILURE_STATUS),
-                ),
-          )?.record(startTime.elapsedNow().toJavaDuration())
-      }
+      inFlight.incrementAndGet()
+      val result =
+        try {
+          applyStageAsync(input)
+        } catch (t: Throwable) {
+          Mono.error(t)
+        }
+
+      return result
+        .onErrorMap { t ->
+          ApmTraceUtils.addExceptionToTrace(t)
+          StageError(input, getStageName(), t)
+        }.doOnSuccess { recordDuration(input, startTime, true) }
+        .doOnError { recordDuration(input, startTime, false) }
+        .doFinally { inFlight.decrementAndGet() }
     }
   }
 
+  /**
+   * Applies the stage without blocking the calling thread. Stages that wait on external events
+   * should override this; by default the stage is applied synchronously through [applyStage].
+   */
+  open fun applyStageAsync(input: T): Mono<T> = applyStage(input).toMono()
+
+  private fun recordDuration(
+    input: T,
+    startTime: TimeSource.Monotonic.ValueTimeMark,
+    success: Boolean,
+  ) {
+    metricClient
+      .timer(
+        metric = OssMetricsRegistry.WORKLOAD_STAGE_DURATION,
+        attributes =
+          getMetricAttrs(input).toTypedArray() +
+            arrayOf(
+              MetricAttribute(MetricTags.STAGE_NAME_TAG, getStageName().toString()),
+              MetricAttribute(MetricTags.STATUS, if (success) SUCCESS_STATUS else FAILURE_STATUS),
+            ),
+      )?.record(startTime.elapsedNow().toJavaDuration())
+  }
+
   abstract fun applyStage(input: T): T
 
   abstract fun skipStage(input: StageIO): Boolean
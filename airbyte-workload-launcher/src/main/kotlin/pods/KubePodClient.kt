@@ -30,6 +30,7 @@ import io.fabric8.kubernetes.client.KubernetesClientTimeoutException
 import io.github.oshai.kotlinlogging.KotlinLogging
 import jakarta.inject.Named
 import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
 import java.time.Duration
 import java.util.UUID
 import java.util.concurrent.TimeoutException
@@ -39,6 +40,9 @@ private val logger = KotlinLogging.logger {}
 /**
  * Interface layer between domain and Kube layers.
  * Composes raw Kube layer atomic operations to perform business operations.
+ *
+ * Launches create their pods synchronously and return a [Mono] that completes once the pods have
+ * started, so that no thread is held while waiting on Kube.
  */
 @Singleton
 class KubePodClient(
@@ -50,6 +54,7 @@ class KubePodClient(
   @Named("checkPodFactory") private val checkPodFactory: ConnectorPodFactory,
   @Named("discoverPodFactory") private val discoverPodFactory: ConnectorPodFactory,
   @Named("specPodFactory") private val specPodFactory: ConnectorPodFactory,
+  private val warmPodPool: WarmPodPool,
 ) {
   fun podsExistForAutoId(autoId: UUID): Boolean = kubePodLauncher.podsRunning(labeler.getAutoIdLabels(autoId))
 
@@ -57,7 +62,7 @@ class KubePodClient(
   fun launchReplication(
     replicationInput: ReplicationInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Unit> {
     val sharedLabels =
       labeler.getSharedLabels(
         launcherInput.workloadId,
@@ -111,14 +116,14 @@ class KubePodClient(
     // NOTE: might not be necessary depending on when `serversideApply` returns.
     // If it blocks until it moves from PENDING, then we are good. Otherwise, we
     // need this or something similar to wait for the pod to be running on the node.
-    waitForPodInitComplete(pod, PodType.REPLICATION.toString())
+    return waitForPodInitComplete(pod, PodType.REPLICATION.toString())
   }
 
   @Trace(operationName = LAUNCH_RESET_OPERATION_NAME)
   fun launchReset(
     replicationInput: ReplicationInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Unit> {
     val sharedLabels =
       labeler.getSharedLabels(
         launcherInput.workloadId,
@@ -166,13 +171,13 @@ class KubePodClient(
     // NOTE: might not be necessary depending on when `serversideApply` returns.
     // If it blocks until it moves from PENDING, then we are good. Otherwise, we
     // need this or something similar to wait for the pod to be running on the node.
-    waitForPodInitComplete(pod, PodType.REPLICATION.toString())
+    return waitForPodInitComplete(pod, PodType.REPLICATION.toString())
   }
 
   fun launchCheck(
     checkInput: CheckConnectionInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Unit> {
     // For check the workload id is too long to be store as a kube label thus it is not added
     val sharedLabels =
       labeler.getSharedLabels(
@@ -185,13 +190,13 @@ class KubePodClient(
       )
     val kubeInput = mapper.toKubeInput(launcherInput.workloadId, checkInput, sharedLabels)
 
-    launchConnectorWithSidecar(kubeInput, checkPodFactory, launcherInput.workloadType.toOperationName())
+    return launchConnectorWithSidecar(kubeInput, checkPodFactory, launcherInput.workloadType.toOperationName(), launcherInput.workloadId)
   }
 
   fun launchDiscover(
     discoverCatalogInput: DiscoverCatalogInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Unit> {
     // For discover the workload id is too long to be store as a kube label thus it is not added
     val sharedLabels =
       labeler.getSharedLabels(
@@ -205,13 +210,13 @@ class KubePodClient(
 
     val kubeInput = mapper.toKubeInput(launcherInput.workloadId, discoverCatalogInput, sharedLabels)
 
-    launchConnectorWithSidecar(kubeInput, discoverPodFactory, launcherInput.workloadType.toOperationName())
+    return launchConnectorWithSidecar(kubeInput, discoverPodFactory, launcherInput.workloadType.toOperationName(), launcherInput.workloadId)
   }
 
   fun launchSpec(
     specInput: SpecInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Unit> {
     // For spec the workload id is too long to be store as a kube label thus it is not added
     val sharedLabels =
       labeler.getSharedLabels(
@@ -225,7 +230,7 @@ class KubePodClient(
 
     val kubeInput = mapper.toKubeInput(launcherInput.workloadId, specInput, sharedLabels)
 
-    launchConnectorWithSidecar(kubeInput, specPodFactory, launcherInput.workloadType.toOperationName())
+    return launchConnectorWithSidecar(kubeInput, specPodFactory, launcherInput.workloadType.toOperationName(), launcherInput.workloadId)
   }
 
   @VisibleForTesting
@@ -233,7 +238,8 @@ class KubePodClient(
     kubeInput: ConnectorKubeInput,
     factory: ConnectorPodFactory,
     podLogLabel: String,
-  ) {
+    workloadId: String,
+  ): Mono<Unit> {
     var pod =
       factory.create(
         kubeInput.connectorLabels,
@@ -246,7 +252,7 @@ class KubePodClient(
         kubeInput.workspaceId,
       )
     try {
-      pod = kubePodLauncher.create(pod)
+      pod = warmPodPool.claim(pod)?.let { warmPod -> warmPodPool.assign(warmPod, pod, workloadId) } ?: kubePodLauncher.create(pod)
     } catch (e: RuntimeException) {
       ApmTraceUtils.addExceptionToTrace(e)
       throw KubeClientException(
@@ -256,18 +262,21 @@ class KubePodClient(
       )
     }
 
-    waitForPodInitComplete(pod, podLogLabel)
-
-    try {
-      kubePodLauncher.waitForPodReadyOrTerminalByPod(pod, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubeClientException(
-        "$podLogLabel pod failed to start within allotted timeout.",
-        e,
-        KubeCommandType.WAIT_MAIN,
+    return waitForPodInitComplete(pod, podLogLabel)
+      .then(
+        Mono.defer {
+          kubePodLauncher
+            .waitForPodReadyOrTerminalByPodAsync(pod, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE)
+            .onErrorMap(RuntimeException::class.java) { e ->
+              ApmTraceUtils.addExceptionToTrace(e)
+              KubeClientException(
+                "$podLogLabel pod failed to start within allotted timeout.",
+                e,
+                KubeCommandType.WAIT_MAIN,
+              )
+            }
+        },
       )
-    }
   }
 
   fun deleteMutexPods(mutexKey: String): Boolean {
@@ -290,22 +299,17 @@ class KubePodClient(
   fun waitForPodInitComplete(
     pod: Pod,
     podLogLabel: String,
-  ) {
-    try {
-      kubePodLauncher.waitForPodInitComplete(pod, POD_INIT_TIMEOUT_VALUE)
-    } catch (e: Exception) {
-      when (e) {
-        is TimeoutException, is KubernetesClientTimeoutException -> {
-          ApmTraceUtils.addExceptionToTrace(e)
-          throw ResourceConstraintException(
-            "Unable to start the $podLogLabel pod. This may be due to insufficient system resources. Please check available resources and try again.",
-            e,
-            KubeCommandType.WAIT_INIT,
-          )
-        } else -> throw e
+  ): Mono<Unit> =
+    kubePodLauncher
+      .waitForPodInitCompleteAsync(pod, POD_INIT_TIMEOUT_VALUE)
+      .onErrorMap({ e -> e is TimeoutException || e is KubernetesClientTimeoutException }) { e ->
+        ApmTraceUtils.addExceptionToTrace(e)
+        ResourceConstraintException(
+          "Unable to start the $podLogLabel pod. This may be due to insufficient system resources. Please check available resources and try again.",
+          e,
+          KubeCommandType.WAIT_INIT,
+        )
       }
-    }
-  }
 
   companion object {
     private val TIMEOUT_SLACK: Duration = Duration.ofSeconds(5)
@@ -19,11 +19,13 @@ import io.airbyte.workload.launcher.pods.KubePodLauncher.Constants.KUBECTL_COMPL
 import io.airbyte.workload.launcher.pods.KubePodLauncher.Constants.KUBECTL_PHASE_FIELD_NAME
 import io.airbyte.workload.launcher.pods.KubePodLauncher.Constants.MAX_DELETION_TIMEOUT
 import io.fabric8.kubernetes.api.model.ContainerState
+import io.fabric8.kubernetes.api.model.ContainerStatus
 import io.fabric8.kubernetes.api.model.DeletionPropagation
 import io.fabric8.kubernetes.api.model.Pod
 import io.fabric8.kubernetes.api.model.PodList
 import io.fabric8.kubernetes.api.model.StatusDetails
 import io.fabric8.kubernetes.client.KubernetesClient
+import io.fabric8.kubernetes.client.KubernetesClientTimeoutException
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable
 import io.fabric8.kubernetes.client.dsl.PodResource
 import io.fabric8.kubernetes.client.readiness.Readiness
@@ -33,8 +35,12 @@ import io.micronaut.context.annotation.Property
 import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
 import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
 import java.time.Duration
 import java.util.Objects
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
 import java.util.concurrent.TimeUnit
 import java.util.concurrent.TimeoutException
 
@@ -42,6 +48,9 @@ private val logger = KotlinLogging.logger {}
 
 /**
  * Atomic operations on the raw Kube api. Domain level information should be opaque to this layer.
+ *
+ * Reads and waits are served from the [PodInformerCache] when it is available, and go to the Kube
+ * api otherwise.
  */
 @Singleton
 class KubePodLauncher(
@@ -51,6 +60,7 @@ class KubePodLauncher(
   @Named("kubernetesClientRetryPolicy") private val kubernetesClientRetryPolicy: RetryPolicy<Any>,
   private val featureFlagClient: FeatureFlagClient,
   @Property(name = "airbyte.data-plane-name") private val dataPlaneName: String?,
+  private val podCache: PodInformerCache,
 ) {
   fun create(pod: Pod): Pod =
     runKubeCommand(
@@ -80,27 +90,41 @@ class KubePodLauncher(
     val initializedPod =
       runKubeCommand(
         {
-          kubernetesClient
-            .resource(pod)
-            .waitUntilCondition(
-              { p: Pod? ->
-                p?.let {
-                  p.status.initContainerStatuses.isNotEmpty() &&
-                    p.status.initContainerStatuses[0]
-                      .state.terminated != null
-                } ?: false
-              },
-              waitDuration.toMinutes(),
-              TimeUnit.MINUTES,
-            )
+          waitUntilCondition(pod, waitDuration, ::isInitContainerTerminated)
         },
         "wait",
       )
 
+    checkInitContainerCompleted(pod, initializedPod, waitDuration)
+  }
+
+  /**
+   * Same as [waitForPodInitComplete], but completes from pod cache events instead of blocking a
+   * thread while the init container runs.
+   */
+  fun waitForPodInitCompleteAsync(
+    pod: Pod,
+    waitDuration: Duration,
+  ): Mono<Unit> =
+    waitUntilConditionAsync(pod, waitDuration, ::isInitContainerTerminated)
+      .map { initializedPod -> checkInitContainerCompleted(pod, initializedPod, waitDuration) }
+
+  private fun isInitContainerTerminated(p: Pod): Boolean = initContainerStatus(p)?.state?.terminated != null
+
+  /**
+   * The status of the init container of the pod. Looked up by name, as warm pods run other init
+   * containers before it.
+   */
+  private fun initContainerStatus(p: Pod): ContainerStatus? =
+    p.status?.initContainerStatuses?.firstOrNull { it.name == ContainerConstants.INIT_CONTAINER_NAME }
+
+  private fun checkInitContainerCompleted(
+    pod: Pod,
+    initializedPod: Pod,
+    waitDuration: Duration,
+  ) {
     val containerState =
-      initializedPod
-        .status
-        .initContainerStatuses[0]
+      initContainerStatus(initializedPod)!!
         .state
 
     if (containerState.terminated == null) {
@@ -111,9 +135,7 @@ class KubePodLauncher(
     }
 
     val terminationReason =
-      initializedPod
-        .status
-        .initContainerStatuses[0]
+      initContainerStatus(initializedPod)!!
         .state
         .terminated
         .reason
@@ -139,15 +161,9 @@ class KubePodLauncher(
   ) {
     runKubeCommand(
       {
-        kubernetesClient
-          .resource(pod)
-          .waitUntilCondition(
-            { p: Pod ->
-              PodStatusUtil.isInitializing(p)
-            },
-            waitDuration.toMinutes(),
-            TimeUnit.MINUTES,
-          )
+        waitUntilCondition(pod, waitDuration) { p: Pod ->
+          PodStatusUtil.isInitializing(p)
+        }
       },
       "wait",
     )
@@ -160,27 +176,15 @@ class KubePodLauncher(
     val initializedPod =
       runKubeCommand(
         {
-          kubernetesClient
-            .resource(pod)
-            .waitUntilCondition(
-              { p: Pod ->
-                (
-                  p.status.initContainerStatuses.isNotEmpty() &&
-                    p.status.initContainerStatuses[0]
-                      .state.waiting == null
-                )
-              },
-              waitDuration.toMinutes(),
-              TimeUnit.MINUTES,
-            )
+          waitUntilCondition(pod, waitDuration) { p: Pod ->
+            initContainerStatus(p)?.state?.let { it.waiting == null } ?: false
+          }
         },
         "wait",
       )
 
     val containerState: ContainerState =
-      initializedPod
-        .status
-        .initContainerStatuses[0]
+      initContainerStatus(initializedPod)!!
         .state
 
     if (containerState.running == null) {
@@ -220,35 +224,110 @@ class KubePodLauncher(
   ) {
     runKubeCommand(
       {
-        kubernetesClient
-          .resource(pod)
-          .waitUntilCondition(
-            { p: Pod? ->
-              Objects.nonNull(p) &&
-                (Readiness.getInstance().isReady(p) || isTerminal(p))
-            },
-            waitDuration.toMinutes(),
-            TimeUnit.MINUTES,
-          )
+        waitUntilCondition(pod, waitDuration, ::isReadyOrTerminal)
       },
       "wait",
     )
   }
 
+  /**
+   * Same as [waitForPodReadyOrTerminalByPod], but completes from pod cache events instead of
+   * blocking a thread while the pod starts.
+   */
+  fun waitForPodReadyOrTerminalByPodAsync(
+    pod: Pod,
+    waitDuration: Duration,
+  ): Mono<Unit> = waitUntilConditionAsync(pod, waitDuration, ::isReadyOrTerminal).map { }
+
+  /**
+   * Resolves once the pod's init container is running, e.g. once its image was pulled and it started
+   * waiting for its input.
+   */
+  fun waitForPodInitRunningAsync(
+    pod: Pod,
+    waitDuration: Duration,
+  ): Mono<Unit> =
+    waitUntilConditionAsync(pod, waitDuration) { p -> initContainerStatus(p)?.state?.running != null }.map { }
+
+  /**
+   * Runs [command] in the given container of the pod, failing if it doesn't exit successfully
+   * within [waitDuration].
+   */
+  fun exec(
+    pod: Pod,
+    containerName: String,
+    waitDuration: Duration,
+    vararg command: String,
+  ) {
+    runKubeCommand(
+      {
+        kubernetesClient
+          .pods()
+          .inNamespace(namespace)
+          .withName(pod.metadata.name)
+          .inContainer(containerName)
+          .exec(*command)
+          .use { watch ->
+            val exitCode = watch.exitCode().get(waitDuration.toMillis(), TimeUnit.MILLISECONDS)
+            if (exitCode != 0) {
+              throw RuntimeException("Command in container $containerName of pod ${pod.fullResourceName} exited with code $exitCode.")
+            }
+          }
+      },
+      "exec",
+    )
+  }
+
+  /**
+   * Replaces the labels and annotations of the pod.
+   */
+  fun updateMetadata(
+    pod: Pod,
+    labels: Map<String, String>,
+    annotations: Map<String, String>,
+  ): Pod =
+    runKubeCommand(
+      {
+        kubernetesClient
+          .pods()
+          .inNamespace(namespace)
+          .withName(pod.metadata.name)
+          .edit { p ->
+            p.metadata.labels = labels
+            p.metadata.annotations = annotations
+            p
+          }
+      },
+      "update_metadata",
+    )
+
+  fun delete(pod: Pod) {
+    runKubeCommand(
+      {
+        kubernetesClient
+          .pods()
+          .inNamespace(namespace)
+          .withName(pod.metadata.name)
+          .delete()
+      },
+      "delete",
+    )
+  }
+
+  private fun isReadyOrTerminal(p: Pod): Boolean = Readiness.getInstance().isReady(p) || isTerminal(p)
+
   fun podsRunning(labels: Map<String, String>): Boolean {
     try {
       return runKubeCommand(
         {
-          kubernetesClient
-            .pods()
-            .inNamespace(namespace)
-            .withLabels(labels)
-            .list()
-            .items
-            .stream()
-            .filter { kubePod: Pod -> !isTerminal(kubePod) && !PodStatusUtil.isInitializing(kubePod) }
-            .findAny()
-            .isPresent
+          val pods =
+            podCache.list(labels) ?: kubernetesClient
+              .pods()
+              .inNamespace(namespace)
+              .withLabels(labels)
+              .list()
+              .items
+          pods.any { kubePod: Pod -> !isTerminal(kubePod) && !PodStatusUtil.isInitializing(kubePod) }
         },
         "list",
       )
@@ -261,10 +340,10 @@ class KubePodLauncher(
   fun deleteActivePods(labels: Map<String, String>): List<StatusDetails> {
     return runKubeCommand(
       {
+        // Always list from the API: the cache can lag behind and miss a pod that was just created.
+        val activePods = listActivePods(labels).list().items
         val statuses =
-          listActivePods(labels)
-            .list()
-            .items
+          activePods
             .flatMap { p ->
               kubernetesClient
                 .pods()
@@ -278,8 +357,22 @@ class KubePodLauncher(
           return@runKubeCommand statuses
         }
 
-        listActivePods(labels)
-          .waitUntilCondition(Objects::isNull, MAX_DELETION_TIMEOUT, TimeUnit.SECONDS)
+        // The cache treats pods it hasn't seen yet as deleted, so it can only be waited on if it knows them all.
+        val cachedPodNames = podCache.list(labels)?.map { it.metadata.name }?.toSet()
+        val deletions =
+          if (cachedPodNames != null && activePods.all { it.metadata.name in cachedPodNames }) {
+            activePods.map { p ->
+              podCache.await(p, Duration.ofSeconds(MAX_DELETION_TIMEOUT)) { it == null } ?: CompletableFuture.completedFuture(null)
+            }
+          } else {
+            null
+          }
+        if (deletions != null) {
+          getCached(CompletableFuture.allOf(*deletions.toTypedArray()), activePods.first(), Duration.ofSeconds(MAX_DELETION_TIMEOUT))
+        } else {
+          listActivePods(labels)
+            .waitUntilCondition(Objects::isNull, MAX_DELETION_TIMEOUT, TimeUnit.SECONDS)
+        }
 
         statuses
       },
@@ -287,6 +380,67 @@ class KubePodLauncher(
     )
   }
 
+  /**
+   * Waits until the pod satisfies [condition], through the pod cache if it is available and by
+   * watching the pod otherwise. Times out with a [KubernetesClientTimeoutException] either way.
+   */
+  private fun waitUntilCondition(
+    pod: Pod,
+    waitDuration: Duration,
+    condition: (Pod) -> Boolean,
+  ): Pod {
+    val cached =
+      podCache.await(pod, waitDuration) { p -> p != null && condition(p) }
+        ?: return kubernetesClient
+          .resource(pod)
+          .waitUntilCondition(
+            { p: Pod? -> p != null && condition(p) },
+            waitDuration.toMinutes(),
+            TimeUnit.MINUTES,
+          )
+    return getCached(cached, pod, waitDuration)!!
+  }
+
+  /**
+   * Resolves once the pod satisfies [condition]. When the pod cache isn't available, falls back to
+   * a blocking watch on the bounded elastic scheduler.
+   */
+  private fun waitUntilConditionAsync(
+    pod: Pod,
+    waitDuration: Duration,
+    condition: (Pod) -> Boolean,
+  ): Mono<Pod> =
+    Mono.defer {
+      val cached =
+        podCache.await(pod, waitDuration) { p -> p != null && condition(p) }
+          ?: return@defer Mono
+            .fromCallable { runKubeCommand({ waitUntilCondition(pod, waitDuration, condition) }, "wait") }
+            .subscribeOn(Schedulers.boundedElastic())
+
+      Mono
+        .fromFuture(cached)
+        // The rest of the launch must not run on the informer or timeout threads.
+        .publishOn(Schedulers.boundedElastic())
+        .map { it!! }
+        .onErrorMap(TimeoutException::class.java) { KubernetesClientTimeoutException(pod, waitDuration.toSeconds(), TimeUnit.SECONDS) }
+        .doOnError { recordKubeError("wait") }
+    }
+
+  private fun <T> getCached(
+    future: CompletableFuture<T>,
+    pod: Pod,
+    waitDuration: Duration,
+  ): T =
+    try {
+      future.get()
+    } catch (e: ExecutionException) {
+      when (val cause = e.cause) {
+        is TimeoutException -> throw KubernetesClientTimeoutException(pod, waitDuration.toSeconds(), TimeUnit.SECONDS)
+        null -> throw e
+        else -> throw cause
+      }
+    }
+
   /**
    * Checks that the pod's main container(s) are in a terminal state.
    */
@@ -334,14 +488,18 @@ class KubePodLauncher(
         },
       )
     } catch (e: Exception) {
-      val attributes: List<MetricAttribute> = listOf(MetricAttribute("operation", commandName))
-      val attributesArray = attributes.toTypedArray<MetricAttribute>()
-      metricClient.count(metric = OssMetricsRegistry.WORKLOAD_LAUNCHER_KUBE_ERROR, attributes = attributesArray)
+      recordKubeError(commandName)
 
       throw e
     }
   }
 
+  private fun recordKubeError(commandName: String) {
+    val attributes: List<MetricAttribute> = listOf(MetricAttribute("operation", commandName))
+    val attributesArray = attributes.toTypedArray<MetricAttribute>()
+    metricClient.count(metric = OssMetricsRegistry.WORKLOAD_LAUNCHER_KUBE_ERROR, attributes = attributesArray)
+  }
+
   object Constants {
     // Wait why is this named like this?
     // Explanation: Kubectl displays "Completed" but the selector expects "Succeeded"
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pods
+
+import io.airbyte.workers.pod.PodLabeler.LabelKeys.MUTEX_KEY
+import io.airbyte.workers.pod.PodLabeler.LabelKeys.SWEEPER_LABEL_KEY
+import io.airbyte.workers.pod.PodLabeler.LabelKeys.SWEEPER_LABEL_VALUE
+import io.airbyte.workers.pod.PodLabeler.LabelKeys.WORKLOAD_ID
+import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.client.KubernetesClient
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer
+import io.fabric8.kubernetes.client.informers.cache.Cache
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executor
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.TimeUnit
+import java.util.function.Function
+
+private val logger = KotlinLogging.logger {}
+
+private const val WORKLOAD_ID_INDEX = "workload-id"
+private const val MUTEX_KEY_INDEX = "mutex-key"
+
+/**
+ * Local, informer-backed view of the job pods in the namespace (pods labeled airbyte=job-pod).
+ *
+ * A single watch keeps the cache up to date, so listing pods by workload or mutex label and waiting
+ * for a pod to reach some state do not go to the Kube API. Every read returns null until the
+ * informer has synced (or if it is disabled or failed to start), in which case callers should fall
+ * back to querying the API directly.
+ */
+@Singleton
+class PodInformerCache(
+  private val kubernetesClient: KubernetesClient,
+  @Value("\${airbyte.worker.job.kube.namespace}") private val namespace: String?,
+  @Value("\${airbyte.workload-launcher.pod-cache.enabled:true}") private val enabled: Boolean,
+  @Value("\${airbyte.workload-launcher.pod-cache.resync-period:10m}") private val resyncPeriod: Duration,
+) {
+  private class Waiter(
+    val condition: (Pod?) -> Boolean,
+    val future: CompletableFuture<Pod?>,
+  )
+
+  private val waiters = ConcurrentHashMap<String, MutableSet<Waiter>>()
+  private val completionExecutor: Executor = ForkJoinPool.commonPool()
+
+  private val informerDelegate = lazy { if (enabled) startInformer() else null }
+  private val informer: SharedIndexInformer<Pod>? by informerDelegate
+
+  /**
+   * Lists the cached pods carrying all the given labels.
+   *
+   * @return the matching pods, or null if the cache can't answer yet
+   */
+  fun list(labels: Map<String, String>): List<Pod>? {
+    val informer = syncedInformer() ?: return null
+    val candidates =
+      when {
+        labels.containsKey(WORKLOAD_ID) -> informer.indexer.byIndex(WORKLOAD_ID_INDEX, labels[WORKLOAD_ID])
+        labels.containsKey(MUTEX_KEY) -> informer.indexer.byIndex(MUTEX_KEY_INDEX, labels[MUTEX_KEY])
+        else -> informer.indexer.list()
+      }
+    return candidates.filter { pod -> labels.all { (key, value) -> pod.metadata?.labels?.get(key) == value } }
+  }
+
+  /**
+   * Waits for a pod to satisfy a condition. The condition is checked against the cached pod right
+   * away and then on every change to it; it is passed null once the pod is deleted (or if the cache
+   * hasn't seen it yet).
+   *
+   * @return a future completed with the pod as last seen, completed exceptionally with a
+   * [java.util.concurrent.TimeoutException] after [timeout], or null if the cache can't answer yet
+   */
+  fun await(
+    pod: Pod,
+    timeout: Duration,
+    condition: (Pod?) -> Boolean,
+  ): CompletableFuture<Pod?>? {
+    val informer = syncedInformer() ?: return null
+    val key = Cache.metaNamespaceKeyFunc(pod)
+    val waiter = Waiter(condition, CompletableFuture<Pod?>().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS))
+    waiters.compute(key) { _, keyWaiters -> (keyWaiters ?: ConcurrentHashMap.newKeySet()).apply { add(waiter) } }
+    waiter.future.whenComplete { _, _ -> removeWaiter(key, waiter) }
+
+    // The pod may have already reached the desired state before we started listening.
+    evaluate(waiter, informer.indexer.getByKey(key))
+    return waiter.future
+  }
+
+  @PreDestroy
+  fun close() {
+    if (informerDelegate.isInitialized()) {
+      informer?.stop()
+    }
+  }
+
+  private fun syncedInformer(): SharedIndexInformer<Pod>? = informer?.takeIf { it.hasSynced() }
+
+  private fun startInformer(): SharedIndexInformer<Pod>? =
+    try {
+      kubernetesClient
+        .pods()
+        .inNamespace(namespace)
+        .withLabel(SWEEPER_LABEL_KEY, SWEEPER_LABEL_VALUE)
+        .runnableInformer(resyncPeriod.toMillis())
+        .apply {
+          addIndexers(
+            mapOf(
+              WORKLOAD_ID_INDEX to Function<Pod, List<String>> { pod -> listOfNotNull(pod.metadata?.labels?.get(WORKLOAD_ID)) },
+              MUTEX_KEY_INDEX to Function<Pod, List<String>> { pod -> listOfNotNull(pod.metadata?.labels?.get(MUTEX_KEY)) },
+            ),
+          )
+          addEventHandler(
+            object : ResourceEventHandler<Pod> {
+              override fun onAdd(pod: Pod) = notifyWaiters(pod, pod)
+
+              override fun onUpdate(
+                oldPod: Pod,
+                newPod: Pod,
+              ) = notifyWaiters(newPod, newPod)
+
+              override fun onDelete(
+                pod: Pod,
+                deletedFinalStateUnknown: Boolean,
+              ) = notifyWaiters(pod, null)
+            },
+          )
+          start()
+        }
+    } catch (e: Exception) {
+      logger.warn(e) { "Could not start the pod informer for namespace $namespace; pods will be read from the Kube API." }
+      null
+    }
+
+  private fun notifyWaiters(
+    pod: Pod,
+    current: Pod?,
+  ) {
+    waiters[Cache.metaNamespaceKeyFunc(pod)]?.forEach { evaluate(it, current) }
+  }
+
+  /**
+   * Checks the condition of [waiter] against [current]. The future is completed on [completionExecutor]
+   * rather than on the calling thread, as that may be the informer's event thread, which must not run
+   * whatever the waiter chained onto the future.
+   */
+  private fun evaluate(
+    waiter: Waiter,
+    current: Pod?,
+  ) {
+    try {
+      if (waiter.condition(current)) {
+        waiter.future.completeAsync({ current }, completionExecutor)
+      }
+    } catch (e: Exception) {
+      completionExecutor.execute { waiter.future.completeExceptionally(e) }
+    }
+  }
+
+  private fun removeWaiter(
+    key: String,
+    waiter: Waiter,
+  ) {
+    waiters.computeIfPresent(key) { _, keyWaiters ->
+      keyWaiters.remove(waiter)
+      if (keyWaiters.isEmpty()) null else keyWaiters
+    }
+  }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pods
+
+import com.google.common.hash.Hashing
+import io.airbyte.commons.envvar.EnvVar as AirbyteEnvVar
+import io.airbyte.metrics.MetricAttribute
+import io.airbyte.metrics.MetricClient
+import io.airbyte.metrics.OssMetricsRegistry
+import io.airbyte.workers.pod.ContainerConstants
+import io.airbyte.workers.pod.PodLabeler.LabelKeys.SWEEPER_LABEL_KEY
+import io.airbyte.workers.pod.PodLabeler.LabelKeys.SWEEPER_LABEL_VALUE
+import io.airbyte.workers.pod.PodLabeler.LabelKeys.WARM_POOL_KEY
+import io.airbyte.workload.launcher.pods.factories.ContainerCommandFactory
+import io.fabric8.kubernetes.api.model.Container
+import io.fabric8.kubernetes.api.model.ContainerBuilder
+import io.fabric8.kubernetes.api.model.EnvVar
+import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.api.model.PodBuilder
+import io.fabric8.kubernetes.client.utils.Serialization
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import io.micronaut.scheduling.annotation.Scheduled
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+import java.util.UUID
+import kotlin.time.TimeSource
+import kotlin.time.toJavaDuration
+
+private val logger = KotlinLogging.logger {}
+
+private const val KEY_LENGTH = 40
+private const val WARM_POD_NAME_PREFIX = "warm"
+private const val IMAGE_PULL_CONTAINER_PREFIX = "pull"
+
+/**
+ * Keeps idle connector pods around for recently launched check, discover and spec pods, so that
+ * launching one of those doesn't have to wait for the pod to be scheduled and for its images to be
+ * pulled. Its containers still start once it is claimed.
+ *
+ * A warm pod is a copy of a launched pod without anything tying it to its workload: its init
+ * container waits for a workload id to be handed over (see [ContainerCommandFactory.warmInit])
+ * instead of fetching its input right away. As Kubernetes only pulls the images of a pod's containers
+ * when starting them, the copy first runs a no-op init container per container of the pod, with the
+ * same image, so that the images are on the node by the time the pod is claimed. The containers that
+ * were given the workload id read it from the assignment as well, so they run with the same
+ * environment as in a pod launched for the workload. Pods are pooled by the hash of that copy's spec,
+ * so a warm pod is only used for workloads that would have got the exact same pod, i.e. same images,
+ * resources, node selectors and environment.
+ *
+ * Each pool keeps [size] ready pods while it is being claimed from. Pods older than [ttl] are
+ * replaced, pools not claimed from within [ttl] are dropped, and at most [maxPools] pools are kept,
+ * dropping the least recently claimed ones first.
+ */
+@Singleton
+class WarmPodPool(
+  private val kubePodLauncher: KubePodLauncher,
+  private val metricClient: MetricClient,
+  @Value("\${airbyte.workload-launcher.warm-pools.enabled:false}") private val enabled: Boolean,
+  @Value("\${airbyte.workload-launcher.warm-pools.size:2}") private val size: Int,
+  @Value("\${airbyte.workload-launcher.warm-pools.max-pools:10}") private val maxPools: Int,
+  @Value("\${airbyte.workload-launcher.warm-pools.ttl:10m}") private val ttl: Duration,
+) {
+  private class WarmPod(
+    val pod: Pod,
+    val createdAt: TimeSource.Monotonic.ValueTimeMark,
+  )
+
+  private class Pool(
+    val template: Pod,
+  ) {
+    val ready = ArrayDeque<WarmPod>()
+    var warming = 0
+    var lastClaimedAt = TimeSource.Monotonic.markNow()
+  }
+
+  // Access ordered, so the first pool is the least recently claimed from.
+  private val pools = LinkedHashMap<String, Pool>(16, 0.75f, true)
+
+  init {
+    metricClient.gauge(OssMetricsRegistry.WARM_POD_POOL_SIZE, this, { synchronized(it) { it.pools.values.sumOf { p -> p.ready.size } }.toDouble() })
+  }
+
+  /**
+   * Takes a warm pod that can stand in for [pod] from the pool, and makes sure the pool for it is
+   * being refilled.
+   *
+   * @return a pod waiting for its workload to be assigned with [assign], or null if there is none
+   */
+  fun claim(pod: Pod): Pod? {
+    if (!enabled) {
+      return null
+    }
+
+    val template = toTemplate(pod) ?: return null
+    val key = template.metadata.labels.getValue(WARM_POOL_KEY)
+    val dropped = mutableListOf<WarmPod>()
+    val claimed =
+      synchronized(this) {
+        val pool = pools.getOrPut(key) { Pool(template) }
+        pool.lastClaimedAt = TimeSource.Monotonic.markNow()
+        while (pools.size > maxPools) {
+          dropped += dropPool(pools.keys.first())
+        }
+        pool.ready.removeFirstOrNull()
+      }
+    dropped.forEach { deleteQuietly(it.pod) }
+
+    metricClient.count(
+      metric = OssMetricsRegistry.WARM_POD_POOL_CLAIM,
+      attributes = arrayOf(MetricAttribute("hit", (claimed != null).toString())),
+    )
+    replenish()
+    return claimed?.pod
+  }
+
+  /**
+   * Hands [workloadId] over to a claimed warm pod and gives it the labels and annotations of the pod
+   * it stands in for. Deletes the warm pod if that fails.
+   *
+   * @return the updated pod, or null if the workload could not be assigned
+   */
+  fun assign(
+    warmPod: Pod,
+    pod: Pod,
+    workloadId: String,
+  ): Pod? =
+    try {
+      val assigned = kubePodLauncher.updateMetadata(warmPod, pod.metadata.labels, pod.metadata.annotations ?: mapOf())
+      kubePodLauncher.exec(
+        warmPod,
+        ContainerConstants.INIT_CONTAINER_NAME,
+        ASSIGNMENT_TIMEOUT,
+        "sh",
+        "-c",
+        ContainerCommandFactory.warmPodAssignment(workloadId),
+      )
+      logger.info { "Assigned workload $workloadId to warm pod ${warmPod.metadata.name}." }
+      assigned
+    } catch (e: Exception) {
+      logger.warn(e) { "Failed to assign workload $workloadId to warm pod ${warmPod.metadata.name}, launching a new pod instead." }
+      deleteQuietly(warmPod)
+      null
+    }
+
+  /**
+   * Replaces expired warm pods and drops pools that haven't been claimed from for a while.
+   */
+  @Scheduled(fixedRate = "\${airbyte.workload-launcher.warm-pools.eviction-rate:PT1M}")
+  fun evict() {
+    if (!enabled) {
+      return
+    }
+
+    val expired =
+      synchronized(this) {
+        val unused =
+          pools
+            .filterValues { it.lastClaimedAt.elapsedNow().toJavaDuration() > ttl }
+            .keys
+            .flatMap { dropPool(it) }
+
+        unused +
+          pools.values.flatMap { pool ->
+            val expiredPods = pool.ready.filter { it.createdAt.elapsedNow().toJavaDuration() > ttl }
+            pool.ready.removeAll(expiredPods)
+            expiredPods
+          }
+      }
+    expired.forEach { deleteQuietly(it.pod) }
+    if (expired.isNotEmpty()) {
+      metricClient.count(metric = OssMetricsRegistry.WARM_POD_POOL_EVICTION, value = expired.size.toLong())
+    }
+    replenish()
+  }
+
+  @PreDestroy
+  fun close() {
+    val dropped = synchronized(this) { pools.keys.toList().flatMap { dropPool(it) } }
+    dropped.forEach { deleteQuietly(it.pod) }
+  }
+
+  /**
+   * Must be called holding the monitor of this pool. Pods still warming up are deleted once ready,
+   * the returned ready pods are left for the caller to delete.
+   */
+  private fun dropPool(key: String): List<WarmPod> {
+    val pool = pools.remove(key) ?: return listOf()
+    logger.info { "Dropping warm pod pool $key." }
+    val pods = pool.ready.toList()
+    pool.ready.clear()
+    return pods
+  }
+
+  private fun replenish() {
+    val toWarm =
+      synchronized(this) {
+        pools.values.flatMap { pool ->
+          val missing = (size - pool.ready.size - pool.warming).coerceAtLeast(0)
+          pool.warming += missing
+          List(missing) { pool }
+        }
+      }
+    toWarm.forEach { warm(it) }
+  }
+
+  private fun warm(pool: Pool) {
+    val key = pool.template.metadata.labels.getValue(WARM_POOL_KEY)
+    Mono
+      .fromCallable {
+        kubePodLauncher.create(
+          PodBuilder(pool.template)
+            .editMetadata()
+            .withName("$WARM_POD_NAME_PREFIX-${key.take(12)}-${UUID.randomUUID().toString().take(8)}")
+            .endMetadata()
+            .build(),
+        )
+      }.subscribeOn(Schedulers.boundedElastic())
+      .flatMap { pod ->
+        kubePodLauncher
+          .waitForPodInitRunningAsync(pod, WARM_UP_TIMEOUT)
+          .thenReturn(pod)
+          .doOnError { deleteQuietly(pod) }
+      }
+      .subscribe(
+        { pod ->
+          val kept =
+            synchronized(this) {
+              pool.warming--
+              if (pools.values.any { it === pool }) {
+                pool.ready.addLast(WarmPod(pod, TimeSource.Monotonic.markNow()))
+                true
+              } else {
+                false
+              }
+            }
+          if (!kept) {
+            deleteQuietly(pod)
+          }
+        },
+        { e ->
+          logger.warn(e) { "Failed to warm up a pod for pool $key." }
+          synchronized(this) { pool.warming-- }
+        },
+      )
+  }
+
+  private fun deleteQuietly(pod: Pod) {
+    try {
+      kubePodLauncher.delete(pod)
+    } catch (e: Exception) {
+      logger.warn(e) { "Failed to delete warm pod ${pod.metadata.name}." }
+    }
+  }
+
+  companion object {
+    val ASSIGNMENT_TIMEOUT: Duration = Duration.ofSeconds(30)
+    val WARM_UP_TIMEOUT: Duration = Duration.ofMinutes(5)
+
+    /**
+     * Strips everything tying [pod] to its workload, and labels the result with the key of its pool.
+     *
+     * @return the template, or null if [pod] can't be warmed up, i.e. if one of its containers is
+     * given the workload id but isn't run with a shell script
+     */
+    fun toTemplate(pod: Pod): Pod? {
+      val containers = pod.spec.containers.map { withAssignedWorkloadId(it) ?: return null }
+      val template =
+        PodBuilder(pod)
+          .withNewMetadata()
+          .withLabels<String, String>(mapOf(SWEEPER_LABEL_KEY to SWEEPER_LABEL_VALUE))
+          .endMetadata()
+          .editSpec()
+          .withInitContainers(pod.spec.containers.map { toImagePull(it) } + pod.spec.initContainers.map { toWarmInit(it) })
+          .withContainers(containers)
+          .endSpec()
+          .withStatus(null)
+          .build()
+
+      val key =
+        Hashing
+          .sha256()
+          .hashString(Serialization.asJson(template.spec), StandardCharsets.UTF_8)
+          .toString()
+          .take(KEY_LENGTH)
+      template.metadata.labels = template.metadata.labels + (WARM_POOL_KEY to key)
+      return template
+    }
+
+    private fun toWarmInit(container: Container): Container =
+      ContainerBuilder(withoutWorkloadId(container))
+        .withCommand("sh", "-c", ContainerCommandFactory.warmInit())
+        .withArgs(listOf())
+        .build()
+
+    /**
+     * A no-op container that pulls the image of [container].
+     */
+    private fun toImagePull(container: Container): Container =
+      ContainerBuilder()
+        .withName("$IMAGE_PULL_CONTAINER_PREFIX-${container.name}")
+        .withImage(container.image)
+        .withImagePullPolicy(container.imagePullPolicy)
+        .withCommand("sh", "-c", ContainerCommandFactory.imagePull())
+        .withResources(container.resources)
+        .withSecurityContext(container.securityContext)
+        .build()
+
+    /**
+     * Makes [container] read the workload id from the assignment of the warm pod rather than from its
+     * environment, or returns null if it is given the id but its command can't be wrapped.
+     */
+    private fun withAssignedWorkloadId(container: Container): Container? {
+      if (container.env.none { isWorkloadId(it) }) {
+        return container
+      }
+
+      val command = container.command
+      if (command.size != 3 || command[0] != "sh" || command[1] != "-c" || container.args.isNotEmpty()) {
+        return null
+      }
+      return ContainerBuilder(withoutWorkloadId(container))
+        .withCommand("sh", "-c", ContainerCommandFactory.withAssignedWorkloadId(command[2]))
+        .build()
+    }
+
+    private fun withoutWorkloadId(container: Container): Container =
+      ContainerBuilder(container)
+        .withEnv(container.env.filterNot { isWorkloadId(it) })
+        .build()
+
+    private fun isWorkloadId(envVar: EnvVar): Boolean = envVar.name == AirbyteEnvVar.WORKLOAD_ID.toString()
+  }
+}
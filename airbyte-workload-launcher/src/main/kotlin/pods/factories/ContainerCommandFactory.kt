@@ -16,6 +16,7 @@ import io.airbyte.workers.pod.FileConstants.STDERR_PIPE_FILE
 import io.airbyte.workers.pod.FileConstants.STDIN_PIPE_FILE
 import io.airbyte.workers.pod.FileConstants.STDOUT_PIPE_FILE
 import io.airbyte.workers.pod.FileConstants.TERMINATION_MARKER_FILE
+import io.airbyte.workers.pod.FileConstants.WARM_POD_ASSIGNMENT_FILE
 
 /**
  * Factory for generating/templating the main shell scripts we use as the entry points in our containers.
@@ -26,7 +27,10 @@ object ContainerCommandFactory {
   private const val SIDE_CAR_APPLICATION_EXECUTABLE = "/app/airbyte-app/bin/airbyte-connector-sidecar"
   private const val ORCHESTRATOR_APPLICATION_EXECUTABLE = "/app/airbyte-app/bin/airbyte-container-orchestrator"
   private const val PROFILER_APPLICATION_EXECUTABLE = "/app/airbyte-app/bin/airbyte-async-profiler"
+  private const val INIT_APPLICATION_EXECUTABLE = "/app/airbyte-app/bin/airbyte-workload-init-container"
   private const val TERMINATION_CHECK_INTERVAL_SECONDS = 10
+  private const val ASSIGNMENT_CHECK_INTERVAL_SECONDS = 0.2
+  private const val EXPORT_ASSIGNED_WORKLOAD_ID = "export WORKLOAD_ID=$(cat $CONFIG_DIR/$WARM_POD_ASSIGNMENT_FILE)"
 
   /**
    * Runs the sidecar container and creates the TERMINATION_MARKER_FILE file on exit for both success and failure.
@@ -43,6 +47,38 @@ object ContainerCommandFactory {
     $PROFILER_APPLICATION_EXECUTABLE
     """.trimIndent()
 
+  /**
+   * Waits for a workload to be assigned to a warm pod, then runs the init container for it.
+   */
+  fun warmInit() =
+    """
+    while [ ! -f $CONFIG_DIR/$WARM_POD_ASSIGNMENT_FILE ]; do sleep $ASSIGNMENT_CHECK_INTERVAL_SECONDS; done
+    $EXPORT_ASSIGNED_WORKLOAD_ID
+    exec $INIT_APPLICATION_EXECUTABLE
+    """.trimIndent()
+
+  /**
+   * Runs [command] of a container of a warm pod with the id of the workload assigned to the pod, as
+   * [warmInit] does. Containers only start once the init container completed, so the id is always
+   * assigned by then.
+   */
+  fun withAssignedWorkloadId(command: String) = "$EXPORT_ASSIGNED_WORKLOAD_ID\n$command"
+
+  /**
+   * Does nothing. Run by containers that only pull an image onto the node of a warm pod.
+   */
+  fun imagePull() = "true"
+
+  /**
+   * Assigns a workload to a warm pod waiting in [warmInit]. Uses a swap file so the init container
+   * never reads a partially written id.
+   */
+  fun warmPodAssignment(workloadId: String) =
+    """
+    echo '$workloadId' > $CONFIG_DIR/TEMP_$WARM_POD_ASSIGNMENT_FILE
+    mv $CONFIG_DIR/TEMP_$WARM_POD_ASSIGNMENT_FILE $CONFIG_DIR/$WARM_POD_ASSIGNMENT_FILE
+    """.trimIndent()
+
   /**
    * Runs the orchestrator and creates the TERMINATION_MARKER_FILE file on exit for both success and failure.
    */
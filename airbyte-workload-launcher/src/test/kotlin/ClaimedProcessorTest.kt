@@ -45,7 +45,7 @@ class ClaimedProcessorTest {
     claimProcessorTracker = mockk(relaxed = true)
     launchPipeline =
       mockk(relaxed = true) {
-        every { buildPipeline(any()) } returns Mono.empty()
+        every { schedule(any()) } returns Mono.empty()
       }
     claimedProcessor =
       ClaimedProcessor(
@@ -80,7 +80,7 @@ class ClaimedProcessorTest {
     claimedProcessor.retrieveAndProcess()
 
     verify { claimProcessorTracker.trackNumberOfClaimsToResume(2) }
-    verify(exactly = 2) { launchPipeline.buildPipeline(any()) }
+    verify(exactly = 2) { launchPipeline.schedule(any()) }
   }
 
   @ParameterizedTest
@@ -120,6 +120,6 @@ class ClaimedProcessorTest {
     claimedProcessor.retrieveAndProcess()
 
     verify { claimProcessorTracker.trackNumberOfClaimsToResume(3) }
-    verify(exactly = 3) { launchPipeline.buildPipeline(any()) }
+    verify(exactly = 3) { launchPipeline.schedule(any()) }
   }
 }
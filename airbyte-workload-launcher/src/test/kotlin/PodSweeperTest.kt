@@ -5,6 +5,7 @@
 import dev.failsafe.RetryPolicy
 import io.airbyte.metrics.MetricClient
 import io.airbyte.workload.launcher.PodSweeper
+import io.airbyte.workload.launcher.pods.PodInformerCache
 import io.fabric8.kubernetes.api.model.Pod
 import io.fabric8.kubernetes.api.model.PodBuilder
 import io.fabric8.kubernetes.client.KubernetesClient
@@ -330,6 +331,7 @@ class PodSweeperTest {
       Clock.systemUTC(),
       "default",
       mockRetryPolicy,
+      PodInformerCache(client, "default", false, Duration.ZERO),
       runningTtL,
       succeededTtl,
       unSucceededTtl,
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.client
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import reactor.core.publisher.Flux
+import java.time.Duration
+import java.util.Collections
+
+internal class MicroBatcherTest {
+  @Test
+  internal fun `flushes a batch once it is full`() {
+    val batches = Collections.synchronizedList(mutableListOf<List<Int>>())
+    val batcher =
+      MicroBatcher<Int, String>("test", 2, Duration.ofMinutes(1)) { keys ->
+        batches.add(keys)
+        keys.associateWith { it.toString() }
+      }
+
+    val results =
+      Flux
+        .fromIterable(listOf(1, 2))
+        .flatMapSequential { batcher.submit(it) }
+        .collectList()
+        .block(Duration.ofSeconds(30))
+
+    assertEquals(listOf("1", "2"), results)
+    assertEquals(listOf(listOf(1, 2)), batches)
+  }
+
+  @Test
+  internal fun `flushes a partial batch after the max delay`() {
+    val batcher = MicroBatcher<Int, String>("test", 100, Duration.ofMillis(10)) { keys -> keys.associateWith { it.toString() } }
+
+    assertEquals("1", batcher.submit(1).block(Duration.ofSeconds(30)))
+  }
+
+  @Test
+  internal fun `completes empty for keys missing from the batch result`() {
+    val batcher = MicroBatcher<Int, String>("test", 1, Duration.ofMillis(10)) { mapOf() }
+
+    assertNull(batcher.submit(1).block(Duration.ofSeconds(30)))
+  }
+
+  @Test
+  internal fun `fails every request of a failed batch`() {
+    val batcher = MicroBatcher<Int, String>("test", 1, Duration.ofMillis(10)) { throw IllegalStateException("bang") }
+
+    assertThrows<IllegalStateException> { batcher.submit(1).block(Duration.ofSeconds(30)) }
+  }
+}
@@ -6,7 +6,9 @@ package io.airbyte.workload.launcher.client
 
 import io.airbyte.config.WorkloadType
 import io.airbyte.workload.api.client.generated.WorkloadApi
+import io.airbyte.workload.api.client.model.generated.ClaimManyResponse
 import io.airbyte.workload.api.client.model.generated.ClaimResponse
+import io.airbyte.workload.api.client.model.generated.WorkloadClaimManyRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadFailureRequest
 import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
 import io.airbyte.workload.launcher.pipeline.stages.StageName
@@ -21,6 +23,8 @@ import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.openapitools.client.infrastructure.ClientException
+import reactor.core.publisher.Flux
+import java.time.Duration
 import java.util.UUID
 
 internal class WorkloadApiClientTest {
@@ -128,6 +132,43 @@ internal class WorkloadApiClientTest {
     assertEquals(false, claimResult)
   }
 
+  @Test
+  internal fun `test concurrent claims are sent to the Workload API in a single batch when batching is enabled`() {
+    val batchingClient = WorkloadApiClient(internalWorkloadApiClient, DATA_PLANE_ID, true, 10, Duration.ofSeconds(1))
+    val requestCapture = slot<WorkloadClaimManyRequest>()
+
+    every { workloadApi.workloadClaimMany(capture(requestCapture)) } returns ClaimManyResponse(listOf("workload-1", "workload-3"))
+
+    val claimResults =
+      Flux
+        .fromIterable(listOf("workload-1", "workload-2", "workload-3"))
+        .flatMapSequential { batchingClient.claimAsync(it) }
+        .collectList()
+        .block()
+
+    verify(exactly = 1) { workloadApi.workloadClaimMany(any()) }
+    verify(exactly = 0) { workloadApi.workloadClaim(any()) }
+    assertEquals(setOf("workload-1", "workload-2", "workload-3"), requestCapture.captured.workloadIds.toSet())
+    assertEquals(DATA_PLANE_ID, requestCapture.captured.dataplaneId)
+    assertEquals(listOf(true, false, true), claimResults)
+  }
+
+  @Test
+  internal fun `test if a batched claim request fails, none of its workloads are claimed`() {
+    val batchingClient = WorkloadApiClient(internalWorkloadApiClient, DATA_PLANE_ID, true, 2, Duration.ofSeconds(1))
+
+    every { workloadApi.workloadClaimMany(any()) } throws ClientException(message = "test", statusCode = HttpStatus.BAD_GATEWAY.code)
+
+    val claimResults =
+      Flux
+        .fromIterable(listOf("workload-1", "workload-2"))
+        .flatMapSequential { batchingClient.claimAsync(it) }
+        .collectList()
+        .block()
+
+    assertEquals(listOf(false, false), claimResults)
+  }
+
   companion object {
     const val DATA_PLANE_ID = "data-plane-id"
   }
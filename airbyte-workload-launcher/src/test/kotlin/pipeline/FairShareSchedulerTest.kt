@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline
+
+import io.airbyte.config.WorkloadType
+import io.airbyte.workload.launcher.pipeline.FairShareScheduler.ShareClass
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Test
+import reactor.core.publisher.Mono
+import reactor.core.publisher.Sinks
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+
+class FairShareSchedulerTest {
+  private val started = LinkedBlockingQueue<String>()
+  private val running = ConcurrentHashMap<String, Sinks.Empty<Unit>>()
+
+  private fun FairShareScheduler.submit(
+    name: String,
+    tenant: String,
+    type: WorkloadType = WorkloadType.SYNC,
+  ) = submit(ShareClass(tenant, type)) {
+    val sink = Sinks.empty<Unit>()
+    running[name] = sink
+    started.add(name)
+    sink.asMono()
+  }
+
+  private fun complete(name: String) {
+    running.remove(name)!!.tryEmitEmpty()
+  }
+
+  private fun nextStarted(): String? = started.poll(10, TimeUnit.SECONDS)
+
+  private fun nothingStarted(): String? = started.poll(100, TimeUnit.MILLISECONDS)
+
+  private fun scheduler(
+    maxInFlight: Int,
+    typeWeights: Map<WorkloadType, Int> = mapOf(),
+    tenantMaxInFlight: Int = 0,
+  ) = FairShareScheduler(mockk(relaxed = true), maxInFlight, 100, typeWeights, mapOf(), tenantMaxInFlight)
+
+  @Test
+  fun `alternates between tenants instead of launching in arrival order`() {
+    val scheduler = scheduler(maxInFlight = 1)
+    scheduler.submit("blocker", "a")
+    assertEquals("blocker", nextStarted())
+
+    listOf("a1", "a2", "a3").forEach { scheduler.submit(it, "a") }
+    listOf("b1", "b2").forEach { scheduler.submit(it, "b") }
+
+    val order = mutableListOf<String>()
+    var last = "blocker"
+    repeat(5) {
+      complete(last)
+      last = nextStarted()!!
+      order.add(last)
+    }
+    assertEquals(listOf("b1", "a1", "b2", "a2", "a3"), order)
+  }
+
+  @Test
+  fun `heavier workload types are launched more often`() {
+    val scheduler = scheduler(maxInFlight = 1, typeWeights = mapOf(WorkloadType.CHECK to 4))
+    scheduler.submit("blocker", "a")
+    assertEquals("blocker", nextStarted())
+
+    listOf("s1", "s2").forEach { scheduler.submit(it, "a") }
+    listOf("c1", "c2").forEach { scheduler.submit(it, "a", WorkloadType.CHECK) }
+
+    val order = mutableListOf<String>()
+    var last = "blocker"
+    repeat(4) {
+      complete(last)
+      last = nextStarted()!!
+      order.add(last)
+    }
+    assertEquals(listOf("c1", "c2", "s1", "s2"), order)
+  }
+
+  @Test
+  fun `caps launches per tenant and frees slots of failed launches`() {
+    val scheduler = scheduler(maxInFlight = 10, tenantMaxInFlight = 1)
+    scheduler.submit(ShareClass("a", WorkloadType.SYNC)) { Mono.error<Unit>(IllegalStateException("bang")) }
+    scheduler.submit("a1", "a")
+    assertEquals("a1", nextStarted())
+
+    scheduler.submit("a2", "a")
+    scheduler.submit("b1", "b")
+    assertEquals("b1", nextStarted())
+    assertNull(nothingStarted())
+
+    complete("a1")
+    assertEquals("a2", nextStarted())
+  }
+
+  @Test
+  fun `parses per type values`() {
+    assertEquals(
+      mapOf(WorkloadType.CHECK to 4, WorkloadType.SYNC to 1),
+      FairShareScheduler.parseTypeValues(" check=4, SYNC = 1 ,"),
+    )
+    assertEquals(mapOf<WorkloadType, Int>(), FairShareScheduler.parseTypeValues(""))
+  }
+}
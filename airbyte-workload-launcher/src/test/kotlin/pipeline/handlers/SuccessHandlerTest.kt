@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertDoesNotThrow
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.ValueSource
+import reactor.core.publisher.Mono
 import java.util.Optional
 import java.util.function.Function
 
@@ -43,17 +44,17 @@ class SuccessHandlerTest {
     } returns mockk<Counter>()
 
     every {
-      apiClient.updateStatusToLaunched(
+      apiClient.updateStatusToLaunchedAsync(
         workloadId,
       )
-    } returns Unit
+    } returns Mono.just(Unit)
 
     handler.accept(io)
 
     if (skipped) {
-      verify(exactly = 0) { apiClient.updateStatusToLaunched(workloadId) }
+      verify(exactly = 0) { apiClient.updateStatusToLaunchedAsync(workloadId) }
     } else {
-      verify { apiClient.updateStatusToLaunched(workloadId) }
+      verify { apiClient.updateStatusToLaunchedAsync(workloadId) }
     }
   }
 
@@ -77,10 +78,10 @@ class SuccessHandlerTest {
     } returns mockk<Counter>()
 
     every {
-      apiClient.updateStatusToLaunched(
+      apiClient.updateStatusToLaunchedAsync(
         workloadId,
       )
-    } throws ClientErrorException(400)
+    } returns Mono.error(ClientErrorException(400))
 
     assertDoesNotThrow { handler.accept(io) }
   }
@@ -6,6 +6,7 @@ package io.airbyte.workload.launcher.pipeline.stages
 
 import com.fasterxml.jackson.databind.node.POJONode
 import fixtures.RecordFixtures
+import io.airbyte.commons.storage.WorkloadPayloadStorage
 import io.airbyte.config.ActorType
 import io.airbyte.config.StandardCheckConnectionInput
 import io.airbyte.config.StandardDiscoverCatalogInput
@@ -47,6 +48,9 @@ class BuildInputStageTest {
   @MockK
   private lateinit var deserializer: PayloadDeserializer
 
+  @MockK
+  private lateinit var payloadStorage: WorkloadPayloadStorage
+
   @MockK
   private lateinit var ffCtxMapper: InputFeatureFlagContextMapper
 
@@ -61,6 +65,7 @@ class BuildInputStageTest {
       BuildInputStage(
         replicationInputMapper,
         deserializer,
+        payloadStorage,
         metricClient,
         ffCtxMapper,
         "dataplane-id",
@@ -70,6 +75,23 @@ class BuildInputStageTest {
     every { ffCtxMapper.map(any<CheckConnectionInput>()) } returns Empty
     every { ffCtxMapper.map(any<DiscoverCatalogInput>()) } returns Empty
     every { ffCtxMapper.map(any<SpecInput>()) } returns Empty
+    every { payloadStorage.resolve(any()) } answers { firstArg() }
+  }
+
+  @Test
+  fun `builds input from offloaded payloads`() {
+    val reference = "payload-ref"
+    val inputStr = "foo"
+    val input = SpecInput(jobRunConfig = JobRunConfig().withJobId("1").withAttemptId(0L), launcherConfig = IntegrationLauncherConfig())
+
+    every { payloadStorage.resolve(reference) } returns inputStr
+    every { deserializer.toSpecInput(inputStr) } returns input
+
+    val io = LaunchStageIO(msg = RecordFixtures.launcherInput(workloadInput = reference, workloadType = WorkloadType.SPEC))
+
+    val result = stage.applyStage(io)
+
+    assertEquals(input, (result.payload as SpecPayload).input)
   }
 
   @Test
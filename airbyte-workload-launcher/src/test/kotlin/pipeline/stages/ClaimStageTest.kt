@@ -12,6 +12,7 @@ import io.mockk.every
 import io.mockk.mockk
 import io.mockk.verify
 import org.junit.jupiter.api.Test
+import reactor.core.publisher.Mono
 
 class ClaimStageTest {
   @Test
@@ -55,4 +56,22 @@ class ClaimStageTest {
 
     assert(outputFromClaimStage.skip) { "Skip Launch flag should be true but it's false" }
   }
+
+  @Test
+  fun `claims through the async client when applied as part of the pipeline`() {
+    val workloadId = "1"
+
+    val workloadApiClient: WorkloadApiClient = mockk()
+    every { workloadApiClient.claimAsync(workloadId) } returns Mono.just(false)
+    val metricClient: MetricClient = mockk(relaxed = true)
+
+    val claimStage = ClaimStage(workloadApiClient, metricClient, "dataplane-id")
+    val originalInput = LaunchStageIO(RecordFixtures.launcherInput(workloadId, "{}", mapOf("label_key" to "label_value"), "/log/path"))
+    val outputFromClaimStage = claimStage.applyStageAsync(originalInput).block()!!
+
+    verify { workloadApiClient.claimAsync(workloadId) }
+    verify(exactly = 0) { workloadApiClient.claim(any()) }
+
+    assert(outputFromClaimStage.skip) { "Skip Launch flag should be true but it's false" }
+  }
 }
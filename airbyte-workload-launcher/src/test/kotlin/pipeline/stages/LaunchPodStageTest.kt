@@ -20,6 +20,7 @@ import io.mockk.every
 import io.mockk.mockk
 import io.mockk.verify
 import org.junit.jupiter.api.Test
+import reactor.core.publisher.Mono
 import java.util.UUID
 
 class LaunchPodStageTest {
@@ -29,7 +30,7 @@ class LaunchPodStageTest {
     val payload = SyncPayload(replInput)
 
     val launcher: KubePodClient = mockk()
-    every { launcher.launchReplication(any(), any()) } returns Unit
+    every { launcher.launchReplication(any(), any()) } returns Mono.just(Unit)
 
     val stage = LaunchPodStage(launcher, mockk(), "dataplane-id")
     val workloadId = UUID.randomUUID().toString()
@@ -51,7 +52,7 @@ class LaunchPodStageTest {
     val payload = SyncPayload(replInput)
 
     val launcher: KubePodClient = mockk()
-    every { launcher.launchReset(any(), any()) } returns Unit
+    every { launcher.launchReset(any(), any()) } returns Mono.just(Unit)
 
     val stage = LaunchPodStage(launcher, mockk(), "dataplane-id")
     val workloadId = UUID.randomUUID().toString()
@@ -80,7 +81,7 @@ class LaunchPodStageTest {
     val payload = CheckPayload(checkInput)
 
     val launcher: KubePodClient = mockk()
-    every { launcher.launchCheck(any(), any()) } returns Unit
+    every { launcher.launchCheck(any(), any()) } returns Mono.just(Unit)
 
     val stage = LaunchPodStage(launcher, mockk(), "dataplane-id")
     val workloadId = UUID.randomUUID().toString()
@@ -107,7 +108,7 @@ class LaunchPodStageTest {
     val payload = DiscoverCatalogPayload(discoverInput)
 
     val launcher: KubePodClient = mockk()
-    every { launcher.launchDiscover(any(), any()) } returns Unit
+    every { launcher.launchDiscover(any(), any()) } returns Mono.just(Unit)
 
     val stage = LaunchPodStage(launcher, mockk(), "dataplane-id")
     val workloadId = UUID.randomUUID().toString()
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
+import reactor.core.publisher.Mono
 import java.util.UUID
 
 @ExtendWith(MockKExtension::class)
@@ -58,7 +59,7 @@ class LoadShedStageTest {
     val result = stage.applyStage(input)
 
     verify(exactly = 0) {
-      workloadClient.updateStatusToFailed(input.workloadId, LOAD_SHED_FAILURE_REASON)
+      workloadClient.updateStatusToFailedAsync(input.workloadId, LOAD_SHED_FAILURE_REASON)
     }
 
     assertEquals(input, result)
@@ -68,11 +69,11 @@ class LoadShedStageTest {
   @Test
   fun `fails workload and sets skip true if load shed enabled`() {
     every { ffClient.boolVariation(LoadShedWorkloadLauncher, ffContext) } returns true
-    every { workloadClient.updateStatusToFailed(input.workloadId, LOAD_SHED_FAILURE_REASON) } throws Exception("bang")
+    every { workloadClient.updateStatusToFailedAsync(input.workloadId, LOAD_SHED_FAILURE_REASON) } returns Mono.error(Exception("bang"))
     val result = stage.applyStage(input)
 
     verify(exactly = 1) {
-      workloadClient.updateStatusToFailed(input.workloadId, LOAD_SHED_FAILURE_REASON)
+      workloadClient.updateStatusToFailedAsync(input.workloadId, LOAD_SHED_FAILURE_REASON)
     }
 
     assertTrue(result.skip)
@@ -47,6 +47,7 @@ import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.extension.ExtendWith
+import reactor.core.publisher.Mono
 import java.util.UUID
 import java.util.concurrent.TimeoutException
 
@@ -82,6 +83,9 @@ class KubePodClientTest {
   @MockK
   private lateinit var featureFlagClient: TestClient
 
+  @MockK
+  private lateinit var warmPodPool: WarmPodPool
+
   private lateinit var client: KubePodClient
 
   private lateinit var replInput: ReplicationInput
@@ -106,6 +110,7 @@ class KubePodClientTest {
         discoverPodFactory = discoverPodFactory,
         specPodFactory = specPodFactory,
         featureFlagClient = featureFlagClient,
+        warmPodPool = warmPodPool,
       )
 
     replInput =
@@ -169,8 +174,11 @@ class KubePodClientTest {
     every { launcher.create(capture(slot)) } answers { slot.captured }
     every { launcher.waitForPodInitStartup(any(), any()) } returns Unit
     every { launcher.waitForPodInitComplete(any(), any()) } returns Unit
+    every { launcher.waitForPodInitCompleteAsync(any(), any()) } returns Mono.just(Unit)
     every { launcher.waitForPodReadyOrTerminalByPod(any(Pod::class), any()) } returns Unit
+    every { launcher.waitForPodReadyOrTerminalByPodAsync(any(), any()) } returns Mono.just(Unit)
     every { launcher.waitForPodReadyOrTerminal(any(), any()) } returns Unit
+    every { warmPodPool.claim(any()) } returns null
   }
 
   @Test
@@ -213,13 +221,14 @@ class KubePodClientTest {
         false,
       )
     } returns pod
-    client.launchReplication(
-      replicationInput = replInput,
-      launcherInput = replLauncherInput,
-    )
+    client
+      .launchReplication(
+        replicationInput = replInput,
+        launcherInput = replLauncherInput,
+      ).block()
 
     verify(exactly = 1) { launcher.create(pod) }
-    verify(exactly = 1) { launcher.waitForPodInitComplete(pod, POD_INIT_TIMEOUT_VALUE) }
+    verify(exactly = 1) { launcher.waitForPodInitCompleteAsync(pod, POD_INIT_TIMEOUT_VALUE) }
   }
 
   @Test
@@ -248,7 +257,7 @@ class KubePodClientTest {
     every { launcher.create(any()) } throws RuntimeException("bang")
 
     assertThrows<KubeClientException> {
-      client.launchReplication(replInput, replLauncherInput)
+      client.launchReplication(replInput, replLauncherInput).block()
     }
   }
 
@@ -275,10 +284,10 @@ class KubePodClientTest {
         false,
       )
     } returns pod
-    every { launcher.waitForPodInitComplete(pod, POD_INIT_TIMEOUT_VALUE) } throws TimeoutException("bang")
+    every { launcher.waitForPodInitCompleteAsync(pod, POD_INIT_TIMEOUT_VALUE) } returns Mono.error(TimeoutException("bang"))
 
     assertThrows<KubeClientException> {
-      client.launchReplication(replInput, replLauncherInput)
+      client.launchReplication(replInput, replLauncherInput).block()
     }
   }
 
@@ -318,13 +327,14 @@ class KubePodClientTest {
         workspaceId,
       )
     } returns pod
-    client.launchReset(
-      replicationInput = replInput,
-      launcherInput = replLauncherInput,
-    )
+    client
+      .launchReset(
+        replicationInput = replInput,
+        launcherInput = replLauncherInput,
+      ).block()
 
     verify(exactly = 1) { launcher.create(pod) }
-    verify(exactly = 1) { launcher.waitForPodInitComplete(pod, POD_INIT_TIMEOUT_VALUE) }
+    verify(exactly = 1) { launcher.waitForPodInitCompleteAsync(pod, POD_INIT_TIMEOUT_VALUE) }
   }
 
   @Test
@@ -349,7 +359,7 @@ class KubePodClientTest {
     every { launcher.create(any()) } throws RuntimeException("bang")
 
     assertThrows<KubeClientException> {
-      client.launchReset(replInput, replLauncherInput)
+      client.launchReset(replInput, replLauncherInput).block()
     }
   }
 
@@ -372,10 +382,10 @@ class KubePodClientTest {
         any(),
       )
     } returns pod
-    every { launcher.waitForPodInitComplete(pod, POD_INIT_TIMEOUT_VALUE) } throws TimeoutException("bang")
+    every { launcher.waitForPodInitCompleteAsync(pod, POD_INIT_TIMEOUT_VALUE) } returns Mono.error(TimeoutException("bang"))
 
     assertThrows<KubeClientException> {
-      client.launchReset(replInput, replLauncherInput)
+      client.launchReset(replInput, replLauncherInput).block()
     }
   }
 
@@ -396,9 +406,9 @@ class KubePodClientTest {
       )
     } returns pod
 
-    client.launchCheck(checkInput, checkLauncherInput)
+    client.launchCheck(checkInput, checkLauncherInput).block()
 
-    verify { client.launchConnectorWithSidecar(connectorKubeInput, checkPodFactory, "CHECK") }
+    verify { client.launchConnectorWithSidecar(connectorKubeInput, checkPodFactory, "CHECK", WORKLOAD_ID) }
   }
 
   @Test
@@ -418,9 +428,9 @@ class KubePodClientTest {
       )
     } returns pod
 
-    client.launchDiscover(discoverInput, discoverLauncherInput)
+    client.launchDiscover(discoverInput, discoverLauncherInput).block()
 
-    verify { client.launchConnectorWithSidecar(connectorKubeInput, discoverPodFactory, "DISCOVER") }
+    verify { client.launchConnectorWithSidecar(connectorKubeInput, discoverPodFactory, "DISCOVER", WORKLOAD_ID) }
   }
 
   @Test
@@ -440,9 +450,9 @@ class KubePodClientTest {
       )
     } returns pod
 
-    client.launchSpec(specInput, specLauncherInput)
+    client.launchSpec(specInput, specLauncherInput).block()
 
-    verify { client.launchConnectorWithSidecar(connectorKubeInput, specPodFactory, "SPEC") }
+    verify { client.launchConnectorWithSidecar(connectorKubeInput, specPodFactory, "SPEC", WORKLOAD_ID) }
   }
 
   @Test
@@ -467,11 +477,36 @@ class KubePodClientTest {
       )
     } returns connector
 
-    client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME")
+    client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME", WORKLOAD_ID).block()
+
+    verify { launcher.waitForPodInitCompleteAsync(connector, POD_INIT_TIMEOUT_VALUE) }
+
+    verify { launcher.waitForPodReadyOrTerminalByPodAsync(connector, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) }
+  }
+
+  @Test
+  fun `launchConnectorWithSidecar uses a warm pod when one is available`() {
+    val warmPod = mockk<Pod>()
+    val assignedPod = mockk<Pod>()
+    every { warmPodPool.claim(pod) } returns warmPod
+    every { warmPodPool.assign(warmPod, pod, WORKLOAD_ID) } returns assignedPod
+
+    client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME", WORKLOAD_ID).block()
+
+    verify(exactly = 0) { launcher.create(any()) }
+    verify { launcher.waitForPodInitCompleteAsync(assignedPod, POD_INIT_TIMEOUT_VALUE) }
+    verify { launcher.waitForPodReadyOrTerminalByPodAsync(assignedPod, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) }
+  }
+
+  @Test
+  fun `launchConnectorWithSidecar creates a pod when the warm pod could not be assigned`() {
+    val warmPod = mockk<Pod>()
+    every { warmPodPool.claim(pod) } returns warmPod
+    every { warmPodPool.assign(warmPod, pod, WORKLOAD_ID) } returns null
 
-    verify { launcher.waitForPodInitComplete(connector, POD_INIT_TIMEOUT_VALUE) }
+    client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME", WORKLOAD_ID).block()
 
-    verify { launcher.waitForPodReadyOrTerminalByPod(connector, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) }
+    verify { launcher.create(pod) }
   }
 
   @Test
@@ -479,34 +514,34 @@ class KubePodClientTest {
     every { launcher.create(any()) } throws RuntimeException("bang")
 
     assertThrows<KubeClientException> {
-      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME")
+      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME", WORKLOAD_ID).block()
     }
   }
 
   @Test
   fun `launchConnectorWithSidecar propagates wait for init timeout as kube exception`() {
-    every { launcher.waitForPodInitComplete(pod, POD_INIT_TIMEOUT_VALUE) } throws TimeoutException("bang")
+    every { launcher.waitForPodInitCompleteAsync(pod, POD_INIT_TIMEOUT_VALUE) } returns Mono.error(TimeoutException("bang"))
 
     assertThrows<KubeClientException> {
-      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME")
+      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME", WORKLOAD_ID).block()
     }
   }
 
   @Test
   fun `launchConnectorWithSidecar propagates init failures as normal errors`() {
-    every { launcher.waitForPodInitComplete(pod, POD_INIT_TIMEOUT_VALUE) } throws RuntimeException("bang")
+    every { launcher.waitForPodInitCompleteAsync(pod, POD_INIT_TIMEOUT_VALUE) } returns Mono.error(RuntimeException("bang"))
 
     assertThrows<RuntimeException> {
-      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME")
+      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME", WORKLOAD_ID).block()
     }
   }
 
   @Test
   fun `launchConnectorWithSidecar propagates connector wait for init error`() {
-    every { launcher.waitForPodReadyOrTerminalByPod(pod, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) } throws RuntimeException("bang")
+    every { launcher.waitForPodReadyOrTerminalByPodAsync(pod, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) } returns Mono.error(RuntimeException("bang"))
 
     assertThrows<KubeClientException> {
-      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME")
+      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME", WORKLOAD_ID).block()
     }
   }
 
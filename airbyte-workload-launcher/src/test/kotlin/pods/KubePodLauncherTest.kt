@@ -64,6 +64,7 @@ class KubePodLauncherTest {
         kubernetesClientRetryPolicy,
         mockk(),
         null,
+        PodInformerCache(kubernetesClient, "namespace", false, Duration.ZERO),
       )
 
     every { kubernetesClient.pods() } throws IllegalStateException()
@@ -157,6 +158,7 @@ class KubePodLauncherTest {
         kubernetesClientRetryPolicy,
         mockk(),
         null,
+        PodInformerCache(kubernetesClient, "namespace", false, Duration.ZERO),
       )
 
     assertThrows<KubernetesClientException> {
@@ -197,6 +199,7 @@ class KubePodLauncherTest {
         kubernetesClientRetryPolicy,
         mockk(),
         null,
+        PodInformerCache(kubernetesClient, "namespace", false, Duration.ZERO),
       )
 
     assertThrows<KubernetesClientException> {
@@ -240,6 +243,7 @@ class KubePodLauncherTest {
         kubernetesClientRetryPolicy,
         mockk(),
         null,
+        PodInformerCache(kubernetesClient, "namespace", false, Duration.ZERO),
       )
 
     assertThrows<KubernetesClientException> {
@@ -281,6 +285,7 @@ class KubePodLauncherTest {
         kubernetesClientRetryPolicy,
         mockk(),
         null,
+        PodInformerCache(kubernetesClient, "namespace", false, Duration.ZERO),
       )
 
     assertThrows<KubernetesClientException> {
@@ -324,6 +329,7 @@ class KubePodLauncherTest {
         kubernetesClientRetryPolicy,
         mockk(),
         null,
+        PodInformerCache(kubernetesClient, "namespace", false, Duration.ZERO),
       )
 
     assertThrows<RuntimeException> {
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pods
+
+import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.api.model.PodBuilder
+import io.fabric8.kubernetes.client.KubernetesClient
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertNotSame
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicReference
+
+private const val NAMESPACE = "default"
+
+class PodInformerCacheTest {
+  private val server: KubernetesServer = KubernetesServer(true, true)
+
+  private lateinit var client: KubernetesClient
+  private lateinit var podCache: PodInformerCache
+
+  @BeforeEach
+  fun setup() {
+    server.before()
+    client = server.client
+    podCache = PodInformerCache(client, NAMESPACE, true, Duration.ofMinutes(10))
+  }
+
+  @AfterEach
+  fun destroy() {
+    podCache.close()
+    server.after()
+  }
+
+  @Test
+  fun `returns null until the informer has synced and then serves pods by label`() {
+    createPod("workload-1-pod", mapOf("workload_id" to "workload-1", "mutex_key" to "mutex-1"))
+    createPod("workload-2-pod", mapOf("workload_id" to "workload-2", "mutex_key" to "mutex-1"))
+    createPod("unswept-pod", mapOf("workload_id" to "workload-3"), sweeperLabel = false)
+
+    val byWorkload = awaitSynced { podCache.list(mapOf("workload_id" to "workload-1")) }
+
+    assertEquals(listOf("workload-1-pod"), byWorkload.map { it.metadata.name })
+    assertEquals(
+      setOf("workload-1-pod", "workload-2-pod"),
+      podCache.list(mapOf("mutex_key" to "mutex-1"))!!.map { it.metadata.name }.toSet(),
+    )
+    assertEquals(listOf<Pod>(), podCache.list(mapOf("mutex_key" to "mutex-1", "workload_id" to "workload-3")))
+    assertEquals(listOf<Pod>(), podCache.list(mapOf("workload_id" to "workload-3")))
+  }
+
+  @Test
+  fun `await completes once the pod satisfies the condition`() {
+    val pod = createPod("workload-1-pod", mapOf("workload_id" to "workload-1"))
+    awaitSynced { podCache.list(mapOf()) }
+
+    val future = podCache.await(pod, Duration.ofMinutes(1)) { it?.status?.phase == "Running" }
+    assertNotNull(future)
+    assertFalse(future!!.isDone)
+
+    client
+      .pods()
+      .inNamespace(NAMESPACE)
+      .withName("workload-1-pod")
+      .edit { p -> PodBuilder(p).withNewStatus().withPhase("Running").endStatus().build() }
+
+    assertEquals("Running", future.get(1, TimeUnit.MINUTES)!!.status.phase)
+  }
+
+  @Test
+  fun `await does not run the waiter's callbacks on the informer thread`() {
+    val pod = createPod("workload-1-pod", mapOf("workload_id" to "workload-1"))
+    awaitSynced { podCache.list(mapOf()) }
+
+    val informerThread = AtomicReference<Thread>()
+    val future =
+      podCache.await(pod, Duration.ofMinutes(1)) {
+        (it?.status?.phase == "Running").also { satisfied -> if (satisfied) informerThread.set(Thread.currentThread()) }
+      }!!
+    val callbackThread = future.thenApply { Thread.currentThread() }
+
+    client
+      .pods()
+      .inNamespace(NAMESPACE)
+      .withName("workload-1-pod")
+      .edit { p -> PodBuilder(p).withNewStatus().withPhase("Running").endStatus().build() }
+
+    assertNotSame(informerThread.get(), callbackThread.get(1, TimeUnit.MINUTES))
+  }
+
+  @Test
+  fun `await completes with null once the pod is deleted`() {
+    val pod = createPod("workload-1-pod", mapOf("workload_id" to "workload-1"))
+    awaitSynced { podCache.list(mapOf()) }
+
+    val future = podCache.await(pod, Duration.ofMinutes(1)) { it == null }!!
+    client.pods().inNamespace(NAMESPACE).withName("workload-1-pod").delete()
+
+    assertNull(future.get(1, TimeUnit.MINUTES))
+  }
+
+  @Test
+  fun `await times out if the condition is never satisfied`() {
+    val pod = createPod("workload-1-pod", mapOf("workload_id" to "workload-1"))
+    awaitSynced { podCache.list(mapOf()) }
+
+    val future = podCache.await(pod, Duration.ofMillis(10)) { false }!!
+
+    val e = assertThrows<ExecutionException> { future.get(1, TimeUnit.MINUTES) }
+    assertTrue(e.cause is TimeoutException)
+  }
+
+  @Test
+  fun `a disabled cache never answers`() {
+    val disabledCache = PodInformerCache(client, NAMESPACE, false, Duration.ofMinutes(10))
+    val pod = createPod("workload-1-pod", mapOf("workload_id" to "workload-1"))
+
+    assertNull(disabledCache.list(mapOf()))
+    assertNull(disabledCache.await(pod, Duration.ofMinutes(1)) { true })
+  }
+
+  private fun createPod(
+    name: String,
+    labels: Map<String, String>,
+    sweeperLabel: Boolean = true,
+  ): Pod =
+    client
+      .pods()
+      .inNamespace(NAMESPACE)
+      .resource(
+        PodBuilder()
+          .withNewMetadata()
+          .withName(name)
+          .withNamespace(NAMESPACE)
+          .addToLabels(labels)
+          .apply { if (sweeperLabel) addToLabels("airbyte", "job-pod") }
+          .endMetadata()
+          .build(),
+      ).create()
+
+  private fun <T> awaitSynced(read: () -> T?): T {
+    val deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos()
+    while (System.nanoTime() < deadline) {
+      read()?.let { return it }
+      Thread.sleep(50)
+    }
+    throw AssertionError("The pod cache did not sync in time")
+  }
+}
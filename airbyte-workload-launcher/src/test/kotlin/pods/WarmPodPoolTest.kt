@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2020-2025 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pods
+
+import io.airbyte.workers.pod.ContainerConstants
+import io.airbyte.workers.pod.PodLabeler.LabelKeys.WARM_POOL_KEY
+import io.airbyte.workload.launcher.pods.factories.ContainerCommandFactory
+import io.fabric8.kubernetes.api.model.EnvVar
+import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.api.model.PodBuilder
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNotEquals
+import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import reactor.core.publisher.Mono
+import java.time.Duration
+
+class WarmPodPoolTest {
+  private val launcher: KubePodLauncher =
+    mockk(relaxed = true) {
+      every { create(any()) } answers { firstArg() }
+      every { waitForPodInitRunningAsync(any(), any()) } returns Mono.just(Unit)
+    }
+
+  private fun pool(enabled: Boolean = true) = WarmPodPool(launcher, mockk(relaxed = true), enabled, 1, 10, Duration.ofMinutes(10))
+
+  private fun connectorPod(
+    workloadId: String,
+    image: String = "source-faker:1.0.0",
+    command: List<String> = listOf("sh", "-c", "check"),
+  ): Pod =
+    PodBuilder()
+      .withNewMetadata()
+      .withName("pod-$workloadId")
+      .withLabels<String, String>(mapOf("auto_id" to workloadId))
+      .withAnnotations<String, String>(mapOf("workload" to workloadId))
+      .endMetadata()
+      .withNewSpec()
+      .addNewInitContainer()
+      .withName(ContainerConstants.INIT_CONTAINER_NAME)
+      .withImage("init:1.0.0")
+      .withEnv(EnvVar("WORKLOAD_ID", workloadId, null), EnvVar("OPERATION_TYPE", "check", null))
+      .endInitContainer()
+      .addNewContainer()
+      .withName(ContainerConstants.MAIN_CONTAINER_NAME)
+      .withImage(image)
+      .withCommand(command)
+      .withEnv(EnvVar("WORKLOAD_ID", workloadId, null))
+      .endContainer()
+      .addNewContainer()
+      .withName(ContainerConstants.SIDECAR_CONTAINER_NAME)
+      .withImage("sidecar:1.0.0")
+      .withCommand("sh", "-c", "sidecar")
+      .endContainer()
+      .endSpec()
+      .build()
+
+  @Test
+  fun `pods of different workloads share a pool, pods of different images don't`() {
+    val key = WarmPodPool.toTemplate(connectorPod("1"))!!.metadata.labels[WARM_POOL_KEY]
+
+    assertEquals(key, WarmPodPool.toTemplate(connectorPod("2"))!!.metadata.labels[WARM_POOL_KEY])
+    assertNotEquals(key, WarmPodPool.toTemplate(connectorPod("1", image = "source-faker:2.0.0"))!!.metadata.labels[WARM_POOL_KEY])
+  }
+
+  @Test
+  fun `templates wait for their workload instead of carrying it`() {
+    val template = WarmPodPool.toTemplate(connectorPod("1"))!!
+
+    val init = template.spec.initContainers.last()
+    assertEquals(ContainerConstants.INIT_CONTAINER_NAME, init.name)
+    assertEquals(listOf("OPERATION_TYPE"), init.env.map { it.name })
+    assertEquals("sh", init.command.first())
+    assertFalse(template.spec.containers.any { c -> c.env.any { it.name == "WORKLOAD_ID" } })
+    assertFalse(template.metadata.labels.containsKey("auto_id"))
+    assertTrue(template.metadata.annotations.isNullOrEmpty())
+  }
+
+  @Test
+  fun `templates pull the images of all containers before waiting for their workload`() {
+    val template = WarmPodPool.toTemplate(connectorPod("1"))!!
+
+    assertEquals(
+      listOf("source-faker:1.0.0", "sidecar:1.0.0", "init:1.0.0"),
+      template.spec.initContainers.map { it.image },
+    )
+  }
+
+  @Test
+  fun `containers given the workload id read it from the assignment`() {
+    val pod = connectorPod("1")
+    val template = WarmPodPool.toTemplate(pod)!!
+
+    val main = template.spec.containers.first { it.name == ContainerConstants.MAIN_CONTAINER_NAME }
+    assertEquals(listOf("sh", "-c", ContainerCommandFactory.withAssignedWorkloadId("check")), main.command)
+    assertEquals(pod.spec.containers.last(), template.spec.containers.last())
+  }
+
+  @Test
+  fun `pods with containers given the workload id outside of a shell script are not pooled`() {
+    assertNull(WarmPodPool.toTemplate(connectorPod("1", command = listOf("check"))))
+    assertNull(pool().claim(connectorPod("1", command = listOf("check"))))
+
+    verify(exactly = 0) { launcher.create(any()) }
+  }
+
+  @Test
+  fun `claims are served from the pool once it warmed up`() {
+    val pool = pool()
+
+    assertNull(pool.claim(connectorPod("1")))
+
+    var warmPod: Pod? = null
+    val deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos()
+    while (warmPod == null && System.nanoTime() < deadline) {
+      Thread.sleep(10)
+      warmPod = pool.claim(connectorPod("2"))
+    }
+
+    assertNotNull(warmPod)
+    assertEquals(WarmPodPool.toTemplate(connectorPod("2"))!!.spec, warmPod!!.spec)
+  }
+
+  @Test
+  fun `disabled pools never create pods`() {
+    assertNull(pool(enabled = false).claim(connectorPod("1")))
+
+    verify(exactly = 0) { launcher.create(any()) }
+  }
+
+  @Test
+  fun `failed assignments delete the warm pod`() {
+    val warmPod = connectorPod("warm")
+    every { launcher.exec(any(), any(), any(), *anyVararg()) } throws RuntimeException("bang")
+
+    assertNull(pool().assign(warmPod, connectorPod("1"), "1"))
+
+    verify { launcher.delete(warmPod) }
+  }
+}